@@ -0,0 +1,128 @@
+package com.neogulmap.neogul_map.config.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 스레드가 같은 제한기를 두드릴 때 요청당 비용
+ * legacy는 변경 전 세 제한기가 복사해 쓰던 고정 창 구현(요청마다 ClientWindow와 Attempt 할당, removeIf 전체 정리)입니다.
+ * {@code clients}로 추적 클라이언트 수를 바꿔 stripe 경합과 정리 비용을 함께 봅니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class RateLimiterContentionBenchmark {
+
+    private static final int REQUESTS_PER_WINDOW = 120;
+    private static final long WINDOW_SECONDS = 60;
+    private static final int MAX_TRACKED_CLIENTS = 10_000;
+
+    @Param({"16", "4096"})
+    public int clients;
+
+    private String[] clientKeys;
+    private LegacyFixedWindowLimiter legacy;
+    private ClientRateLimiter gcra;
+
+    @Setup
+    public void setUp() {
+        clientKeys = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            clientKeys[i] = "198.51." + (i >>> 8) + "." + (i & 0xff);
+        }
+        legacy = new LegacyFixedWindowLimiter(REQUESTS_PER_WINDOW, WINDOW_SECONDS, MAX_TRACKED_CLIENTS);
+        gcra = new ClientRateLimiter(REQUESTS_PER_WINDOW, WINDOW_SECONDS, MAX_TRACKED_CLIENTS);
+    }
+
+    @Benchmark
+    public long legacyFixedWindow() {
+        return legacy.tryAcquire(nextClient(), System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public long stripedGcra() {
+        return gcra.tryAcquire(nextClient(), System.currentTimeMillis());
+    }
+
+    private String nextClient() {
+        return clientKeys[ThreadLocalRandom.current().nextInt(clients)];
+    }
+
+    /**
+     * 변경 전 PublicZoneReadRateLimitFilter의 tryAcquire를 HTTP 요청 없이 옮겨 둔 기준 구현
+     */
+    static final class LegacyFixedWindowLimiter {
+
+        private static final String OVERFLOW_CLIENT = "overflow";
+
+        private final int requestsPerWindow;
+        private final long windowSeconds;
+        private final int maxTrackedClients;
+        private final ConcurrentHashMap<String, ClientWindow> windows = new ConcurrentHashMap<>();
+        private final AtomicLong nextCleanupEpochSecond = new AtomicLong();
+
+        LegacyFixedWindowLimiter(int requestsPerWindow, long windowSeconds, int maxTrackedClients) {
+            this.requestsPerWindow = requestsPerWindow;
+            this.windowSeconds = windowSeconds;
+            this.maxTrackedClients = maxTrackedClients;
+        }
+
+        long tryAcquire(String clientKey, long nowMillis) {
+            Instant now = Instant.ofEpochMilli(nowMillis);
+            cleanExpiredWindows(now);
+            if (!windows.containsKey(clientKey) && windows.size() >= maxTrackedClients) {
+                clientKey = OVERFLOW_CLIENT;
+            }
+
+            Attempt attempt = new Attempt();
+            windows.compute(clientKey, (ignored, current) -> {
+                if (current == null || !current.expiresAt().isAfter(now)) {
+                    attempt.allowed = true;
+                    return new ClientWindow(1, now.plusSeconds(windowSeconds));
+                }
+                if (current.count() >= requestsPerWindow) {
+                    attempt.retryAfterSeconds = Math.max(
+                            1,
+                            current.expiresAt().getEpochSecond() - now.getEpochSecond()
+                    );
+                    return current;
+                }
+                attempt.allowed = true;
+                return new ClientWindow(current.count() + 1, current.expiresAt());
+            });
+            return attempt.allowed ? 0 : Math.max(1, attempt.retryAfterSeconds) * 1_000;
+        }
+
+        private void cleanExpiredWindows(Instant now) {
+            long currentEpochSecond = now.getEpochSecond();
+            long scheduled = nextCleanupEpochSecond.get();
+            if (currentEpochSecond < scheduled
+                    || !nextCleanupEpochSecond.compareAndSet(scheduled, currentEpochSecond + windowSeconds)) {
+                return;
+            }
+            windows.entrySet().removeIf(entry -> !entry.getValue().expiresAt().isAfter(now));
+        }
+
+        private record ClientWindow(int count, Instant expiresAt) {
+        }
+
+        private static final class Attempt {
+            private boolean allowed;
+            private long retryAfterSeconds;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.neogulmap.neogul_map.config.security.jwt;
+
+import com.neogulmap.neogul_map.domain.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter가 요청마다 토큰을 확인하는 경로
+ * legacy는 변경 전 필터처럼 validAccessToken과 getEmailFromToken이 각각 새 parser로 서명을 검증합니다.
+ * 나머지는 재사용 parser로 한 번 검증하는 경로(캐시 없음)와 검증한 claim 캐시를 쓰는 경로입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class JwtFilterPathBenchmark {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("neogul-map-jmh-secret-key-0123456789".getBytes(StandardCharsets.UTF_8));
+
+    private SecretKey key;
+    private TokenProvider uncachedProvider;
+    private TokenProvider cachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+        uncachedProvider = new TokenProvider(SECRET, 3600, false, 0, 0);
+        cachedProvider = new TokenProvider(SECRET, 3600, true, 300, 10_000);
+        User user = User.builder().id(7L).email("bench@nugulmap.com").build();
+        token = cachedProvider.generateAccessToken(user, Duration.ofHours(1));
+    }
+
+    @Benchmark
+    public String legacyParsePerCall() {
+        Claims validated = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+        if (!TokenProvider.ACCESS_TOKEN_TYPE.equals(validated.get(TokenProvider.TOKEN_TYPE_CLAIM, String.class))) {
+            return null;
+        }
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public String verifyOnce() {
+        return uncachedProvider.verifyAccessToken(token).map(TokenClaims::email).orElse(null);
+    }
+
+    @Benchmark
+    public String verifyOnceWithClaimCache() {
+        return cachedProvider.verifyAccessToken(token).map(TokenClaims::email).orElse(null);
+    }
+}
@@ -0,0 +1,139 @@
+package com.neogulmap.neogul_map.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 핫플 검색어 하나로 후보 시드를 고르는 비용
+ * legacy는 변경 전 HotplaceService.matches를 시드마다 호출하는 방식(시드마다 전체 검색어 재구성과 정규식 정리)입니다.
+ * 두 구현 모두 HotplaceService에 등록된 실제 시드 검색어를 씁니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HotplaceQueryMatcherBenchmark {
+
+    private static final Pattern SEARCH_NORMALIZE_PATTERN = Pattern.compile("[^\\p{IsAlphabetic}\\p{IsDigit}]+");
+
+    @Param({"롯데월드", "지금 성수동 사람 많아?", "서울 혼잡한 곳", "부산 해운대"})
+    public String keyword;
+
+    private List<List<String>> termsBySeed;
+    private List<String> hotNowKeywords;
+    private List<String> citywideHotFragments;
+    private List<String> crowdFragments;
+    private HotplaceQueryMatcher matcher;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        Method searchTerms = null;
+        for (Method method : HotplaceService.class.getDeclaredMethods()) {
+            if (method.getName().equals("searchTerms") && method.getParameterCount() == 1) {
+                searchTerms = method;
+            }
+        }
+        Objects.requireNonNull(searchTerms, "HotplaceService.searchTerms").setAccessible(true);
+        termsBySeed = new ArrayList<>();
+        for (Object seed : (List<?>) staticField("SEOUL_SEEDS")) {
+            termsBySeed.add(castTerms(searchTerms.invoke(null, seed)));
+        }
+        hotNowKeywords = castTerms(staticField("HOT_NOW_KEYWORDS"));
+        citywideHotFragments = castTerms(staticField("CITYWIDE_HOT_QUERY_FRAGMENTS"));
+        crowdFragments = castTerms(staticField("CROWD_QUERY_FRAGMENTS"));
+        matcher = new HotplaceQueryMatcher(termsBySeed, hotNowKeywords, citywideHotFragments, crowdFragments);
+    }
+
+    @Benchmark
+    public int legacyMatchPerSeed() {
+        int selected = 0;
+        for (int seedIndex = 0; seedIndex < termsBySeed.size(); seedIndex++) {
+            if (legacyMatches(termsBySeed.get(seedIndex), keyword)) {
+                selected++;
+            }
+        }
+        return selected;
+    }
+
+    @Benchmark
+    public int precomputedMatcher() {
+        HotplaceQueryMatcher.Match query = matcher.classify(keyword);
+        int selected = 0;
+        for (int seedIndex = 0; seedIndex < termsBySeed.size(); seedIndex++) {
+            if (query.includes(seedIndex)) {
+                selected++;
+            }
+        }
+        return selected;
+    }
+
+    private boolean legacyMatches(List<String> seedTerms, String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return true;
+        }
+
+        String normalized = keyword.toLowerCase(Locale.ROOT).trim();
+        if (hotNowKeywords.contains(normalized)) {
+            return true;
+        }
+
+        String compactQuery = compactSearchText(normalized);
+        boolean matchesSpecificPlace = seedTerms.stream()
+                .filter(Objects::nonNull)
+                .map(value -> value.toLowerCase(Locale.ROOT))
+                .anyMatch(value -> value.contains(normalized) || queryContainsTerm(compactQuery, value));
+        if (matchesSpecificPlace) {
+            return true;
+        }
+        if (searchTermsForAllSeeds().stream().anyMatch(term -> queryContainsTerm(compactQuery, term))) {
+            return false;
+        }
+
+        return citywideHotFragments.stream().anyMatch(compactQuery::contains)
+                || (crowdFragments.stream().anyMatch(compactQuery::contains)
+                && searchTermsForAllSeeds().stream()
+                .map(this::compactSearchText)
+                .noneMatch(compactQuery::contains));
+    }
+
+    private boolean queryContainsTerm(String compactQuery, String term) {
+        String compactTerm = compactSearchText(term);
+        return compactTerm.length() >= 2 && compactQuery.contains(compactTerm);
+    }
+
+    // 변경 전처럼 호출할 때마다 모든 시드의 검색어를 새 목록으로 모읍니다.
+    private List<String> searchTermsForAllSeeds() {
+        return termsBySeed.stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    private String compactSearchText(String value) {
+        return SEARCH_NORMALIZE_PATTERN.matcher(value.toLowerCase(Locale.ROOT)).replaceAll("");
+    }
+
+    private static Object staticField(String name) throws ReflectiveOperationException {
+        Field field = HotplaceService.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> castTerms(Object terms) {
+        return (List<String>) terms;
+    }
+}
@@ -0,0 +1,156 @@
+package com.neogulmap.neogul_map.service;
+
+import com.neogulmap.neogul_map.config.security.oauth.GoogleOAuth2UserInfo;
+import com.neogulmap.neogul_map.config.security.oauth.OAuth2UserCustomService;
+import com.neogulmap.neogul_map.domain.User;
+import com.neogulmap.neogul_map.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미 가입한 사용자가 소셜 로그인을 다시 할 때의 DB 왕복
+ * 로그인 직후 첫 인증 요청(AuthenticatedUserCache 조회)까지 한 묶음으로 잽니다.
+ * legacy는 변경 전 processOAuth2User(findByEmail, save, findById, 사용자 캐시 무효화)를 옮겨 둔 구현입니다.
+ * H2(MODE=MySQL) 대신 MySQL로 재려면 {@code -Djmh.login.jdbc-url}, {@code -Djmh.login.username}, {@code -Djmh.login.password}를 넘깁니다.
+ * 로그인 한 번에 실행한 SQL 문 수는 trial이 끝날 때 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OAuthLoginRoundTripBenchmark {
+
+    private static final String EMAIL = "returning@nugulmap.com";
+    private static final String GOOGLE_SUBJECT = "google-returning-1";
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private UserService userService;
+    private AuthenticatedUserCache authenticatedUserCache;
+    private OAuth2UserCustomService.CustomOAuth2User googleLogin;
+    private long logins;
+    private long statementsAtStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(LoginPersistence.class).run(
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=" + System.getProperty(
+                        "jmh.login.jdbc-url", "jdbc:h2:mem:login-bench;MODE=MySQL;DB_CLOSE_DELAY=-1"),
+                "--spring.datasource.username=" + System.getProperty("jmh.login.username", "sa"),
+                "--spring.datasource.password=" + System.getProperty("jmh.login.password", ""),
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=true",
+                "--spring.sql.init.mode=never",
+                "--logging.level.root=WARN"
+        );
+        userRepository = context.getBean(UserRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        authenticatedUserCache = new AuthenticatedUserCache(userRepository, true, 30, 10_000);
+        // 로그인 경로는 저장소와 사용자 캐시만 사용하므로 나머지 협력 객체는 비워 둡니다.
+        userService = new UserService(userRepository, null, null, null, null, null, authenticatedUserCache, null);
+
+        userRepository.save(User.builder()
+                .email(EMAIL)
+                .oauthProvider("google")
+                .oauthId(GOOGLE_SUBJECT)
+                .createdAt(LocalDateTime.now())
+                .build());
+        Map<String, Object> attributes = Map.of("sub", GOOGLE_SUBJECT, "email", EMAIL);
+        googleLogin = new OAuth2UserCustomService.CustomOAuth2User(
+                new DefaultOAuth2User(List.of(), attributes, "sub"),
+                new GoogleOAuth2UserInfo(attributes)
+        );
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        logins = 0;
+        statementsAtStart = statistics.getPrepareStatementCount();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportStatements() {
+        long statements = statistics.getPrepareStatementCount() - statementsAtStart;
+        System.out.printf(" [SQL statements per login: %.2f]%n", logins == 0 ? 0.0 : (double) statements / logins);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public User legacyFindSaveReread() {
+        User user = transactionTemplate.execute(status -> legacyProcessOAuth2User(googleLogin));
+        authenticatedUserCache.findByEmail(EMAIL);
+        logins++;
+        return user;
+    }
+
+    @Benchmark
+    public User singleCandidateLookup() {
+        User user = transactionTemplate.execute(status -> userService.processOAuth2User(googleLogin));
+        authenticatedUserCache.findByEmail(EMAIL);
+        logins++;
+        return user;
+    }
+
+    private User legacyProcessOAuth2User(OAuth2UserCustomService.CustomOAuth2User customOAuth2User) {
+        String email = customOAuth2User.getEmail();
+        String oauthId = customOAuth2User.getName();
+        String oauthProvider = customOAuth2User.getRegistrationId();
+        return userRepository.findByEmail(email)
+                .map(existingUser -> {
+                    existingUser.setOauthId(oauthId);
+                    existingUser.setOauthProvider(oauthProvider);
+                    authenticatedUserCache.invalidate(existingUser.getId());
+                    User savedUser = userRepository.save(existingUser);
+                    return userRepository.findById(savedUser.getId()).orElseThrow();
+                })
+                .orElseThrow();
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            DataSourceTransactionManagerAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = User.class)
+    @EnableJpaRepositories(basePackageClasses = UserRepository.class)
+    static class LoginPersistence {
+    }
+}
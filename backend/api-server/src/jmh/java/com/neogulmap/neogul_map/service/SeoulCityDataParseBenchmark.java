@@ -0,0 +1,132 @@
+package com.neogulmap.neogul_map.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서울 실시간 도시데이터 응답에서 혼잡도 태그 여섯 개를 읽는 비용
+ * legacy는 변경 전 parseCityData처럼 요청마다 DocumentBuilderFactory를 만들고 문서 전체를 DOM으로 읽습니다.
+ * 응답은 실제 citydata 응답과 같은 순서(인구, 예측, 도로, 주차, 지하철, 날씨, 행사)로 만들며,
+ * {@code roads}로 도로 소통 구간 수를 바꿔 응답 크기를 조절합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SeoulCityDataParseBenchmark {
+
+    @Param({"20", "200"})
+    public int roads;
+
+    private String xml;
+
+    @Setup
+    public void setUp() {
+        xml = cityDataXml(roads);
+    }
+
+    @Benchmark
+    public String[] legacyDomPerResponse() throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+        factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+        Document document = factory.newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
+        Element root = document.getDocumentElement();
+        return new String[] {
+                firstText(root, "AREA_NM"),
+                firstText(root, "AREA_CONGEST_LVL"),
+                firstText(root, "AREA_CONGEST_MSG"),
+                firstText(root, "AREA_PPLTN_MIN"),
+                firstText(root, "AREA_PPLTN_MAX"),
+                firstText(root, "PPLTN_TIME")
+        };
+    }
+
+    @Benchmark
+    public SeoulCityDataXml.Fields streamingStax() throws Exception {
+        return SeoulCityDataXml.parse(xml);
+    }
+
+    private static String firstText(Element root, String tagName) {
+        NodeList nodes = root.getElementsByTagName(tagName);
+        if (nodes.getLength() == 0 || nodes.item(0) == null) {
+            return null;
+        }
+        return nodes.item(0).getTextContent();
+    }
+
+    private static String cityDataXml(int roads) {
+        StringBuilder xml = new StringBuilder("""
+                <?xml version="1.0" encoding="UTF-8"?>
+                <SeoulRtd.citydata>
+                  <list_total_count>1</list_total_count>
+                  <RESULT><RESULT.CODE>INFO-000</RESULT.CODE><RESULT.MESSAGE>정상 처리되었습니다.</RESULT.MESSAGE></RESULT>
+                  <CITYDATA>
+                    <AREA_NM>잠실 관광특구</AREA_NM>
+                    <AREA_CD>POI005</AREA_CD>
+                    <LIVE_PPLTN_STTS>
+                      <LIVE_PPLTN_STTS>
+                        <AREA_CONGEST_LVL>붐빔</AREA_CONGEST_LVL>
+                        <AREA_CONGEST_MSG>사람들이 몰려있을 가능성이 매우 크고 많이 붐빈다고 느낄 수 있어요.</AREA_CONGEST_MSG>
+                        <AREA_PPLTN_MIN>36000</AREA_PPLTN_MIN>
+                        <AREA_PPLTN_MAX>38000</AREA_PPLTN_MAX>
+                        <PPLTN_TIME>2026-06-18 21:00</PPLTN_TIME>
+                        <FCST_YN>Y</FCST_YN>
+                        <FCST_PPLTN>
+                """);
+        for (int hour = 1; hour <= 12; hour++) {
+            xml.append("<FCST_PPLTN><FCST_TIME>2026-06-18 ").append(21 + hour % 3).append(":00</FCST_TIME>")
+                    .append("<FCST_CONGEST_LVL>보통</FCST_CONGEST_LVL>")
+                    .append("<FCST_PPLTN_MIN>").append(30000 + hour * 100).append("</FCST_PPLTN_MIN>")
+                    .append("<FCST_PPLTN_MAX>").append(32000 + hour * 100).append("</FCST_PPLTN_MAX></FCST_PPLTN>\n");
+        }
+        xml.append("</FCST_PPLTN></LIVE_PPLTN_STTS></LIVE_PPLTN_STTS>\n<ROAD_TRAFFIC_STTS>\n");
+        for (int road = 0; road < roads; road++) {
+            xml.append("<ROAD_TRAFFIC_STTS><LINK_ID>").append(1_220_000_000L + road).append("</LINK_ID>")
+                    .append("<ROAD_NM>올림픽로</ROAD_NM><START_ND_NM>잠실역</START_ND_NM><END_ND_NM>잠실나루역</END_ND_NM>")
+                    .append("<DIST>").append(300 + road).append("</DIST><SPD>").append(18 + road % 30).append("</SPD>")
+                    .append("<IDX>서행</IDX><XYLIST>127.1000_37.5130|127.1010_37.5135|127.1020_37.5140</XYLIST>")
+                    .append("</ROAD_TRAFFIC_STTS>\n");
+        }
+        xml.append("</ROAD_TRAFFIC_STTS>\n<PRK_STTS>\n");
+        for (int lot = 0; lot < 30; lot++) {
+            xml.append("<PRK_STTS><PRK_NM>잠실 공영주차장 ").append(lot).append("</PRK_NM>")
+                    .append("<CPCTY>400</CPCTY><CUR_PRK_CNT>").append(lot * 7).append("</CUR_PRK_CNT>")
+                    .append("<PAY_YN>Y</PAY_YN><ADDRESS>서울 송파구 올림픽로 240</ADDRESS></PRK_STTS>\n");
+        }
+        xml.append("</PRK_STTS>\n<SUB_STTS>\n");
+        for (int station = 0; station < 10; station++) {
+            xml.append("<SUB_STTS><SUB_STN_NM>잠실</SUB_STN_NM><SUB_STN_LINE>").append(2 + station % 7)
+                    .append("</SUB_STN_LINE><SUB_ACML_GTON_PPLTN_MIN>12000</SUB_ACML_GTON_PPLTN_MIN>")
+                    .append("<SUB_ACML_GTON_PPLTN_MAX>14000</SUB_ACML_GTON_PPLTN_MAX></SUB_STTS>\n");
+        }
+        xml.append("</SUB_STTS>\n<WEATHER_STTS><WEATHER_STTS><TEMP>24.1</TEMP><HUMIDITY>61</HUMIDITY>")
+                .append("<PCP_MSG>비 소식이 없어요.</PCP_MSG><PM10>31</PM10><PM25>14</PM25><FCST24HOURS>\n");
+        for (int hour = 0; hour < 24; hour++) {
+            xml.append("<FCST24HOURS><FCST_DT>2026061821").append(hour).append("</FCST_DT><TEMP>")
+                    .append(20 + hour % 5).append("</TEMP><PRECIPITATION>-</PRECIPITATION>")
+                    .append("<SKY_STTS>맑음</SKY_STTS></FCST24HOURS>\n");
+        }
+        xml.append("</FCST24HOURS></WEATHER_STTS></WEATHER_STTS>\n<EVENT_STTS>\n");
+        for (int event = 0; event < 15; event++) {
+            xml.append("<EVENT_STTS><EVENT_NM>잠실 여름 행사 ").append(event).append("</EVENT_NM>")
+                    .append("<EVENT_PERIOD>2026-06-01~2026-06-30</EVENT_PERIOD><EVENT_PLACE>잠실 석촌호수</EVENT_PLACE>")
+                    .append("<URL>https://example.com/events/").append(event).append("</URL></EVENT_STTS>\n");
+        }
+        return xml.append("</EVENT_STTS>\n</CITYDATA>\n</SeoulRtd.citydata>\n").toString();
+    }
+}
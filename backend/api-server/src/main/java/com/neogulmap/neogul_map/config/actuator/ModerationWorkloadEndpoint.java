@@ -0,0 +1,27 @@
+package com.neogulmap.neogul_map.config.actuator;
+
+import com.neogulmap.neogul_map.service.ModerationWorkloadMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 운영 대기열 현황 actuator endpoint (/actuator/moderation)
+ * 대기 건수와 결정 지연 요약을 메모리의 지표에서 바로 반환하므로 DB를 조회하지 않습니다.
+ * 접근은 SecurityConfig에서 운영자 키 헤더로 제한합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "moderation")
+public class ModerationWorkloadEndpoint {
+
+    private final ModerationWorkloadMetrics workloadMetrics;
+
+    @ReadOperation
+    public Map<String, Object> queues() {
+        return Map.of("queues", workloadMetrics.snapshot());
+    }
+}
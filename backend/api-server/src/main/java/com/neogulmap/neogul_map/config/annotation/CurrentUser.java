@@ -8,6 +8,7 @@ import java.lang.annotation.Target;
 /**
  * 현재 인증된 사용자를 주입받기 위한 커스텀 어노테이션
  * HandlerMethodArgumentResolver를 통해 자동으로 User 객체를 주입받습니다.
+ * 사용자 id만 필요하면 AuthenticatedPrincipal 타입으로 받아 사용자 엔티티 조회를 생략할 수 있습니다.
  * 
  * @param required 필수 여부 (기본값: true)
  *                true인 경우 인증되지 않으면 예외 발생
@@ -1,7 +1,9 @@
 package com.neogulmap.neogul_map.config.resolver;
 
 import com.neogulmap.neogul_map.config.annotation.CurrentUser;
+import com.neogulmap.neogul_map.config.security.AuthenticatedPrincipal;
 import com.neogulmap.neogul_map.domain.User;
+import com.neogulmap.neogul_map.service.AuthenticatedUserCache;
 import com.neogulmap.neogul_map.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +13,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
@@ -18,6 +21,7 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 /**
  * @CurrentUser 어노테이션을 처리하는 ArgumentResolver
  * 컨트롤러 메서드에서 현재 인증된 사용자 정보를 간편하게 주입받을 수 있도록 합니다.
+ * AuthenticatedPrincipal 파라미터는 인증 주체에서 바로 만들고, User 파라미터만 필요할 때 엔티티를 조회합니다.
  */
 @Slf4j
 @Component
@@ -29,7 +33,8 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.hasParameterAnnotation(CurrentUser.class) &&
-               parameter.getParameterType().equals(User.class);
+               (parameter.getParameterType().equals(User.class)
+                       || parameter.getParameterType().equals(AuthenticatedPrincipal.class));
     }
 
     @Override
@@ -51,8 +56,29 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
             return null; // optional인 경우 null 반환
         }
 
+        // stateless 인증에서는 JWT claim만으로 충분하므로 엔티티를 조회하지 않습니다.
+        if (parameter.getParameterType().equals(AuthenticatedPrincipal.class)) {
+            if (authentication.getPrincipal() instanceof AuthenticatedPrincipal principal) {
+                return principal;
+            }
+            if (authentication.getPrincipal() instanceof User user) {
+                return AuthenticatedPrincipal.from(user);
+            }
+        }
+
+        // JwtAuthenticationFilter가 이미 찾은 사용자가 있으면 재사용
+        Object memo = webRequest.getAttribute(AuthenticatedUserCache.REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo instanceof User user && user.getUsername() != null
+                && user.getUsername().equals(authentication.getName())) {
+            return user;
+        }
+
         try {
-            return userService.getUserFromAuthentication(authentication.getPrincipal());
+            User user = userService.getUserFromAuthentication(authentication.getPrincipal());
+            webRequest.setAttribute(AuthenticatedUserCache.REQUEST_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+            return parameter.getParameterType().equals(AuthenticatedPrincipal.class)
+                    ? AuthenticatedPrincipal.from(user)
+                    : user;
         } catch (Exception e) {
             log.error("사용자 정보 조회 실패: {}", e.getMessage());
             if (required) {
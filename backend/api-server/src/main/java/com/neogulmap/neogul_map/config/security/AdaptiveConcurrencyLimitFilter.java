@@ -0,0 +1,152 @@
+package com.neogulmap.neogul_map.config.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * DB를 쓰는 엔드포인트의 동시 처리 수를 풀별로 제한합니다.
+ * MySQL이 느려지면 각 풀의 한도가 줄어들어 초과 요청은 503과 Retry-After로 바로 거절되고,
+ * 풀에 속하지 않는 /insights(메모리 응답), 인증, 헬스 체크는 영향을 받지 않습니다.
+ * 장소 이미지 업로드(multipart)는 응답 시간이 클라이언트 전송 속도에 좌우되므로 별도 풀에서 동시 수만 제한하고
+ * 응답 시간을 한도 조절에 쓰지 않습니다.
+ */
+public final class AdaptiveConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    enum Pool {
+        ZONE_READS("zone-reads", true),
+        ZONE_WRITES("zone-writes", true),
+        ZONE_UPLOADS("zone-uploads", false),
+        REVIEWS("reviews", true),
+        MODERATION("moderation", true);
+
+        private final String tag;
+        private final boolean sampled;
+
+        Pool(String tag, boolean sampled) {
+            this.tag = tag;
+            this.sampled = sampled;
+        }
+    }
+
+    private static final String OVERLOADED_BODY =
+            "{\"status\":503,\"code\":\"SERVICE_OVERLOADED\",\"message\":\"요청이 몰려 잠시 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.\"}";
+
+    private final boolean enabled;
+    private final long retryAfterSeconds;
+    private final Map<Pool, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(Pool.class);
+    private final Map<Pool, Counter> rejectedCounters = new EnumMap<>(Pool.class);
+    private LongSupplier nanoTime = System::nanoTime;
+
+    public AdaptiveConcurrencyLimitFilter(
+            boolean enabled,
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            Duration latencyThreshold,
+            double backoffRatio,
+            long retryAfterSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+        for (Pool pool : Pool.values()) {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                    initialLimit, minLimit, maxLimit, latencyThreshold.toNanos(), backoffRatio
+            );
+            limiters.put(pool, limiter);
+            if (meterRegistry != null) {
+                Gauge.builder("db.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                        .tag("pool", pool.tag)
+                        .register(meterRegistry);
+                Gauge.builder("db.concurrency.in_flight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                        .tag("pool", pool.tag)
+                        .register(meterRegistry);
+                rejectedCounters.put(pool, Counter.builder("db.concurrency.rejected")
+                        .tag("pool", pool.tag)
+                        .register(meterRegistry));
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request == null || poolOf(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        Pool pool = poolOf(request);
+        AdaptiveConcurrencyLimiter limiter = limiters.get(pool);
+        int inFlightAtStart = limiter.tryAcquire();
+        if (inFlightAtStart == 0) {
+            Counter rejected = rejectedCounters.get(pool);
+            if (rejected != null) {
+                rejected.increment();
+            }
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().write(OVERLOADED_BODY);
+            return;
+        }
+
+        long startedAt = nanoTime.getAsLong();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            if (pool.sampled) {
+                limiter.release(inFlightAtStart, startedAt, nanoTime.getAsLong(), failed);
+            } else {
+                limiter.releaseUnsampled();
+            }
+        }
+    }
+
+    AdaptiveConcurrencyLimiter limiter(Pool pool) {
+        return limiters.get(pool);
+    }
+
+    static Pool poolOf(HttpServletRequest request) {
+        String path = ClientRateLimiter.applicationPath(request);
+        if (path.startsWith("/operator/")) {
+            return Pool.MODERATION;
+        }
+        if (!path.equals("/zones") && !path.startsWith("/zones/")) {
+            return null;
+        }
+        if (path.contains("/reviews")) {
+            return Pool.REVIEWS;
+        }
+        if (path.endsWith("/reports")) {
+            return Pool.MODERATION;
+        }
+        if ("GET".equalsIgnoreCase(request.getMethod())) {
+            return Pool.ZONE_READS;
+        }
+        return isMultipart(request) ? Pool.ZONE_UPLOADS : Pool.ZONE_WRITES;
+    }
+
+    private static boolean isMultipart(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("multipart/");
+    }
+}
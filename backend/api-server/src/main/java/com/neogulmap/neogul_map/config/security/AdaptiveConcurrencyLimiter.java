@@ -0,0 +1,93 @@
+package com.neogulmap.neogul_map.config.security;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관측한 응답 시간으로 동시 처리 한도를 조절하는 AIMD 제한기
+ * 응답이 {@code latencyThresholdNanos}보다 느리거나 실패하면 한도를 {@code backoffRatio}배로 줄이고,
+ * 줄인 뒤에는 그 이후 시작한 요청의 결과가 나올 때까지 다시 줄이지 않습니다. 같은 혼잡을 겪은 동시 요청들이
+ * 차례로 끝나며 한도를 연달아 깎지 않도록, 한 관측 구간에서는 한 번만 물러섭니다.
+ * 한도의 절반 이상을 쓰는 동안 빠른 응답이 이어지면 응답 하나마다 1/한도씩 늘립니다(한도만큼 성공하면 1 증가).
+ * 한도를 넘는 요청은 기다리지 않고 바로 거절되어 DB가 느려져도 서블릿 스레드가 쌓이지 않습니다.
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private double limit;
+    private boolean backedOff;
+    private long lastBackoffNanos;
+
+    AdaptiveConcurrencyLimiter(
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            long latencyThresholdNanos,
+            double backoffRatio
+    ) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.latencyThresholdNanos = Math.max(1, latencyThresholdNanos);
+        this.backoffRatio = backoffRatio > 0 && backoffRatio < 1 ? backoffRatio : 0.9;
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    }
+
+    /**
+     * 처리 슬롯 하나를 얻습니다.
+     *
+     * @return 슬롯을 얻었을 때 그 시점의 처리 중 요청 수(자신 포함), 한도를 넘으면 0
+     */
+    int tryAcquire() {
+        int currentLimit = limit();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= currentLimit) {
+                return 0;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * 슬롯을 돌려주고 응답 결과를 한도에 반영합니다.
+     *
+     * @param inFlightAtStart {@link #tryAcquire()}가 돌려준 값
+     * @param startedAtNanos 요청을 시작한 {@link System#nanoTime()} 값
+     * @param finishedAtNanos 요청이 끝난 {@link System#nanoTime()} 값
+     */
+    void release(int inFlightAtStart, long startedAtNanos, long finishedAtNanos, boolean failed) {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            if (failed || finishedAtNanos - startedAtNanos > latencyThresholdNanos) {
+                // 마지막으로 줄이기 전에 시작한 요청은 이미 반영된 혼잡을 겪은 것이므로 다시 줄이지 않습니다.
+                if (!backedOff || startedAtNanos - lastBackoffNanos >= 0) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    backedOff = true;
+                    lastBackoffNanos = finishedAtNanos;
+                }
+            } else if (inFlightAtStart * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        }
+    }
+
+    /**
+     * 응답 결과를 한도에 반영하지 않고 슬롯만 돌려줍니다.
+     */
+    void releaseUnsampled() {
+        inFlight.decrementAndGet();
+    }
+
+    synchronized int limit() {
+        return (int) limit;
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+}
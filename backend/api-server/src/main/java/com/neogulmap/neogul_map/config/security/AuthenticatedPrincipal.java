@@ -0,0 +1,43 @@
+package com.neogulmap.neogul_map.config.security;
+
+import com.neogulmap.neogul_map.config.security.jwt.TokenClaims;
+import com.neogulmap.neogul_map.domain.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JWT claim만으로 만든 가벼운 인증 주체
+ * stateless 인증 모드에서 사용자 엔티티를 조회하지 않고 SecurityContext에 넣습니다.
+ * 사용자 id만 필요한 컨트롤러는 {@code @CurrentUser AuthenticatedPrincipal}로 받아 DB 조회를 건너뜁니다.
+ */
+public record AuthenticatedPrincipal(Long id, String email, int tokenVersion) implements UserDetails {
+
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    public static AuthenticatedPrincipal from(TokenClaims claims) {
+        return new AuthenticatedPrincipal(claims.userId(), claims.email(), claims.tokenVersion());
+    }
+
+    public static AuthenticatedPrincipal from(User user) {
+        return new AuthenticatedPrincipal(user.getId(), user.getEmail(), user.getTokenVersion());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES;
+    }
+
+    @Override
+    public String getPassword() {
+        return null; // OAuth 사용자는 패스워드가 없음
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
@@ -0,0 +1,258 @@
+package com.neogulmap.neogul_map.config.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 클라이언트 주소별 GCRA(generic cell rate algorithm) 요청 제한기
+ * 공개 지역 조회, 인사이트 조회, 민감 엔드포인트 제한이 이 구현을 함께 사용합니다.
+ *
+ * <p>클라이언트마다 "다음 요청이 도착해야 할 이론상 시각(TAT)" 하나만 기록합니다.
+ * 창 길이 안에서 {@code requestsPerWindow}개까지는 몰아서 허용하고, 그 뒤로는 창 길이를 요청 수로 나눈 간격마다 한 개씩 허용합니다.
+ * 비용이 n인 요청은 요청 n개만큼 TAT를 밀어 비싼 요청이 한도를 더 빨리 소진합니다.
+ * 주소는 64비트 해시로 바꿔 stripe별 open addressing 배열에 primitive로 저장하므로 요청마다 객체를 만들지 않고,
+ * 만료된 항목은 요청마다 몇 칸씩 차례로 정리하고, 추적 한도에 닿았을 때만 창 길이마다 한 번 전체를 정리합니다.
+ * 추적 중인 클라이언트가 {@code maxTrackedClients}에 도달하면 새 클라이언트는 공용 overflow 버킷을 함께 사용합니다.</p>
+ */
+public final class ClientRateLimiter implements RequestRateLimiter {
+
+    private static final String UNKNOWN_CLIENT = "unknown";
+    private static final int MAX_CLIENT_KEY_LENGTH = 128;
+    private static final int STRIPE_BITS = 4;
+    private static final int SWEEP_SLOTS_PER_ACQUIRE = 2;
+
+    private final int requestsPerWindow;
+    private final long windowMillis;
+    private final long emissionIntervalMillis;
+    private final int maxTrackedClients;
+    private final long hashSeed = ThreadLocalRandom.current().nextLong();
+    private final Stripe[] stripes;
+    private final AtomicInteger trackedClients = new AtomicInteger();
+    private final AtomicLong overflowTat = new AtomicLong();
+    private final AtomicLong nextFullSweepMillis = new AtomicLong();
+
+    public ClientRateLimiter(int requestsPerWindow, long windowSeconds, int maxTrackedClients) {
+        this.requestsPerWindow = Math.max(1, requestsPerWindow);
+        this.windowMillis = Math.max(1, windowSeconds) * 1_000L;
+        this.emissionIntervalMillis = Math.max(1, windowMillis / this.requestsPerWindow);
+        this.maxTrackedClients = Math.max(1, maxTrackedClients);
+        int stripeCount = 1 << STRIPE_BITS;
+        int perStripe = (this.maxTrackedClients + stripeCount - 1) / stripeCount;
+        int capacity = Integer.highestOneBit(Math.max(4, perStripe + perStripe / 2 + 1) - 1) << 1;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(capacity);
+        }
+    }
+
+    @Override
+    public long tryAcquire(String clientKey, int permits, long nowMillis) {
+        long increment = emissionIntervalMillis * Math.min(Math.max(1, permits), requestsPerWindow);
+        long hash = hash(clientKey);
+        Stripe stripe = stripes[(int) (hash >>> (Long.SIZE - STRIPE_BITS))];
+        synchronized (stripe) {
+            stripe.sweep(nowMillis, SWEEP_SLOTS_PER_ACQUIRE);
+            int slot = stripe.find(hash);
+            if (slot < 0) {
+                if (!reserve(stripe, nowMillis)) {
+                    return acquireOverflow(increment, nowMillis);
+                }
+                slot = stripe.insert(hash);
+            }
+            long newTat = Math.max(stripe.tats[slot], nowMillis) + increment;
+            long retryAfterMillis = newTat - windowMillis - nowMillis;
+            if (retryAfterMillis > 0) {
+                return retryAfterMillis;
+            }
+            stripe.tats[slot] = newTat;
+            return 0;
+        }
+    }
+
+    /**
+     * Retry-After 헤더에 쓸 초 단위 값. 1초보다 짧게 알려 주지 않습니다.
+     */
+    public static long retryAfterSeconds(long retryAfterMillis) {
+        return Math.max(1, (retryAfterMillis + 999) / 1_000);
+    }
+
+    /**
+     * 제한 기준이 되는 클라이언트 주소
+     * X-Forwarded-For는 여기서 해석하지 않습니다. 신뢰할 수 있는 프록시 경계 안에서만 서블릿 컨테이너가 해석합니다.
+     */
+    public static String clientKey(HttpServletRequest request) {
+        String remoteAddress = request == null ? null : request.getRemoteAddr();
+        if (remoteAddress == null || remoteAddress.isBlank() || remoteAddress.length() > MAX_CLIENT_KEY_LENGTH) {
+            return UNKNOWN_CLIENT;
+        }
+        return remoteAddress.trim();
+    }
+
+    /**
+     * context path를 뺀 요청 경로. 요청 제한 대상과 비용을 경로로 판단할 때 사용합니다.
+     */
+    static String applicationPath(HttpServletRequest request) {
+        String servletPath = request.getServletPath();
+        if (servletPath != null && !servletPath.isBlank()) {
+            return servletPath;
+        }
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return contextPath != null && !contextPath.isBlank() && uri.startsWith(contextPath)
+                ? uri.substring(contextPath.length())
+                : uri;
+    }
+
+    int trackedClients() {
+        return trackedClients.get();
+    }
+
+    private boolean reserve(Stripe stripe, long nowMillis) {
+        if (stripe.count >= stripe.maxCount) {
+            stripe.sweepAll(nowMillis);
+            if (stripe.count >= stripe.maxCount) {
+                return false;
+            }
+        }
+        if (tryIncrementTracked()) {
+            return true;
+        }
+        // 다른 stripe에 만료된 항목이 남아 있을 수 있으므로 창 길이마다 한 번만 전체를 정리해 봅니다.
+        // CAS로 한 스레드만 들어오므로 여러 stripe 잠금을 동시에 잡는 스레드는 항상 하나뿐입니다.
+        long scheduled = nextFullSweepMillis.get();
+        if (nowMillis < scheduled || !nextFullSweepMillis.compareAndSet(scheduled, nowMillis + windowMillis)) {
+            return false;
+        }
+        for (Stripe other : stripes) {
+            synchronized (other) {
+                other.sweepAll(nowMillis);
+            }
+        }
+        return tryIncrementTracked();
+    }
+
+    private boolean tryIncrementTracked() {
+        if (trackedClients.incrementAndGet() > maxTrackedClients) {
+            trackedClients.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private long acquireOverflow(long increment, long nowMillis) {
+        while (true) {
+            long current = overflowTat.get();
+            long newTat = Math.max(current, nowMillis) + increment;
+            long retryAfterMillis = newTat - windowMillis - nowMillis;
+            if (retryAfterMillis > 0) {
+                return retryAfterMillis;
+            }
+            if (overflowTat.compareAndSet(current, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    private long hash(String clientKey) {
+        long h = hashSeed ^ 0xcbf29ce484222325L;
+        for (int i = 0; i < clientKey.length(); i++) {
+            h ^= clientKey.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        // FNV-1a 결과를 한 번 더 섞어 stripe 선택(상위 비트)과 슬롯 선택(하위 비트)이 고르게 퍼지도록 합니다.
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h == 0 ? 1 : h;
+    }
+
+    /**
+     * 선형 탐사 해시 테이블 한 조각. 키 0은 빈 슬롯이며 삭제는 backward shift로 처리해 tombstone을 남기지 않습니다.
+     */
+    private final class Stripe {
+
+        private final long[] keys;
+        private final long[] tats;
+        private final int mask;
+        private final int maxCount;
+        private int count;
+        private int sweepCursor;
+
+        private Stripe(int capacity) {
+            this.keys = new long[capacity];
+            this.tats = new long[capacity];
+            this.mask = capacity - 1;
+            this.maxCount = capacity - capacity / 4;
+        }
+
+        private int find(long hash) {
+            for (int i = (int) hash & mask; keys[i] != 0; i = (i + 1) & mask) {
+                if (keys[i] == hash) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int insert(long hash) {
+            int i = (int) hash & mask;
+            while (keys[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = hash;
+            tats[i] = 0;
+            count++;
+            return i;
+        }
+
+        private void sweep(long nowMillis, int slots) {
+            for (int examined = 0; examined < slots && count > 0; examined++) {
+                int i = sweepCursor;
+                if (keys[i] != 0 && tats[i] <= nowMillis) {
+                    // 뒤 항목이 이 칸으로 당겨질 수 있으므로 커서를 그대로 두고 다음 호출에서 다시 확인합니다.
+                    removeAt(i);
+                    continue;
+                }
+                sweepCursor = (i + 1) & mask;
+            }
+        }
+
+        private void sweepAll(long nowMillis) {
+            for (int i = 0; i <= mask; i++) {
+                while (keys[i] != 0 && tats[i] <= nowMillis) {
+                    removeAt(i);
+                }
+            }
+        }
+
+        private void removeAt(int slot) {
+            int hole = slot;
+            int next = hole;
+            while (true) {
+                next = (next + 1) & mask;
+                if (keys[next] == 0) {
+                    break;
+                }
+                int home = (int) keys[next] & mask;
+                // next 항목의 원래 위치가 (hole, next] 구간 밖이면 hole로 당겨야 탐색이 끊기지 않습니다.
+                boolean between = hole <= next
+                        ? hole < home && home <= next
+                        : hole < home || home <= next;
+                if (!between) {
+                    keys[hole] = keys[next];
+                    tats[hole] = tats[next];
+                    hole = next;
+                }
+            }
+            keys[hole] = 0;
+            tats[hole] = 0;
+            count--;
+            trackedClients.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.neogulmap.neogul_map.config.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 인스턴스가 한 클라이언트 한도를 나눠 쓰는 분산 요청 제한기
+ * 클라이언트별 고정 창 한도를 {@link RateLimitLeaseStore}에서 몇 개씩 받아 와 이 인스턴스 안에서 먼저 소진합니다.
+ * 받아 둔 한도는 다른 인스턴스가 쓸 수 없으므로 전체 허용량이 설정 한도를 넘지 않고, 남은 몫만큼 덜 허용될 수 있습니다.
+ * 저장소 조회는 클라이언트별 잠금 밖에서 하므로 느린 조회가 같은 클라이언트의 다른 요청을 붙잡지 않습니다.
+ * 공유 저장소를 쓸 수 없는 동안과 추적 한도를 넘은 클라이언트는 인스턴스별 {@link ClientRateLimiter}로 제한합니다.
+ */
+final class LeasedRateLimiter implements RequestRateLimiter {
+
+    private final String name;
+    private final int requestsPerWindow;
+    private final long windowMillis;
+    private final int maxTrackedClients;
+    private final RateLimitLeaseStore leaseStore;
+    private final ClientRateLimiter fallback;
+    private final int leaseChunk;
+    private final ConcurrentHashMap<String, LocalLease> leases = new ConcurrentHashMap<>();
+    private final AtomicLong nextCleanupWindowIndex = new AtomicLong();
+
+    LeasedRateLimiter(
+            String name,
+            int requestsPerWindow,
+            long windowSeconds,
+            int maxTrackedClients,
+            RateLimitLeaseStore leaseStore,
+            ClientRateLimiter fallback
+    ) {
+        this.name = name;
+        this.requestsPerWindow = Math.max(1, requestsPerWindow);
+        this.windowMillis = Math.max(1, windowSeconds) * 1_000L;
+        this.maxTrackedClients = Math.max(1, maxTrackedClients);
+        this.leaseStore = leaseStore;
+        this.fallback = fallback;
+        this.leaseChunk = leaseStore.leaseChunk(this.requestsPerWindow);
+    }
+
+    @Override
+    public long tryAcquire(String clientKey, int permits, long nowMillis) {
+        int cost = Math.min(Math.max(1, permits), requestsPerWindow);
+        if (!leaseStore.isAvailable(nowMillis)) {
+            return fallback.tryAcquire(clientKey, cost, nowMillis);
+        }
+        long windowIndex = nowMillis / windowMillis;
+        cleanExpiredLeases(windowIndex);
+        LocalLease lease = leases.get(clientKey);
+        if (lease == null) {
+            if (leases.size() >= maxTrackedClients) {
+                return fallback.tryAcquire(clientKey, cost, nowMillis);
+            }
+            lease = leases.computeIfAbsent(clientKey, ignored -> new LocalLease());
+        }
+
+        long retryAfterMillis = (windowIndex + 1) * windowMillis - nowMillis;
+        int requested;
+        synchronized (lease) {
+            if (lease.windowIndex != windowIndex) {
+                lease.windowIndex = windowIndex;
+                lease.remaining = 0;
+                lease.exhausted = false;
+            }
+            if (lease.remaining >= cost) {
+                lease.remaining -= cost;
+                return 0;
+            }
+            if (lease.exhausted) {
+                return retryAfterMillis;
+            }
+            requested = Math.max(leaseChunk, cost - lease.remaining);
+        }
+
+        // 저장소 조회 중에는 잠금을 놓아 같은 클라이언트의 다른 요청이 남은 몫을 쓰거나 따로 받아 올 수 있게 합니다.
+        // 동시에 받아 온 몫이 겹치면 이 인스턴스가 조금 더 쥐고 있을 뿐 전체 한도는 넘지 않습니다.
+        int granted = leaseStore.lease(name, clientKey, windowIndex, windowMillis, requested, requestsPerWindow, nowMillis);
+        if (granted == RateLimitLeaseStore.UNAVAILABLE) {
+            return fallback.tryAcquire(clientKey, cost, nowMillis);
+        }
+        synchronized (lease) {
+            if (lease.windowIndex != windowIndex) {
+                // 기다리는 동안 다음 창으로 넘어갔으므로 이전 창 몫은 이번 요청에만 씁니다.
+                return granted >= cost ? 0 : retryAfterMillis;
+            }
+            lease.remaining += granted;
+            if (lease.remaining >= cost) {
+                lease.remaining -= cost;
+                return 0;
+            }
+            // 남은 몫은 더 싼 요청에 쓸 수 있도록 두고, 이번 창에서는 더 받아 오지 않습니다.
+            lease.exhausted = true;
+            return retryAfterMillis;
+        }
+    }
+
+    int trackedClients() {
+        return leases.size();
+    }
+
+    private void cleanExpiredLeases(long windowIndex) {
+        long scheduled = nextCleanupWindowIndex.get();
+        if (windowIndex < scheduled || !nextCleanupWindowIndex.compareAndSet(scheduled, windowIndex + 1)) {
+            return;
+        }
+        leases.values().removeIf(lease -> lease.windowIndex < windowIndex);
+    }
+
+    private static final class LocalLease {
+        private volatile long windowIndex = -1;
+        private int remaining;
+        private boolean exhausted;
+    }
+}
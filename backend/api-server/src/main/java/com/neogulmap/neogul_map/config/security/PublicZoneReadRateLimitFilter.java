@@ -8,26 +8,21 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.time.Clock;
-import java.time.Instant;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Per-instance abuse protection for public smoking-zone reads. Client supplied
+ * Per-instance abuse protection for public smoking-zone reads. Each request is
+ * charged by its {@link RequestCostFunction}, so wide map areas and large result
+ * limits spend the budget faster than single-zone lookups. Client supplied
  * forwarding headers are deliberately ignored; trusted proxy handling belongs
  * to the servlet container boundary.
  */
 public final class PublicZoneReadRateLimitFilter extends OncePerRequestFilter {
 
-    private static final String UNKNOWN_CLIENT = "unknown";
-    private static final String OVERFLOW_CLIENT = "overflow";
+    private static final Decision ALLOWED = new Decision(true, 0);
 
     private final boolean enabled;
-    private final int requestsPerWindow;
-    private final long windowSeconds;
-    private final int maxTrackedClients;
-    private final ConcurrentHashMap<String, ClientWindow> windows = new ConcurrentHashMap<>();
-    private final AtomicLong nextCleanupEpochSecond = new AtomicLong();
+    private final RequestRateLimiter limiter;
+    private final RequestCostFunction costFunction;
     private Clock clock = Clock.systemUTC();
 
     public PublicZoneReadRateLimitFilter(
@@ -35,11 +30,22 @@ public final class PublicZoneReadRateLimitFilter extends OncePerRequestFilter {
             int requestsPerWindow,
             long windowSeconds,
             int maxTrackedClients
+    ) {
+        this(enabled, new ClientRateLimiter(requestsPerWindow, windowSeconds, maxTrackedClients));
+    }
+
+    public PublicZoneReadRateLimitFilter(boolean enabled, RequestRateLimiter limiter) {
+        this(enabled, limiter, new ZoneReadCostFunction());
+    }
+
+    public PublicZoneReadRateLimitFilter(
+            boolean enabled,
+            RequestRateLimiter limiter,
+            RequestCostFunction costFunction
     ) {
         this.enabled = enabled;
-        this.requestsPerWindow = Math.max(1, requestsPerWindow);
-        this.windowSeconds = Math.max(1, windowSeconds);
-        this.maxTrackedClients = Math.max(1, maxTrackedClients);
+        this.limiter = limiter;
+        this.costFunction = costFunction;
     }
 
     @Override
@@ -47,7 +53,7 @@ public final class PublicZoneReadRateLimitFilter extends OncePerRequestFilter {
         if (!enabled || request == null || !"GET".equalsIgnoreCase(request.getMethod())) {
             return true;
         }
-        String path = applicationPath(request);
+        String path = ClientRateLimiter.applicationPath(request);
         return !(path.equals("/zones") || path.startsWith("/zones/"));
     }
 
@@ -71,73 +77,16 @@ public final class PublicZoneReadRateLimitFilter extends OncePerRequestFilter {
     }
 
     Decision tryAcquire(HttpServletRequest request) {
-        Instant now = Instant.now(clock);
-        cleanExpiredWindows(now);
-        String clientKey = clientKey(request);
-        if (!windows.containsKey(clientKey) && windows.size() >= maxTrackedClients) {
-            clientKey = OVERFLOW_CLIENT;
-        }
-
-        Attempt attempt = new Attempt();
-        windows.compute(clientKey, (ignored, current) -> {
-            if (current == null || !current.expiresAt().isAfter(now)) {
-                attempt.allowed = true;
-                return new ClientWindow(1, now.plusSeconds(windowSeconds));
-            }
-            if (current.count() >= requestsPerWindow) {
-                attempt.retryAfterSeconds = Math.max(
-                        1,
-                        current.expiresAt().getEpochSecond() - now.getEpochSecond()
-                );
-                return current;
-            }
-            attempt.allowed = true;
-            return new ClientWindow(current.count() + 1, current.expiresAt());
-        });
-
-        return attempt.allowed
-                ? new Decision(true, 0)
-                : new Decision(false, Math.max(1, attempt.retryAfterSeconds));
-    }
-
-    private String clientKey(HttpServletRequest request) {
-        String remoteAddress = request.getRemoteAddr();
-        if (remoteAddress == null || remoteAddress.isBlank() || remoteAddress.length() > 128) {
-            return UNKNOWN_CLIENT;
-        }
-        return remoteAddress.trim();
-    }
-
-    private void cleanExpiredWindows(Instant now) {
-        long currentEpochSecond = now.getEpochSecond();
-        long scheduled = nextCleanupEpochSecond.get();
-        if (currentEpochSecond < scheduled
-                || !nextCleanupEpochSecond.compareAndSet(scheduled, currentEpochSecond + windowSeconds)) {
-            return;
-        }
-        windows.entrySet().removeIf(entry -> !entry.getValue().expiresAt().isAfter(now));
-    }
-
-    private String applicationPath(HttpServletRequest request) {
-        String servletPath = request.getServletPath();
-        if (servletPath != null && !servletPath.isBlank()) {
-            return servletPath;
-        }
-        String uri = request.getRequestURI();
-        String contextPath = request.getContextPath();
-        return contextPath != null && !contextPath.isBlank() && uri.startsWith(contextPath)
-                ? uri.substring(contextPath.length())
-                : uri;
+        long retryAfterMillis = limiter.tryAcquire(
+                ClientRateLimiter.clientKey(request),
+                costFunction.cost(request),
+                clock.millis()
+        );
+        return retryAfterMillis == 0
+                ? ALLOWED
+                : new Decision(false, ClientRateLimiter.retryAfterSeconds(retryAfterMillis));
     }
 
     record Decision(boolean allowed, long retryAfterSeconds) {
     }
-
-    private record ClientWindow(int count, Instant expiresAt) {
-    }
-
-    private static final class Attempt {
-        private boolean allowed;
-        private long retryAfterSeconds;
-    }
 }
@@ -0,0 +1,31 @@
+package com.neogulmap.neogul_map.config.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.security.distributed-rate-limit.enabled", havingValue = "true")
+public class RateLimitLeasePurgeWorker {
+
+    private final RateLimitLeaseStore rateLimitLeaseStore;
+
+    @Scheduled(
+            initialDelayString = "${app.security.distributed-rate-limit.purge-interval-ms:60000}",
+            fixedDelayString = "${app.security.distributed-rate-limit.purge-interval-ms:60000}"
+    )
+    public void purgeExpiredLeases() {
+        try {
+            int purged = rateLimitLeaseStore.purgeExpired();
+            if (purged > 0) {
+                log.debug("끝난 요청 한도 창 정리: {}건", purged);
+            }
+        } catch (RuntimeException error) {
+            log.warn("요청 한도 카운터 정리 실패: {}", error.getMessage());
+        }
+    }
+}
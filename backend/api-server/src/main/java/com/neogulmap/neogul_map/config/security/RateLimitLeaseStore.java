@@ -0,0 +1,241 @@
+package com.neogulmap.neogul_map.config.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 API 인스턴스가 함께 쓰는 요청 한도 카운터(rate_limit_lease 테이블)
+ * 인스턴스는 클라이언트별 고정 창 한도를 몇 개씩 묶어 미리 받아 가므로 대부분의 요청은 DB에 가지 않습니다.
+ * 조회는 요청 스레드가 아닌 별도 virtual thread에서 실행하고 요청 스레드는 {@code store-timeout-ms}까지만 기다립니다.
+ * 동시에 진행 중인 조회는 {@code store-max-concurrency}개로 제한하므로 커넥션 풀이 막혀도 요청 스레드와 조회가 쌓이지 않습니다.
+ * 조회가 실패하거나 제한 시간을 넘기면 잠시 사용을 멈추고, 그동안 각 제한기는 인스턴스별 제한으로 동작합니다.
+ * 클라이언트 주소는 SHA-256 앞 8바이트로만 저장합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.security.distributed-rate-limit.enabled", havingValue = "true")
+public class RateLimitLeaseStore implements AutoCloseable {
+
+    /**
+     * 저장소를 쓸 수 없어 한도를 받지 못했음을 뜻합니다.
+     */
+    public static final int UNAVAILABLE = -1;
+
+    private static final int MAX_PARTIAL_GRANT_ATTEMPTS = 3;
+    private static final String UPDATE_SQL = """
+            UPDATE rate_limit_lease SET consumed = consumed + ?
+            WHERE limiter_name = ? AND client_hash = ? AND window_index = ? AND consumed + ? <= ?
+            """;
+    private static final String INSERT_SQL = """
+            INSERT INTO rate_limit_lease (limiter_name, client_hash, window_index, consumed, expires_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+    private static final String SELECT_SQL = """
+            SELECT consumed FROM rate_limit_lease
+            WHERE limiter_name = ? AND client_hash = ? AND window_index = ?
+            """;
+    private static final String COMPARE_AND_SET_SQL = """
+            UPDATE rate_limit_lease SET consumed = ?
+            WHERE limiter_name = ? AND client_hash = ? AND window_index = ? AND consumed = ?
+            """;
+    private static final String PURGE_SQL = "DELETE FROM rate_limit_lease WHERE expires_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int leaseChunk;
+    private final long storeTimeoutMillis;
+    private final long cooldownMillis;
+    private final Clock clock;
+    private final Semaphore inFlight;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong unavailableUntilMillis = new AtomicLong();
+
+    @Autowired
+    public RateLimitLeaseStore(
+            DataSource dataSource,
+            @Value("${app.security.distributed-rate-limit.lease-chunk:10}") int leaseChunk,
+            @Value("${app.security.distributed-rate-limit.store-timeout-ms:200}") long storeTimeoutMillis,
+            @Value("${app.security.distributed-rate-limit.store-cooldown-seconds:30}") long cooldownSeconds,
+            @Value("${app.security.distributed-rate-limit.store-max-concurrency:4}") int maxConcurrency
+    ) {
+        this(dataSource, leaseChunk, storeTimeoutMillis, cooldownSeconds, maxConcurrency, Clock.systemUTC());
+    }
+
+    RateLimitLeaseStore(
+            DataSource dataSource,
+            int leaseChunk,
+            long storeTimeoutMillis,
+            long cooldownSeconds,
+            int maxConcurrency,
+            Clock clock
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.storeTimeoutMillis = Math.max(1, storeTimeoutMillis);
+        // JDBC 쿼리 타임아웃은 초 단위라 요청 스레드는 store-timeout-ms까지만 기다리고, 쿼리 타임아웃은 남은 조회를 정리하는 용도입니다.
+        this.jdbcTemplate.setQueryTimeout((int) Math.max(1, (this.storeTimeoutMillis + 999) / 1_000));
+        this.leaseChunk = Math.max(1, leaseChunk);
+        this.cooldownMillis = Math.max(1, cooldownSeconds) * 1_000L;
+        this.inFlight = new Semaphore(Math.max(1, maxConcurrency));
+        this.clock = clock;
+    }
+
+    /**
+     * 한 번에 받아 갈 한도. 창 한도가 작으면 인스턴스 사이 오차가 커지지 않도록 한도의 1/10 이하로 줄입니다.
+     */
+    public int leaseChunk(int requestsPerWindow) {
+        return Math.max(1, Math.min(leaseChunk, requestsPerWindow / 10));
+    }
+
+    public boolean isAvailable(long nowMillis) {
+        return nowMillis >= unavailableUntilMillis.get();
+    }
+
+    /**
+     * 클라이언트의 현재 창 한도에서 최대 {@code requested}개를 받아 옵니다.
+     * 진행 중인 조회가 이미 {@code store-max-concurrency}개면 기다리지 않고 {@link #UNAVAILABLE}을 돌려줍니다.
+     * 제한 시간 안에 끝나지 않은 조회는 취소하지만, 이미 DB에 반영된 몫은 돌려받지 않으므로 전체 허용량은 한도보다 줄어들 뿐입니다.
+     *
+     * @return 받은 개수(남은 한도가 없으면 0), 저장소를 쓸 수 없으면 {@link #UNAVAILABLE}
+     */
+    public int lease(
+            String limiterName,
+            String clientKey,
+            long windowIndex,
+            long windowMillis,
+            int requested,
+            int limit,
+            long nowMillis
+    ) {
+        if (!isAvailable(nowMillis)) {
+            return UNAVAILABLE;
+        }
+        if (!inFlight.tryAcquire()) {
+            return UNAVAILABLE;
+        }
+        Future<Integer> call;
+        try {
+            call = executor.submit(() -> {
+                try {
+                    return leaseFromTable(limiterName, clientHash(clientKey), windowIndex, windowMillis, requested, limit);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RuntimeException rejected) {
+            inFlight.release();
+            return UNAVAILABLE;
+        }
+        try {
+            return call.get(storeTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException timedOut) {
+            call.cancel(true);
+            markUnavailable(nowMillis, "응답 지연 " + storeTimeoutMillis + "ms 초과");
+            return UNAVAILABLE;
+        } catch (ExecutionException error) {
+            markUnavailable(nowMillis, String.valueOf(error.getCause().getMessage()));
+            return UNAVAILABLE;
+        } catch (InterruptedException interrupted) {
+            call.cancel(true);
+            Thread.currentThread().interrupt();
+            return UNAVAILABLE;
+        }
+    }
+
+    /**
+     * 창이 끝난 카운터 행을 지웁니다.
+     */
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.ofInstant(clock.instant(), ZoneOffset.UTC);
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(now));
+    }
+
+    private int leaseFromTable(
+            String limiterName,
+            long clientHash,
+            long windowIndex,
+            long windowMillis,
+            int requested,
+            int limit
+    ) {
+        int amount = Math.min(requested, limit);
+        if (jdbcTemplate.update(UPDATE_SQL, amount, limiterName, clientHash, windowIndex, amount, limit) == 1) {
+            return amount;
+        }
+        try {
+            // 창이 끝난 뒤에도 한 창 길이만큼 남겨 두어 늦게 도착한 인스턴스가 같은 창을 새로 만들지 않게 합니다.
+            LocalDateTime expiresAt = LocalDateTime.ofInstant(
+                    Instant.ofEpochMilli((windowIndex + 2) * windowMillis),
+                    ZoneOffset.UTC
+            );
+            jdbcTemplate.update(INSERT_SQL, limiterName, clientHash, windowIndex, amount, Timestamp.valueOf(expiresAt));
+            return amount;
+        } catch (DuplicateKeyException alreadyCreated) {
+            return grantRemaining(limiterName, clientHash, windowIndex, amount, limit);
+        }
+    }
+
+    private int grantRemaining(String limiterName, long clientHash, long windowIndex, int requested, int limit) {
+        for (int attempt = 0; attempt < MAX_PARTIAL_GRANT_ATTEMPTS; attempt++) {
+            Integer consumed = jdbcTemplate.query(
+                    SELECT_SQL,
+                    rs -> rs.next() ? rs.getInt(1) : null,
+                    limiterName,
+                    clientHash,
+                    windowIndex
+            );
+            if (consumed == null || consumed >= limit) {
+                return 0;
+            }
+            int granted = Math.min(requested, limit - consumed);
+            if (jdbcTemplate.update(COMPARE_AND_SET_SQL, consumed + granted, limiterName, clientHash, windowIndex, consumed) == 1) {
+                return granted;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void markUnavailable(long nowMillis, String reason) {
+        long until = nowMillis + cooldownMillis;
+        long previous = unavailableUntilMillis.getAndUpdate(current -> Math.max(current, until));
+        if (previous <= nowMillis) {
+            log.warn("요청 한도 공유 저장소를 {}초 동안 사용하지 않고 인스턴스별 제한으로 전환합니다: {}", cooldownMillis / 1_000, reason);
+        }
+    }
+
+    private static long clientHash(String clientKey) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(clientKey.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest, 0, Long.BYTES).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.neogulmap.neogul_map.config.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 요청 하나가 차감할 요청 한도 비용
+ * DB 부담이 큰 요청일수록 큰 값을 돌려주어 같은 한도 안에서 더 적게 허용되도록 합니다.
+ */
+@FunctionalInterface
+public interface RequestCostFunction {
+
+    RequestCostFunction UNIT = request -> 1;
+
+    int cost(HttpServletRequest request);
+}
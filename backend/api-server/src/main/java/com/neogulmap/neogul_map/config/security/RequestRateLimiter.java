@@ -0,0 +1,36 @@
+package com.neogulmap.neogul_map.config.security;
+
+/**
+ * 클라이언트 키 단위 요청 제한
+ * 기본은 인스턴스별 {@link ClientRateLimiter}이며, 분산 모드에서는 {@link LeasedRateLimiter}가 공유 카운터 테이블에서 한도를 나눠 받습니다.
+ */
+public interface RequestRateLimiter {
+
+    /**
+     * 비용 {@code permits}만큼 한도를 차감합니다. 비용은 1 이상, 창 한도 이하로 맞춰 적용합니다.
+     *
+     * @return 허용하면 0, 거절하면 다시 시도할 수 있을 때까지 남은 밀리초
+     */
+    long tryAcquire(String clientKey, int permits, long nowMillis);
+
+    default long tryAcquire(String clientKey, long nowMillis) {
+        return tryAcquire(clientKey, 1, nowMillis);
+    }
+
+    /**
+     * 공유 카운터 저장소가 있으면 분산 제한기를, 없으면 인스턴스별 제한기를 만듭니다.
+     */
+    static RequestRateLimiter create(
+            String name,
+            int requestsPerWindow,
+            long windowSeconds,
+            int maxTrackedClients,
+            RateLimitLeaseStore leaseStore
+    ) {
+        ClientRateLimiter local = new ClientRateLimiter(requestsPerWindow, windowSeconds, maxTrackedClients);
+        if (leaseStore == null) {
+            return local;
+        }
+        return new LeasedRateLimiter(name, requestsPerWindow, windowSeconds, maxTrackedClients, leaseStore, local);
+    }
+}
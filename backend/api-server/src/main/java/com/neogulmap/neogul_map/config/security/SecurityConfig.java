@@ -6,10 +6,14 @@ import com.neogulmap.neogul_map.config.security.oauth.OAuth2SuccessHandler;
 import com.neogulmap.neogul_map.config.security.oauth.OAuth2FailureHandler;
 import com.neogulmap.neogul_map.config.security.oauth.OAuth2UserCustomService;
 import com.neogulmap.neogul_map.config.security.oauth.OAuth2AuthorizationRequestBasedOnCookieRepository;
+import com.neogulmap.neogul_map.service.OperatorAccessGuard;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -20,6 +24,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import org.springframework.context.annotation.Profile;
@@ -44,6 +49,9 @@ public class SecurityConfig {
     private final OAuth2FailureHandler oAuth2FailureHandler;
     private final OAuth2UserCustomService oAuth2UserCustomService;
     private final OAuth2AuthorizationRequestBasedOnCookieRepository oAuth2AuthorizationRequestBasedOnCookieRepository;
+    private final OperatorAccessGuard operatorAccessGuard;
+    private final ObjectProvider<RateLimitLeaseStore> rateLimitLeaseStore;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
 
     @Value("${app.cors.allowed-origins:http://localhost,http://localhost:3000}")
     private String[] allowedOrigins;
@@ -81,6 +89,27 @@ public class SecurityConfig {
     @Value("${app.security.public-zone-rate-limit.max-tracked-clients:10000}")
     private int publicZoneMaxTrackedClients;
 
+    @Value("${app.security.db-concurrency-limit.enabled:true}")
+    private boolean dbConcurrencyLimitEnabled;
+
+    @Value("${app.security.db-concurrency-limit.initial-limit:20}")
+    private int dbConcurrencyInitialLimit;
+
+    @Value("${app.security.db-concurrency-limit.min-limit:4}")
+    private int dbConcurrencyMinLimit;
+
+    @Value("${app.security.db-concurrency-limit.max-limit:100}")
+    private int dbConcurrencyMaxLimit;
+
+    @Value("${app.security.db-concurrency-limit.latency-threshold-ms:500}")
+    private long dbConcurrencyLatencyThresholdMs;
+
+    @Value("${app.security.db-concurrency-limit.backoff-ratio:0.9}")
+    private double dbConcurrencyBackoffRatio;
+
+    @Value("${app.security.db-concurrency-limit.retry-after-seconds:1}")
+    private long dbConcurrencyRetryAfterSeconds;
+
     @Value("${app.test-endpoints.enabled:false}")
     private boolean testEndpointsEnabled;
 
@@ -96,19 +125,39 @@ public class SecurityConfig {
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         CookieMutationOriginFilter cookieMutationOriginFilter =
                 new CookieMutationOriginFilter(csrfEnabled, allowedOrigins);
+        RateLimitLeaseStore leaseStore = rateLimitLeaseStore.getIfAvailable();
         SensitiveEndpointRateLimitFilter sensitiveEndpointRateLimitFilter =
                 new SensitiveEndpointRateLimitFilter(
                         sensitiveRateLimitEnabled,
-                        sensitiveRequestsPerWindow,
-                        sensitiveWindowSeconds,
-                        sensitiveMaxTrackedClients
+                        RequestRateLimiter.create(
+                                "sensitive",
+                                sensitiveRequestsPerWindow,
+                                sensitiveWindowSeconds,
+                                sensitiveMaxTrackedClients,
+                                leaseStore
+                        )
                 );
         PublicZoneReadRateLimitFilter publicZoneReadRateLimitFilter =
                 new PublicZoneReadRateLimitFilter(
                         publicZoneRateLimitEnabled,
-                        publicZoneRequestsPerWindow,
-                        publicZoneWindowSeconds,
-                        publicZoneMaxTrackedClients
+                        RequestRateLimiter.create(
+                                "public-zone",
+                                publicZoneRequestsPerWindow,
+                                publicZoneWindowSeconds,
+                                publicZoneMaxTrackedClients,
+                                leaseStore
+                        )
+                );
+        AdaptiveConcurrencyLimitFilter adaptiveConcurrencyLimitFilter =
+                new AdaptiveConcurrencyLimitFilter(
+                        dbConcurrencyLimitEnabled,
+                        dbConcurrencyInitialLimit,
+                        dbConcurrencyMinLimit,
+                        dbConcurrencyMaxLimit,
+                        Duration.ofMillis(dbConcurrencyLatencyThresholdMs),
+                        dbConcurrencyBackoffRatio,
+                        dbConcurrencyRetryAfterSeconds,
+                        meterRegistry.getIfAvailable()
                 );
         return http
             // Native clients use bearer tokens. Browser cookie mutations are protected
@@ -154,6 +203,11 @@ public class SecurityConfig {
                 
                 // Actuator 엔드포인트
                 .requestMatchers("/actuator/health").permitAll()
+                // 운영 대기열 지표는 운영자 조회 키 헤더로만 접근 (상수시간 비교)
+                .requestMatchers("/actuator/moderation", "/actuator/metrics", "/actuator/metrics/**")
+                    .access((authentication, context) -> new AuthorizationDecision(
+                            operatorAccessGuard.hasAccess(context.getRequest().getHeader("X-Nugul-Operator-Key"))
+                    ))
                 .requestMatchers("/actuator/**").hasRole("ADMIN")
                 
                 // 회원가입 페이지 (GET, POST 모두 공개)
@@ -195,6 +249,8 @@ public class SecurityConfig {
             )
             .addFilterBefore(sensitiveEndpointRateLimitFilter, UsernamePasswordAuthenticationFilter.class)
             .addFilterBefore(publicZoneReadRateLimitFilter, UsernamePasswordAuthenticationFilter.class)
+            // 요청 한도를 통과한 DB 사용 요청만 동시 처리 한도를 차지합니다.
+            .addFilterBefore(adaptiveConcurrencyLimitFilter, UsernamePasswordAuthenticationFilter.class)
             .addFilterBefore(cookieMutationOriginFilter, UsernamePasswordAuthenticationFilter.class)
             // JWT 인증 필터 추가 (OAuth2 로그인 이후 JWT 토큰으로 인증)
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
@@ -8,10 +8,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.time.Clock;
-import java.time.Instant;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Conservative per-instance protection for credential exchange and operator
@@ -20,8 +17,7 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 public final class SensitiveEndpointRateLimitFilter extends OncePerRequestFilter {
 
-    private static final String UNKNOWN_CLIENT = "unknown";
-    private static final String OVERFLOW_CLIENT = "overflow";
+    private static final Decision ALLOWED = new Decision(true, 0);
     private static final Set<String> AUTH_POST_PATHS = Set.of(
             "/auth/refresh",
             "/auth/validate",
@@ -31,11 +27,7 @@ public final class SensitiveEndpointRateLimitFilter extends OncePerRequestFilter
     );
 
     private final boolean enabled;
-    private final int requestsPerWindow;
-    private final long windowSeconds;
-    private final int maxTrackedClients;
-    private final ConcurrentHashMap<String, ClientWindow> windows = new ConcurrentHashMap<>();
-    private final AtomicLong nextCleanupEpochSecond = new AtomicLong();
+    private final RequestRateLimiter limiter;
     private Clock clock = Clock.systemUTC();
 
     public SensitiveEndpointRateLimitFilter(
@@ -44,10 +36,12 @@ public final class SensitiveEndpointRateLimitFilter extends OncePerRequestFilter
             long windowSeconds,
             int maxTrackedClients
     ) {
+        this(enabled, new ClientRateLimiter(requestsPerWindow, windowSeconds, maxTrackedClients));
+    }
+
+    public SensitiveEndpointRateLimitFilter(boolean enabled, RequestRateLimiter limiter) {
         this.enabled = enabled;
-        this.requestsPerWindow = Math.max(1, requestsPerWindow);
-        this.windowSeconds = Math.max(1, windowSeconds);
-        this.maxTrackedClients = Math.max(1, maxTrackedClients);
+        this.limiter = limiter;
     }
 
     @Override
@@ -55,7 +49,7 @@ public final class SensitiveEndpointRateLimitFilter extends OncePerRequestFilter
         if (!enabled || request == null) {
             return true;
         }
-        String path = applicationPath(request);
+        String path = ClientRateLimiter.applicationPath(request);
         return !(path.startsWith("/operator/")
                 || ("POST".equalsIgnoreCase(request.getMethod()) && AUTH_POST_PATHS.contains(path)));
     }
@@ -78,69 +72,12 @@ public final class SensitiveEndpointRateLimitFilter extends OncePerRequestFilter
     }
 
     Decision tryAcquire(HttpServletRequest request) {
-        Instant now = Instant.now(clock);
-        cleanExpiredWindows(now);
-        String clientKey = clientKey(request);
-        if (!windows.containsKey(clientKey) && windows.size() >= maxTrackedClients) {
-            clientKey = OVERFLOW_CLIENT;
-        }
-
-        Attempt attempt = new Attempt();
-        windows.compute(clientKey, (ignored, current) -> {
-            if (current == null || !current.expiresAt().isAfter(now)) {
-                attempt.allowed = true;
-                return new ClientWindow(1, now.plusSeconds(windowSeconds));
-            }
-            if (current.count() >= requestsPerWindow) {
-                attempt.retryAfterSeconds = Math.max(1, current.expiresAt().getEpochSecond() - now.getEpochSecond());
-                return current;
-            }
-            attempt.allowed = true;
-            return new ClientWindow(current.count() + 1, current.expiresAt());
-        });
-        return attempt.allowed
-                ? new Decision(true, 0)
-                : new Decision(false, Math.max(1, attempt.retryAfterSeconds));
-    }
-
-    private String clientKey(HttpServletRequest request) {
-        String remoteAddress = request.getRemoteAddr();
-        if (remoteAddress == null || remoteAddress.isBlank() || remoteAddress.length() > 128) {
-            return UNKNOWN_CLIENT;
-        }
-        return remoteAddress.trim();
-    }
-
-    private void cleanExpiredWindows(Instant now) {
-        long currentEpochSecond = now.getEpochSecond();
-        long scheduled = nextCleanupEpochSecond.get();
-        if (currentEpochSecond < scheduled
-                || !nextCleanupEpochSecond.compareAndSet(scheduled, currentEpochSecond + windowSeconds)) {
-            return;
-        }
-        windows.entrySet().removeIf(entry -> !entry.getValue().expiresAt().isAfter(now));
-    }
-
-    private String applicationPath(HttpServletRequest request) {
-        String servletPath = request.getServletPath();
-        if (servletPath != null && !servletPath.isBlank()) {
-            return servletPath;
-        }
-        String uri = request.getRequestURI();
-        String contextPath = request.getContextPath();
-        return contextPath != null && !contextPath.isBlank() && uri.startsWith(contextPath)
-                ? uri.substring(contextPath.length())
-                : uri;
+        long retryAfterMillis = limiter.tryAcquire(ClientRateLimiter.clientKey(request), clock.millis());
+        return retryAfterMillis == 0
+                ? ALLOWED
+                : new Decision(false, ClientRateLimiter.retryAfterSeconds(retryAfterMillis));
     }
 
     record Decision(boolean allowed, long retryAfterSeconds) {
     }
-
-    private record ClientWindow(int count, Instant expiresAt) {
-    }
-
-    private static final class Attempt {
-        private boolean allowed;
-        private long retryAfterSeconds;
-    }
 }
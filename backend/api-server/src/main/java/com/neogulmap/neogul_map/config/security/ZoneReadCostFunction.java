@@ -0,0 +1,82 @@
+package com.neogulmap.neogul_map.config.security;
+
+import com.neogulmap.neogul_map.service.ZoneService;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 공개 흡연구역 조회 비용
+ * 단건 조회를 1로 두고, 목록 조회는 요청한 최대 행 수 100개마다 1을 더합니다.
+ * 지도 영역 조회는 영역이 {@link ZoneService#MAX_BOUNDS_AREA_SQUARE_DEGREES}에 가까울수록,
+ * 반경 조회는 반경이 {@link ZoneService#MAX_RADIUS_METERS}에 가까울수록 최대 3을 더 차감하고, 키워드 검색은 2를 더 차감합니다.
+ * 지도 영역 좌표가 없거나 잘못된 요청은 서비스 검증에서 바로 거절되므로 1만 차감합니다.
+ */
+public final class ZoneReadCostFunction implements RequestCostFunction {
+
+    static final int MAX_SHAPE_COST = 3;
+    static final int SEARCH_COST = 2;
+    private static final int ROWS_PER_UNIT = 100;
+
+    @Override
+    public int cost(HttpServletRequest request) {
+        String path = ClientRateLimiter.applicationPath(request);
+        return switch (path) {
+            case "/zones/bounds" -> boundsCost(request);
+            case "/zones/search" -> rowsCost(request, "limit", 100, ZoneService.MAX_PUBLIC_LIST_LIMIT)
+                    + SEARCH_COST;
+            case "/zones/paged" -> rowsCost(request, "size", 20, ZoneService.MAX_PUBLIC_LIST_LIMIT);
+            case "/zones" -> request.getParameter("radius") != null
+                    ? rowsCost(request, "limit", 100, ZoneService.MAX_BOUNDS_LIMIT) + radiusCost(request)
+                    : rowsCost(request, "limit", 100, ZoneService.MAX_PUBLIC_LIST_LIMIT);
+            default -> 1;
+        };
+    }
+
+    private int rowsCost(HttpServletRequest request, String parameter, int defaultRows, int maxRows) {
+        int rows = defaultRows;
+        String value = request.getParameter(parameter);
+        if (value != null) {
+            try {
+                rows = Integer.parseInt(value.trim());
+            } catch (NumberFormatException ignored) {
+                // 서비스가 잘못된 값을 거절하므로 기본 행 수로 계산합니다.
+            }
+        }
+        int boundedRows = Math.min(Math.max(1, rows), maxRows);
+        return (boundedRows + ROWS_PER_UNIT - 1) / ROWS_PER_UNIT;
+    }
+
+    private int boundsCost(HttpServletRequest request) {
+        double latitudeSpan = parameter(request, "maxLat") - parameter(request, "minLat");
+        double longitudeSpan = parameter(request, "maxLng") - parameter(request, "minLng");
+        if (!Double.isFinite(latitudeSpan) || !Double.isFinite(longitudeSpan)
+                || latitudeSpan <= 0 || longitudeSpan <= 0) {
+            return 1;
+        }
+        return rowsCost(request, "limit", 200, ZoneService.MAX_BOUNDS_LIMIT)
+                + shapeCost(latitudeSpan * longitudeSpan / ZoneService.MAX_BOUNDS_AREA_SQUARE_DEGREES);
+    }
+
+    private int radiusCost(HttpServletRequest request) {
+        double radiusMeters = parameter(request, "radius") * 1_000.0;
+        if (!Double.isFinite(radiusMeters) || radiusMeters <= 0) {
+            return 0;
+        }
+        return shapeCost(radiusMeters / ZoneService.MAX_RADIUS_METERS);
+    }
+
+    private int shapeCost(double ratio) {
+        return (int) Math.ceil(Math.min(1.0, ratio) * MAX_SHAPE_COST);
+    }
+
+    private double parameter(HttpServletRequest request, String name) {
+        String value = request.getParameter(name);
+        if (value == null) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.neogulmap.neogul_map.config.security.jwt;
 
+import com.neogulmap.neogul_map.config.security.AuthenticatedPrincipal;
+import com.neogulmap.neogul_map.service.AuthenticatedUserCache;
+import com.neogulmap.neogul_map.service.TokenVersionRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,6 +21,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * JWT 토큰 검증 필터
@@ -29,6 +34,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenProvider tokenProvider;
     private final UserDetailsService userDetailsService;
+    private final TokenVersionRegistry tokenVersionRegistry;
+
+    /**
+     * true이면 사용자 엔티티를 조회하지 않고 JWT claim으로 만든 AuthenticatedPrincipal로 인증합니다.
+     * 엔티티가 필요한 @CurrentUser User 파라미터는 CurrentUserArgumentResolver가 그때 조회합니다.
+     */
+    @Value("${app.security.stateless-auth.enabled:false}")
+    private boolean statelessAuthEnabled;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
@@ -40,11 +53,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (StringUtils.hasText(jwt)) {
                 log.debug("JWT 토큰 발견 - URI: {}", request.getRequestURI());
                 
-                if (tokenProvider.validAccessToken(jwt)) {
-                String email = tokenProvider.getEmailFromToken(jwt);
+                // 서명 검증과 claim 추출을 한 번에 처리합니다.
+                Optional<TokenClaims> claims = tokenProvider.verifyAccessToken(jwt)
+                        .filter(verified -> tokenVersionRegistry.isCurrent(verified.userId(), verified.tokenVersion()));
+                if (claims.isPresent()) {
                     log.debug("JWT 토큰 유효 - URI: {}", request.getRequestURI());
                 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+                UserDetails userDetails = statelessAuthEnabled
+                        ? AuthenticatedPrincipal.from(claims.get())
+                        : userDetailsService.loadUserByUsername(claims.get().email());
                 
                 if (userDetails != null) {
                     UsernamePasswordAuthenticationToken authentication = 
@@ -52,10 +69,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     
                     SecurityContextHolder.getContext().setAuthentication(authentication);
+                    // @CurrentUser 해석 시 같은 사용자를 다시 조회하지 않도록 요청 범위에 보관
+                    request.setAttribute(AuthenticatedUserCache.REQUEST_ATTRIBUTE, userDetails);
                         log.debug("인증 설정 완료 - URI: {}", request.getRequestURI());
                     }
                 } else {
-                    log.debug("JWT 토큰 유효하지 않음 - URI: {}", request.getRequestURI());
+                    log.debug("JWT 토큰 유효하지 않거나 폐기됨 - URI: {}", request.getRequestURI());
                 }
             } else {
                 log.debug("JWT 토큰 없음 - URI: {}", request.getRequestURI());
@@ -0,0 +1,29 @@
+package com.neogulmap.neogul_map.config.security.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 JWT의 claim
+ * 한 번 검증한 결과를 필터와 컨트롤러가 함께 사용하므로 같은 토큰을 다시 파싱하지 않습니다.
+ */
+public record TokenClaims(
+        String email,
+        Long userId,
+        String tokenType,
+        int tokenVersion,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+    public boolean isAccessToken() {
+        return TokenProvider.ACCESS_TOKEN_TYPE.equals(tokenType);
+    }
+
+    public boolean isRefreshToken() {
+        return TokenProvider.REFRESH_TOKEN_TYPE.equals(tokenType);
+    }
+
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
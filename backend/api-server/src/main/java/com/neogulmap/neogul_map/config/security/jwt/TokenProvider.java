@@ -1,10 +1,17 @@
 package com.neogulmap.neogul_map.config.security.jwt;
 
 import com.neogulmap.neogul_map.domain.User;
-import io.jsonwebtoken.*;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -12,28 +19,74 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * JWT 발급과 검증
+ * 서명 검증은 재사용하는 parser 하나로 한 번만 수행하고, 검증한 claim은 토큰 해시를 키로 짧게 보관합니다.
+ * 캐시 항목은 토큰 만료 시각을 넘겨 살아남지 않으므로 만료된 토큰이 캐시 때문에 통과하는 일은 없습니다.
+ */
 @Slf4j
 @Component
 public class TokenProvider {
-    private static final String TOKEN_TYPE_CLAIM = "tokenType";
-    private static final String ACCESS_TOKEN_TYPE = "access";
-    private static final String REFRESH_TOKEN_TYPE = "refresh";
+    static final String TOKEN_TYPE_CLAIM = "tokenType";
+    static final String USER_ID_CLAIM = "userId";
+    static final String TOKEN_VERSION_CLAIM = "tv";
+    static final String ACCESS_TOKEN_TYPE = "access";
+    static final String REFRESH_TOKEN_TYPE = "refresh";
+    private static final Duration EXPIRING_SOON = Duration.ofMinutes(5);
 
     private final SecretKey key;
     private final long tokenValidityInMilliseconds;
+    private final JwtParser parser;
+    private final Clock clock;
+    private final boolean cacheEnabled;
+    private final long cacheTtlSeconds;
+    private final int cacheMaxEntries;
+    private final ConcurrentHashMap<String, CachedClaims> verifiedTokens = new ConcurrentHashMap<>();
+    private final AtomicLong nextCleanupEpochSecond = new AtomicLong();
 
+    @Autowired
     public TokenProvider(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.token-validity-in-seconds}") long tokenValidityInSeconds) {
+            @Value("${jwt.token-validity-in-seconds}") long tokenValidityInSeconds,
+            @Value("${jwt.verified-cache.enabled:true}") boolean cacheEnabled,
+            @Value("${jwt.verified-cache.ttl-seconds:300}") long cacheTtlSeconds,
+            @Value("${jwt.verified-cache.max-entries:10000}") int cacheMaxEntries) {
+        this(secret, tokenValidityInSeconds, cacheEnabled, cacheTtlSeconds, cacheMaxEntries, Clock.systemUTC());
+    }
+
+    TokenProvider(
+            String secret,
+            long tokenValidityInSeconds,
+            boolean cacheEnabled,
+            long cacheTtlSeconds,
+            int cacheMaxEntries,
+            Clock clock) {
         // Base64로 인코딩된 secret을 디코딩
         byte[] decodedSecret = Base64.getDecoder().decode(secret.trim());
         this.key = Keys.hmacShaKeyFor(decodedSecret);
         this.tokenValidityInMilliseconds = tokenValidityInSeconds * 1000;
+        this.clock = clock;
+        // JwtParser는 불변이고 스레드 안전하므로 요청마다 새로 만들지 않습니다.
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .clock(() -> Date.from(clock.instant()))
+                .build();
+        this.cacheEnabled = cacheEnabled && cacheTtlSeconds > 0 && cacheMaxEntries > 0;
+        this.cacheTtlSeconds = Math.max(1, cacheTtlSeconds);
+        this.cacheMaxEntries = Math.max(1, cacheMaxEntries);
     }
 
     public String generateAccessToken(User user, Duration duration) {
@@ -45,57 +98,117 @@ public class TokenProvider {
     }
 
     private String generateToken(User user, Duration duration, String tokenType) {
-        Date now = new Date();
+        Date now = Date.from(clock.instant());
         Date validity = new Date(now.getTime() + duration.toMillis());
 
         return Jwts.builder()
                 .subject(user.getEmail())
-                .claim("userId", user.getId())
+                .claim(USER_ID_CLAIM, user.getId())
                 .claim(TOKEN_TYPE_CLAIM, tokenType)
+                .claim(TOKEN_VERSION_CLAIM, user.getTokenVersion())
                 .issuedAt(now)
                 .expiration(validity)
                 .signWith(key)
                 .compact();
     }
 
+    /**
+     * 토큰 서명과 만료를 검증하고 claim을 돌려줍니다. 토큰 종류는 확인하지 않습니다.
+     *
+     * @return 유효하지 않은 토큰이면 빈 값
+     */
+    public Optional<TokenClaims> verify(String token) {
+        if (token == null || token.isBlank()) {
+            log.error("JWT claims string is empty");
+            return Optional.empty();
+        }
+        if (!cacheEnabled) {
+            return parse(token);
+        }
+        Instant now = clock.instant();
+        cleanExpiredEntries(now);
+        String cacheKey = hash(token);
+        CachedClaims cached = verifiedTokens.get(cacheKey);
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            return Optional.of(cached.claims());
+        }
+
+        Optional<TokenClaims> verified = parse(token);
+        verified.ifPresent(claims -> store(cacheKey, claims, now));
+        return verified;
+    }
+
+    public Optional<TokenClaims> verifyAccessToken(String token) {
+        return verify(token).filter(TokenClaims::isAccessToken);
+    }
+
+    public Optional<TokenClaims> verifyRefreshToken(String token) {
+        return verify(token).filter(TokenClaims::isRefreshToken);
+    }
+
     public String getEmailFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return requireClaims(token).email();
     }
 
     public Long getUserId(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.get("userId", Long.class);
+        return requireClaims(token).userId();
     }
 
     public boolean validAccessToken(String token) {
-        return validTokenOfType(token, ACCESS_TOKEN_TYPE);
+        return verifyAccessToken(token).isPresent();
     }
 
     public boolean validRefreshToken(String token) {
-        return validTokenOfType(token, REFRESH_TOKEN_TYPE);
+        return verifyRefreshToken(token).isPresent();
     }
 
     public boolean validToken(String token) {
         return validAccessToken(token);
     }
 
-    private boolean validTokenOfType(String token, String expectedType) {
+    public Authentication getAuthentication(String token) {
+        TokenClaims claims = verifyAccessToken(token)
+                .orElseThrow(() -> new JwtException("Access token required"));
+
+        return new UsernamePasswordAuthenticationToken(
+            claims.email(),
+            null,
+            Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+        );
+    }
+
+    /**
+     * 토큰이 곧 만료되는지 확인 (5분 이내)
+     * @param token JWT 토큰
+     * @return 5분 이내 만료되면 true
+     */
+    public boolean isTokenExpiringSoon(String token) {
+        return verify(token)
+                .map(claims -> claims.isExpiredAt(clock.instant().plus(EXPIRING_SOON)))
+                .orElse(true); // 에러 시 만료된 것으로 간주
+    }
+
+    int cachedTokenCount() {
+        return verifiedTokens.size();
+    }
+
+    private TokenClaims requireClaims(String token) {
+        return verify(token).orElseThrow(() -> new JwtException("Invalid JWT token"));
+    }
+
+    private Optional<TokenClaims> parse(String token) {
         try {
-            Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-            return expectedType.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            // tv claim이 도입되기 전에 발급된 토큰은 초기 버전(0)으로 취급합니다.
+            Integer tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Integer.class);
+            return Optional.of(new TokenClaims(
+                    claims.getSubject(),
+                    claims.get(USER_ID_CLAIM, Long.class),
+                    claims.get(TOKEN_TYPE_CLAIM, String.class),
+                    tokenVersion == null ? 0 : tokenVersion,
+                    toInstant(claims.getIssuedAt()),
+                    toInstant(claims.getExpiration())
+            ));
         } catch (SignatureException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
@@ -106,46 +219,49 @@ public class TokenProvider {
             log.error("Unsupported JWT token: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.error("JWT verification failed: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
     }
 
-    public Authentication getAuthentication(String token) {
-        if (!validAccessToken(token)) {
-            throw new JwtException("Access token required");
+    private void store(String cacheKey, TokenClaims claims, Instant now) {
+        if (!verifiedTokens.containsKey(cacheKey) && verifiedTokens.size() >= cacheMaxEntries) {
+            return;
         }
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        
-        return new UsernamePasswordAuthenticationToken(
-            claims.getSubject(),
-            null,
-            Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
-        );
+        Instant expiresAt = now.plusSeconds(cacheTtlSeconds);
+        if (claims.expiresAt() != null && claims.expiresAt().isBefore(expiresAt)) {
+            expiresAt = claims.expiresAt();
+        }
+        verifiedTokens.put(cacheKey, new CachedClaims(claims, expiresAt));
     }
-    
+
+    private void cleanExpiredEntries(Instant now) {
+        long currentEpochSecond = now.getEpochSecond();
+        long scheduled = nextCleanupEpochSecond.get();
+        if (currentEpochSecond < scheduled
+                || !nextCleanupEpochSecond.compareAndSet(scheduled, currentEpochSecond + cacheTtlSeconds)) {
+            return;
+        }
+        verifiedTokens.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+    }
+
     /**
-     * 토큰이 곧 만료되는지 확인 (5분 이내)
-     * @param token JWT 토큰
-     * @return 5분 이내 만료되면 true
+     * 캐시 키로 토큰 원문 대신 SHA-256 해시를 사용해 메모리에 bearer 토큰을 그대로 남기지 않습니다.
      */
-    public boolean isTokenExpiringSoon(String token) {
+    private static String hash(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-            
-            Date expiration = claims.getExpiration();
-            long timeUntilExpiry = expiration.getTime() - System.currentTimeMillis();
-            return timeUntilExpiry < 5 * 60 * 1000; // 5분
-        } catch (Exception e) {
-            log.error("Error checking token expiration: {}", e.getMessage());
-            return true; // 에러 시 만료된 것으로 간주
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
         }
     }
+
+    private static Instant toInstant(Date date) {
+        return date == null ? null : date.toInstant();
+    }
+
+    private record CachedClaims(TokenClaims claims, Instant expiresAt) {
+    }
 }
@@ -0,0 +1,24 @@
+package com.neogulmap.neogul_map.config.security.oauth;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 네이티브 OAuth code 저장소
+ * code 원문 대신 해시를 키로 받고, 토큰은 code 원문으로만 풀 수 있게 암호화된 값으로 받습니다. 여러 API 인스턴스가 같은 저장소를 쓰면 code를 발급한 인스턴스와
+ * 교환하는 인스턴스가 달라도 교환할 수 있습니다.
+ */
+public interface CodeStore {
+
+    void save(String codeKey, NativeOAuthCodeStore.Entry entry);
+
+    /**
+     * code를 꺼내면서 저장소에서 제거합니다. 같은 code로 동시에 호출되더라도 한 호출에만 값을 돌려줘야 합니다.
+     */
+    Optional<NativeOAuthCodeStore.Entry> take(String codeKey);
+
+    /**
+     * @return 정리한 만료 code 수
+     */
+    int purgeExpired(Instant now);
+}
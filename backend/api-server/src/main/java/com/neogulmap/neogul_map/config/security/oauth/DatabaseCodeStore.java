@@ -0,0 +1,71 @@
+package com.neogulmap.neogul_map.config.security.oauth;
+
+import com.neogulmap.neogul_map.domain.NativeOAuthCode;
+import com.neogulmap.neogul_map.repository.NativeOAuthCodeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+/**
+ * DB에 두는 code 저장소 (여러 API 인스턴스가 code를 공유)
+ * 조회한 행을 삭제한 트랜잭션만 code를 돌려주므로 동시에 교환을 시도해도 한 번만 성공합니다.
+ * 만료 시각은 UTC로 저장합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.oauth2.native-code.store", havingValue = "database")
+public class DatabaseCodeStore implements CodeStore {
+
+    private final NativeOAuthCodeRepository repository;
+
+    @Override
+    @Transactional
+    public void save(String codeKey, NativeOAuthCodeStore.Entry entry) {
+        repository.save(NativeOAuthCode.builder()
+                .codeHash(codeKey)
+                .accessToken(entry.getAccessToken())
+                .refreshToken(entry.getRefreshToken())
+                .userId(entry.getUserId())
+                .email(entry.getEmail())
+                .nickname(entry.getNickname())
+                .profileComplete(entry.isProfileComplete())
+                .codeChallenge(entry.getCodeChallenge())
+                .codeChallengeMethod(entry.getCodeChallengeMethod())
+                .expiresAt(LocalDateTime.ofInstant(entry.getExpiresAt(), ZoneOffset.UTC))
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public Optional<NativeOAuthCodeStore.Entry> take(String codeKey) {
+        Optional<NativeOAuthCode> found = repository.findById(codeKey);
+        if (found.isEmpty() || repository.deleteByCodeHash(codeKey) != 1) {
+            // 다른 요청이 먼저 삭제한 code입니다.
+            return Optional.empty();
+        }
+        NativeOAuthCode code = found.get();
+        return Optional.of(NativeOAuthCodeStore.Entry.builder()
+                .accessToken(code.getAccessToken())
+                .refreshToken(code.getRefreshToken())
+                .userId(code.getUserId())
+                .email(code.getEmail())
+                .nickname(code.getNickname())
+                .profileComplete(code.isProfileComplete())
+                .codeChallenge(code.getCodeChallenge())
+                .codeChallengeMethod(code.getCodeChallengeMethod())
+                .expiresAt(code.getExpiresAt().toInstant(ZoneOffset.UTC))
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public int purgeExpired(Instant now) {
+        return repository.deleteExpired(LocalDateTime.ofInstant(now, ZoneOffset.UTC));
+    }
+}
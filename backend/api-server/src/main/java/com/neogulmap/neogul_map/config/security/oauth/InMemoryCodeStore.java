@@ -0,0 +1,63 @@
+package com.neogulmap.neogul_map.config.security.oauth;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인스턴스 메모리에 두는 code 저장소 (단일 인스턴스 배포용)
+ * 만료 시각 순으로 정렬된 대기열에서 만료된 앞부분만 꺼내 정리하므로 전체 code를 훑지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(
+        name = "app.oauth2.native-code.store",
+        havingValue = "memory",
+        matchIfMissing = true
+)
+public class InMemoryCodeStore implements CodeStore {
+
+    private final Map<String, NativeOAuthCodeStore.Entry> entries = new ConcurrentHashMap<>();
+    private final PriorityQueue<Expiry> expiryQueue = new PriorityQueue<>(Comparator.comparing(Expiry::expiresAt));
+
+    @Override
+    public void save(String codeKey, NativeOAuthCodeStore.Entry entry) {
+        entries.put(codeKey, entry);
+        synchronized (expiryQueue) {
+            expiryQueue.add(new Expiry(codeKey, entry.getExpiresAt()));
+        }
+    }
+
+    @Override
+    public Optional<NativeOAuthCodeStore.Entry> take(String codeKey) {
+        return Optional.ofNullable(entries.remove(codeKey));
+    }
+
+    @Override
+    public int purgeExpired(Instant now) {
+        int purged = 0;
+        synchronized (expiryQueue) {
+            Expiry head;
+            while ((head = expiryQueue.peek()) != null && !head.expiresAt().isAfter(now)) {
+                expiryQueue.poll();
+                // 이미 교환된 code는 대기열에만 남아 있으므로 건너뜁니다.
+                if (entries.remove(head.codeKey()) != null) {
+                    purged++;
+                }
+            }
+        }
+        return purged;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private record Expiry(String codeKey, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.neogulmap.neogul_map.config.security.oauth;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = "app.oauth2.native-code.purge-enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class NativeOAuthCodePurgeWorker {
+
+    private final NativeOAuthCodeStore nativeOAuthCodeStore;
+
+    @Scheduled(
+            initialDelayString = "${app.oauth2.native-code.purge-interval-ms:30000}",
+            fixedDelayString = "${app.oauth2.native-code.purge-interval-ms:30000}"
+    )
+    public void purgeExpiredCodes() {
+        try {
+            int purged = nativeOAuthCodeStore.purgeExpired();
+            if (purged > 0) {
+                log.debug("만료된 네이티브 OAuth code 정리: {}건", purged);
+            }
+        } catch (RuntimeException error) {
+            log.warn("네이티브 OAuth code 정리 실패: {}", error.getMessage());
+        }
+    }
+}
@@ -3,41 +3,50 @@ package com.neogulmap.neogul_map.config.security.oauth;
 import com.neogulmap.neogul_map.domain.User;
 import lombok.Builder;
 import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.util.Base64;
-import java.util.Iterator;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 네이티브 앱 OAuth 로그인 code 발급/교환
+ * code와 PKCE 검증은 여기서 처리하고, 보관은 설정된 CodeStore(메모리 또는 DB)에 맡깁니다.
+ * 저장소에는 code 해시와 code 원문으로만 풀 수 있게 암호화한 토큰을 넘깁니다.
+ */
 @Component
 public class NativeOAuthCodeStore {
 
     private static final long CODE_TTL_SECONDS = 180;
 
+    private final CodeStore codeStore;
     private final Clock clock;
-    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
 
     public NativeOAuthCodeStore() {
-        this(Clock.systemUTC());
+        this(new InMemoryCodeStore(), Clock.systemUTC());
     }
 
-    NativeOAuthCodeStore(Clock clock) {
+    @Autowired
+    public NativeOAuthCodeStore(CodeStore codeStore) {
+        this(codeStore, Clock.systemUTC());
+    }
+
+    NativeOAuthCodeStore(CodeStore codeStore, Clock clock) {
+        this.codeStore = codeStore;
         this.clock = clock;
     }
 
     public String issue(String accessToken, String refreshToken, User user, String codeChallenge, String codeChallengeMethod) {
-        purgeExpired();
         String code = UUID.randomUUID().toString();
-        entries.put(code, Entry.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
+        codeStore.save(codeKey(code), Entry.builder()
+                .accessToken(NativeOAuthTokenCipher.encrypt(code, accessToken))
+                .refreshToken(NativeOAuthTokenCipher.encrypt(code, refreshToken))
                 .userId(user.getId())
                 .email(user.getEmail())
                 .nickname(user.getNickname())
@@ -54,22 +63,37 @@ public class NativeOAuthCodeStore {
             return Optional.empty();
         }
 
-        Entry entry = entries.remove(code.trim());
-        if (entry == null || entry.isExpired(Instant.now(clock))) {
+        String trimmedCode = code.trim();
+        Entry entry = codeStore.take(codeKey(trimmedCode)).orElse(null);
+        if (entry == null || entry.isExpired(Instant.now(clock)) || !entry.matchesVerifier(codeVerifier.trim())) {
             return Optional.empty();
         }
 
-        return entry.matchesVerifier(codeVerifier.trim()) ? Optional.of(entry) : Optional.empty();
+        Optional<String> accessToken = NativeOAuthTokenCipher.decrypt(trimmedCode, entry.getAccessToken());
+        Optional<String> refreshToken = NativeOAuthTokenCipher.decrypt(trimmedCode, entry.getRefreshToken());
+        if (accessToken.isEmpty() || refreshToken.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.toBuilder()
+                .accessToken(accessToken.get())
+                .refreshToken(refreshToken.get())
+                .build());
     }
 
-    private void purgeExpired() {
-        Instant now = Instant.now(clock);
-        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
-        while (iterator.hasNext()) {
-            if (iterator.next().getValue().isExpired(now)) {
-                iterator.remove();
-            }
-        }
+    /**
+     * 교환되지 않고 만료된 code를 정리합니다. NativeOAuthCodePurgeWorker가 주기적으로 호출합니다.
+     *
+     * @return 정리한 code 수
+     */
+    public int purgeExpired() {
+        return codeStore.purgeExpired(Instant.now(clock));
+    }
+
+    /**
+     * 저장소에는 code 원문 대신 해시를 보관해 저장소 내용만으로는 code를 교환할 수 없게 합니다.
+     */
+    private static String codeKey(String code) {
+        return sha256(code, StandardCharsets.UTF_8);
     }
 
     private String normalizeMethod(String method) {
@@ -80,17 +104,20 @@ public class NativeOAuthCodeStore {
     }
 
     private static String s256(String codeVerifier) {
+        return sha256(codeVerifier, StandardCharsets.US_ASCII);
+    }
+
+    private static String sha256(String value, Charset charset) {
         try {
-            byte[] digest = MessageDigest.getInstance("SHA-256")
-                    .digest(codeVerifier.getBytes(StandardCharsets.US_ASCII));
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(charset));
             return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
         } catch (Exception ex) {
-            throw new IllegalStateException("PKCE S256 계산 실패", ex);
+            throw new IllegalStateException("SHA-256 계산 실패", ex);
         }
     }
 
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
     public static class Entry {
         private String accessToken;
         private String refreshToken;
@@ -0,0 +1,74 @@
+package com.neogulmap.neogul_map.config.security.oauth;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * code 저장소에 보관하는 토큰 암호화 (AES-GCM)
+ * 키는 code 원문에서 파생하므로, 해시만 남는 저장소 내용이나 서버 설정만으로는 토큰을 복호화할 수 없습니다.
+ */
+final class NativeOAuthTokenCipher {
+
+    private static final String VERSION = "v1:";
+    private static final String KEY_CONTEXT = "native-oauth-code-token:";
+    private static final int NONCE_BYTES = 12;
+    private static final int GCM_TAG_BITS = 128;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private NativeOAuthTokenCipher() {
+    }
+
+    static String encrypt(String code, String token) {
+        try {
+            byte[] nonce = new byte[NONCE_BYTES];
+            SECURE_RANDOM.nextBytes(nonce);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, key(code), new GCMParameterSpec(GCM_TAG_BITS, nonce));
+            byte[] ciphertext = cipher.doFinal(token.getBytes(StandardCharsets.UTF_8));
+            byte[] payload = ByteBuffer.allocate(nonce.length + ciphertext.length)
+                    .put(nonce)
+                    .put(ciphertext)
+                    .array();
+            return VERSION + Base64.getEncoder().encodeToString(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("OAuth code 토큰 암호화 실패", e);
+        }
+    }
+
+    /**
+     * @return 형식이 올바르지 않거나 다른 code로 암호화된 값이면 비어 있습니다.
+     */
+    static Optional<String> decrypt(String code, String encryptedToken) {
+        if (encryptedToken == null || !encryptedToken.startsWith(VERSION)) {
+            return Optional.empty();
+        }
+        try {
+            byte[] payload = Base64.getDecoder().decode(encryptedToken.substring(VERSION.length()));
+            if (payload.length <= NONCE_BYTES) {
+                return Optional.empty();
+            }
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, key(code), new GCMParameterSpec(GCM_TAG_BITS, payload, 0, NONCE_BYTES));
+            byte[] token = cipher.doFinal(payload, NONCE_BYTES, payload.length - NONCE_BYTES);
+            return Optional.of(new String(token, StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException | GeneralSecurityException e) {
+            return Optional.empty();
+        }
+    }
+
+    // 저장소 키(code의 SHA-256)와 겹치지 않도록 용도 문자열을 붙여 파생합니다.
+    private static SecretKey key(String code) throws GeneralSecurityException {
+        byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest((KEY_CONTEXT + code).getBytes(StandardCharsets.UTF_8));
+        return new SecretKeySpec(digest, "AES");
+    }
+}
@@ -1,8 +1,10 @@
 package com.neogulmap.neogul_map.controller;
 
+import com.neogulmap.neogul_map.config.security.jwt.TokenClaims;
 import com.neogulmap.neogul_map.config.security.jwt.TokenProvider;
 import com.neogulmap.neogul_map.config.security.oauth.NativeOAuthCodeStore;
 import com.neogulmap.neogul_map.config.annotation.CurrentUser;
+import com.neogulmap.neogul_map.config.security.AuthenticatedPrincipal;
 import com.neogulmap.neogul_map.domain.User;
 import com.neogulmap.neogul_map.domain.enums.ImageType;
 import com.neogulmap.neogul_map.dto.ApiResponse;
@@ -33,6 +35,7 @@ import org.springframework.beans.factory.annotation.Value;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * 인증 관련 컨트롤러
@@ -69,6 +72,21 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.ok("로그아웃되었습니다.", null));
     }
 
+    /**
+     * 모든 기기에서 로그아웃
+     * 토큰 버전을 올려 다른 기기에 남아 있는 access/refresh 토큰까지 무효화합니다.
+     */
+    @PostMapping("/logout/all")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<Void>> logoutEverywhere(
+            @CurrentUser AuthenticatedPrincipal principal,
+            HttpServletResponse response) {
+        userService.revokeAllTokens(principal.id());
+        expireAuthCookie(response, ACCESS_TOKEN_COOKIE_NAME);
+        expireAuthCookie(response, REFRESH_TOKEN_COOKIE_NAME);
+        return ResponseEntity.ok(ApiResponse.ok("모든 기기에서 로그아웃되었습니다.", null));
+    }
+
     private void expireAuthCookie(HttpServletResponse response, String name) {
         String cookieHeader = String.format(
                 "%s=; Path=/; HttpOnly; %sMax-Age=0; SameSite=%s",
@@ -98,7 +116,8 @@ public class AuthController {
             }
             
             // Refresh token 검증
-            if (!tokenProvider.validRefreshToken(refreshToken)) {
+            Optional<TokenClaims> refreshClaims = tokenProvider.verifyRefreshToken(refreshToken);
+            if (refreshClaims.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of(
                     "success", false,
                     "message", "유효하지 않거나 만료된 refresh token입니다."
@@ -106,11 +125,19 @@ public class AuthController {
             }
             
             // 토큰에서 사용자 정보 추출
-            String email = tokenProvider.getEmailFromToken(refreshToken);
+            String email = refreshClaims.get().email();
             
             // 사용자 조회
             User user = userService.getUserByEmail(email)
                     .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+
+            // 모든 기기 로그아웃이나 계정 삭제로 폐기된 refresh token은 재발급에 사용할 수 없습니다.
+            if (user.isDeleted() || user.getTokenVersion() != refreshClaims.get().tokenVersion()) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of(
+                    "success", false,
+                    "message", "유효하지 않거나 만료된 refresh token입니다."
+                ));
+            }
             
             // 새로운 토큰 발급
             String newAccessToken = tokenProvider.generateAccessToken(user, Duration.ofHours(2));
@@ -156,11 +183,11 @@ public class AuthController {
                 ));
             }
             
-            boolean isValid = tokenProvider.validAccessToken(token);
+            Optional<TokenClaims> claims = tokenProvider.verifyAccessToken(token);
             
-            if (isValid) {
-                String email = tokenProvider.getEmailFromToken(token);
-                Long userId = tokenProvider.getUserId(token);
+            if (claims.isPresent()) {
+                String email = claims.get().email();
+                Long userId = claims.get().userId();
                 
                 return ResponseEntity.ok(Map.of(
                     "success", true,
@@ -1,21 +1,21 @@
 package com.neogulmap.neogul_map.controller;
 
 import com.neogulmap.neogul_map.config.security.PublicInsightRateLimiter;
-import com.neogulmap.neogul_map.dto.MapInsightResponse;
-import com.neogulmap.neogul_map.service.EventInsightService;
 import com.neogulmap.neogul_map.service.HotplaceService;
 import com.neogulmap.neogul_map.service.InsightStatusService;
+import com.neogulmap.neogul_map.service.MapInsightService;
 import lombok.RequiredArgsConstructor;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.time.Instant;
 import java.util.Map;
 
 @RestController
@@ -23,9 +23,9 @@ import java.util.Map;
 @RequestMapping("/insights")
 public class InsightController {
 
-    private final HotplaceService hotplaceService;
-    private final EventInsightService eventInsightService;
+    private final MapInsightService mapInsightService;
     private final InsightStatusService insightStatusService;
+    private final HotplaceService hotplaceService;
     private final PublicInsightRateLimiter publicInsightRateLimiter;
 
     @GetMapping("/map")
@@ -41,25 +41,33 @@ public class InsightController {
     ) {
         PublicInsightRateLimiter.Decision rateLimit = publicInsightRateLimiter.tryAcquire(request);
         if (!rateLimit.allowed()) {
-            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
-                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(rateLimit.retryAfterSeconds()))
-                    .body(Map.of(
-                            "success", false,
-                            "message", "요청이 많습니다. 잠시 후 다시 시도해 주세요."
-                    ));
+            return tooManyRequests(rateLimit);
         }
 
-        MapInsightResponse response = new MapInsightResponse(
-                hotplaceService.getHotplaces(keyword, hotplaceLimit, minLat, maxLat, minLng, maxLng),
-                eventInsightService.getEvents(keyword, eventLimit, minLat, maxLat, minLng, maxLng),
-                insightStatusService.getStatus(),
-                Instant.now()
-        );
-        return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "시즌2 지도 인사이트 조회 성공",
-                "data", response
-        ));
+        // 직렬화된 응답을 캐시에서 그대로 내려보냅니다.
+        byte[] body = mapInsightService.getMapInsightJson(keyword, hotplaceLimit, eventLimit, minLat, maxLat, minLng, maxLng);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @GetMapping("/hotplaces/{id}/trend")
+    public ResponseEntity<?> getHotplaceTrend(@PathVariable("id") String id, HttpServletRequest request) {
+        PublicInsightRateLimiter.Decision rateLimit = publicInsightRateLimiter.tryAcquire(request);
+        if (!rateLimit.allowed()) {
+            return tooManyRequests(rateLimit);
+        }
+
+        return hotplaceService.getHotplaceTrend(id)
+                .<ResponseEntity<?>>map(trend -> ResponseEntity.ok(Map.of(
+                        "success", true,
+                        "message", "핫플 혼잡도 추이 조회 성공",
+                        "data", trend
+                )))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of(
+                        "success", false,
+                        "message", "알 수 없는 핫플입니다."
+                )));
     }
 
     @GetMapping("/status")
@@ -70,4 +78,13 @@ public class InsightController {
                 "data", insightStatusService.getStatus()
         ));
     }
+
+    private ResponseEntity<?> tooManyRequests(PublicInsightRateLimiter.Decision rateLimit) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(rateLimit.retryAfterSeconds()))
+                .body(Map.of(
+                        "success", false,
+                        "message", "요청이 많습니다. 잠시 후 다시 시도해 주세요."
+                ));
+    }
 }
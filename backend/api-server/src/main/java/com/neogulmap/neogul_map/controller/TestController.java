@@ -10,6 +10,7 @@ import com.neogulmap.neogul_map.dto.UserRequest;
 import com.neogulmap.neogul_map.dto.ZoneRequest;
 import com.neogulmap.neogul_map.dto.UserResponse;
 import com.neogulmap.neogul_map.dto.ZoneResponse;
+import com.neogulmap.neogul_map.config.security.jwt.TokenClaims;
 import com.neogulmap.neogul_map.config.security.jwt.TokenProvider;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -31,6 +32,7 @@ import lombok.extern.slf4j.Slf4j;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * 테스트 컨트롤러 - REST API 전용
@@ -602,11 +604,11 @@ public class TestController {
                 return ResponseEntity.badRequest().body(response);
             }
             
-            boolean isValid = tokenProvider.validToken(token);
+            Optional<TokenClaims> claims = tokenProvider.verifyAccessToken(token);
             
-            if (isValid) {
-                String email = tokenProvider.getEmailFromToken(token);
-                Long userId = tokenProvider.getUserId(token);
+            if (claims.isPresent()) {
+                String email = claims.get().email();
+                Long userId = claims.get().userId();
                 
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", true);
@@ -646,16 +648,23 @@ public class TestController {
                 return ResponseEntity.badRequest().body(response);
             }
             
-            if (!tokenProvider.validRefreshToken(refreshToken)) {
+            Optional<TokenClaims> refreshClaims = tokenProvider.verifyRefreshToken(refreshToken);
+            if (refreshClaims.isEmpty()) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", false);
                 response.put("message", "유효하지 않거나 만료된 refresh token입니다.");
                 return ResponseEntity.status(401).body(response);
             }
             
-            String email = tokenProvider.getEmailFromToken(refreshToken);
+            String email = refreshClaims.get().email();
             User user = userService.getUserByEmail(email)
                     .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+            if (user.isDeleted() || user.getTokenVersion() != refreshClaims.get().tokenVersion()) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", false);
+                response.put("message", "유효하지 않거나 만료된 refresh token입니다.");
+                return ResponseEntity.status(401).body(response);
+            }
             
             String newAccessToken = tokenProvider.generateAccessToken(user, java.time.Duration.ofHours(2));
             String newRefreshToken = tokenProvider.generateRefreshToken(user, java.time.Duration.ofDays(30));
@@ -1,7 +1,7 @@
 package com.neogulmap.neogul_map.controller;
 
 import com.neogulmap.neogul_map.config.annotation.CurrentUser;
-import com.neogulmap.neogul_map.domain.User;
+import com.neogulmap.neogul_map.config.security.AuthenticatedPrincipal;
 import com.neogulmap.neogul_map.service.ReviewModerationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -23,9 +23,9 @@ public class UserBlockController {
     @PostMapping
     public ResponseEntity<?> blockUser(
             @PathVariable("userId") Long userId,
-            @CurrentUser User currentUser
+            @CurrentUser AuthenticatedPrincipal currentUser
     ) {
-        reviewModerationService.blockUser(userId, currentUser);
+        reviewModerationService.blockUser(userId, currentUser.id());
         return ResponseEntity.ok(Map.of(
                 "success", true,
                 "message", "사용자를 차단했습니다.",
@@ -36,9 +36,9 @@ public class UserBlockController {
     @DeleteMapping
     public ResponseEntity<?> unblockUser(
             @PathVariable("userId") Long userId,
-            @CurrentUser User currentUser
+            @CurrentUser AuthenticatedPrincipal currentUser
     ) {
-        reviewModerationService.unblockUser(userId, currentUser);
+        reviewModerationService.unblockUser(userId, currentUser.id());
         return ResponseEntity.ok(Map.of(
                 "success", true,
                 "message", "사용자 차단을 해제했습니다.",
@@ -215,6 +215,7 @@ public class UserController {
             "message", deletionMessage(deletionResult),
             "data", Map.of(
                     "deletedUserId", id,
+                    "deletionJobId", deletionResult.deletionJobId(),
                     "manualAppleRevocationRequired", deletionResult.manualAppleRevocationRequired()
             )
         ));
@@ -229,6 +230,7 @@ public class UserController {
             "message", deletionMessage(deletionResult),
             "data", Map.of(
                     "deletedUserId", deletedUserId,
+                    "deletionJobId", deletionResult.deletionJobId(),
                     "manualAppleRevocationRequired", deletionResult.manualAppleRevocationRequired()
             )
         ));
@@ -236,9 +238,9 @@ public class UserController {
 
     private String deletionMessage(UserService.AccountDeletionResult result) {
         if (result.manualAppleRevocationRequired()) {
-            return "계정 데이터가 삭제되었습니다. iPhone 설정의 Apple로 로그인에서 너굴맵 연결도 해제해 주세요.";
+            return "계정이 삭제되었습니다. 남은 데이터는 곧 정리됩니다. iPhone 설정의 Apple로 로그인에서 너굴맵 연결도 해제해 주세요.";
         }
-        return "계정 삭제가 완료되었습니다.";
+        return "계정이 삭제되었습니다. 작성한 장소와 리뷰는 곧 정리됩니다.";
     }
 
     private boolean isCurrentUser(Long requestedUserId, User currentUser) {
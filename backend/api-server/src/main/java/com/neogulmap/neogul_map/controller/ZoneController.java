@@ -9,6 +9,7 @@ import com.neogulmap.neogul_map.service.ZoneService;
 import com.neogulmap.neogul_map.service.ImageService;
 import com.neogulmap.neogul_map.domain.User;
 import com.neogulmap.neogul_map.config.annotation.CurrentUser;
+import com.neogulmap.neogul_map.config.security.AuthenticatedPrincipal;
 import com.neogulmap.neogul_map.domain.enums.ImageType;
 import com.neogulmap.neogul_map.config.exceptionHandling.exception.ProfileImageProcessingException;
 import com.neogulmap.neogul_map.config.exceptionHandling.exception.ProfileImageRequiredException;
@@ -40,6 +41,7 @@ public class ZoneController {
     private final ImageService imageService;
     private final ZoneModerationService zoneModerationService;
 
+    // 응답에 등록자 표시 이름이 들어가므로 장소 등록만 사용자 엔티티를 받습니다.
     @PostMapping
     public ResponseEntity<?> createZone(@CurrentUser User creator,
                                        @RequestPart(value = "image", required = false) MultipartFile image,
@@ -112,8 +114,8 @@ public class ZoneController {
     @PostMapping("/{id}/reports")
     public ResponseEntity<?> reportZone(@PathVariable("id") Integer id,
                                         @RequestBody ZoneReportRequest request,
-                                        @CurrentUser User reporter) {
-        ZoneReportResponse report = zoneModerationService.reportZone(id, request, reporter);
+                                        @CurrentUser AuthenticatedPrincipal reporter) {
+        ZoneReportResponse report = zoneModerationService.reportZone(id, request, reporter.id());
         return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(
                 "success", true,
                 "message", "장소 신고가 접수되었습니다.",
@@ -212,13 +214,13 @@ public class ZoneController {
 
     /**
      * 현재 인증된 사용자가 등록한 흡연구역 목록 조회
-     * @param user 현재 인증된 사용자 (@CurrentUser로 자동 주입)
+     * @param user 현재 인증 주체 (@CurrentUser로 자동 주입, 사용자 엔티티는 조회하지 않음)
      * @return 현재 사용자가 등록한 Zone 목록
      */
     @GetMapping("/my")
-    public ResponseEntity<?> getMyZones(@CurrentUser User user) {
+    public ResponseEntity<?> getMyZones(@CurrentUser AuthenticatedPrincipal user) {
         // PK 기반으로 Zone 조회 (JOIN FETCH 사용, N+1 문제 방지)
-        List<ZoneResponse> response = zoneService.getZonesByUserId(user.getId());
+        List<ZoneResponse> response = zoneService.getZonesByUserId(user.id());
         
         return ResponseEntity.ok(Map.of(
             "success", true,
@@ -232,7 +234,7 @@ public class ZoneController {
     
     @PutMapping("/{id}")
     public ResponseEntity<?> updateZone(@PathVariable("id") Integer id,
-                                       @CurrentUser User user,
+                                       @CurrentUser AuthenticatedPrincipal user,
                                        @RequestPart(value = "image", required = false) MultipartFile image,
                                        @RequestPart("data") String zoneData) {
         // 1차 검증: Zone 데이터 검증
@@ -258,7 +260,7 @@ public class ZoneController {
 
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteZone(@PathVariable("id") Integer id,
-                                        @CurrentUser User user) {
+                                        @CurrentUser AuthenticatedPrincipal user) {
         zoneService.deleteZone(id, user);
         return ResponseEntity.ok(Map.of(
             "success", true,
@@ -1,6 +1,7 @@
 package com.neogulmap.neogul_map.controller;
 
 import com.neogulmap.neogul_map.config.annotation.CurrentUser;
+import com.neogulmap.neogul_map.config.security.AuthenticatedPrincipal;
 import com.neogulmap.neogul_map.domain.User;
 import com.neogulmap.neogul_map.dto.ZoneReviewRequest;
 import com.neogulmap.neogul_map.dto.ZoneReviewResponse;
@@ -27,9 +28,9 @@ public class ZoneReviewController {
     @GetMapping
     public ResponseEntity<?> getReviews(
             @PathVariable("zoneId") Integer zoneId,
-            @CurrentUser(required = false) User user
+            @CurrentUser(required = false) AuthenticatedPrincipal user
     ) {
-        List<ZoneReviewResponse> reviews = zoneReviewService.getReviews(zoneId, user);
+        List<ZoneReviewResponse> reviews = zoneReviewService.getReviews(zoneId, user == null ? null : user.id());
         return ResponseEntity.ok(Map.of(
                 "success", true,
                 "message", "리뷰 조회 성공",
@@ -40,6 +41,7 @@ public class ZoneReviewController {
         ));
     }
 
+    // 응답에 작성자 표시 이름이 들어가므로 리뷰 작성만 사용자 엔티티를 받습니다.
     @PostMapping
     public ResponseEntity<?> createReview(@PathVariable("zoneId") Integer zoneId,
                                           @RequestBody ZoneReviewRequest request,
@@ -57,9 +59,9 @@ public class ZoneReviewController {
             @PathVariable("zoneId") Integer zoneId,
             @PathVariable("reviewId") Long reviewId,
             @RequestBody ReviewReportRequest request,
-            @CurrentUser User user
+            @CurrentUser AuthenticatedPrincipal user
     ) {
-        ReviewReportResponse report = reviewModerationService.reportReview(zoneId, reviewId, request, user);
+        ReviewReportResponse report = reviewModerationService.reportReview(zoneId, reviewId, request, user.id());
         return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(
                 "success", true,
                 "message", "신고가 접수되었습니다.",
@@ -0,0 +1,98 @@
+package com.neogulmap.neogul_map.domain;
+
+import com.neogulmap.neogul_map.domain.enums.AccountDeletionStage;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계정 삭제 background job
+ * 요청 시점에는 사용자만 삭제 상태로 표시하고, 리뷰/신고/장소는 단계별로 나누어 일괄 삭제합니다.
+ * 단계와 누적 건수를 기록하므로 서버 재시작 이후에도 중단된 지점부터 이어서 처리합니다.
+ * 실패한 job은 next_attempt_at까지 미뤄지고, 재시도 한도를 넘기면 보류 상태로 남습니다.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "account_deletion_job")
+public class AccountDeletionJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AccountDeletionStage stage = AccountDeletionStage.REVIEWS;
+
+    @Column(name = "reviews_deleted", nullable = false)
+    private int reviewsDeleted;
+
+    @Column(name = "reports_deleted", nullable = false)
+    private int reportsDeleted;
+
+    @Column(name = "zones_deleted", nullable = false)
+    private int zonesDeleted;
+
+    @Column(name = "images_queued", nullable = false)
+    private int imagesQueued;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    public void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    public void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isCompleted() {
+        return stage == AccountDeletionStage.COMPLETED;
+    }
+}
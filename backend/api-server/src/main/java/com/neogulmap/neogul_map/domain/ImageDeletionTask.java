@@ -0,0 +1,72 @@
+package com.neogulmap.neogul_map.domain;
+
+import com.neogulmap.neogul_map.domain.enums.ImageType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장소 이미지 삭제 대기열 항목
+ * 장소/계정 삭제와 같은 트랜잭션에 기록되고, 커밋 이후 background worker가 삭제를 재시도합니다.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "image_deletion_task")
+public class ImageDeletionTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "image_name", nullable = false, length = 255)
+    private String imageName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "image_type", nullable = false, length = 20)
+    private ImageType imageType;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * 작업을 가져간 worker 배치의 토큰. 가져간 동안 {@code nextAttemptAt}은 claim 만료 시각입니다.
+     */
+    @Column(name = "claimed_by", length = 36)
+    private String claimedBy;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.neogulmap.neogul_map.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 네이티브 OAuth 로그인 code
+ * 앱이 PKCE 검증값으로 한 번만 교환할 수 있으며, code 원문 대신 SHA-256 해시를 키로 저장합니다.
+ * 토큰은 code 원문에서 파생한 키로 암호화되어 있어 이 행만으로는 복호화할 수 없습니다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "native_oauth_code")
+public class NativeOAuthCode {
+
+    @Id
+    @Column(name = "code_hash", length = 64)
+    private String codeHash;
+
+    @Column(name = "access_token", nullable = false, columnDefinition = "TEXT")
+    private String accessToken;
+
+    @Column(name = "refresh_token", nullable = false, columnDefinition = "TEXT")
+    private String refreshToken;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(length = 255)
+    private String email;
+
+    @Column(length = 100)
+    private String nickname;
+
+    @Column(name = "profile_complete", nullable = false)
+    private boolean profileComplete;
+
+    @Column(name = "code_challenge", nullable = false, length = 128)
+    private String codeChallenge;
+
+    @Column(name = "code_challenge_method", nullable = false, length = 10)
+    private String codeChallengeMethod;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -47,6 +47,20 @@ public class User implements UserDetails {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * 계정 삭제 요청 시각. 값이 있으면 background job이 데이터를 정리하는 중이며 로그인할 수 없습니다.
+     */
+    @JsonIgnore
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    /**
+     * 발급된 JWT의 tv claim과 비교하는 토큰 버전. 값을 올리면 그 전에 발급된 토큰이 모두 무효가 됩니다.
+     */
+    @JsonIgnore
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
+
     public User() {}
 
     public User(
@@ -57,7 +71,9 @@ public class User implements UserDetails {
             String oauthProvider,
             String profileImage,
             String appleRefreshTokenCiphertext,
-            LocalDateTime createdAt
+            LocalDateTime createdAt,
+            LocalDateTime deletedAt,
+            int tokenVersion
     ) {
         this.id = id;
         this.nickname = nickname;
@@ -67,6 +83,8 @@ public class User implements UserDetails {
         this.profileImage = profileImage;
         this.appleRefreshTokenCiphertext = appleRefreshTokenCiphertext;
         this.createdAt = createdAt;
+        this.deletedAt = deletedAt;
+        this.tokenVersion = tokenVersion;
     }
 
     @PrePersist
@@ -123,7 +141,12 @@ public class User implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return true;
+        return deletedAt == null;
+    }
+
+    @JsonIgnore
+    public boolean isDeleted() {
+        return deletedAt != null;
     }
     
     /**
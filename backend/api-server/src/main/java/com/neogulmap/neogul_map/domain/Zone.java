@@ -10,6 +10,7 @@ import lombok.AllArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
 @Getter
@@ -76,6 +77,19 @@ public class Zone {
     @Column(name = "publication_status", nullable = false, length = 20)
     private ZonePublicationStatus publicationStatus = ZonePublicationStatus.PUBLISHED;
 
+    /**
+     * 등록 시각. 운영자 검토 지연 측정에 사용하며, 컬럼 추가 이전에 등록된 장소는 null입니다.
+     */
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
     public void update(com.neogulmap.neogul_map.dto.ZoneRequest request) {
         if (request.getRegion() != null) this.region = request.getRegion();
         if (request.getType() != null) this.type = request.getType();
@@ -0,0 +1,9 @@
+package com.neogulmap.neogul_map.domain.enums;
+
+public enum AccountDeletionStage {
+    REVIEWS,
+    REPORTS,
+    ZONES,
+    USER,
+    COMPLETED
+}
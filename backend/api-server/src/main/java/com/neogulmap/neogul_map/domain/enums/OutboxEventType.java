@@ -0,0 +1,11 @@
+package com.neogulmap.neogul_map.domain.enums;
+
+/**
+ * outbox로 전달하는 커밋 이후 부수 효과 종류
+ */
+public enum OutboxEventType {
+    /**
+     * 임시 저장소에 올린 장소 이미지를 최종 위치로 확정
+     */
+    ZONE_IMAGE_COMMIT
+}
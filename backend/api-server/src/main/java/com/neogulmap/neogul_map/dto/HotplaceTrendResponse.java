@@ -0,0 +1,45 @@
+package com.neogulmap.neogul_map.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record HotplaceTrendResponse(
+        String id,
+        String name,
+        String timeZone,
+        long observationCount,
+        Instant firstObservedAt,
+        Instant lastObservedAt,
+        Integer busiestHour,
+        List<HourlyTrend> hourly,
+        List<WeekdayTrend> weekdays,
+        List<Observation> recent
+) {
+    public record HourlyTrend(
+            int hour,
+            long observations,
+            Double averageCrowdScore,
+            String typicalCrowdLevel,
+            Integer averageMaxPeople,
+            Double busyRatio
+    ) {
+    }
+
+    public record WeekdayTrend(
+            String dayOfWeek,
+            long observations,
+            Double averageCrowdScore,
+            String typicalCrowdLevel,
+            Integer averageMaxPeople,
+            Double busyRatio
+    ) {
+    }
+
+    public record Observation(
+            Instant observedAt,
+            String crowdLevel,
+            Integer estimatedMinPeople,
+            Integer estimatedMaxPeople
+    ) {
+    }
+}
@@ -1,27 +1,22 @@
 package com.neogulmap.neogul_map.event;
 
-import lombok.Getter;
-import org.springframework.context.ApplicationEvent;
-
 /**
  * Zone 이미지 커밋 이벤트
- * event 패키지에 위치 - MVC 패턴의 이벤트 처리
+ * 장소 저장 트랜잭션에서 outbox payload로 기록되고, 커밋 이후 임시 파일을 최종 파일로 확정할 때 사용됩니다.
+ * 장소는 확정 전까지 이전 이미지를 가리키고, 교체된 이전 이미지는 새 이미지가 확정되어 노출된 뒤에만 삭제합니다.
  */
-@Getter
-public class ZoneImageCommitEvent extends ApplicationEvent {
-    
-    private final String tempFileName;
-    private final String finalFileName;
-    private final Integer zoneId;
+public record ZoneImageCommitEvent(String tempFileName, String finalFileName, Integer zoneId, String previousFileName) {
 
-    public ZoneImageCommitEvent(Object source, String tempFileName, String finalFileName, Integer zoneId) {
-        super(source);
-        this.tempFileName = tempFileName;
-        this.finalFileName = finalFileName;
-        this.zoneId = zoneId;
+    public static ZoneImageCommitEvent create(String tempFileName, String finalFileName, Integer zoneId) {
+        return new ZoneImageCommitEvent(tempFileName, finalFileName, zoneId, null);
     }
 
-    public static ZoneImageCommitEvent create(String tempFileName, String finalFileName, Integer zoneId) {
-        return new ZoneImageCommitEvent(new Object(), tempFileName, finalFileName, zoneId);
+    public static ZoneImageCommitEvent replacing(
+            String tempFileName,
+            String finalFileName,
+            Integer zoneId,
+            String previousFileName
+    ) {
+        return new ZoneImageCommitEvent(tempFileName, finalFileName, zoneId, previousFileName);
     }
 }
@@ -0,0 +1,32 @@
+package com.neogulmap.neogul_map.repository;
+
+import com.neogulmap.neogul_map.domain.AccountDeletionJob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface AccountDeletionJobRepository extends JpaRepository<AccountDeletionJob, Long> {
+
+    // 재시도 시각이 지났고 한도에 도달하지 않은 job만 고르므로 계속 실패하는 job이 뒤의 job을 막지 않습니다.
+    List<AccountDeletionJob> findByCompletedAtIsNullAndAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAscIdAsc(
+            int maxAttempts,
+            LocalDateTime dueAt,
+            Pageable pageable
+    );
+
+    long countByCompletedAtIsNull();
+
+    long countByCompletedAtIsNullAndAttemptsGreaterThanEqual(int maxAttempts);
+
+    // 여러 인스턴스가 같은 job을 동시에 진행하지 않도록 배치 단위로 행 잠금을 잡습니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM AccountDeletionJob j WHERE j.id = :id")
+    Optional<AccountDeletionJob> findByIdForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,43 @@
+package com.neogulmap.neogul_map.repository;
+
+import com.neogulmap.neogul_map.domain.ImageDeletionTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ImageDeletionTaskRepository extends JpaRepository<ImageDeletionTask, Long> {
+
+    List<ImageDeletionTask> findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAscIdAsc(
+            int maxAttempts,
+            LocalDateTime dueAt,
+            Pageable pageable
+    );
+
+    long countByAttemptsLessThan(int maxAttempts);
+
+    /**
+     * 아직 처리 대상인 작업만 {@code claimedBy}로 가져가고 {@code claimedUntil}까지 다른 worker의 조회에서 빠지게 합니다.
+     * 조건부 UPDATE라서 여러 인스턴스가 같은 작업을 동시에 가져가도 한쪽만 성공합니다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE ImageDeletionTask t SET t.claimedBy = :claimedBy, t.nextAttemptAt = :claimedUntil
+            WHERE t.id IN :ids AND t.attempts < :maxAttempts AND t.nextAttemptAt <= :dueAt
+            """)
+    int claim(
+            @Param("ids") List<Long> ids,
+            @Param("claimedBy") String claimedBy,
+            @Param("claimedUntil") LocalDateTime claimedUntil,
+            @Param("maxAttempts") int maxAttempts,
+            @Param("dueAt") LocalDateTime dueAt
+    );
+
+    List<ImageDeletionTask> findByClaimedByOrderByIdAsc(String claimedBy);
+}
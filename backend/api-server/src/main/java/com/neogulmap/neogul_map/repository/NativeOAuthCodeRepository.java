@@ -0,0 +1,21 @@
+package com.neogulmap.neogul_map.repository;
+
+import com.neogulmap.neogul_map.domain.NativeOAuthCode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface NativeOAuthCodeRepository extends JpaRepository<NativeOAuthCode, String> {
+
+    // 삭제된 행 수로 code를 먼저 꺼낸 요청을 가립니다.
+    @Modifying
+    @Query("DELETE FROM NativeOAuthCode c WHERE c.codeHash = :codeHash")
+    int deleteByCodeHash(@Param("codeHash") String codeHash);
+
+    @Modifying
+    @Query("DELETE FROM NativeOAuthCode c WHERE c.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
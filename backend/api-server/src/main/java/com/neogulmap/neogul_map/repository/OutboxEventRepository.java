@@ -0,0 +1,113 @@
+package com.neogulmap.neogul_map.repository;
+
+import com.neogulmap.neogul_map.domain.OutboxEvent;
+import com.neogulmap.neogul_map.domain.enums.OutboxEventType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 전달할 차례가 된 이벤트를 id 순서로 조회합니다.
+     * 같은 aggregate에 재시도를 기다리거나 재시도 한도를 넘겨 보류된 앞선 이벤트가 있으면
+     * 순서 보장을 위해 뒤의 이벤트는 제외합니다. 보류된 이벤트를 수동으로 정리해야 뒤의 이벤트가 전달됩니다.
+     */
+    @Query("""
+            SELECT e FROM OutboxEvent e
+            WHERE e.attempts < :maxAttempts
+              AND e.nextAttemptAt <= :dueAt
+              AND NOT EXISTS (
+                  SELECT w.id FROM OutboxEvent w
+                  WHERE w.aggregateType = e.aggregateType
+                    AND w.aggregateId = e.aggregateId
+                    AND w.id < e.id
+                    AND (w.attempts >= :maxAttempts OR w.nextAttemptAt > :dueAt)
+              )
+            ORDER BY e.id ASC
+            """)
+    List<OutboxEvent> findDeliverable(
+            @Param("maxAttempts") int maxAttempts,
+            @Param("dueAt") LocalDateTime dueAt,
+            Pageable pageable
+    );
+
+    /**
+     * 아직 전달할 차례인 이벤트만 {@code claimedBy}로 가져가고 {@code claimedUntil}까지 다른 dispatcher의 조회에서 빠지게 합니다.
+     * 조건부 UPDATE라서 여러 인스턴스가 같은 이벤트를 동시에 가져가도 한쪽만 성공합니다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE OutboxEvent e SET e.claimedBy = :claimedBy, e.nextAttemptAt = :claimedUntil
+            WHERE e.id IN :ids AND e.attempts < :maxAttempts AND e.nextAttemptAt <= :dueAt
+            """)
+    int claim(
+            @Param("ids") List<Long> ids,
+            @Param("claimedBy") String claimedBy,
+            @Param("claimedUntil") LocalDateTime claimedUntil,
+            @Param("maxAttempts") int maxAttempts,
+            @Param("dueAt") LocalDateTime dueAt
+    );
+
+    List<OutboxEvent> findByClaimedByOrderByIdAsc(String claimedBy);
+
+    /**
+     * 이번 배치가 가져간 이벤트 중 같은 aggregate의 앞선 이벤트를 다른 배치가 가졌거나 아직 남겨둔 이벤트를 조회합니다.
+     * 두 인스턴스가 같은 aggregate의 이벤트를 나누어 가져가면 순서가 뒤바뀔 수 있으므로 이 이벤트는 돌려놓아야 합니다.
+     */
+    @Query("""
+            SELECT e.id FROM OutboxEvent e
+            WHERE e.claimedBy = :claimedBy
+              AND EXISTS (
+                  SELECT w.id FROM OutboxEvent w
+                  WHERE w.aggregateType = e.aggregateType
+                    AND w.aggregateId = e.aggregateId
+                    AND w.id < e.id
+                    AND (w.claimedBy IS NULL OR w.claimedBy <> :claimedBy)
+              )
+            """)
+    List<Long> findClaimedBehindOthers(@Param("claimedBy") String claimedBy);
+
+    /**
+     * 가져갔지만 전달하지 않은 이벤트를 바로 다시 전달할 수 있게 돌려놓습니다.
+     * claim이 만료되어 다른 배치가 다시 가져간 이벤트는 건드리지 않습니다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE OutboxEvent e SET e.claimedBy = NULL, e.nextAttemptAt = :dueAt
+            WHERE e.id IN :ids AND e.claimedBy = :claimedBy
+            """)
+    int release(
+            @Param("ids") List<Long> ids,
+            @Param("claimedBy") String claimedBy,
+            @Param("dueAt") LocalDateTime dueAt
+    );
+
+    /**
+     * aggregate마다 아직 남아 있는 해당 종류 이벤트 중 가장 마지막 id를 조회합니다.
+     * 뒤에 같은 종류의 이벤트가 더 있다면 그 이벤트가 앞선 이벤트의 결과를 대신합니다.
+     */
+    @Query("""
+            SELECT MAX(e.id) FROM OutboxEvent e
+            WHERE e.eventType = :eventType
+              AND e.aggregateType = :aggregateType
+              AND e.aggregateId IN :aggregateIds
+            GROUP BY e.aggregateId
+            """)
+    List<Long> findLatestIds(
+            @Param("eventType") OutboxEventType eventType,
+            @Param("aggregateType") String aggregateType,
+            @Param("aggregateIds") Collection<String> aggregateIds
+    );
+
+    long countByAttemptsLessThan(int maxAttempts);
+}
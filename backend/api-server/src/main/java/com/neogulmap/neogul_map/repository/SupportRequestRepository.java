@@ -20,6 +20,8 @@ public interface SupportRequestRepository extends JpaRepository<SupportRequest,
 
     List<SupportRequest> findTop100ByStatusInOrderByCreatedAtAsc(List<SupportRequestStatus> statuses);
 
+    long countByStatusIn(List<SupportRequestStatus> statuses);
+
     long deleteByStatusInAndResolvedAtBefore(
             List<SupportRequestStatus> statuses,
             LocalDateTime resolvedBefore
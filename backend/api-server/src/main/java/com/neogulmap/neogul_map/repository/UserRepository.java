@@ -1,8 +1,11 @@
 package com.neogulmap.neogul_map.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.neogulmap.neogul_map.domain.User;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -14,4 +17,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     // 특정 OAuth 제공자의 사용자 조회
     Optional<User> findByOauthProviderAndOauthId(String oauthProvider, String oauthId);
+
+    // 소셜 로그인 한 번에 provider 계정과 같은 이메일 계정을 함께 조회 (최대 2행, 왕복 1회)
+    @Query("SELECT u FROM User u WHERE (u.oauthProvider = :provider AND u.oauthId = :oauthId) OR u.email = :email")
+    List<User> findLoginCandidates(
+            @Param("provider") String provider,
+            @Param("oauthId") String oauthId,
+            @Param("email") String email
+    );
+
+    // 삭제되지 않은 사용자의 토큰 버전만 조회 (엔티티 전체를 읽지 않음)
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id AND u.deletedAt IS NULL")
+    Optional<Integer> findActiveTokenVersionById(@Param("id") Long id);
 }
@@ -2,7 +2,11 @@ package com.neogulmap.neogul_map.repository;
 
 import com.neogulmap.neogul_map.domain.ZoneReport;
 import com.neogulmap.neogul_map.domain.enums.ModerationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,10 +16,21 @@ public interface ZoneReportRepository extends JpaRepository<ZoneReport, Long> {
 
     List<ZoneReport> findTop100ByStatusOrderByCreatedAtAsc(ModerationStatus status);
 
+    long countByStatus(ModerationStatus status);
+
+    long countByZoneIdAndStatus(Integer zoneId, ModerationStatus status);
+
     long deleteByStatusInAndResolvedAtBefore(
             List<ModerationStatus> statuses,
             LocalDateTime resolvedBefore
     );
 
     void deleteByZoneId(Integer zoneId);
+
+    @Modifying
+    @Query("DELETE FROM ZoneReport r WHERE r.zone.id IN :zoneIds")
+    int deleteByZoneIdIn(@Param("zoneIds") List<Integer> zoneIds);
+
+    @Query("SELECT r.id FROM ZoneReport r WHERE r.reporter.id = :reporterId ORDER BY r.id ASC")
+    List<Long> findIdsByReporterId(@Param("reporterId") Long reporterId, Pageable pageable);
 }
@@ -6,8 +6,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +17,7 @@ public interface ZoneRepository extends JpaRepository<Zone, Integer>, JpaSpecifi
     Optional<Zone> findByAddress(String address);
     Optional<Zone> findByIdAndPublicationStatus(Integer id, ZonePublicationStatus publicationStatus);
     boolean existsByIdAndPublicationStatus(Integer id, ZonePublicationStatus publicationStatus);
+    long countByPublicationStatus(ZonePublicationStatus publicationStatus);
     List<Zone> findAllByPublicationStatus(ZonePublicationStatus publicationStatus);
     Page<Zone> findAllByPublicationStatus(ZonePublicationStatus publicationStatus, Pageable pageable);
     List<Zone> findTop100ByPublicationStatusOrderByDateAscIdAsc(ZonePublicationStatus publicationStatus);
@@ -70,6 +73,7 @@ public interface ZoneRepository extends JpaRepository<Zone, Integer>, JpaSpecifi
     Page<Zone> findByUserContainingIgnoreCase(String user, Pageable pageable);
     List<Zone> findByCreatorId(Long creatorId);
     Page<Zone> findByCreatorId(Long creatorId, Pageable pageable);
+    List<Zone> findByCreatorIdOrderByIdAsc(Long creatorId, Pageable pageable);
     
     @Query("SELECT z FROM Zone z JOIN FETCH z.creator WHERE z.creator.id = :creatorId")
     List<Zone> findByCreatorIdWithCreator(@Param("creatorId") Long creatorId);
@@ -105,4 +109,15 @@ public interface ZoneRepository extends JpaRepository<Zone, Integer>, JpaSpecifi
     );
     
     List<Zone> findByAddressContainingIgnoreCase(String address);
+
+    // 확정된 이미지는 장소가 아직 업로드 당시의 이미지를 가리킬 때만 노출합니다.
+    @Transactional
+    @Modifying
+    @Query("UPDATE Zone z SET z.image = :committedImage WHERE z.id = :zoneId AND " +
+           "(z.image = :previousImage OR (z.image IS NULL AND :previousImage IS NULL))")
+    int publishImage(
+            @Param("zoneId") Integer zoneId,
+            @Param("previousImage") String previousImage,
+            @Param("committedImage") String committedImage
+    );
 }
@@ -2,7 +2,11 @@ package com.neogulmap.neogul_map.repository;
 
 import com.neogulmap.neogul_map.domain.ZoneReviewReport;
 import com.neogulmap.neogul_map.domain.enums.ModerationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,10 +16,21 @@ public interface ZoneReviewReportRepository extends JpaRepository<ZoneReviewRepo
 
     List<ZoneReviewReport> findTop100ByStatusOrderByCreatedAtAsc(ModerationStatus status);
 
+    long countByStatus(ModerationStatus status);
+
+    long countByReviewIdAndStatus(Long reviewId, ModerationStatus status);
+
     long deleteByStatusInAndResolvedAtBefore(
             List<ModerationStatus> statuses,
             LocalDateTime resolvedBefore
     );
 
     void deleteByReviewId(Long reviewId);
+
+    @Modifying
+    @Query("DELETE FROM ZoneReviewReport r WHERE r.review.id IN :reviewIds")
+    int deleteByReviewIdIn(@Param("reviewIds") List<Long> reviewIds);
+
+    @Query("SELECT r.id FROM ZoneReviewReport r WHERE r.reporter.id = :reporterId ORDER BY r.id ASC")
+    List<Long> findIdsByReporterId(@Param("reporterId") Long reporterId, Pageable pageable);
 }
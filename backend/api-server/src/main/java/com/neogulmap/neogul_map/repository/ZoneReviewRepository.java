@@ -1,6 +1,7 @@
 package com.neogulmap.neogul_map.repository;
 
 import com.neogulmap.neogul_map.domain.ZoneReview;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -24,4 +25,7 @@ public interface ZoneReviewRepository extends JpaRepository<ZoneReview, Long> {
     Optional<ZoneReview> findByIdWithAuthorAndZone(@Param("reviewId") Long reviewId);
 
     void deleteByAuthorId(Long authorId);
+
+    @Query("SELECT zr.id FROM ZoneReview zr WHERE zr.author.id = :authorId ORDER BY zr.id ASC")
+    List<Long> findIdsByAuthorId(@Param("authorId") Long authorId, Pageable pageable);
 }
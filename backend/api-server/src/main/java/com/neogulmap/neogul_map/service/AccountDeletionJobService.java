@@ -0,0 +1,292 @@
+package com.neogulmap.neogul_map.service;
+
+import com.neogulmap.neogul_map.domain.AccountDeletionJob;
+import com.neogulmap.neogul_map.domain.User;
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.domain.enums.AccountDeletionStage;
+import com.neogulmap.neogul_map.domain.enums.ImageType;
+import com.neogulmap.neogul_map.repository.AccountDeletionJobRepository;
+import com.neogulmap.neogul_map.repository.UserRepository;
+import com.neogulmap.neogul_map.repository.ZoneReportRepository;
+import com.neogulmap.neogul_map.repository.ZoneRepository;
+import com.neogulmap.neogul_map.repository.ZoneReviewReportRepository;
+import com.neogulmap.neogul_map.repository.ZoneReviewRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 계정 삭제 background job
+ * 요청 트랜잭션에서는 사용자를 삭제 상태로 표시하고 식별자를 비식별화한 뒤 job만 기록합니다.
+ * 리뷰, 신고, 장소, 사용자 행은 worker가 단계별로 제한된 크기의 배치로 삭제하므로
+ * 작성 글이 많은 계정도 요청 시간 초과나 장시간의 zone 테이블 잠금 없이 정리됩니다.
+ * 실패한 job은 지수 backoff로 미루고, 재시도 한도를 넘기면 보류(parked)해 gauge로 드러냅니다.
+ */
+@Slf4j
+@Service
+public class AccountDeletionJobService {
+
+    static final String DELETED_EMAIL_DOMAIN = "deleted.nugulmap.invalid";
+    static final int DUE_BATCH_SIZE = 20;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final AccountDeletionJobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final ZoneRepository zoneRepository;
+    private final ZoneReviewRepository zoneReviewRepository;
+    private final ZoneReportRepository zoneReportRepository;
+    private final ZoneReviewReportRepository zoneReviewReportRepository;
+    private final ImageDeletionQueue imageDeletionQueue;
+    private final Clock clock;
+    private final AtomicLong parkedJobs = new AtomicLong();
+
+    @Value("${app.account-deletion.batch-size:200}")
+    private int batchSize = 200;
+
+    @Value("${app.account-deletion.max-attempts:8}")
+    private int maxAttempts = 8;
+
+    @Value("${app.account-deletion.initial-backoff-seconds:30}")
+    private long initialBackoffSeconds = 30;
+
+    @Value("${app.account-deletion.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds = 3600;
+
+    @Autowired
+    public AccountDeletionJobService(
+            AccountDeletionJobRepository jobRepository,
+            UserRepository userRepository,
+            ZoneRepository zoneRepository,
+            ZoneReviewRepository zoneReviewRepository,
+            ZoneReportRepository zoneReportRepository,
+            ZoneReviewReportRepository zoneReviewReportRepository,
+            ImageDeletionQueue imageDeletionQueue,
+            MeterRegistry meterRegistry
+    ) {
+        this(
+                jobRepository,
+                userRepository,
+                zoneRepository,
+                zoneReviewRepository,
+                zoneReportRepository,
+                zoneReviewReportRepository,
+                imageDeletionQueue,
+                meterRegistry,
+                Clock.systemUTC()
+        );
+    }
+
+    AccountDeletionJobService(
+            AccountDeletionJobRepository jobRepository,
+            UserRepository userRepository,
+            ZoneRepository zoneRepository,
+            ZoneReviewRepository zoneReviewRepository,
+            ZoneReportRepository zoneReportRepository,
+            ZoneReviewReportRepository zoneReviewReportRepository,
+            ImageDeletionQueue imageDeletionQueue,
+            MeterRegistry meterRegistry,
+            Clock clock
+    ) {
+        this.jobRepository = jobRepository;
+        this.userRepository = userRepository;
+        this.zoneRepository = zoneRepository;
+        this.zoneReviewRepository = zoneReviewRepository;
+        this.zoneReportRepository = zoneReportRepository;
+        this.zoneReviewReportRepository = zoneReviewReportRepository;
+        this.imageDeletionQueue = imageDeletionQueue;
+        this.clock = clock;
+        Gauge.builder("account.deletion.jobs.parked", parkedJobs, AtomicLong::get)
+                .description("재시도 한도를 넘겨 수동 확인을 기다리는 계정 삭제 job 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출자의 트랜잭션 안에서 사용자를 삭제 상태로 전환하고 정리 job을 기록합니다.
+     * 이메일과 OAuth 식별자를 비식별 값으로 바꾸므로 기존 토큰은 더 이상 사용자를 찾지 못하고,
+     * 같은 계정으로 다시 가입하더라도 유니크 제약과 충돌하지 않습니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public AccountDeletionJob schedule(User user) {
+        Long userId = user.getId();
+        user.setDeletedAt(LocalDateTime.now(clock));
+        user.setEmail("deleted+" + userId + "@" + DELETED_EMAIL_DOMAIN);
+        user.setOauthId("deleted:" + userId);
+        user.setNickname(null);
+        user.setAppleRefreshTokenCiphertext(null);
+
+        int imagesQueued = 0;
+        if (user.getProfileImage() != null && !user.getProfileImage().isBlank()) {
+            imageDeletionQueue.enqueue(user.getProfileImage(), ImageType.PROFILE);
+            imagesQueued++;
+        }
+        user.setProfileImage(null);
+        userRepository.save(user);
+
+        AccountDeletionJob job = jobRepository.save(AccountDeletionJob.builder()
+                .userId(userId)
+                .imagesQueued(imagesQueued)
+                .nextAttemptAt(LocalDateTime.now(clock))
+                .build());
+        log.info("계정 삭제 job 등록 - jobId: {}, userId: {}", job.getId(), userId);
+        return job;
+    }
+
+    /**
+     * 재시도 시각이 지난 미완료 job을 고르고, 보류된 job 수를 gauge에 반영합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findPendingJobIds() {
+        List<Long> jobIds = jobRepository
+                .findByCompletedAtIsNullAndAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAscIdAsc(
+                        maxAttempts,
+                        LocalDateTime.now(clock),
+                        PageRequest.of(0, DUE_BATCH_SIZE)
+                )
+                .stream()
+                .map(AccountDeletionJob::getId)
+                .toList();
+        parkedJobs.set(jobRepository.countByCompletedAtIsNullAndAttemptsGreaterThanEqual(maxAttempts));
+        return jobIds;
+    }
+
+    public long getParkedJobCount() {
+        return parkedJobs.get();
+    }
+
+    /**
+     * 현재 단계에서 배치 하나만 처리하고 진행 상황을 저장합니다.
+     * 배치마다 트랜잭션이 커밋되므로 중간에 실패해도 이미 삭제된 만큼은 다시 처리하지 않습니다.
+     *
+     * @return 처리할 배치가 남아 있으면 true
+     */
+    @Transactional
+    public boolean runNextBatch(Long jobId) {
+        AccountDeletionJob job = jobRepository.findByIdForUpdate(jobId).orElse(null);
+        if (job == null || job.isCompleted()) {
+            return false;
+        }
+
+        switch (job.getStage()) {
+            case REVIEWS -> purgeReviews(job);
+            case REPORTS -> purgeReports(job);
+            case ZONES -> purgeZones(job);
+            case USER -> purgeUser(job);
+            case COMPLETED -> { }
+        }
+        // 배치가 진행되면 연속 실패 횟수를 다시 셉니다.
+        job.setAttempts(0);
+        job.setLastError(null);
+        jobRepository.save(job);
+        return !job.isCompleted();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordFailure(Long jobId, String message) {
+        jobRepository.findById(jobId).ifPresent(job -> {
+            int attempts = job.getAttempts() + 1;
+            job.setAttempts(attempts);
+            job.setNextAttemptAt(LocalDateTime.now(clock).plus(backoff(attempts)));
+            job.setLastError(truncate(message));
+            jobRepository.save(job);
+            if (attempts >= maxAttempts) {
+                log.error(
+                        "계정 삭제 job 재시도 한도 초과, 수동 확인이 필요합니다 - jobId: {}, userId: {}, 단계: {}",
+                        job.getId(),
+                        job.getUserId(),
+                        job.getStage()
+                );
+            }
+        });
+    }
+
+    private Duration backoff(int attempts) {
+        long initial = Math.max(1, initialBackoffSeconds);
+        long ceiling = Math.max(initial, maxBackoffSeconds);
+        int shift = Math.min(attempts - 1, 20);
+        return Duration.ofSeconds(Math.min(ceiling, initial << shift));
+    }
+
+    private void purgeReviews(AccountDeletionJob job) {
+        List<Long> reviewIds = zoneReviewRepository.findIdsByAuthorId(job.getUserId(), PageRequest.of(0, batchSize));
+        if (reviewIds.isEmpty()) {
+            job.setStage(AccountDeletionStage.REPORTS);
+            return;
+        }
+        // 다른 사용자가 남긴 리뷰 신고도 리뷰와 함께 삭제되어야 하므로 먼저 명시적으로 정리합니다.
+        zoneReviewReportRepository.deleteByReviewIdIn(reviewIds);
+        zoneReviewRepository.deleteAllByIdInBatch(reviewIds);
+        job.setReviewsDeleted(job.getReviewsDeleted() + reviewIds.size());
+    }
+
+    private void purgeReports(AccountDeletionJob job) {
+        PageRequest batch = PageRequest.of(0, batchSize);
+        List<Long> reviewReportIds = zoneReviewReportRepository.findIdsByReporterId(job.getUserId(), batch);
+        if (!reviewReportIds.isEmpty()) {
+            zoneReviewReportRepository.deleteAllByIdInBatch(reviewReportIds);
+            job.setReportsDeleted(job.getReportsDeleted() + reviewReportIds.size());
+            return;
+        }
+        List<Long> zoneReportIds = zoneReportRepository.findIdsByReporterId(job.getUserId(), batch);
+        if (!zoneReportIds.isEmpty()) {
+            zoneReportRepository.deleteAllByIdInBatch(zoneReportIds);
+            job.setReportsDeleted(job.getReportsDeleted() + zoneReportIds.size());
+            return;
+        }
+        job.setStage(AccountDeletionStage.ZONES);
+    }
+
+    private void purgeZones(AccountDeletionJob job) {
+        List<Zone> zones = zoneRepository.findByCreatorIdOrderByIdAsc(job.getUserId(), PageRequest.of(0, batchSize));
+        if (zones.isEmpty()) {
+            job.setStage(AccountDeletionStage.USER);
+            return;
+        }
+        List<Integer> zoneIds = zones.stream().map(Zone::getId).toList();
+        for (Zone zone : zones) {
+            if (zone.getImage() != null && !zone.getImage().isBlank()) {
+                imageDeletionQueue.enqueue(zone.getImage(), ImageType.ZONE);
+                job.setImagesQueued(job.getImagesQueued() + 1);
+            }
+        }
+        // 장소에 달린 리뷰와 리뷰 신고는 FK ON DELETE CASCADE로 함께 삭제됩니다.
+        zoneReportRepository.deleteByZoneIdIn(zoneIds);
+        zoneRepository.deleteAllByIdInBatch(zoneIds);
+        job.setZonesDeleted(job.getZonesDeleted() + zoneIds.size());
+    }
+
+    private void purgeUser(AccountDeletionJob job) {
+        if (userRepository.existsById(job.getUserId())) {
+            userRepository.deleteById(job.getUserId());
+        }
+        job.setStage(AccountDeletionStage.COMPLETED);
+        job.setCompletedAt(LocalDateTime.now(clock));
+        log.info(
+                "계정 삭제 job 완료 - jobId: {}, userId: {}, 리뷰: {}, 신고: {}, 장소: {}, 이미지: {}",
+                job.getId(),
+                job.getUserId(),
+                job.getReviewsDeleted(),
+                job.getReportsDeleted(),
+                job.getZonesDeleted(),
+                job.getImagesQueued()
+        );
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,61 @@
+package com.neogulmap.neogul_map.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = "app.account-deletion.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class AccountDeletionWorker {
+
+    private final AccountDeletionJobService accountDeletionJobService;
+
+    @Value("${app.account-deletion.max-batches-per-run:50}")
+    private int maxBatchesPerRun = 50;
+
+    @Scheduled(
+            initialDelayString = "${app.account-deletion.initial-delay-ms:15000}",
+            fixedDelayString = "${app.account-deletion.poll-interval-ms:5000}"
+    )
+    public void processPendingJobs() {
+        List<Long> jobIds;
+        try {
+            jobIds = accountDeletionJobService.findPendingJobIds();
+        } catch (RuntimeException error) {
+            log.warn("계정 삭제 job 조회 실패: {}", error.getMessage());
+            return;
+        }
+
+        int remainingBatches = maxBatchesPerRun;
+        for (Long jobId : jobIds) {
+            if (remainingBatches <= 0) {
+                return;
+            }
+            try {
+                boolean hasMore = true;
+                while (hasMore && remainingBatches > 0) {
+                    hasMore = accountDeletionJobService.runNextBatch(jobId);
+                    remainingBatches--;
+                }
+            } catch (RuntimeException error) {
+                log.warn("계정 삭제 job 처리 실패 - jobId: {}, 원인: {}", jobId, error.getMessage());
+                try {
+                    accountDeletionJobService.recordFailure(jobId, error.getMessage());
+                } catch (RuntimeException recordError) {
+                    log.warn("계정 삭제 job 실패 기록 실패 - jobId: {}", jobId);
+                }
+            }
+        }
+    }
+}
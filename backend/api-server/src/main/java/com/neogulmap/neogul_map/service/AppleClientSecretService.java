@@ -14,18 +14,28 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Apple token/revoke 호출에 쓰는 client secret(ES256 JWT)
+ * 서명한 secret을 만료 직전까지 재사용하고, AppleKeyRefreshWorker가 만료 전에 미리 새로 서명합니다.
+ */
 @Component
 public class AppleClientSecretService {
 
     private static final String APPLE_ISSUER = "https://appleid.apple.com";
+    // Apple이 허용하는 client secret 최대 유효기간(6개월)
+    private static final Duration MAX_CLIENT_SECRET_TTL = Duration.ofSeconds(15_777_000);
 
     private final boolean enabled;
     private final String clientId;
     private final String teamId;
     private final String keyId;
     private final PrivateKey privateKey;
+    private final Duration clientSecretTtl;
+    private final Duration refreshMargin;
     private final Clock clock;
+    private final AtomicReference<CachedSecret> cachedSecret = new AtomicReference<>();
 
     @Autowired
     public AppleClientSecretService(
@@ -34,9 +44,19 @@ public class AppleClientSecretService {
             @Value("${app.oauth2.apple.revocation.team-id:}") String teamId,
             @Value("${app.oauth2.apple.revocation.key-id:}") String keyId,
             @Value("${app.oauth2.apple.revocation.private-key:}") String privateKey,
-            @Value("${app.oauth2.apple.revocation.private-key-base64:}") String privateKeyBase64
+            @Value("${app.oauth2.apple.revocation.private-key-base64:}") String privateKeyBase64,
+            @Value("${app.oauth2.apple.revocation.client-secret-ttl-seconds:3600}") long clientSecretTtlSeconds
     ) {
-        this(enabled, clientId, teamId, keyId, privateKey, privateKeyBase64, Clock.systemUTC());
+        this(
+                enabled,
+                clientId,
+                teamId,
+                keyId,
+                privateKey,
+                privateKeyBase64,
+                Duration.ofSeconds(clientSecretTtlSeconds),
+                Clock.systemUTC()
+        );
     }
 
     AppleClientSecretService(
@@ -46,12 +66,16 @@ public class AppleClientSecretService {
             String keyId,
             String privateKey,
             String privateKeyBase64,
+            Duration clientSecretTtl,
             Clock clock
     ) {
         this.enabled = enabled;
         this.clientId = normalized(clientId);
         this.teamId = normalized(teamId);
         this.keyId = normalized(keyId);
+        this.clientSecretTtl = clampTtl(clientSecretTtl);
+        // 만료 직전에 보낸 secret이 Apple에 도착했을 때 이미 만료되어 있지 않도록 여유를 둡니다.
+        this.refreshMargin = Duration.ofSeconds(Math.max(30, this.clientSecretTtl.toSeconds() / 10));
         this.clock = clock;
 
         if (enabled) {
@@ -72,11 +96,46 @@ public class AppleClientSecretService {
         return clientId;
     }
 
-    public String createClientSecret() {
+    /**
+     * 유효한 client secret을 돌려줍니다. 만료가 가까워졌을 때만 새로 서명합니다.
+     */
+    public String getClientSecret() {
         if (!enabled || privateKey == null) {
             throw new IllegalStateException("Apple token exchange is not configured");
         }
+        CachedSecret cached = cachedSecret.get();
+        if (cached != null && clock.instant().isBefore(cached.refreshAt())) {
+            return cached.value();
+        }
+        return renew().value();
+    }
+
+    /**
+     * 만료가 가까워진 secret을 요청 경로 밖에서 미리 새로 서명합니다.
+     */
+    public void refreshIfStale() {
+        if (!enabled || privateKey == null) {
+            return;
+        }
+        CachedSecret cached = cachedSecret.get();
+        if (cached == null || !clock.instant().isBefore(cached.refreshAt())) {
+            renew();
+        }
+    }
+
+    private synchronized CachedSecret renew() {
         Instant now = clock.instant();
+        CachedSecret cached = cachedSecret.get();
+        // 기다리는 동안 다른 스레드가 이미 새로 서명했다면 그 값을 사용합니다.
+        if (cached != null && now.isBefore(cached.refreshAt())) {
+            return cached;
+        }
+        CachedSecret renewed = new CachedSecret(sign(now), now.plus(clientSecretTtl).minus(refreshMargin));
+        cachedSecret.set(renewed);
+        return renewed;
+    }
+
+    private String sign(Instant now) {
         return Jwts.builder()
                 .header()
                     .keyId(keyId)
@@ -87,11 +146,18 @@ public class AppleClientSecretService {
                     .add(APPLE_ISSUER)
                     .and()
                 .issuedAt(Date.from(now))
-                .expiration(Date.from(now.plus(Duration.ofMinutes(5))))
+                .expiration(Date.from(now.plus(clientSecretTtl)))
                 .signWith(privateKey, Jwts.SIG.ES256)
                 .compact();
     }
 
+    private static Duration clampTtl(Duration ttl) {
+        if (ttl == null || ttl.compareTo(Duration.ofMinutes(5)) < 0) {
+            return Duration.ofMinutes(5);
+        }
+        return ttl.compareTo(MAX_CLIENT_SECRET_TTL) > 0 ? MAX_CLIENT_SECRET_TTL : ttl;
+    }
+
     private static PrivateKey parsePrivateKey(String privateKey, String privateKeyBase64) {
         try {
             byte[] der;
@@ -129,4 +195,7 @@ public class AppleClientSecretService {
             throw new IllegalStateException(environmentName + " is required when Apple revocation is enabled");
         }
     }
+
+    private record CachedSecret(String value, Instant refreshAt) {
+    }
 }
@@ -1,5 +1,9 @@
 package com.neogulmap.neogul_map.service;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -15,8 +19,14 @@ public class AppleIdentityTokenService {
     private final String expectedAudience;
 
     public AppleIdentityTokenService(
+            AppleJwkSetProvider jwkSetProvider,
             @Value("${app.oauth2.apple.client-id:com.nugulmap.native}") String expectedAudience) {
-        this.decoder = NimbusJwtDecoder.withJwkSetUri("https://appleid.apple.com/auth/keys").build();
+        // 요청 중에 JWKS를 받지 않도록 AppleJwkSetProvider가 미리 받아 둔 키로 검증합니다.
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSetProvider));
+        // 만료/발급 시각은 NimbusJwtDecoder의 기본 validator가 확인합니다.
+        processor.setJWTClaimsSetVerifier((claims, context) -> { });
+        this.decoder = new NimbusJwtDecoder(processor);
         this.expectedAudience = expectedAudience;
     }
 
@@ -0,0 +1,105 @@
+package com.neogulmap.neogul_map.service;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Apple 공개키(JWKS) 보관소
+ * AppleKeyRefreshWorker가 주기적으로 키를 받아 두므로 로그인 요청은 메모리의 키로만 서명을 검증합니다.
+ * 받아 둔 키에 없는 kid가 들어오면(키 교체 직후) 짧은 간격 제한 안에서 한 번만 즉시 다시 받습니다.
+ */
+@Slf4j
+@Component
+public class AppleJwkSetProvider implements JWKSource<SecurityContext> {
+
+    private static final int CONNECT_TIMEOUT_MS = 3_000;
+    private static final int READ_TIMEOUT_MS = 5_000;
+    private static final int SIZE_LIMIT_BYTES = 64 * 1024;
+
+    private final URL jwkSetUrl;
+    private final Duration missRefreshCooldown;
+    private final Clock clock;
+    private final AtomicReference<JWKSet> keys = new AtomicReference<>(new JWKSet());
+    private final AtomicReference<Instant> lastFetchAttemptAt = new AtomicReference<>(Instant.EPOCH);
+    private final Object fetchLock = new Object();
+
+    @Autowired
+    public AppleJwkSetProvider(
+            @Value("${app.oauth2.apple.jwk-set-uri:https://appleid.apple.com/auth/keys}") String jwkSetUri,
+            @Value("${app.oauth2.apple.jwk-set-miss-cooldown-seconds:60}") long missRefreshCooldownSeconds
+    ) {
+        this(jwkSetUri, Duration.ofSeconds(Math.max(1, missRefreshCooldownSeconds)), Clock.systemUTC());
+    }
+
+    AppleJwkSetProvider(String jwkSetUri, Duration missRefreshCooldown, Clock clock) {
+        try {
+            this.jwkSetUrl = URI.create(jwkSetUri.trim()).toURL();
+        } catch (MalformedURLException | IllegalArgumentException e) {
+            throw new IllegalStateException("app.oauth2.apple.jwk-set-uri must be a valid URL", e);
+        }
+        this.missRefreshCooldown = missRefreshCooldown;
+        this.clock = clock;
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        List<JWK> matches = jwkSelector.select(keys.get());
+        if (!matches.isEmpty() || !missRefreshAllowed()) {
+            return matches;
+        }
+        refresh();
+        return jwkSelector.select(keys.get());
+    }
+
+    /**
+     * Apple JWKS를 다시 받아 보관한 키를 교체합니다. 실패하면 기존 키를 그대로 사용합니다.
+     *
+     * @return 새 키를 받았으면 true
+     */
+    public boolean refresh() {
+        synchronized (fetchLock) {
+            lastFetchAttemptAt.set(clock.instant());
+            try {
+                JWKSet loaded = JWKSet.load(jwkSetUrl, CONNECT_TIMEOUT_MS, READ_TIMEOUT_MS, SIZE_LIMIT_BYTES);
+                if (loaded.getKeys().isEmpty()) {
+                    log.warn("Apple JWKS 응답에 키가 없어 기존 키를 유지합니다.");
+                    return false;
+                }
+                keys.set(loaded);
+                return true;
+            } catch (IOException | ParseException e) {
+                log.warn("Apple JWKS 갱신 실패: {}", e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    public int keyCount() {
+        return keys.get().getKeys().size();
+    }
+
+    private boolean missRefreshAllowed() {
+        Instant now = clock.instant();
+        Instant last = lastFetchAttemptAt.get();
+        return !now.isBefore(last.plus(missRefreshCooldown)) && lastFetchAttemptAt.compareAndSet(last, now);
+    }
+}
@@ -0,0 +1,46 @@
+package com.neogulmap.neogul_map.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Apple 로그인 요청이 JWKS 조회나 client secret 서명을 기다리지 않도록 미리 준비합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = "app.oauth2.apple.key-refresh.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class AppleKeyRefreshWorker {
+
+    private final AppleJwkSetProvider jwkSetProvider;
+    private final AppleClientSecretService clientSecretService;
+
+    @Scheduled(
+            initialDelayString = "${app.oauth2.apple.key-refresh.initial-delay-ms:5000}",
+            fixedDelayString = "${app.oauth2.apple.key-refresh.jwks-interval-ms:900000}"
+    )
+    public void refreshJwks() {
+        if (jwkSetProvider.refresh()) {
+            log.debug("Apple JWKS 갱신 완료: {}개 키", jwkSetProvider.keyCount());
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.oauth2.apple.key-refresh.initial-delay-ms:5000}",
+            fixedDelayString = "${app.oauth2.apple.key-refresh.client-secret-interval-ms:60000}"
+    )
+    public void refreshClientSecret() {
+        try {
+            clientSecretService.refreshIfStale();
+        } catch (RuntimeException error) {
+            log.warn("Apple client secret 갱신 실패: {}", error.getMessage());
+        }
+    }
+}
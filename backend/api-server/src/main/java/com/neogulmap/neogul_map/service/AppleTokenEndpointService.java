@@ -67,7 +67,7 @@ public class AppleTokenEndpointService {
 
         Map<String, String> fields = new LinkedHashMap<>();
         fields.put("client_id", clientSecretService.getClientId());
-        fields.put("client_secret", clientSecretService.createClientSecret());
+        fields.put("client_secret", clientSecretService.getClientSecret());
         fields.put("code", authorizationCode);
         fields.put("grant_type", "authorization_code");
 
@@ -103,7 +103,7 @@ public class AppleTokenEndpointService {
 
         Map<String, String> fields = new LinkedHashMap<>();
         fields.put("client_id", clientSecretService.getClientId());
-        fields.put("client_secret", clientSecretService.createClientSecret());
+        fields.put("client_secret", clientSecretService.getClientSecret());
         fields.put("token", refreshToken);
         fields.put("token_type_hint", "refresh_token");
 
@@ -0,0 +1,162 @@
+package com.neogulmap.neogul_map.service;
+
+import com.neogulmap.neogul_map.domain.User;
+import com.neogulmap.neogul_map.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인증된 사용자 단기 캐시
+ * bearer 요청마다 실행되던 이메일 조회를 짧은 TTL 동안 재사용합니다.
+ * 프로필 변경, 계정 삭제, OAuth 정보 갱신 시 사용자 id로 무효화하며, 무효화가 누락되더라도 TTL이 지나면 다시 조회합니다.
+ */
+@Component
+public class AuthenticatedUserCache {
+
+    /**
+     * JwtAuthenticationFilter가 찾은 사용자를 같은 요청의 CurrentUserArgumentResolver에 넘기는 request attribute
+     */
+    public static final String REQUEST_ATTRIBUTE = AuthenticatedUserCache.class.getName() + ".USER";
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final long ttlSeconds;
+    private final int maxEntries;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, CachedUser> usersByEmail = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, String> emailsById = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong nextCleanupEpochSecond = new AtomicLong();
+
+    @Autowired
+    public AuthenticatedUserCache(
+            UserRepository userRepository,
+            @Value("${app.security.principal-cache.enabled:true}") boolean enabled,
+            @Value("${app.security.principal-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${app.security.principal-cache.max-entries:10000}") int maxEntries
+    ) {
+        this(userRepository, enabled, ttlSeconds, maxEntries, Clock.systemUTC());
+    }
+
+    AuthenticatedUserCache(
+            UserRepository userRepository,
+            boolean enabled,
+            long ttlSeconds,
+            int maxEntries,
+            Clock clock
+    ) {
+        this.userRepository = userRepository;
+        this.enabled = enabled && ttlSeconds > 0;
+        this.ttlSeconds = Math.max(1, ttlSeconds);
+        this.maxEntries = Math.max(1, maxEntries);
+        this.clock = clock;
+    }
+
+    /**
+     * 이메일로 사용자를 찾습니다. 캐시에서 꺼낸 사용자는 요청마다 새로 만든 사본이므로
+     * 호출자가 값을 바꿔도 다른 요청이 보는 캐시 항목에는 영향이 없습니다.
+     */
+    public Optional<User> findByEmail(String email) {
+        if (!enabled || email == null || email.isBlank()) {
+            return userRepository.findByEmail(email);
+        }
+        Instant now = clock.instant();
+        cleanExpiredEntries(now);
+        CachedUser cached = usersByEmail.get(email);
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            return Optional.of(copyOf(cached.user()));
+        }
+
+        long invalidationsBeforeLoad = invalidations.get();
+        Optional<User> loaded = userRepository.findByEmail(email);
+        loaded.filter(user -> user.getId() != null && !user.isDeleted())
+                .ifPresent(user -> store(email, user, now, invalidationsBeforeLoad));
+        return loaded;
+    }
+
+    /**
+     * 사용자 항목을 즉시 제거하고, 트랜잭션 안이라면 커밋 직후 한 번 더 제거합니다.
+     * 커밋 전에 다른 요청이 이전 값을 다시 캐시하더라도 커밋 이후의 제거로 정리됩니다.
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    int size() {
+        return usersByEmail.size();
+    }
+
+    private void store(String email, User user, Instant now, long invalidationsBeforeLoad) {
+        if (!usersByEmail.containsKey(email) && usersByEmail.size() >= maxEntries) {
+            return;
+        }
+        usersByEmail.put(email, new CachedUser(copyOf(user), now.plusSeconds(ttlSeconds)));
+        emailsById.put(user.getId(), email);
+        // 조회하는 동안 무효화가 있었다면 방금 읽은 값이 이미 오래된 값일 수 있습니다.
+        if (invalidations.get() != invalidationsBeforeLoad) {
+            evict(user.getId());
+        }
+    }
+
+    private void evict(Long userId) {
+        invalidations.incrementAndGet();
+        String email = emailsById.remove(userId);
+        if (email != null) {
+            usersByEmail.remove(email);
+        }
+    }
+
+    private void cleanExpiredEntries(Instant now) {
+        long currentEpochSecond = now.getEpochSecond();
+        long scheduled = nextCleanupEpochSecond.get();
+        if (currentEpochSecond < scheduled
+                || !nextCleanupEpochSecond.compareAndSet(scheduled, currentEpochSecond + ttlSeconds)) {
+            return;
+        }
+        usersByEmail.entrySet().removeIf(entry -> {
+            if (entry.getValue().expiresAt().isAfter(now)) {
+                return false;
+            }
+            emailsById.remove(entry.getValue().user().getId(), entry.getKey());
+            return true;
+        });
+    }
+
+    private User copyOf(User user) {
+        return new User(
+                user.getId(),
+                user.getNickname(),
+                user.getEmail(),
+                user.getOauthId(),
+                user.getOauthProvider(),
+                user.getProfileImage(),
+                user.getAppleRefreshTokenCiphertext(),
+                user.getCreatedAt(),
+                user.getDeletedAt(),
+                user.getTokenVersion()
+        );
+    }
+
+    private record CachedUser(User user, Instant expiresAt) {
+    }
+}
@@ -1,18 +1,17 @@
 package com.neogulmap.neogul_map.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.neogulmap.neogul_map.dto.EventInsightResponse;
 import com.neogulmap.neogul_map.dto.EventInsightResponse.EventInsightItem;
 import com.neogulmap.neogul_map.dto.InsightStatusResponse.ProviderStatus;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.io.File;
 import java.net.URI;
 import java.time.Duration;
 import java.time.Instant;
@@ -21,15 +20,26 @@ import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 @Slf4j
@@ -41,6 +51,9 @@ public class EventInsightService {
     private static final ZoneId SEOUL_ZONE = ZoneId.of("Asia/Seoul");
     private static final int SEOUL_CULTURE_MAX_PAGE_SIZE = 1000;
     private static final int SEOUL_CULTURE_HARD_MAX_PAGES = 50;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final String SNAPSHOT_NAME = "events";
     private static final List<String> SEONGSU_LOCATION_TERMS = List.of(
             "성수",
             "서울숲",
@@ -146,12 +159,18 @@ public class EventInsightService {
             "플리마켓",
             "마켓"
     );
+    private final ProviderHttpClient providerHttpClient;
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
     private final Map<String, CachedTourEvents> tourEventsCache = new ConcurrentHashMap<>();
     private final Map<String, CachedTourEvents> seoulCultureEventsCache = new ConcurrentHashMap<>();
     private final AtomicReference<ProviderAttempt> tourApiAttempt = new AtomicReference<>();
     private final AtomicReference<ProviderAttempt> seoulCultureApiAttempt = new AtomicReference<>();
+    private final PopupTrendFileCache popupTrendFileCache;
+    private final InsightSnapshotStore snapshotStore;
+    private final AtomicReference<PopupTrendEvents> popupTrendEvents = new AtomicReference<>();
+    private final AtomicReference<PopupTrendFileCache.Snapshot> publishedPopupTrendSnapshot = new AtomicReference<>();
+    private final AtomicLong snapshotVersion = new AtomicLong();
+    private final AtomicReference<SeoulCultureIndex> seoulCultureIndex = new AtomicReference<>(SeoulCultureIndex.EMPTY);
 
     @Value("${external.kto.tour-api-key:${KTO_TOUR_API_KEY:}}")
     private String tourApiKey;
@@ -168,6 +187,9 @@ public class EventInsightService {
     @Value("${external.seoul.culture-api-max-pages:${SEOUL_CULTURE_API_MAX_PAGES:25}}")
     private int seoulCultureApiMaxPages = 25;
 
+    @Value("${external.seoul.culture-api-max-concurrency:${SEOUL_CULTURE_API_MAX_CONCURRENCY:4}}")
+    private int seoulCultureApiMaxConcurrency = 4;
+
     @Value("${external.seoul.culture-seongsu-min-latitude:${SEOUL_CULTURE_SEONGSU_MIN_LATITUDE:37.532}}")
     private double seongsuMinLatitude = 37.532;
 
@@ -189,12 +211,83 @@ public class EventInsightService {
     @Value("${external.insights.event-cache-ttl-seconds:${INSIGHTS_EVENT_CACHE_TTL_SECONDS:86400}}")
     private long cacheTtlSeconds = 86_400;
 
-    public EventInsightService(RestTemplateBuilder restTemplateBuilder, ObjectMapper objectMapper) {
-        this.restTemplate = restTemplateBuilder
-                .connectTimeout(Duration.ofSeconds(3))
-                .readTimeout(Duration.ofSeconds(5))
-                .build();
-        this.objectMapper = objectMapper;
+    @Autowired
+    public EventInsightService(
+            ProviderHttpClient providerHttpClient,
+            PopupTrendFileCache popupTrendFileCache,
+            InsightSnapshotStore snapshotStore
+    ) {
+        this.providerHttpClient = providerHttpClient;
+        this.restTemplate = providerHttpClient.restTemplate();
+        this.popupTrendFileCache = popupTrendFileCache;
+        this.snapshotStore = snapshotStore;
+    }
+
+    /**
+     * 마지막으로 저장한 행사 스냅샷을 읽어 캐시를 채웁니다. 만료 시각이 지난 항목은 버리고,
+     * 남은 항목은 만료 전까지 공급자를 다시 부르지 않습니다.
+     */
+    @PostConstruct
+    void restoreSnapshot() {
+        Optional<EventSnapshot> snapshot = snapshotStore.read(SNAPSHOT_NAME, EventSnapshot.class);
+        if (snapshot.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        int restored = restoreEntries(tourEventsCache, snapshot.get().tourEvents(), now)
+                + restoreEntries(seoulCultureEventsCache, snapshot.get().seoulCultureEvents(), now);
+        if (restored > 0) {
+            snapshotVersion.incrementAndGet();
+        }
+        log.info(
+                "행사 스냅샷 복원: restored={}, savedAt={}",
+                restored,
+                Instant.ofEpochMilli(snapshot.get().savedAtMillis())
+        );
+    }
+
+    private int restoreEntries(Map<String, CachedTourEvents> cache, List<SnapshotEntry> entries, Instant now) {
+        if (entries == null) {
+            return 0;
+        }
+        int restored = 0;
+        for (SnapshotEntry entry : entries) {
+            Instant expiresAt = Instant.ofEpochMilli(entry.expiresAtMillis());
+            if (entry.cacheKey() == null || entry.events() == null || !expiresAt.isAfter(now)) {
+                continue;
+            }
+            List<EventInsightItem> events = entry.events().stream()
+                    .filter(Objects::nonNull)
+                    .toList();
+            cache.putIfAbsent(entry.cacheKey(), new CachedTourEvents(indexEvents(events), expiresAt));
+            restored++;
+        }
+        return restored;
+    }
+
+    /**
+     * 공급자 조회가 성공해 캐시가 바뀐 뒤 두 행사 캐시를 함께 저장합니다.
+     */
+    private void persistSnapshot() {
+        if (!snapshotStore.isEnabled()) {
+            return;
+        }
+        snapshotStore.write(SNAPSHOT_NAME, new EventSnapshot(
+                Instant.now().toEpochMilli(),
+                snapshotEntries(tourEventsCache),
+                snapshotEntries(seoulCultureEventsCache)
+        ));
+    }
+
+    private List<SnapshotEntry> snapshotEntries(Map<String, CachedTourEvents> cache) {
+        return cache.entrySet().stream()
+                .map(entry -> new SnapshotEntry(
+                        entry.getKey(),
+                        entry.getValue().events().stream().map(IndexedEvent::event).toList(),
+                        entry.getValue().expiresAt().toEpochMilli()
+                ))
+                .toList();
     }
 
     public EventInsightResponse getEvents(String keyword, int limit) {
@@ -210,40 +303,70 @@ public class EventInsightService {
             Double maxLng
     ) {
         Bounds bounds = Bounds.of(minLat, maxLat, minLng, maxLng);
-        List<EventInsightItem> liveEvents = new ArrayList<>();
-        liveEvents.addAll(readFreshCachedEvents(tourEventsCache));
-        liveEvents.addAll(readFreshCachedEvents(seoulCultureEventsCache));
-        liveEvents.addAll(readPopupTrendEvents());
-
-        List<EventInsightItem> publishableLiveEvents = liveEvents.stream()
-                .filter(this::hasVerifiableEventMetadata)
-                .filter(this::isCurrentOrUpcomingEvent)
-                .filter(event -> !containsTobaccoOrNicotineTerms(event))
-                .filter(event -> matches(event, keyword))
-                .filter(event -> !isSeongsuPopupIntent(keyword) || isPublishableSeongsuPopup(event))
-                .filter(event -> bounds.contains(event.latitude(), event.longitude()))
-                .toList();
+        EventQuery query = eventQuery(keyword);
+        LocalDate today = LocalDate.now(SEOUL_ZONE);
+
+        // 검증된 서울 팝업 출처를 먼저 두어 같은 이벤트가 여러 출처에 있으면 그 출처가 남게 합니다.
+        List<IndexedEvent> verifiedPopupEvents = new ArrayList<>();
+        List<IndexedEvent> otherEvents = new ArrayList<>();
+        List<List<IndexedEvent>> sources = List.of(
+                readFreshCachedEvents(tourEventsCache),
+                readFreshCachedEvents(seoulCultureEventsCache),
+                readPopupTrendEvents()
+        );
+        for (List<IndexedEvent> source : sources) {
+            for (IndexedEvent indexed : source) {
+                if (indexed.publishable()
+                        && isCurrentOrUpcomingEvent(indexed, today)
+                        && matches(indexed, query)
+                        && (!query.seongsuPopupIntent() || indexed.seongsuPopup())
+                        && bounds.contains(indexed.event().latitude(), indexed.event().longitude())) {
+                    if (indexed.verifiedSeoulPopupSource()) {
+                        verifiedPopupEvents.add(indexed);
+                    } else {
+                        otherEvents.add(indexed);
+                    }
+                }
+            }
+        }
 
-        List<EventInsightItem> normalizedLiveEvents = deduplicateEvents(
-                prioritizeVerifiedPopupSources(publishableLiveEvents)
-        ).stream()
-                .sorted(eventPriorityComparator())
-                .limit(normalizeLimit(limit))
+        Map<String, IndexedEvent> uniqueEvents = new LinkedHashMap<>();
+        for (IndexedEvent indexed : verifiedPopupEvents) {
+            uniqueEvents.putIfAbsent(indexed.identityKey(), indexed);
+        }
+        for (IndexedEvent indexed : otherEvents) {
+            uniqueEvents.putIfAbsent(indexed.identityKey(), indexed);
+        }
+        List<EventInsightItem> normalizedLiveEvents = selectTopEvents(uniqueEvents.values(), normalizeLimit(limit), today);
+        return response(normalizedLiveEvents, Instant.now());
+    }
+
+    /**
+     * 순위대로 정렬된 응답에서 조건에 맞는 행사만 앞에서부터 {@code limit}개 남깁니다.
+     * 지도 응답 캐시가 넓은 타일로 계산한 결과를 요청한 지도 범위로 줄일 때 씁니다.
+     */
+    static EventInsightResponse narrow(EventInsightResponse response, int limit, Predicate<EventInsightItem> filter) {
+        List<EventInsightItem> events = response.events().stream()
+                .filter(filter)
+                .limit(Math.max(1, Math.min(limit, 20)))
                 .toList();
+        return response(events, response.updatedAt());
+    }
 
-        if (!normalizedLiveEvents.isEmpty()) {
-            String freshness = normalizedLiveEvents.stream().anyMatch(this::isPublicEventApiSource)
+    private static EventInsightResponse response(List<EventInsightItem> events, Instant updatedAt) {
+        if (!events.isEmpty()) {
+            String freshness = events.stream().anyMatch(EventInsightService::isPublicEventApiSource)
                     ? "LIVE_OR_PARTIAL"
                     : "CRAWLED_OR_PARTIAL";
             return new EventInsightResponse(
-                    normalizedLiveEvents,
+                    events,
                     freshness,
-                    Instant.now(),
-                    responseSources(normalizedLiveEvents)
+                    updatedAt,
+                    responseSources(events)
             );
         }
 
-        return new EventInsightResponse(List.of(), "NO_VERIFIED_DATA", Instant.now(), List.of());
+        return new EventInsightResponse(List.of(), "NO_VERIFIED_DATA", updatedAt, List.of());
     }
 
     /**
@@ -255,6 +378,18 @@ public class EventInsightService {
         fetchSeoulCultureEvents();
     }
 
+    /**
+     * 행사 캐시, 공급자 상태, 팝업 트렌드 파일이 바뀔 때마다 증가하는 값. 응답 캐시가 이 값으로 오래된 응답을 버립니다.
+     */
+    public long snapshotVersion() {
+        PopupTrendFileCache.Snapshot popupTrends = popupTrendFileCache.read(popupTrendsFile);
+        PopupTrendFileCache.Snapshot published = publishedPopupTrendSnapshot.get();
+        if (popupTrends != published && publishedPopupTrendSnapshot.compareAndSet(published, popupTrends)) {
+            snapshotVersion.incrementAndGet();
+        }
+        return snapshotVersion.get();
+    }
+
     public ProviderStatus getTourApiProviderStatus() {
         if (tourApiKey == null || tourApiKey.isBlank()) {
             return ProviderStatus.notConfigured("KTO_TOUR_API_KEY is not configured");
@@ -285,48 +420,43 @@ public class EventInsightService {
         return ProviderStatus.error(attempt.lastSuccessAt(), attempt.lastFailureAt(), attempt.detail());
     }
 
-    private List<EventInsightItem> readPopupTrendEvents() {
-        if (popupTrendsFile == null || popupTrendsFile.isBlank()) {
+    /**
+     * 팝업 트렌드 파일에서 공개 가능한 이벤트. 파일 스냅샷이 그대로이면 이전 변환 결과를 재사용하고,
+     * 가장 먼저 오래된 데이터가 되는 이벤트의 수집 시각이 지나면 다시 걸러냅니다.
+     */
+    private List<IndexedEvent> readPopupTrendEvents() {
+        PopupTrendFileCache.Snapshot snapshot = popupTrendFileCache.read(popupTrendsFile);
+        if (snapshot.records().isEmpty()) {
             return List.of();
         }
 
-        File file = new File(popupTrendsFile.trim());
-        if (!file.isFile()) {
-            return List.of();
+        Instant now = Instant.now();
+        PopupTrendEvents cached = popupTrendEvents.get();
+        if (cached != null && cached.snapshot() == snapshot && now.isBefore(cached.recomputeAt())) {
+            return cached.events();
         }
 
         try {
-            Object payload = objectMapper.readValue(file, Object.class);
-            List<Map<String, Object>> records = readPopupTrendRecords(payload);
-            return records.stream()
+            List<IndexedEvent> events = indexEvents(snapshot.records().stream()
                     .filter(item -> !containsTobaccoOrNicotineTerms(item))
                     .map(this::toEligiblePopupTrendEvent)
                     .filter(Objects::nonNull)
-                    .toList();
+                    .toList());
+            Instant recomputeAt = events.stream()
+                    .map(indexed -> parseCollectedAt(indexed.event().collectedAt()))
+                    .filter(Objects::nonNull)
+                    .min(Comparator.naturalOrder())
+                    .map(oldest -> oldest.plus(Duration.ofHours(normalizedPopupTrendsMaxAgeHours())))
+                    .orElse(Instant.MAX);
+            popupTrendEvents.set(new PopupTrendEvents(snapshot, events, recomputeAt));
+            return events;
         } catch (Exception error) {
-            log.warn("팝업 트렌드 파일 읽기 실패: {}", file.getAbsolutePath());
+            log.warn("팝업 트렌드 이벤트 변환 실패: {}", snapshot.path());
             return List.of();
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private List<Map<String, Object>> readPopupTrendRecords(Object payload) {
-        Object items = payload;
-        if (payload instanceof Map<?, ?> mapPayload) {
-            items = mapPayload.get("items");
-        }
-
-        if (!(items instanceof List<?> list)) {
-            return List.of();
-        }
-
-        return list.stream()
-                .filter(Map.class::isInstance)
-                .map(value -> (Map<String, Object>) value)
-                .toList();
-    }
-
-    private List<EventInsightItem> fetchTourEvents(int limit) {
+    private List<IndexedEvent> fetchTourEvents(int limit) {
         if (tourApiKey == null || tourApiKey.isBlank()) {
             return List.of();
         }
@@ -360,9 +490,11 @@ public class EventInsightService {
                     .map(this::toEvent)
                     .filter(Objects::nonNull)
                     .toList();
-            tourEventsCache.put(cacheKey, new CachedTourEvents(events, Instant.now().plus(cacheDuration())));
+            List<IndexedEvent> indexed = indexEvents(events);
+            tourEventsCache.put(cacheKey, new CachedTourEvents(indexed, Instant.now().plus(cacheDuration())));
             recordTourApiSuccess("한국관광공사 행사정보 조회 성공: " + events.size() + "건");
-            return events;
+            persistSnapshot();
+            return indexed;
         } catch (RuntimeException error) {
             logProviderFailure("KTO_TOUR_API", error);
             recordTourApiFailure("한국관광공사 행사정보 조회 실패");
@@ -370,7 +502,7 @@ public class EventInsightService {
         }
     }
 
-    private List<EventInsightItem> fetchSeoulCultureEvents() {
+    private List<IndexedEvent> fetchSeoulCultureEvents() {
         if (seoulCultureApiKey == null || seoulCultureApiKey.isBlank()) {
             return List.of();
         }
@@ -386,73 +518,44 @@ public class EventInsightService {
             return cached.events();
         }
 
+        SeoulCultureIndex previous = seoulCultureIndex.get();
         try {
-            List<Map<String, Object>> rows = new ArrayList<>();
-            int totalCount = -1;
-            int fetchedPages = 0;
-
-            for (int pageIndex = 0; pageIndex < maxPages; pageIndex++) {
-                int startIndex = Math.addExact(Math.multiplyExact(pageIndex, pageSize), 1);
-                int endIndex = totalCount < 0
-                        ? pageSize
-                        : Math.min(totalCount, Math.addExact(startIndex, pageSize - 1));
-                String url = UriComponentsBuilder
-                        .fromUriString(normalizedSeoulCultureBaseUrl())
-                        .pathSegment(
-                                seoulCultureApiKey.trim(),
-                                "json",
-                                "culturalEventInfo",
-                                String.valueOf(startIndex),
-                                String.valueOf(endIndex)
-                        )
-                        .build(false)
-                        .toUriString();
-
-                Object response = restTemplate.getForObject(url, Object.class);
-                Integer responseTotalCount = readSeoulCultureTotalCount(response);
-                if (responseTotalCount == null) {
-                    throw new IllegalStateException("서울 문화행사 API 응답에 list_total_count가 없습니다.");
-                }
-                if (totalCount < 0) {
-                    totalCount = responseTotalCount;
-                    int requiredPages = requiredSeoulCulturePages(totalCount, pageSize);
-                    if (requiredPages > maxPages) {
-                        throw new IllegalStateException("서울 문화행사 API 전체 결과가 설정된 페이지 한도를 초과합니다.");
-                    }
-                } else if (responseTotalCount != totalCount) {
-                    throw new IllegalStateException("서울 문화행사 API 페이지별 list_total_count가 일치하지 않습니다.");
-                }
-
-                List<Map<String, Object>> pageRows = readSeoulCultureItems(response);
-                int expectedRows = totalCount == 0
-                        ? 0
-                        : Math.max(0, Math.min(pageSize, totalCount - startIndex + 1));
-                if (pageRows.size() != expectedRows) {
-                    throw new IllegalStateException("서울 문화행사 API 페이지 결과가 일부 누락되었습니다.");
-                }
-                rows.addAll(pageRows);
-                fetchedPages++;
-
-                if (totalCount == 0 || endIndex >= totalCount) {
-                    break;
-                }
+            // 첫 페이지에서 list_total_count를 확인한 뒤 나머지 페이지는 동시에 받습니다.
+            SeoulCulturePage firstPage = fetchSeoulCulturePage(0, pageSize, -1, previous);
+            int totalCount = firstPage.totalCount();
+            int requiredPages = requiredSeoulCulturePages(totalCount, pageSize);
+            if (requiredPages > maxPages) {
+                throw new IllegalStateException("서울 문화행사 API 전체 결과가 설정된 페이지 한도를 초과합니다.");
             }
 
-            if (totalCount < 0 || rows.size() != totalCount) {
+            List<SeoulCulturePage> pages = new ArrayList<>(requiredPages);
+            pages.add(firstPage);
+            pages.addAll(fetchRemainingSeoulCulturePages(totalCount, pageSize, requiredPages, previous));
+            int fetchedPages = pages.size();
+            int fetchedRows = pages.stream().mapToInt(SeoulCulturePage::rowCount).sum();
+            if (fetchedRows != totalCount) {
                 throw new IllegalStateException("서울 문화행사 API 전체 페이지 수집이 완료되지 않았습니다.");
             }
 
-            List<EventInsightItem> events = rows.stream()
-                    .filter(item -> !containsTobaccoOrNicotineTerms(item))
-                    .map(this::toSeoulCultureEvent)
-                    .filter(Objects::nonNull)
-                    .filter(this::isPublishableSeongsuPopup)
-                    .toList();
-            seoulCultureEventsCache.put(cacheKey, new CachedTourEvents(events, Instant.now().plus(cacheDuration())));
+            SeoulCultureIndex next = SeoulCultureIndex.of(pages);
+            SnapshotChanges changes = SnapshotChanges.between(previous, next);
+            seoulCultureIndex.set(next);
+            List<IndexedEvent> indexed = List.copyOf(next.eventsByIdentity().values());
+            seoulCultureEventsCache.put(cacheKey, new CachedTourEvents(indexed, Instant.now().plus(cacheDuration())));
+            log.info(
+                    "서울 문화행사 스냅샷 갱신: 추가={}, 삭제={}, 변경={}, 재변환={}/{}행",
+                    changes.added(),
+                    changes.removed(),
+                    changes.changed(),
+                    changes.reconvertedRows(),
+                    totalCount
+            );
             recordSeoulCultureApiSuccess(
-                    "서울 문화행사 API 전체 조회 성공: " + totalCount + "건, " + fetchedPages + "페이지, 공개 " + events.size() + "건"
+                    "서울 문화행사 API 전체 조회 성공: " + totalCount + "건, " + fetchedPages + "페이지, 공개 " + indexed.size() + "건"
+                            + " (추가 " + changes.added() + ", 삭제 " + changes.removed() + ", 변경 " + changes.changed() + ")"
             );
-            return events;
+            persistSnapshot();
+            return indexed;
         } catch (RuntimeException error) {
             logProviderFailure("SEOUL_CULTURE_API", error);
             recordSeoulCultureApiFailure("서울 문화행사 API 조회 실패");
@@ -467,6 +570,168 @@ public class EventInsightService {
         }
     }
 
+    private List<SeoulCulturePage> fetchRemainingSeoulCulturePages(
+            int totalCount,
+            int pageSize,
+            int requiredPages,
+            SeoulCultureIndex previous
+    ) {
+        if (requiredPages <= 1) {
+            return List.of();
+        }
+
+        Semaphore fanOut = new Semaphore(normalizedSeoulCultureMaxConcurrency());
+        AtomicReference<RuntimeException> firstFailure = new AtomicReference<>();
+        List<CompletableFuture<SeoulCulturePage>> tasks = new ArrayList<>(requiredPages - 1);
+        for (int pageIndex = 1; pageIndex < requiredPages; pageIndex++) {
+            int page = pageIndex;
+            tasks.add(providerHttpClient.supplyAsync(
+                    () -> fetchSeoulCulturePageWithPermit(page, pageSize, totalCount, previous, fanOut, firstFailure)
+            ));
+        }
+
+        List<SeoulCulturePage> pages = new ArrayList<>(tasks.size());
+        for (CompletableFuture<SeoulCulturePage> task : tasks) {
+            try {
+                pages.add(task.join());
+            } catch (CompletionException | CancellationException ignored) {
+                // 실패 원인은 firstFailure에 남아 있으므로 나머지 작업이 끝날 때까지 기다린 뒤 한 번에 던집니다.
+            }
+        }
+        RuntimeException failure = firstFailure.get();
+        if (failure != null) {
+            throw failure;
+        }
+        return pages;
+    }
+
+    private SeoulCulturePage fetchSeoulCulturePageWithPermit(
+            int pageIndex,
+            int pageSize,
+            int totalCount,
+            SeoulCultureIndex previous,
+            Semaphore fanOut,
+            AtomicReference<RuntimeException> firstFailure
+    ) {
+        boolean acquired = false;
+        try {
+            fanOut.acquire();
+            acquired = true;
+            if (firstFailure.get() != null) {
+                throw new IllegalStateException("서울 문화행사 API 다른 페이지가 실패해 수집을 중단했습니다.");
+            }
+            return fetchSeoulCulturePage(pageIndex, pageSize, totalCount, previous);
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+            IllegalStateException interrupted = new IllegalStateException("서울 문화행사 API 페이지 수집이 중단되었습니다.", error);
+            firstFailure.compareAndSet(null, interrupted);
+            throw interrupted;
+        } catch (RuntimeException error) {
+            firstFailure.compareAndSet(null, error);
+            throw error;
+        } finally {
+            if (acquired) {
+                fanOut.release();
+            }
+        }
+    }
+
+    /**
+     * 한 페이지를 받아 검증하고 바로 행사 항목으로 바꿉니다. 원본 행 목록은 페이지 단위로만 들고 있습니다.
+     * 직전 스냅샷에 같은 지문의 원본 행이 있으면 변환 결과를 그대로 재사용합니다.
+     *
+     * @param expectedTotalCount 첫 페이지면 -1, 이후 페이지면 첫 페이지의 list_total_count
+     */
+    private SeoulCulturePage fetchSeoulCulturePage(
+            int pageIndex,
+            int pageSize,
+            int expectedTotalCount,
+            SeoulCultureIndex previous
+    ) {
+        int startIndex = Math.addExact(Math.multiplyExact(pageIndex, pageSize), 1);
+        int endIndex = expectedTotalCount < 0
+                ? pageSize
+                : Math.min(expectedTotalCount, Math.addExact(startIndex, pageSize - 1));
+        String url = UriComponentsBuilder
+                .fromUriString(normalizedSeoulCultureBaseUrl())
+                .pathSegment(
+                        seoulCultureApiKey.trim(),
+                        "json",
+                        "culturalEventInfo",
+                        String.valueOf(startIndex),
+                        String.valueOf(endIndex)
+                )
+                .build(false)
+                .toUriString();
+
+        Object response = restTemplate.getForObject(url, Object.class);
+        Integer responseTotalCount = readSeoulCultureTotalCount(response);
+        if (responseTotalCount == null) {
+            throw new IllegalStateException("서울 문화행사 API 응답에 list_total_count가 없습니다.");
+        }
+        if (expectedTotalCount >= 0 && responseTotalCount != expectedTotalCount) {
+            throw new IllegalStateException("서울 문화행사 API 페이지별 list_total_count가 일치하지 않습니다.");
+        }
+
+        int totalCount = responseTotalCount;
+        List<Map<String, Object>> pageRows = readSeoulCultureItems(response);
+        int expectedRows = totalCount == 0
+                ? 0
+                : Math.max(0, Math.min(pageSize, totalCount - startIndex + 1));
+        if (pageRows.size() != expectedRows) {
+            throw new IllegalStateException("서울 문화행사 API 페이지 결과가 일부 누락되었습니다.");
+        }
+        List<ConvertedRow> rows = new ArrayList<>(pageRows.size());
+        int reconvertedRows = 0;
+        for (Map<String, Object> pageRow : pageRows) {
+            long fingerprint = rowFingerprint(pageRow);
+            ConvertedRow row = previous.rowsByFingerprint().get(fingerprint);
+            if (row == null) {
+                row = new ConvertedRow(fingerprint, convertSeoulCultureRow(pageRow));
+                reconvertedRows++;
+            }
+            rows.add(row);
+        }
+        return new SeoulCulturePage(totalCount, pageRows.size(), rows, reconvertedRows);
+    }
+
+    /**
+     * 공개할 수 있는 성수 팝업 행이면 색인된 행사로, 아니면 {@code null}로 바꿉니다.
+     */
+    private IndexedEvent convertSeoulCultureRow(Map<String, Object> row) {
+        if (containsTobaccoOrNicotineTerms(row)) {
+            return null;
+        }
+        EventInsightItem event = toSeoulCultureEvent(row);
+        if (event == null || !isPublishableSeongsuPopup(event)) {
+            return null;
+        }
+        return indexEvent(event);
+    }
+
+    /**
+     * 원본 행의 키와 값 순서대로 계산한 64비트 FNV-1a 지문. 값이 하나라도 바뀌면 행을 다시 변환합니다.
+     */
+    private static long rowFingerprint(Map<String, Object> row) {
+        long hash = FNV_OFFSET_BASIS;
+        for (Map.Entry<String, Object> entry : row.entrySet()) {
+            hash = fingerprintText(hash, entry.getKey());
+            hash = fingerprintText(hash, entry.getValue() == null ? null : String.valueOf(entry.getValue()));
+        }
+        return hash;
+    }
+
+    private static long fingerprintText(long hash, String value) {
+        if (value == null) {
+            return (hash ^ 0xFFFF) * FNV_PRIME;
+        }
+        for (int index = 0; index < value.length(); index++) {
+            hash = (hash ^ value.charAt(index)) * FNV_PRIME;
+        }
+        // 구분자를 넣어 "ab"+"c"와 "a"+"bc"가 같은 지문이 되지 않게 합니다.
+        return (hash ^ 0xFFFE) * FNV_PRIME;
+    }
+
     private void logProviderFailure(String provider, RuntimeException error) {
         String httpStatus = error instanceof RestClientResponseException responseError
                 ? String.valueOf(responseError.getStatusCode().value())
@@ -479,11 +744,11 @@ public class EventInsightService {
         );
     }
 
-    private boolean isPublicEventApiSource(EventInsightItem event) {
+    private static boolean isPublicEventApiSource(EventInsightItem event) {
         return "KTO_TOUR_API".equals(event.source()) || "SEOUL_CULTURE_API".equals(event.source());
     }
 
-    private List<EventInsightItem> readFreshCachedEvents(Map<String, CachedTourEvents> cache) {
+    private List<IndexedEvent> readFreshCachedEvents(Map<String, CachedTourEvents> cache) {
         Instant now = Instant.now();
         cache.entrySet().removeIf(entry -> !entry.getValue().expiresAt().isAfter(now));
         return cache.values().stream()
@@ -491,7 +756,7 @@ public class EventInsightService {
                 .toList();
     }
 
-    private List<String> responseSources(List<EventInsightItem> events) {
+    private static List<String> responseSources(List<EventInsightItem> events) {
         return events.stream()
                 .map(EventInsightItem::source)
                 .map(source -> switch (source) {
@@ -504,18 +769,43 @@ public class EventInsightService {
                 .toList();
     }
 
-    private List<EventInsightItem> deduplicateEvents(List<EventInsightItem> events) {
-        Map<String, EventInsightItem> uniqueEvents = new LinkedHashMap<>();
+    /**
+     * 저장 시점에 이벤트마다 한 번만 계산해 두는 색인. 요청 경로는 이 값으로만 거르고 정렬합니다.
+     */
+    private List<IndexedEvent> indexEvents(List<EventInsightItem> events) {
+        List<IndexedEvent> indexed = new ArrayList<>(events.size());
         for (EventInsightItem event : events) {
-            uniqueEvents.putIfAbsent(eventIdentityKey(event), event);
+            indexed.add(indexEvent(event));
         }
-        return List.copyOf(uniqueEvents.values());
+        return List.copyOf(indexed);
     }
 
-    private List<EventInsightItem> prioritizeVerifiedPopupSources(List<EventInsightItem> events) {
-        return events.stream()
-                .sorted(Comparator.comparingInt(event -> hasVerifiedSeoulPopupSource(event) ? 0 : 1))
-                .toList();
+    private IndexedEvent indexEvent(EventInsightItem event) {
+        LocalDate startDate = parseEventDate(event.startDate());
+        LocalDate endDate = parseEventDate(event.endDate());
+        boolean publishable = startDate != null
+                && endDate != null
+                && !startDate.isAfter(endDate)
+                && event.address() != null
+                && !event.address().isBlank()
+                && safeHttpUrl(event.detailUrl()) != null
+                && !containsTobaccoOrNicotineTerms(event);
+        List<String> searchableValues = new ArrayList<>(5);
+        for (String value : new String[] {event.id(), event.title(), event.kind(), event.address(), event.period()}) {
+            if (value != null) {
+                searchableValues.add(value.toLowerCase(Locale.ROOT));
+            }
+        }
+        return new IndexedEvent(
+                event,
+                startDate,
+                endDate,
+                publishable,
+                List.copyOf(searchableValues),
+                event.title() != null && isPublishableSeongsuPopup(event),
+                hasVerifiedSeoulPopupSource(event),
+                eventIdentityKey(event)
+        );
     }
 
     private boolean hasVerifiedSeoulPopupSource(EventInsightItem event) {
@@ -552,6 +842,7 @@ public class EventInsightService {
 
     private void recordTourApiSuccess(String detail) {
         tourApiAttempt.set(new ProviderAttempt(Instant.now(), null, detail));
+        snapshotVersion.incrementAndGet();
     }
 
     private void recordTourApiFailure(String detail) {
@@ -561,10 +852,12 @@ public class EventInsightService {
                 Instant.now(),
                 detail
         ));
+        snapshotVersion.incrementAndGet();
     }
 
     private void recordSeoulCultureApiSuccess(String detail) {
         seoulCultureApiAttempt.set(new ProviderAttempt(Instant.now(), null, detail));
+        snapshotVersion.incrementAndGet();
     }
 
     private void recordSeoulCultureApiFailure(String detail) {
@@ -574,6 +867,7 @@ public class EventInsightService {
                 Instant.now(),
                 detail
         ));
+        snapshotVersion.incrementAndGet();
     }
 
     private Duration cacheDuration() {
@@ -592,6 +886,10 @@ public class EventInsightService {
         return Math.max(1, Math.min(seoulCultureApiMaxPages, SEOUL_CULTURE_HARD_MAX_PAGES));
     }
 
+    private int normalizedSeoulCultureMaxConcurrency() {
+        return Math.max(1, Math.min(seoulCultureApiMaxConcurrency, SEOUL_CULTURE_HARD_MAX_PAGES));
+    }
+
     private int requiredSeoulCulturePages(int totalCount, int pageSize) {
         if (totalCount <= 0) {
             return 1;
@@ -1004,37 +1302,47 @@ public class EventInsightService {
                 || "MANUAL_SEED".equalsIgnoreCase(source);
     }
 
-    private boolean hasVerifiableEventMetadata(EventInsightItem event) {
-        LocalDate startDate = parseEventDate(event.startDate());
-        LocalDate endDate = parseEventDate(event.endDate());
-        return startDate != null
-                && endDate != null
-                && !startDate.isAfter(endDate)
-                && event.address() != null
-                && !event.address().isBlank()
-                && safeHttpUrl(event.detailUrl()) != null;
+    private EventQuery eventQuery(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return EventQuery.ALL;
+        }
+        String normalized = keyword.toLowerCase(Locale.ROOT).trim();
+        List<String> specificTerms = specificEventSearchTerms(normalized);
+        return new EventQuery(
+                normalized,
+                specificTerms,
+                specificTerms.isEmpty() && containsGenericEventKeyword(normalized),
+                isSeongsuPopupIntent(keyword)
+        );
     }
 
-    private boolean matches(EventInsightItem event, String keyword) {
-        if (keyword == null || keyword.isBlank()) {
+    private boolean matches(IndexedEvent indexed, EventQuery query) {
+        if (query.normalized() == null) {
             return true;
         }
 
-        String normalized = keyword.toLowerCase(Locale.ROOT).trim();
-        List<String> searchableValues = List.of(event.id(), event.title(), event.kind(), event.address(), event.period()).stream()
-                .filter(Objects::nonNull)
-                .map(value -> value.toLowerCase(Locale.ROOT))
-                .toList();
-        if (searchableValues.stream().anyMatch(value -> value.contains(normalized))) {
+        List<String> searchableValues = indexed.searchableValues();
+        if (containsInAny(searchableValues, query.normalized())) {
             return true;
         }
+        if (query.specificTerms().isEmpty()) {
+            return query.genericKeyword();
+        }
+        for (String term : query.specificTerms()) {
+            if (!containsInAny(searchableValues, term)) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        List<String> specificTerms = specificEventSearchTerms(normalized);
-        if (specificTerms.isEmpty()) {
-            return containsGenericEventKeyword(normalized);
+    private boolean containsInAny(List<String> values, String term) {
+        for (String value : values) {
+            if (value.contains(term)) {
+                return true;
+            }
         }
-        return specificTerms.stream()
-                .allMatch(term -> searchableValues.stream().anyMatch(value -> value.contains(term)));
+        return false;
     }
 
     private List<String> specificEventSearchTerms(String keyword) {
@@ -1070,23 +1378,45 @@ public class EventInsightService {
         return startDate + "-" + endDate;
     }
 
-    private Comparator<EventInsightItem> eventPriorityComparator() {
-        LocalDate today = LocalDate.now(SEOUL_ZONE);
-        return Comparator
-                .comparingInt((EventInsightItem event) -> eventStatusRank(event, today))
-                .thenComparing(event -> daysUntilStart(event, today))
-                .thenComparing(EventInsightItem::title, Comparator.nullsLast(String::compareTo));
+    /**
+     * 진행 중, 예정, 날짜 없음 순으로 앞선 {@code limit}개만 고릅니다.
+     * 전체를 정렬하지 않고 크기 {@code limit}의 힙으로 고르며, 순위가 같으면 들어온 순서를 유지합니다.
+     */
+    private List<EventInsightItem> selectTopEvents(Collection<IndexedEvent> events, int limit, LocalDate today) {
+        Comparator<RankedEvent> order = Comparator
+                .comparingInt(RankedEvent::statusRank)
+                .thenComparingLong(RankedEvent::daysUntilStart)
+                .thenComparing(ranked -> ranked.indexed().event().title(), Comparator.nullsLast(String::compareTo))
+                .thenComparingInt(RankedEvent::position);
+        PriorityQueue<RankedEvent> worstFirst = new PriorityQueue<>(limit + 1, order.reversed());
+        int position = 0;
+        for (IndexedEvent indexed : events) {
+            worstFirst.add(new RankedEvent(
+                    indexed,
+                    eventStatusRank(indexed, today),
+                    daysUntilStart(indexed, today),
+                    position++
+            ));
+            if (worstFirst.size() > limit) {
+                worstFirst.poll();
+            }
+        }
+        List<RankedEvent> top = new ArrayList<>(worstFirst);
+        top.sort(order);
+        return top.stream()
+                .map(ranked -> ranked.indexed().event())
+                .toList();
     }
 
-    private int eventStatusRank(EventInsightItem event, LocalDate today) {
-        LocalDate startDate = parseEventDate(event.startDate());
-        LocalDate endDate = parseEventDate(event.endDate());
+    private int eventStatusRank(IndexedEvent indexed, LocalDate today) {
+        LocalDate startDate = indexed.startDate();
+        LocalDate endDate = indexed.endDate();
 
         if (startDate == null && endDate == null) {
             return 2;
         }
         if (startDate == null) {
-            return endDate != null && !endDate.isBefore(today) ? 0 : 3;
+            return !endDate.isBefore(today) ? 0 : 3;
         }
         if (endDate == null) {
             return startDate.isBefore(today) ? 0 : 1;
@@ -1097,26 +1427,21 @@ public class EventInsightService {
         return startDate.isAfter(today) ? 1 : 3;
     }
 
-    private boolean isCurrentOrUpcomingEvent(EventInsightItem event) {
-        LocalDate today = LocalDate.now(SEOUL_ZONE);
-        LocalDate startDate = parseEventDate(event.startDate());
-        LocalDate endDate = parseEventDate(event.endDate());
-
-        if (endDate != null) {
-            return !endDate.isBefore(today);
+    private boolean isCurrentOrUpcomingEvent(IndexedEvent indexed, LocalDate today) {
+        if (indexed.endDate() != null) {
+            return !indexed.endDate().isBefore(today);
         }
-        if (startDate != null) {
-            return !startDate.isBefore(today);
+        if (indexed.startDate() != null) {
+            return !indexed.startDate().isBefore(today);
         }
         return true;
     }
 
-    private long daysUntilStart(EventInsightItem event, LocalDate today) {
-        LocalDate startDate = parseEventDate(event.startDate());
-        if (startDate == null) {
+    private long daysUntilStart(IndexedEvent indexed, LocalDate today) {
+        if (indexed.startDate() == null) {
             return Long.MAX_VALUE;
         }
-        return Math.abs(Duration.between(today.atStartOfDay(), startDate.atStartOfDay()).toDays());
+        return Math.abs(Duration.between(today.atStartOfDay(), indexed.startDate().atStartOfDay()).toDays());
     }
 
     private LocalDate parseEventDate(String value) {
@@ -1388,7 +1713,110 @@ public class EventInsightService {
         }
     }
 
-    private record CachedTourEvents(List<EventInsightItem> events, Instant expiresAt) {
+    private record IndexedEvent(
+            EventInsightItem event,
+            LocalDate startDate,
+            LocalDate endDate,
+            boolean publishable,
+            List<String> searchableValues,
+            boolean seongsuPopup,
+            boolean verifiedSeoulPopupSource,
+            String identityKey
+    ) {
+    }
+
+    private record EventQuery(
+            String normalized,
+            List<String> specificTerms,
+            boolean genericKeyword,
+            boolean seongsuPopupIntent
+    ) {
+        static final EventQuery ALL = new EventQuery(null, List.of(), false, false);
+    }
+
+    private record RankedEvent(IndexedEvent indexed, int statusRank, long daysUntilStart, int position) {
+    }
+
+    private record PopupTrendEvents(
+            PopupTrendFileCache.Snapshot snapshot,
+            List<IndexedEvent> events,
+            Instant recomputeAt
+    ) {
+    }
+
+    private record SeoulCulturePage(int totalCount, int rowCount, List<ConvertedRow> rows, int reconvertedRows) {
+    }
+
+    /**
+     * 원본 행 지문과 변환 결과. 공개하지 않는 행은 {@code indexed}가 {@code null}입니다.
+     */
+    private record ConvertedRow(long fingerprint, IndexedEvent indexed) {
+    }
+
+    /**
+     * 마지막으로 완성된 서울 문화행사 스냅샷. 다음 갱신은 지문이 같은 행의 변환 결과를 여기서 가져갑니다.
+     */
+    private record SeoulCultureIndex(
+            Map<Long, ConvertedRow> rowsByFingerprint,
+            Map<String, IndexedEvent> eventsByIdentity,
+            int reconvertedRows
+    ) {
+        static final SeoulCultureIndex EMPTY = new SeoulCultureIndex(Map.of(), Map.of(), 0);
+
+        static SeoulCultureIndex of(List<SeoulCulturePage> pages) {
+            Map<Long, ConvertedRow> rowsByFingerprint = new HashMap<>();
+            Map<String, IndexedEvent> eventsByIdentity = new LinkedHashMap<>();
+            int reconvertedRows = 0;
+            for (SeoulCulturePage page : pages) {
+                reconvertedRows += page.reconvertedRows();
+                for (ConvertedRow row : page.rows()) {
+                    rowsByFingerprint.put(row.fingerprint(), row);
+                    if (row.indexed() != null) {
+                        eventsByIdentity.putIfAbsent(row.indexed().identityKey(), row.indexed());
+                    }
+                }
+            }
+            return new SeoulCultureIndex(
+                    Collections.unmodifiableMap(rowsByFingerprint),
+                    Collections.unmodifiableMap(eventsByIdentity),
+                    reconvertedRows
+            );
+        }
+    }
+
+    private record SnapshotChanges(int added, int removed, int changed, int reconvertedRows) {
+
+        static SnapshotChanges between(SeoulCultureIndex previous, SeoulCultureIndex next) {
+            int added = 0;
+            int changed = 0;
+            for (Map.Entry<String, IndexedEvent> entry : next.eventsByIdentity().entrySet()) {
+                IndexedEvent before = previous.eventsByIdentity().get(entry.getKey());
+                if (before == null) {
+                    added++;
+                } else if (before != entry.getValue() && !before.equals(entry.getValue())) {
+                    changed++;
+                }
+            }
+            int removed = 0;
+            for (String identityKey : previous.eventsByIdentity().keySet()) {
+                if (!next.eventsByIdentity().containsKey(identityKey)) {
+                    removed++;
+                }
+            }
+            return new SnapshotChanges(added, removed, changed, next.reconvertedRows());
+        }
+    }
+
+    private record CachedTourEvents(List<IndexedEvent> events, Instant expiresAt) {
+    }
+
+    /**
+     * 재시작 후 복원할 행사 캐시. 색인은 복원할 때 다시 계산하므로 원본 항목만 저장합니다.
+     */
+    private record EventSnapshot(long savedAtMillis, List<SnapshotEntry> tourEvents, List<SnapshotEntry> seoulCultureEvents) {
+    }
+
+    private record SnapshotEntry(String cacheKey, List<EventInsightItem> events, long expiresAtMillis) {
     }
 
     private record ProviderAttempt(Instant lastSuccessAt, Instant lastFailureAt, String detail) {
@@ -23,4 +23,12 @@ public class HotplaceCacheWarmupScheduler {
     public void warmCache() {
         hotplaceService.warmHotplaceCache();
     }
+
+    @Scheduled(
+            initialDelayString = "${external.insights.hotplace-warmup.refresh-ahead-tick-ms:15000}",
+            fixedDelayString = "${external.insights.hotplace-warmup.refresh-ahead-tick-ms:15000}"
+    )
+    public void refreshAhead() {
+        hotplaceService.refreshDueHotplaceCacheEntries();
+    }
 }
@@ -0,0 +1,185 @@
+package com.neogulmap.neogul_map.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 핫플 검색어를 시드 목록에 한 번에 대응시키는 matcher
+ * 시드 검색어의 압축 형태(소문자, 문자·숫자만)와 도시 전체 질의 조각으로 Aho-Corasick 오토마톤을 시드 목록이 정해질 때 한 번 만들어 둡니다.
+ * 요청마다 검색어를 한 번만 압축하고 한 번 훑어서 어떤 시드 검색어와 질의 조각이 들어 있는지 분류합니다.
+ */
+final class HotplaceQueryMatcher {
+
+    private static final Pattern SEARCH_NORMALIZE_PATTERN = Pattern.compile("[^\\p{IsAlphabetic}\\p{IsDigit}]+");
+    private static final int MIN_SPECIFIC_TERM_LENGTH = 2;
+
+    private final int seedCount;
+    private final List<List<String>> lowercaseTermsBySeed;
+    private final Set<String> matchAllKeywords;
+    private final boolean hasEmptySeedTerm;
+    private final Node root = new Node();
+
+    /**
+     * @param termsBySeed      시드 순서대로 나열한 시드별 검색어
+     * @param matchAllKeywords 정확히 일치하면 모든 시드를 돌려주는 검색어
+     * @param citywideHotFragments 검색어에 들어 있으면 도시 전체 핫플 질의로 보는 조각
+     * @param crowdFragments   검색어에 들어 있고 특정 장소가 없으면 도시 전체 혼잡도 질의로 보는 조각
+     */
+    HotplaceQueryMatcher(
+            List<List<String>> termsBySeed,
+            List<String> matchAllKeywords,
+            List<String> citywideHotFragments,
+            List<String> crowdFragments
+    ) {
+        this.seedCount = termsBySeed.size();
+        this.matchAllKeywords = Set.copyOf(matchAllKeywords);
+        List<List<String>> lowercaseTerms = new ArrayList<>(seedCount);
+        boolean emptySeedTerm = false;
+        for (int seedIndex = 0; seedIndex < seedCount; seedIndex++) {
+            List<String> lowercase = new ArrayList<>();
+            for (String term : termsBySeed.get(seedIndex)) {
+                if (term == null) {
+                    continue;
+                }
+                lowercase.add(term.toLowerCase(Locale.ROOT));
+                String compactTerm = compact(term);
+                if (compactTerm.isEmpty()) {
+                    emptySeedTerm = true;
+                    continue;
+                }
+                Node node = insert(compactTerm);
+                node.anySeedTerm = true;
+                if (compactTerm.length() >= MIN_SPECIFIC_TERM_LENGTH) {
+                    node.specificSeeds.set(seedIndex);
+                }
+            }
+            lowercaseTerms.add(List.copyOf(lowercase));
+        }
+        this.lowercaseTermsBySeed = List.copyOf(lowercaseTerms);
+        this.hasEmptySeedTerm = emptySeedTerm;
+        // 압축한 검색어와 비교하므로 하이픈 같은 구분자가 든 조각은 그대로 두면 일치하지 않습니다. 기존 동작과 같습니다.
+        for (String fragment : citywideHotFragments) {
+            insert(fragment).citywideHot = true;
+        }
+        for (String fragment : crowdFragments) {
+            insert(fragment).crowd = true;
+        }
+        linkFailures();
+    }
+
+    /**
+     * 검색어가 고르는 시드. 빈 검색어, 전체 검색어, 특정 장소가 없는 도시 전체 질의는 모든 시드를 고릅니다.
+     */
+    Match classify(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return Match.ALL;
+        }
+        String normalized = keyword.toLowerCase(Locale.ROOT).trim();
+        if (matchAllKeywords.contains(normalized)) {
+            return Match.ALL;
+        }
+
+        BitSet specificSeeds = new BitSet(seedCount);
+        boolean anySeedTerm = hasEmptySeedTerm;
+        boolean citywideHot = false;
+        boolean crowd = false;
+        String compactQuery = compact(normalized);
+        Node node = root;
+        for (int index = 0; index < compactQuery.length(); index++) {
+            char next = compactQuery.charAt(index);
+            while (node != root && !node.children.containsKey(next)) {
+                node = node.failure;
+            }
+            node = node.children.getOrDefault(next, root);
+            specificSeeds.or(node.specificSeeds);
+            anySeedTerm |= node.anySeedTerm;
+            citywideHot |= node.citywideHot;
+            crowd |= node.crowd;
+        }
+
+        boolean hasSpecificPlace = !specificSeeds.isEmpty();
+        if (!hasSpecificPlace && (citywideHot || (crowd && !anySeedTerm))) {
+            return Match.ALL;
+        }
+        // 검색어가 시드 검색어의 일부인 경우(예: "송리단" -> "송리단길")도 그 시드를 고릅니다.
+        for (int seedIndex = 0; seedIndex < seedCount; seedIndex++) {
+            if (specificSeeds.get(seedIndex)) {
+                continue;
+            }
+            for (String term : lowercaseTermsBySeed.get(seedIndex)) {
+                if (term.contains(normalized)) {
+                    specificSeeds.set(seedIndex);
+                    break;
+                }
+            }
+        }
+        return new Match(false, specificSeeds);
+    }
+
+    static String compact(String value) {
+        return SEARCH_NORMALIZE_PATTERN.matcher(value.toLowerCase(Locale.ROOT)).replaceAll("");
+    }
+
+    private Node insert(String pattern) {
+        Node node = root;
+        for (int index = 0; index < pattern.length(); index++) {
+            node = node.children.computeIfAbsent(pattern.charAt(index), ignored -> new Node());
+        }
+        return node;
+    }
+
+    private void linkFailures() {
+        Queue<Node> pending = new ArrayDeque<>();
+        for (Node child : root.children.values()) {
+            child.failure = root;
+            pending.add(child);
+        }
+        while (!pending.isEmpty()) {
+            Node node = pending.remove();
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                Node child = entry.getValue();
+                Node failure = node.failure;
+                while (failure != root && !failure.children.containsKey(entry.getKey())) {
+                    failure = failure.failure;
+                }
+                Node target = failure.children.get(entry.getKey());
+                child.failure = target != null && target != child ? target : root;
+                // 접미사로 끝나는 다른 패턴의 결과를 미리 합쳐 두어 검색 중에는 failure 사슬을 따라가지 않습니다.
+                child.specificSeeds.or(child.failure.specificSeeds);
+                child.anySeedTerm |= child.failure.anySeedTerm;
+                child.citywideHot |= child.failure.citywideHot;
+                child.crowd |= child.failure.crowd;
+                pending.add(child);
+            }
+        }
+    }
+
+    /**
+     * 분류 결과. {@code all}이면 모든 시드, 아니면 {@code seeds}에 표시된 시드만 고릅니다.
+     */
+    record Match(boolean all, BitSet seeds) {
+
+        static final Match ALL = new Match(true, new BitSet());
+
+        boolean includes(int seedIndex) {
+            return all || seeds.get(seedIndex);
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final BitSet specificSeeds = new BitSet();
+        private Node failure;
+        private boolean anySeedTerm;
+        private boolean citywideHot;
+        private boolean crowd;
+    }
+}
@@ -2,24 +2,20 @@ package com.neogulmap.neogul_map.service;
 
 import com.neogulmap.neogul_map.dto.HotplaceResponse;
 import com.neogulmap.neogul_map.dto.HotplaceResponse.HotplaceItem;
+import com.neogulmap.neogul_map.dto.HotplaceTrendResponse;
 import com.neogulmap.neogul_map.dto.InsightStatusResponse.ProviderStatus;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.RequestEntity;
 import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.UriComponentsBuilder;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
 
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.StringReader;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -44,14 +40,16 @@ import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
@@ -85,12 +83,17 @@ public class HotplaceService {
     private static final List<String> HOT_NOW_KEYWORDS = List.of("hot-now", "hot_now", "지금 핫한 곳", "핫플");
     private static final List<String> CITYWIDE_HOT_QUERY_FRAGMENTS = List.of("hot-now", "hot_now", "지금핫", "핫플", "핫한곳");
     private static final List<String> CROWD_QUERY_FRAGMENTS = List.of("혼잡", "사람많", "붐빔", "붐비", "인파", "crowd", "busy");
+    private static final HotplaceQueryMatcher QUERY_MATCHER = new HotplaceQueryMatcher(
+            SEOUL_SEEDS.stream().map(HotplaceService::searchTerms).toList(),
+            HOT_NOW_KEYWORDS,
+            CITYWIDE_HOT_QUERY_FRAGMENTS,
+            CROWD_QUERY_FRAGMENTS
+    );
     private static final List<String> OBSERVATION_TIME_KEYS = List.of(
             "updatedAt", "updated_at", "observedAt", "observationTime", "measuredAt",
             "baseTime", "base_time", "timestamp", "datetime"
     );
     private static final Pattern INTEGER_PATTERN = Pattern.compile("\\d[\\d,]*");
-    private static final Pattern SEARCH_NORMALIZE_PATTERN = Pattern.compile("[^\\p{IsAlphabetic}\\p{IsDigit}]+");
     private static final ZoneId SEOUL_ZONE = ZoneId.of("Asia/Seoul");
     private static final List<DateTimeFormatter> SEOUL_LOCAL_DATE_TIME_FORMATTERS = List.of(
             DateTimeFormatter.ISO_LOCAL_DATE_TIME,
@@ -98,7 +101,12 @@ public class HotplaceService {
             DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")
     );
 
+    private static final String SNAPSHOT_NAME = "hotplaces";
+
+    private final ProviderHttpClient providerHttpClient;
     private final org.springframework.web.client.RestTemplate restTemplate;
+    private final InsightSnapshotStore snapshotStore;
+    private final HotplaceTrendStore trendStore;
     private final Map<String, CachedHotplace> cityDataCache = new ConcurrentHashMap<>();
     private final Map<String, CachedHotplace> telecomCrowdCache = new ConcurrentHashMap<>();
     private final Map<String, Instant> cityDataFailureCache = new ConcurrentHashMap<>();
@@ -109,6 +117,8 @@ public class HotplaceService {
     private final ProviderCircuit telecomCrowdCircuit = new ProviderCircuit();
     private final AtomicReference<ProviderAttempt> seoulCityDataAttempt = new AtomicReference<>();
     private final AtomicReference<ProviderAttempt> telecomCrowdAttempt = new AtomicReference<>();
+    private final AtomicLong snapshotVersion = new AtomicLong();
+    private final AtomicLong persistedSnapshotVersion = new AtomicLong();
     private Clock clock = Clock.systemUTC();
 
     @Value("${external.seoul.citydata.api-key:${SEOUL_CITYDATA_API_KEY:}}")
@@ -138,17 +148,97 @@ public class HotplaceService {
     @Value("${external.insights.crowd.current-max-age-minutes:${INSIGHTS_CROWD_CURRENT_MAX_AGE_MINUTES:10}}")
     private long currentFreshnessMaxAgeMinutes = 10;
 
+    @Value("${external.insights.hotplace-warmup.refresh-ahead-min-interval-seconds:${INSIGHTS_HOTPLACE_REFRESH_AHEAD_MIN_INTERVAL_SECONDS:60}}")
+    private long refreshAheadMinIntervalSeconds = 60;
+
+    @Value("${external.insights.hotplace-warmup.refresh-ahead-jitter-seconds:${INSIGHTS_HOTPLACE_REFRESH_AHEAD_JITTER_SECONDS:30}}")
+    private long refreshAheadJitterSeconds = 30;
+
     @Value("${external.insights.crowd.live-max-age-minutes:${INSIGHTS_CROWD_LIVE_MAX_AGE_MINUTES:30}}")
     private long liveFreshnessMaxAgeMinutes = 30;
 
     @Value("${external.insights.crowd.allow-missing-observation-time:${INSIGHTS_CROWD_ALLOW_MISSING_OBSERVATION_TIME:false}}")
     private boolean allowMissingObservationTime;
 
-    public HotplaceService(RestTemplateBuilder restTemplateBuilder) {
-        this.restTemplate = restTemplateBuilder
-                .connectTimeout(Duration.ofSeconds(3))
-                .readTimeout(Duration.ofSeconds(5))
-                .build();
+    @Autowired
+    public HotplaceService(
+            ProviderHttpClient providerHttpClient,
+            InsightSnapshotStore snapshotStore,
+            HotplaceTrendStore trendStore
+    ) {
+        this.providerHttpClient = providerHttpClient;
+        this.restTemplate = providerHttpClient.restTemplate();
+        this.snapshotStore = snapshotStore;
+        this.trendStore = trendStore;
+    }
+
+    /**
+     * 마지막으로 저장한 핫플 스냅샷을 읽어 캐시를 채웁니다. 신선도 기준을 벗어난 값은 버리고,
+     * 갱신 시각이 지난 값은 응답에 쓰면서 refresh-ahead가 다시 조회합니다.
+     */
+    @PostConstruct
+    void restoreSnapshot() {
+        Optional<HotplaceSnapshot> snapshot = snapshotStore.read(SNAPSHOT_NAME, HotplaceSnapshot.class);
+        if (snapshot.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now(clock);
+        int restored = restoreEntries(telecomCrowdCache, snapshot.get().telecomCrowd(), now)
+                + restoreEntries(cityDataCache, snapshot.get().cityData(), now);
+        if (restored > 0) {
+            snapshotVersion.incrementAndGet();
+        }
+        persistedSnapshotVersion.set(snapshotVersion.get());
+        log.info(
+                "핫플 스냅샷 복원: restored={}, savedAt={}",
+                restored,
+                Instant.ofEpochMilli(snapshot.get().savedAtMillis())
+        );
+    }
+
+    private int restoreEntries(Map<String, CachedHotplace> cache, List<SnapshotEntry> entries, Instant now) {
+        if (entries == null) {
+            return 0;
+        }
+        int restored = 0;
+        for (SnapshotEntry entry : entries) {
+            boolean knownSeed = SEOUL_SEEDS.stream().anyMatch(seed -> seed.id().equals(entry.seedId()));
+            if (!knownSeed || entry.item() == null || applyFreshness(entry.item(), now).isEmpty()) {
+                continue;
+            }
+            cache.putIfAbsent(
+                    entry.seedId(),
+                    new CachedHotplace(entry.item(), Instant.ofEpochMilli(entry.refreshAtMillis()), Duration.ZERO)
+            );
+            restored++;
+        }
+        return restored;
+    }
+
+    /**
+     * 마지막 저장 이후 캐시나 공급자 상태가 바뀌었으면 현재 캐시를 스냅샷으로 저장합니다.
+     */
+    private void persistSnapshotIfChanged() {
+        long version = snapshotVersion.get();
+        if (!snapshotStore.isEnabled() || persistedSnapshotVersion.getAndSet(version) == version) {
+            return;
+        }
+        snapshotStore.write(SNAPSHOT_NAME, new HotplaceSnapshot(
+                Instant.now(clock).toEpochMilli(),
+                snapshotEntries(telecomCrowdCache),
+                snapshotEntries(cityDataCache)
+        ));
+    }
+
+    private List<SnapshotEntry> snapshotEntries(Map<String, CachedHotplace> cache) {
+        return cache.entrySet().stream()
+                .map(entry -> new SnapshotEntry(
+                        entry.getKey(),
+                        entry.getValue().item(),
+                        entry.getValue().refreshAt().toEpochMilli()
+                ))
+                .toList();
     }
 
     public HotplaceResponse getHotplaces(String keyword, int limit) {
@@ -165,8 +255,10 @@ public class HotplaceService {
     ) {
         Bounds bounds = Bounds.of(minLat, maxLat, minLng, maxLng);
         int normalizedLimit = Math.max(1, Math.min(limit, 20));
-        List<HotplaceSeed> candidates = SEOUL_SEEDS.stream()
-                .filter(seed -> matches(seed, keyword))
+        HotplaceQueryMatcher.Match query = QUERY_MATCHER.classify(keyword);
+        List<HotplaceSeed> candidates = IntStream.range(0, SEOUL_SEEDS.size())
+                .filter(query::includes)
+                .mapToObj(SEOUL_SEEDS::get)
                 .filter(seed -> bounds.contains(seed.latitude(), seed.longitude()))
                 .toList();
         List<HotplaceItem> places = candidates.stream()
@@ -179,14 +271,40 @@ public class HotplaceService {
                 .limit(normalizedLimit)
                 .toList();
 
+        return response(places, Instant.now(clock));
+    }
+
+    /**
+     * 순위대로 정렬된 응답에서 조건에 맞는 장소만 앞에서부터 {@code limit}개 남깁니다.
+     * 지도 응답 캐시가 넓은 타일로 계산한 결과를 요청한 지도 범위로 줄일 때 씁니다.
+     */
+    static HotplaceResponse narrow(HotplaceResponse response, int limit, Predicate<HotplaceItem> filter) {
+        List<HotplaceItem> places = response.places().stream()
+                .filter(filter)
+                .limit(Math.max(1, Math.min(limit, 20)))
+                .toList();
+        return response(places, response.updatedAt());
+    }
+
+    private static HotplaceResponse response(List<HotplaceItem> places, Instant updatedAt) {
         String freshness = places.isEmpty()
                 ? "NO_VERIFIED_DATA"
                 : "LIVE_OR_PARTIAL";
 
-        return new HotplaceResponse(places, freshness, Instant.now(clock), responseSources(places));
+        return new HotplaceResponse(places, freshness, updatedAt, responseSources(places));
     }
 
-    private List<String> responseSources(List<HotplaceItem> places) {
+    /**
+     * 시드의 시간대별·요일별 혼잡도 추이. 알 수 없는 시드면 비어 있습니다.
+     */
+    public Optional<HotplaceTrendResponse> getHotplaceTrend(String id) {
+        return SEOUL_SEEDS.stream()
+                .filter(seed -> seed.id().equals(id))
+                .findFirst()
+                .map(seed -> trendStore.trend(seed.id(), seed.displayName()));
+    }
+
+    private static List<String> responseSources(List<HotplaceItem> places) {
         return places.stream()
                 .map(HotplaceItem::source)
                 .map(source -> switch (source) {
@@ -199,20 +317,13 @@ public class HotplaceService {
                 .toList();
     }
 
+    /**
+     * 모든 시드를 한 번씩 확인합니다. 다음 갱신 시각이 남은 캐시 값은 공급자를 부르지 않고 그대로 씁니다.
+     */
     public void warmHotplaceCache() {
-        int concurrency = Math.max(1, Math.min(warmupMaxConcurrency, SEOUL_SEEDS.size()));
-        Semaphore providerSlots = new Semaphore(concurrency);
         Instant startedAt = Instant.now(clock);
-
-        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
-            List<Future<?>> tasks = new ArrayList<>(SEOUL_SEEDS.size());
-            for (HotplaceSeed seed : SEOUL_SEEDS) {
-                tasks.add(executor.submit(() -> warmSeedWithPermit(seed, providerSlots)));
-            }
-            for (Future<?> task : tasks) {
-                waitForWarmupTask(task);
-            }
-        }
+        int concurrency = refreshSeeds(SEOUL_SEEDS);
+        persistSnapshotIfChanged();
 
         log.info(
                 "핫플 캐시 background warm-up 완료: seeds={}, maxConcurrency={}, elapsedMs={}",
@@ -222,6 +333,25 @@ public class HotplaceService {
         );
     }
 
+    /**
+     * 관측시각으로 정한 다음 갱신 시각이 지난 시드만 다시 조회합니다.
+     * 캐시에 값이 없는 시드는 전체 warm-up 주기와 실패 쿨다운에 맡깁니다.
+     */
+    public void refreshDueHotplaceCacheEntries() {
+        Instant now = Instant.now(clock);
+        List<HotplaceSeed> dueSeeds = SEOUL_SEEDS.stream()
+                .filter(seed -> isRefreshDue(seed.id(), now))
+                .toList();
+        if (dueSeeds.isEmpty()) {
+            persistSnapshotIfChanged();
+            return;
+        }
+
+        refreshSeeds(dueSeeds);
+        persistSnapshotIfChanged();
+        log.debug("핫플 캐시 refresh-ahead 완료: seeds={}", dueSeeds.size());
+    }
+
     void refreshHotplaceCacheEntry(String seedId) {
         SEOUL_SEEDS.stream()
                 .filter(seed -> seed.id().equals(seedId))
@@ -229,18 +359,30 @@ public class HotplaceService {
                 .ifPresent(this::resolveHotplaceSignal);
     }
 
-    private void warmSeedWithPermit(HotplaceSeed seed, Semaphore providerSlots) {
-        boolean acquired = false;
+    private int refreshSeeds(List<HotplaceSeed> seeds) {
+        int concurrency = Math.max(1, Math.min(warmupMaxConcurrency, seeds.size()));
+        Semaphore providerSlots = new Semaphore(concurrency);
+
+        List<Future<?>> tasks = new ArrayList<>(seeds.size());
+        for (HotplaceSeed seed : seeds) {
+            if (!acquireWarmupSlot(providerSlots)) {
+                break;
+            }
+            tasks.add(resolveHotplaceSignalAsync(seed).whenComplete((item, error) -> providerSlots.release()));
+        }
+        for (Future<?> task : tasks) {
+            waitForWarmupTask(task);
+        }
+        return concurrency;
+    }
+
+    private boolean acquireWarmupSlot(Semaphore providerSlots) {
         try {
             providerSlots.acquire();
-            acquired = true;
-            resolveHotplaceSignal(seed);
+            return true;
         } catch (InterruptedException error) {
             Thread.currentThread().interrupt();
-        } finally {
-            if (acquired) {
-                providerSlots.release();
-            }
+            return false;
         }
     }
 
@@ -254,6 +396,13 @@ public class HotplaceService {
         }
     }
 
+    /**
+     * 핫플 캐시나 공급자 상태가 바뀔 때마다 증가하는 값. 응답 캐시가 이 값으로 오래된 응답을 버립니다.
+     */
+    public long snapshotVersion() {
+        return snapshotVersion.get();
+    }
+
     public ProviderStatus getSeoulCityDataProviderStatus() {
         if (seoulCityDataApiKey == null || seoulCityDataApiKey.isBlank()) {
             return ProviderStatus.notConfigured("SEOUL_CITYDATA_API_KEY is not configured");
@@ -288,13 +437,26 @@ public class HotplaceService {
     }
 
     private void resolveHotplaceSignal(HotplaceSeed seed) {
+        resolveHotplaceSignalAsync(seed).join();
+    }
+
+    /**
+     * 공급자를 우선순위대로 비동기 조회하고, 앞 공급자에서 값을 얻으면 다음 공급자는 부르지 않습니다.
+     */
+    private CompletableFuture<Optional<HotplaceItem>> resolveHotplaceSignalAsync(HotplaceSeed seed) {
+        CompletableFuture<Optional<HotplaceItem>> resolved = CompletableFuture.completedFuture(Optional.empty());
         for (CrowdSignalProvider provider : liveCrowdSignalProviders()) {
-            if (provider.fetch(seed).isPresent()) {
-                return;
-            }
+            resolved = resolved.thenCompose(found -> found.isPresent()
+                    ? CompletableFuture.completedFuture(found)
+                    : provider.fetchAsync(seed));
         }
+        return resolved;
     }
 
+    /**
+     * 요청 경로는 캐시만 읽습니다. 신선도 구간 안의 값이 갱신 시각을 지났으면 그 값을 그대로 응답하고,
+     * 다시 조회하는 일은 warm-up 동시 실행 한도를 따르는 refresh-ahead tick에 맡깁니다.
+     */
     private Optional<HotplaceItem> findVerifiedCachedHotplace(HotplaceSeed seed) {
         Instant now = Instant.now(clock);
         return readUsableCachedHotplace(telecomCrowdCache, seed.id(), now)
@@ -303,6 +465,14 @@ public class HotplaceService {
                 .filter(this::isVerifiedCrowdObservation);
     }
 
+    private boolean isRefreshDue(String seedId, Instant now) {
+        return isRefreshDue(telecomCrowdCache.get(seedId), now) || isRefreshDue(cityDataCache.get(seedId), now);
+    }
+
+    private static boolean isRefreshDue(CachedHotplace cached, Instant now) {
+        return cached != null && !cached.refreshAt().isAfter(now);
+    }
+
     private boolean isVerifiedCrowdObservation(HotplaceItem item) {
         return "CURRENT".equals(item.freshnessStatus()) || "DELAYED".equals(item.freshnessStatus());
     }
@@ -327,10 +497,10 @@ public class HotplaceService {
         return List.of(new TelecomCrowdSignalProvider(), new SeoulCityDataCrowdSignalProvider());
     }
 
-    private Optional<HotplaceItem> fetchTelecomCrowd(HotplaceSeed seed) {
+    private CompletableFuture<Optional<HotplaceItem>> fetchTelecomCrowdAsync(HotplaceSeed seed) {
         if (telecomCrowdApiKey == null || telecomCrowdApiKey.isBlank()
                 || telecomCrowdUrlTemplate == null || telecomCrowdUrlTemplate.isBlank()) {
-            return Optional.empty();
+            return CompletableFuture.completedFuture(Optional.empty());
         }
 
         return singleFlight(telecomCrowdInFlight, seed.id(), () -> fetchTelecomCrowdUnderFlight(seed));
@@ -339,7 +509,7 @@ public class HotplaceService {
     private Optional<HotplaceItem> fetchTelecomCrowdUnderFlight(HotplaceSeed seed) {
         Instant now = Instant.now(clock);
         CachedHotplace cached = telecomCrowdCache.get(seed.id());
-        if (cached != null && cached.expiresAt().isAfter(now)) {
+        if (cached != null && cached.refreshAt().isAfter(now)) {
             Optional<HotplaceItem> usableCachedItem = applyFreshness(cached.item(), now);
             if (usableCachedItem.isPresent()) {
                 return usableCachedItem;
@@ -366,7 +536,8 @@ public class HotplaceService {
             telecomCrowdCircuit.recordSuccess();
             HotplaceItem parsed = parseTelecomCrowd(seed, response.getBody(), now);
             if (parsed != null) {
-                telecomCrowdCache.put(seed.id(), new CachedHotplace(parsed, now.plus(cacheDuration())));
+                telecomCrowdCache.put(seed.id(), nextCacheEntry(cached, parsed, now));
+                recordTrendObservation(seed, parsed);
                 telecomCrowdFailureCache.remove(seed.id());
                 recordTelecomCrowdSuccess("통신사 혼잡도 조회 성공: " + seed.displayName());
                 return Optional.of(parsed);
@@ -457,9 +628,9 @@ public class HotplaceService {
         return applyFreshness(item, now).orElse(null);
     }
 
-    private Optional<HotplaceItem> fetchSeoulCityData(HotplaceSeed seed) {
+    private CompletableFuture<Optional<HotplaceItem>> fetchSeoulCityDataAsync(HotplaceSeed seed) {
         if (seoulCityDataApiKey == null || seoulCityDataApiKey.isBlank()) {
-            return Optional.empty();
+            return CompletableFuture.completedFuture(Optional.empty());
         }
 
         return singleFlight(cityDataInFlight, seed.id(), () -> fetchSeoulCityDataUnderFlight(seed));
@@ -468,7 +639,7 @@ public class HotplaceService {
     private Optional<HotplaceItem> fetchSeoulCityDataUnderFlight(HotplaceSeed seed) {
         Instant now = Instant.now(clock);
         CachedHotplace cached = cityDataCache.get(seed.id());
-        if (cached != null && cached.expiresAt().isAfter(now)) {
+        if (cached != null && cached.refreshAt().isAfter(now)) {
             Optional<HotplaceItem> usableCachedItem = applyFreshness(cached.item(), now);
             if (usableCachedItem.isPresent()) {
                 return usableCachedItem;
@@ -492,7 +663,8 @@ public class HotplaceService {
                 cityDataCircuit.recordSuccess();
                 HotplaceItem parsed = parseCityData(seed, xml, now);
                 if (parsed != null) {
-                    cityDataCache.put(seed.id(), new CachedHotplace(parsed, now.plus(cacheDuration())));
+                    cityDataCache.put(seed.id(), nextCacheEntry(cached, parsed, now));
+                    recordTrendObservation(seed, parsed);
                     cityDataFailureCache.remove(seed.id());
                     recordSeoulCityDataSuccess("서울 실시간 도시데이터 조회 성공: " + seed.seoulAreaName() + " / " + query);
                     return Optional.of(parsed);
@@ -519,7 +691,10 @@ public class HotplaceService {
         return Optional.empty();
     }
 
-    private Optional<HotplaceItem> singleFlight(
+    /**
+     * 같은 키의 조회가 진행 중이면 그 future를 함께 기다리고, 없으면 공급자 HTTP 계층의 virtual thread에서 새로 시작합니다.
+     */
+    private CompletableFuture<Optional<HotplaceItem>> singleFlight(
             Map<String, CompletableFuture<Optional<HotplaceItem>>> flights,
             String key,
             Supplier<Optional<HotplaceItem>> loader
@@ -527,19 +702,18 @@ public class HotplaceService {
         CompletableFuture<Optional<HotplaceItem>> owned = new CompletableFuture<>();
         CompletableFuture<Optional<HotplaceItem>> existing = flights.putIfAbsent(key, owned);
         if (existing != null) {
-            return existing.join();
+            return existing;
         }
 
-        try {
-            Optional<HotplaceItem> result = loader.get();
-            owned.complete(result);
-            return result;
-        } catch (RuntimeException | Error error) {
-            owned.completeExceptionally(error);
-            throw error;
-        } finally {
+        providerHttpClient.supplyAsync(loader).whenComplete((result, error) -> {
+            if (error == null) {
+                owned.complete(result);
+            } else {
+                owned.completeExceptionally(error);
+            }
             flights.remove(key, owned);
-        }
+        });
+        return owned;
     }
 
     private boolean isFailureCoolingDown(Map<String, Instant> failureCache, String key, Instant now) {
@@ -565,6 +739,7 @@ public class HotplaceService {
 
     private void recordSeoulCityDataSuccess(String detail) {
         seoulCityDataAttempt.set(new ProviderAttempt(Instant.now(clock), null, detail));
+        snapshotVersion.incrementAndGet();
     }
 
     private void recordSeoulCityDataFailure(String detail) {
@@ -574,10 +749,12 @@ public class HotplaceService {
                 Instant.now(clock),
                 detail
         ));
+        snapshotVersion.incrementAndGet();
     }
 
     private void recordTelecomCrowdSuccess(String detail) {
         telecomCrowdAttempt.set(new ProviderAttempt(Instant.now(clock), null, detail));
+        snapshotVersion.incrementAndGet();
     }
 
     private void recordTelecomCrowdFailure(String detail) {
@@ -587,6 +764,7 @@ public class HotplaceService {
                 Instant.now(clock),
                 detail
         ));
+        snapshotVersion.incrementAndGet();
     }
 
     private String areaCodeOrName(HotplaceSeed seed) {
@@ -599,6 +777,54 @@ public class HotplaceService {
         return Duration.ofSeconds(Math.max(0, cacheTtlSeconds));
     }
 
+    /**
+     * 새로 받은 값의 다음 갱신 시각을 정합니다.
+     * 관측시각이 현재 신선도 구간을 벗어나기 직전(지터만큼 앞당김)에 다시 조회하고,
+     * 공급자가 관측시각을 갱신하지 않았으면 간격을 두 배씩 늘려 느리게 바뀌는 장소의 호출을 줄입니다.
+     * 간격은 최소 갱신 간격과 캐시 TTL 사이로 제한합니다.
+     */
+    private CachedHotplace nextCacheEntry(CachedHotplace previous, HotplaceItem item, Instant now) {
+        Duration ceiling = cacheDuration();
+        Duration floor = min(Duration.ofSeconds(Math.max(0, refreshAheadMinIntervalSeconds)), ceiling);
+        Optional<Instant> observedAt = parseObservationTime(item.updatedAt());
+        if (observedAt.isEmpty()) {
+            return new CachedHotplace(item, now.plus(ceiling), Duration.ZERO);
+        }
+
+        boolean unchanged = previous != null
+                && observedAt.equals(parseObservationTime(previous.item().updatedAt()));
+        if (unchanged) {
+            Duration backoff = previous.unchangedBackoff().isZero()
+                    ? floor
+                    : min(previous.unchangedBackoff().multipliedBy(2), ceiling);
+            return new CachedHotplace(item, now.plus(backoff), backoff);
+        }
+
+        Instant currentUntil = observedAt.get()
+                .plus(Duration.ofMinutes(Math.max(0, currentFreshnessMaxAgeMinutes)))
+                .minusSeconds(ThreadLocalRandom.current().nextLong(Math.max(0, refreshAheadJitterSeconds) + 1));
+        Duration untilRefresh = min(max(Duration.between(now, currentUntil), floor), ceiling);
+        return new CachedHotplace(item, now.plus(untilRefresh), Duration.ZERO);
+    }
+
+    private void recordTrendObservation(HotplaceSeed seed, HotplaceItem item) {
+        parseObservationTime(item.updatedAt()).ifPresent(observedAt -> trendStore.record(
+                seed.id(),
+                observedAt,
+                crowdRank(item),
+                item.estimatedMinPeople(),
+                item.estimatedMaxPeople()
+        ));
+    }
+
+    private static Duration min(Duration left, Duration right) {
+        return left.compareTo(right) <= 0 ? left : right;
+    }
+
+    private static Duration max(Duration left, Duration right) {
+        return left.compareTo(right) >= 0 ? left : right;
+    }
+
     private Duration providerFailureCooldownDuration() {
         return Duration.ofSeconds(Math.max(0, providerFailureCooldownSeconds));
     }
@@ -695,19 +921,13 @@ public class HotplaceService {
         }
 
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-            factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
-            factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
-            Document document = factory.newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
-            Element root = document.getDocumentElement();
-
-            String areaName = firstText(root, "AREA_NM");
-            String level = firstText(root, "AREA_CONGEST_LVL");
-            String message = firstText(root, "AREA_CONGEST_MSG");
-            Integer minPeople = parseInteger(firstText(root, "AREA_PPLTN_MIN"));
-            Integer maxPeople = parseInteger(firstText(root, "AREA_PPLTN_MAX"));
-            String updateTime = firstText(root, "PPLTN_TIME");
+            SeoulCityDataXml.Fields fields = SeoulCityDataXml.parse(xml);
+            String areaName = fields.areaName();
+            String level = fields.congestionLevel();
+            String message = fields.congestionMessage();
+            Integer minPeople = parseInteger(fields.minPeople());
+            Integer maxPeople = parseInteger(fields.maxPeople());
+            String updateTime = fields.populationTime();
 
             if (level == null || level.isBlank()) {
                 return null;
@@ -739,60 +959,7 @@ public class HotplaceService {
         return xml != null && (xml.contains("<AREA_NM>") || xml.contains("<AREA_CONGEST_LVL>"));
     }
 
-    private boolean matches(HotplaceSeed seed, String keyword) {
-        if (keyword == null || keyword.isBlank()) {
-            return true;
-        }
-
-        String normalized = keyword.toLowerCase(Locale.ROOT).trim();
-        if (HOT_NOW_KEYWORDS.contains(normalized)) {
-            return true;
-        }
-
-        String compactQuery = compactSearchText(normalized);
-        List<String> seedTerms = searchTerms(seed);
-        boolean matchesSpecificPlace = seedTerms.stream()
-                .filter(Objects::nonNull)
-                .map(value -> value.toLowerCase(Locale.ROOT))
-                .anyMatch(value -> value.contains(normalized) || queryContainsTerm(compactQuery, value));
-        if (matchesSpecificPlace) {
-            return true;
-        }
-        if (queryHasSpecificPlace(compactQuery)) {
-            return false;
-        }
-
-        return isCitywideHotQuery(compactQuery) || isCitywideCrowdQuery(compactQuery);
-    }
-
-    private boolean isCitywideHotQuery(String compactQuery) {
-        return CITYWIDE_HOT_QUERY_FRAGMENTS.stream().anyMatch(compactQuery::contains);
-    }
-
-    private boolean isCitywideCrowdQuery(String compactQuery) {
-        return CROWD_QUERY_FRAGMENTS.stream().anyMatch(compactQuery::contains)
-                && searchTermsForAllSeeds().stream()
-                .map(this::compactSearchText)
-                .noneMatch(compactQuery::contains);
-    }
-
-    private boolean queryHasSpecificPlace(String compactQuery) {
-        return searchTermsForAllSeeds().stream()
-                .anyMatch(term -> queryContainsTerm(compactQuery, term));
-    }
-
-    private boolean queryContainsTerm(String compactQuery, String term) {
-        String compactTerm = compactSearchText(term);
-        return compactTerm.length() >= 2 && compactQuery.contains(compactTerm);
-    }
-
-    private List<String> searchTermsForAllSeeds() {
-        return SEOUL_SEEDS.stream()
-                .flatMap(seed -> searchTerms(seed).stream())
-                .toList();
-    }
-
-    private List<String> searchTerms(HotplaceSeed seed) {
+    private static List<String> searchTerms(HotplaceSeed seed) {
         List<String> terms = new ArrayList<>(List.of(
                 seed.id(),
                 seed.displayName(),
@@ -829,10 +996,6 @@ public class HotplaceService {
         return terms;
     }
 
-    private String compactSearchText(String value) {
-        return SEARCH_NORMALIZE_PATTERN.matcher(value.toLowerCase(Locale.ROOT)).replaceAll("");
-    }
-
     private int crowdRank(HotplaceItem item) {
         return switch (item.crowdLevel()) {
             case "붐빔" -> 4;
@@ -884,14 +1047,6 @@ public class HotplaceService {
         };
     }
 
-    private String firstText(Element root, String tagName) {
-        NodeList nodes = root.getElementsByTagName(tagName);
-        if (nodes.getLength() == 0 || nodes.item(0) == null) {
-            return null;
-        }
-        return nodes.item(0).getTextContent();
-    }
-
     private Integer parseInteger(String value) {
         if (value == null || value.isBlank()) {
             return null;
@@ -1053,12 +1208,25 @@ public class HotplaceService {
         }
     }
 
-    private record CachedHotplace(HotplaceItem item, Instant expiresAt) {
+    /**
+     * @param refreshAt        이 시각 전에는 공급자를 다시 부르지 않습니다.
+     * @param unchangedBackoff 관측시각이 그대로였던 직전 갱신 간격. 관측시각이 바뀌면 0입니다.
+     */
+    private record CachedHotplace(HotplaceItem item, Instant refreshAt, Duration unchangedBackoff) {
     }
 
     private record ProviderAttempt(Instant lastSuccessAt, Instant lastFailureAt, String detail) {
     }
 
+    /**
+     * 재시작 후 복원할 핫플 캐시. 시각은 별도 Jackson 모듈 없이 읽을 수 있게 epoch milli로 저장합니다.
+     */
+    private record HotplaceSnapshot(long savedAtMillis, List<SnapshotEntry> telecomCrowd, List<SnapshotEntry> cityData) {
+    }
+
+    private record SnapshotEntry(String seedId, HotplaceItem item, long refreshAtMillis) {
+    }
+
     private static final class ProviderCircuit {
         private int consecutiveFailures;
         private Instant openUntil;
@@ -1103,20 +1271,20 @@ public class HotplaceService {
     }
 
     private interface CrowdSignalProvider {
-        Optional<HotplaceItem> fetch(HotplaceSeed seed);
+        CompletableFuture<Optional<HotplaceItem>> fetchAsync(HotplaceSeed seed);
     }
 
     private class SeoulCityDataCrowdSignalProvider implements CrowdSignalProvider {
         @Override
-        public Optional<HotplaceItem> fetch(HotplaceSeed seed) {
-            return fetchSeoulCityData(seed);
+        public CompletableFuture<Optional<HotplaceItem>> fetchAsync(HotplaceSeed seed) {
+            return fetchSeoulCityDataAsync(seed);
         }
     }
 
     private class TelecomCrowdSignalProvider implements CrowdSignalProvider {
         @Override
-        public Optional<HotplaceItem> fetch(HotplaceSeed seed) {
-            return fetchTelecomCrowd(seed);
+        public CompletableFuture<Optional<HotplaceItem>> fetchAsync(HotplaceSeed seed) {
+            return fetchTelecomCrowdAsync(seed);
         }
     }
 
@@ -0,0 +1,26 @@
+package com.neogulmap.neogul_map.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = "external.insights.trend.compaction-enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class HotplaceTrendCompactionScheduler {
+
+    private final HotplaceTrendStore hotplaceTrendStore;
+
+    @Scheduled(
+            initialDelayString = "${external.insights.trend.compaction-interval-ms:600000}",
+            fixedDelayString = "${external.insights.trend.compaction-interval-ms:600000}"
+    )
+    public void compact() {
+        hotplaceTrendStore.compact();
+    }
+}
@@ -0,0 +1,528 @@
+package com.neogulmap.neogul_map.service;
+
+import com.neogulmap.neogul_map.dto.HotplaceTrendResponse;
+import com.neogulmap.neogul_map.dto.HotplaceTrendResponse.HourlyTrend;
+import com.neogulmap.neogul_map.dto.HotplaceTrendResponse.Observation;
+import com.neogulmap.neogul_map.dto.HotplaceTrendResponse.WeekdayTrend;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 핫플 시드별 혼잡도 관측 이력
+ * 최근 관측은 시드마다 고정 크기 원시 배열 링 버퍼에 두고, 시간대별·요일별 집계는 관측을 받을 때마다 한 칸씩 더해 둡니다.
+ * 집계는 서울 기준 날짜별로도 나눠 두어, 보존 기간이 지난 날짜는 그 날의 몫만 빼서 버립니다. 보존 기간은 날짜 단위로 적용합니다.
+ * 추이 조회는 집계 배열만 읽으므로 원본 관측을 다시 훑지 않습니다.
+ * 아직 파일에 쓰지 않은 관측은 주기적으로 append-only CSV에 덧붙이고, 시작할 때 그 파일을 다시 읽어 집계를 복원합니다.
+ * 파일에 보존 기간이 지난 줄이 생기면 주기 정리 때 남길 줄만으로 파일을 새로 씁니다. 디렉터리가 비어 있으면 메모리에만 둡니다.
+ */
+@Slf4j
+@Component
+public class HotplaceTrendStore {
+
+    static final String FILE_NAME = "hotplace-trends.csv";
+    private static final ZoneId SEOUL_ZONE = ZoneId.of("Asia/Seoul");
+    private static final int HOURS_PER_DAY = 24;
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int BUSY_SCORE = 3;
+    private static final int RECENT_LIMIT = 24;
+
+    private final Path file;
+    private final int ringCapacity;
+    private final Duration retention;
+    private final Clock clock;
+    private final Map<String, SeedSeries> series = new ConcurrentHashMap<>();
+    private long oldestPersistedMillis = Long.MAX_VALUE;
+
+    @Autowired
+    public HotplaceTrendStore(
+            @Value("${external.insights.snapshot.dir:${INSIGHTS_SNAPSHOT_DIR:insight-snapshots}}") String directory,
+            @Value("${external.insights.trend.ring-capacity:${INSIGHTS_TREND_RING_CAPACITY:288}}") int ringCapacity,
+            @Value("${external.insights.trend.retention-days:${INSIGHTS_TREND_RETENTION_DAYS:56}}") long retentionDays
+    ) {
+        this(directory, ringCapacity, retentionDays, Clock.systemUTC());
+    }
+
+    HotplaceTrendStore(String directory, int ringCapacity, long retentionDays, Clock clock) {
+        this.file = directory == null || directory.isBlank() ? null : Path.of(directory.trim()).resolve(FILE_NAME);
+        this.ringCapacity = Math.max(1, ringCapacity);
+        this.retention = Duration.ofDays(Math.max(1, retentionDays));
+        this.clock = clock;
+    }
+
+    /**
+     * 새 관측을 기록합니다. 같은 시드의 마지막 관측시각보다 늦은 관측만 받으므로 같은 값을 다시 조회해도 한 번만 셉니다.
+     *
+     * @param crowdScore 1(여유)~4(붐빔), 알 수 없으면 0
+     * @return 새 관측으로 기록했으면 {@code true}
+     */
+    public boolean record(String seedId, Instant observedAt, int crowdScore, Integer minPeople, Integer maxPeople) {
+        return seriesOf(seedId).record(observedAt.toEpochMilli(), crowdScore, minPeople, maxPeople, false);
+    }
+
+    /**
+     * 시드의 시간대별·요일별 집계와 최근 관측. 기록된 관측이 없으면 빈 집계를 돌려줍니다.
+     */
+    public HotplaceTrendResponse trend(String seedId, String name) {
+        SeedSeries seed = series.get(seedId);
+        if (seed == null) {
+            return new SeedSeries(1).toResponse(seedId, name);
+        }
+        seed.expire(cutoffMillis());
+        return seed.toResponse(seedId, name);
+    }
+
+    /**
+     * 보존 기간이 지난 날짜를 집계에서 빼고, 아직 파일에 쓰지 않은 관측을 덧붙입니다.
+     * 파일에 보존 기간이 지난 줄이 남아 있으면 남길 줄만으로 파일을 새로 씁니다. 쓰기에 실패하면 다음 호출에서 다시 시도합니다.
+     */
+    public synchronized void compact() {
+        long cutoffMillis = cutoffMillis();
+        series.values().forEach(seed -> seed.expire(cutoffMillis));
+        if (file == null) {
+            return;
+        }
+        List<String> lines = new ArrayList<>();
+        Map<SeedSeries, Long> flushedThrough = new HashMap<>();
+        series.forEach((seedId, seed) -> flushedThrough.put(seed, seed.pendingLines(seedId, lines)));
+        if (!lines.isEmpty()) {
+            try {
+                Files.createDirectories(file.getParent());
+                Files.write(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                flushedThrough.forEach(SeedSeries::markFlushed);
+                lines.forEach(line -> oldestPersistedMillis = Math.min(oldestPersistedMillis, observedAtOf(line)));
+                log.debug("핫플 혼잡도 이력 저장: {}건", lines.size());
+            } catch (IOException error) {
+                log.warn("핫플 혼잡도 이력 저장 실패: {}", file.toAbsolutePath());
+            }
+        }
+        if (oldestPersistedMillis < cutoffMillis) {
+            trimFile(cutoffMillis);
+        }
+    }
+
+    /**
+     * 저장된 이력을 다시 읽어 링 버퍼와 집계를 채웁니다. 보존 기간이 지난 줄이나 읽을 수 없는 줄이 있으면 남길 줄만으로 파일을 새로 씁니다.
+     */
+    @PostConstruct
+    synchronized void load() {
+        if (file == null) {
+            log.info("핫플 혼잡도 이력 파일 저장 사용 안 함: 스냅샷 디렉터리가 설정되지 않았습니다.");
+            return;
+        }
+        // 상대 경로는 작업 디렉터리 기준이라 컨테이너에서는 볼륨 밖에 만들어질 수 있으므로 실제 위치를 남깁니다.
+        log.info("핫플 혼잡도 이력 파일: {}", file.toAbsolutePath());
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        long cutoffMillis = cutoffMillis();
+        List<String> kept = new ArrayList<>();
+        int dropped = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (replay(line, cutoffMillis)) {
+                    kept.add(line);
+                    oldestPersistedMillis = Math.min(oldestPersistedMillis, observedAtOf(line));
+                } else {
+                    dropped++;
+                }
+            }
+        } catch (IOException | RuntimeException error) {
+            log.warn("핫플 혼잡도 이력 읽기 실패: {}", file.toAbsolutePath());
+            return;
+        }
+        if (dropped > 0) {
+            rewrite(kept);
+        }
+        log.info("핫플 혼잡도 이력 복원: seeds={}, observations={}, dropped={}", series.size(), kept.size(), dropped);
+    }
+
+    @PreDestroy
+    void flush() {
+        compact();
+    }
+
+    /**
+     * 보존 기간이 시작되는 서울 기준 날짜의 0시. 이보다 이른 관측은 집계와 파일에서 버립니다.
+     */
+    private long cutoffMillis() {
+        return Instant.now(clock)
+                .minus(retention)
+                .atZone(SEOUL_ZONE)
+                .toLocalDate()
+                .atStartOfDay(SEOUL_ZONE)
+                .toInstant()
+                .toEpochMilli();
+    }
+
+    private void trimFile(long cutoffMillis) {
+        List<String> kept = new ArrayList<>();
+        long oldestKept = Long.MAX_VALUE;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                long observedAt = observedAtOf(line);
+                if (observedAt >= cutoffMillis) {
+                    kept.add(line);
+                    oldestKept = Math.min(oldestKept, observedAt);
+                }
+            }
+        } catch (IOException error) {
+            log.warn("핫플 혼잡도 이력 읽기 실패: {}", file.toAbsolutePath());
+            return;
+        }
+        if (rewrite(kept)) {
+            oldestPersistedMillis = oldestKept;
+            log.debug("핫플 혼잡도 이력 보존 기간 정리: 남은 줄 {}건", kept.size());
+        }
+    }
+
+    /**
+     * 저장된 줄의 관측시각. 읽을 수 없는 줄이면 {@link Long#MIN_VALUE}라서 다음 정리 때 버려집니다.
+     */
+    private static long observedAtOf(String line) {
+        String[] fields = line.split(",", -1);
+        if (fields.length != 5) {
+            return Long.MIN_VALUE;
+        }
+        try {
+            return Long.parseLong(fields[1]);
+        } catch (NumberFormatException error) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private boolean replay(String line, long cutoffMillis) {
+        String[] fields = line.split(",", -1);
+        if (fields.length != 5 || fields[0].isBlank()) {
+            return false;
+        }
+        try {
+            long observedAtMillis = Long.parseLong(fields[1]);
+            if (observedAtMillis < cutoffMillis) {
+                return false;
+            }
+            return seriesOf(fields[0]).record(
+                    observedAtMillis,
+                    Integer.parseInt(fields[2]),
+                    optionalInteger(fields[3]),
+                    optionalInteger(fields[4]),
+                    true
+            );
+        } catch (NumberFormatException error) {
+            return false;
+        }
+    }
+
+    private boolean rewrite(List<String> lines) {
+        Path temporary = null;
+        try {
+            temporary = Files.createTempFile(file.getParent(), FILE_NAME + ".", ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                for (String line : lines) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+            }
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ignored) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException error) {
+            log.warn("핫플 혼잡도 이력 정리 실패: {}", file.toAbsolutePath());
+            if (temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (IOException ignored) {
+                    // 다음 정리가 새 임시 파일을 만들므로 남은 파일은 무시합니다.
+                }
+            }
+            return false;
+        }
+    }
+
+    private SeedSeries seriesOf(String seedId) {
+        return series.computeIfAbsent(seedId, ignored -> new SeedSeries(ringCapacity));
+    }
+
+    private static Integer optionalInteger(String value) {
+        return value.isEmpty() ? null : Integer.valueOf(value);
+    }
+
+    static String crowdLevel(int score) {
+        return switch (score) {
+            case 4 -> "붐빔";
+            case 3 -> "약간 붐빔";
+            case 2 -> "보통";
+            case 1 -> "여유";
+            default -> "UNKNOWN";
+        };
+    }
+
+    /**
+     * 한 시드의 관측 이력. 링 버퍼와 집계를 한 잠금 아래에서 함께 바꿉니다.
+     * 인원 값이 없으면 링 버퍼에는 -1로 둡니다.
+     * 전체 집계와 별도로 날짜별 시간대 집계를 두어, 날짜가 보존 기간을 벗어나면 그 몫을 전체 집계에서 뺍니다.
+     */
+    private static final class SeedSeries {
+
+        private final long[] observedAtMillis;
+        private final byte[] crowdScores;
+        private final int[] minPeople;
+        private final int[] maxPeople;
+        private final Aggregate hourly = new Aggregate(HOURS_PER_DAY);
+        private final Aggregate weekdays = new Aggregate(DAYS_PER_WEEK);
+        private final TreeMap<Long, Day> days = new TreeMap<>();
+        private int next;
+        private int size;
+        private long recorded;
+        private long flushed;
+        private long retained;
+        private long retainedFromMillis = Long.MIN_VALUE;
+        private long lastObservedAtMillis = Long.MIN_VALUE;
+
+        SeedSeries(int capacity) {
+            this.observedAtMillis = new long[capacity];
+            this.crowdScores = new byte[capacity];
+            this.minPeople = new int[capacity];
+            this.maxPeople = new int[capacity];
+        }
+
+        synchronized boolean record(long observedAt, int crowdScore, Integer min, Integer max, boolean alreadyPersisted) {
+            if (observedAt <= lastObservedAtMillis) {
+                return false;
+            }
+            int score = crowdScore >= 1 && crowdScore <= 4 ? crowdScore : 0;
+            observedAtMillis[next] = observedAt;
+            crowdScores[next] = (byte) score;
+            minPeople[next] = min != null ? min : -1;
+            maxPeople[next] = max != null ? max : -1;
+            next = (next + 1) % observedAtMillis.length;
+            size = Math.min(size + 1, observedAtMillis.length);
+            recorded++;
+            if (alreadyPersisted) {
+                flushed = recorded;
+            }
+            retained++;
+            lastObservedAtMillis = observedAt;
+
+            ZonedDateTime local = Instant.ofEpochMilli(observedAt).atZone(SEOUL_ZONE);
+            Day day = days.computeIfAbsent(local.toLocalDate().toEpochDay(), ignored -> new Day(observedAt));
+            day.hours.add(local.getHour(), score, max);
+            hourly.add(local.getHour(), score, max);
+            weekdays.add(local.getDayOfWeek().getValue() - 1, score, max);
+            return true;
+        }
+
+        /**
+         * {@code cutoffMillis}(서울 기준 날짜의 0시)보다 이른 날짜를 전체 집계에서 빼고 버립니다.
+         */
+        synchronized void expire(long cutoffMillis) {
+            if (cutoffMillis <= retainedFromMillis) {
+                return;
+            }
+            retainedFromMillis = cutoffMillis;
+            long cutoffDay = Instant.ofEpochMilli(cutoffMillis).atZone(SEOUL_ZONE).toLocalDate().toEpochDay();
+            while (!days.isEmpty() && days.firstKey() < cutoffDay) {
+                Map.Entry<Long, Day> expired = days.pollFirstEntry();
+                int weekday = LocalDate.ofEpochDay(expired.getKey()).getDayOfWeek().getValue() - 1;
+                Aggregate hours = expired.getValue().hours;
+                for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+                    retained -= hours.observations[hour];
+                    hourly.subtract(hour, hours, hour);
+                    weekdays.subtract(weekday, hours, hour);
+                }
+            }
+        }
+
+        /**
+         * 파일에 쓰지 않은 관측을 {@code lines}에 덧붙이고, 어디까지 담았는지 돌려줍니다.
+         * 링 버퍼가 한 바퀴 넘게 밀렸으면 남아 있는 관측만 씁니다.
+         */
+        synchronized long pendingLines(String seedId, List<String> lines) {
+            long pending = recorded - flushed;
+            if (pending > size) {
+                log.warn("핫플 혼잡도 이력이 저장 전에 링 버퍼를 넘었습니다: seed={}, lost={}", seedId, pending - size);
+                pending = size;
+            }
+            for (long offset = pending; offset > 0; offset--) {
+                int index = Math.floorMod(next - (int) offset, observedAtMillis.length);
+                lines.add(seedId + ","
+                        + observedAtMillis[index] + ","
+                        + crowdScores[index] + ","
+                        + (minPeople[index] >= 0 ? minPeople[index] : "") + ","
+                        + (maxPeople[index] >= 0 ? maxPeople[index] : ""));
+            }
+            return recorded;
+        }
+
+        synchronized void markFlushed(long through) {
+            flushed = Math.max(flushed, through);
+        }
+
+        synchronized HotplaceTrendResponse toResponse(String seedId, String name) {
+            List<HourlyTrend> hourlyTrends = new ArrayList<>(HOURS_PER_DAY);
+            Integer busiestHour = null;
+            double busiestScore = 0;
+            for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+                Double averageScore = hourly.averageScore(hour);
+                hourlyTrends.add(new HourlyTrend(
+                        hour,
+                        hourly.observations[hour],
+                        averageScore,
+                        hourly.typicalCrowdLevel(hour),
+                        hourly.averageMaxPeople(hour),
+                        hourly.busyRatio(hour)
+                ));
+                if (averageScore != null && averageScore > busiestScore) {
+                    busiestScore = averageScore;
+                    busiestHour = hour;
+                }
+            }
+            List<WeekdayTrend> weekdayTrends = new ArrayList<>(DAYS_PER_WEEK);
+            for (int day = 0; day < DAYS_PER_WEEK; day++) {
+                weekdayTrends.add(new WeekdayTrend(
+                        DayOfWeek.of(day + 1).name(),
+                        weekdays.observations[day],
+                        weekdays.averageScore(day),
+                        weekdays.typicalCrowdLevel(day),
+                        weekdays.averageMaxPeople(day),
+                        weekdays.busyRatio(day)
+                ));
+            }
+            List<Observation> recent = new ArrayList<>(Math.min(size, RECENT_LIMIT));
+            for (int offset = 1; offset <= Math.min(size, RECENT_LIMIT); offset++) {
+                int index = Math.floorMod(next - offset, observedAtMillis.length);
+                if (observedAtMillis[index] < retainedFromMillis) {
+                    break;
+                }
+                recent.add(new Observation(
+                        Instant.ofEpochMilli(observedAtMillis[index]),
+                        crowdLevel(crowdScores[index]),
+                        minPeople[index] >= 0 ? minPeople[index] : null,
+                        maxPeople[index] >= 0 ? maxPeople[index] : null
+                ));
+            }
+            return new HotplaceTrendResponse(
+                    seedId,
+                    name,
+                    SEOUL_ZONE.getId(),
+                    retained,
+                    days.isEmpty() ? null : Instant.ofEpochMilli(days.firstEntry().getValue().firstObservedAtMillis),
+                    days.isEmpty() ? null : Instant.ofEpochMilli(lastObservedAtMillis),
+                    busiestHour,
+                    List.copyOf(hourlyTrends),
+                    List.copyOf(weekdayTrends),
+                    List.copyOf(recent)
+            );
+        }
+    }
+
+    /**
+     * 서울 기준 하루의 시간대별 집계
+     */
+    private static final class Day {
+
+        private final Aggregate hours = new Aggregate(HOURS_PER_DAY);
+        private final long firstObservedAtMillis;
+
+        Day(long firstObservedAtMillis) {
+            this.firstObservedAtMillis = firstObservedAtMillis;
+        }
+    }
+
+    /**
+     * 칸(시간대 또는 요일)별 누적 합계. 평균은 조회할 때 합계를 개수로 나눠 구합니다.
+     */
+    private static final class Aggregate {
+
+        private final long[] observations;
+        private final long[] scored;
+        private final long[] scoreSum;
+        private final long[] busy;
+        private final long[] peopleSamples;
+        private final long[] maxPeopleSum;
+
+        Aggregate(int buckets) {
+            this.observations = new long[buckets];
+            this.scored = new long[buckets];
+            this.scoreSum = new long[buckets];
+            this.busy = new long[buckets];
+            this.peopleSamples = new long[buckets];
+            this.maxPeopleSum = new long[buckets];
+        }
+
+        void add(int bucket, int score, Integer maxPeople) {
+            observations[bucket]++;
+            if (score > 0) {
+                scored[bucket]++;
+                scoreSum[bucket] += score;
+                if (score >= BUSY_SCORE) {
+                    busy[bucket]++;
+                }
+            }
+            if (maxPeople != null) {
+                peopleSamples[bucket]++;
+                maxPeopleSum[bucket] += maxPeople;
+            }
+        }
+
+        /**
+         * {@code from}의 {@code fromBucket} 칸 몫을 이 집계의 {@code bucket} 칸에서 뺍니다.
+         */
+        void subtract(int bucket, Aggregate from, int fromBucket) {
+            observations[bucket] -= from.observations[fromBucket];
+            scored[bucket] -= from.scored[fromBucket];
+            scoreSum[bucket] -= from.scoreSum[fromBucket];
+            busy[bucket] -= from.busy[fromBucket];
+            peopleSamples[bucket] -= from.peopleSamples[fromBucket];
+            maxPeopleSum[bucket] -= from.maxPeopleSum[fromBucket];
+        }
+
+        Double averageScore(int bucket) {
+            return scored[bucket] == 0 ? null : (double) scoreSum[bucket] / scored[bucket];
+        }
+
+        String typicalCrowdLevel(int bucket) {
+            Double average = averageScore(bucket);
+            return average == null ? null : crowdLevel((int) Math.round(average));
+        }
+
+        Integer averageMaxPeople(int bucket) {
+            return peopleSamples[bucket] == 0 ? null : (int) Math.round((double) maxPeopleSum[bucket] / peopleSamples[bucket]);
+        }
+
+        Double busyRatio(int bucket) {
+            return scored[bucket] == 0 ? null : (double) busy[bucket] / scored[bucket];
+        }
+    }
+}
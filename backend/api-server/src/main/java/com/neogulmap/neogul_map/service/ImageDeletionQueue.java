@@ -0,0 +1,268 @@
+package com.neogulmap.neogul_map.service;
+
+import com.neogulmap.neogul_map.domain.ImageDeletionTask;
+import com.neogulmap.neogul_map.domain.enums.ImageType;
+import com.neogulmap.neogul_map.repository.ImageDeletionTaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 저장소 이미지 삭제 대기열
+ * 요청 트랜잭션에서는 삭제할 파일명만 기록하고, 실제 저장소 I/O는 background worker가 일괄 처리합니다.
+ * worker는 처리할 작업을 배치 토큰으로 먼저 가져가므로 여러 인스턴스가 같은 파일을 함께 지우거나 재시도 횟수를 겹쳐 올리지 않습니다.
+ */
+@Slf4j
+@Service
+public class ImageDeletionQueue {
+
+    static final int DRAIN_BATCH_SIZE = 500;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ImageDeletionTaskRepository repository;
+    private final ImageService imageService;
+    private final Clock clock;
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final Counter deletedCounter;
+    private final Counter failedCounter;
+
+    @Value("${app.image.deletion-queue.max-attempts:8}")
+    private int maxAttempts = 8;
+
+    @Value("${app.image.deletion-queue.initial-backoff-seconds:30}")
+    private long initialBackoffSeconds = 30;
+
+    @Value("${app.image.deletion-queue.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds = 3600;
+
+    @Value("${app.image.deletion-queue.claim-timeout-seconds:300}")
+    private long claimTimeoutSeconds = 300;
+
+    @Autowired
+    public ImageDeletionQueue(
+            ImageDeletionTaskRepository repository,
+            ImageService imageService,
+            MeterRegistry meterRegistry
+    ) {
+        this(repository, imageService, meterRegistry, Clock.systemUTC());
+    }
+
+    ImageDeletionQueue(
+            ImageDeletionTaskRepository repository,
+            ImageService imageService,
+            MeterRegistry meterRegistry,
+            Clock clock
+    ) {
+        this.repository = repository;
+        this.imageService = imageService;
+        this.clock = clock;
+        Gauge.builder("image.deletion.queue.depth", queueDepth, AtomicLong::get)
+                .description("삭제 대기 중인 저장소 이미지 수")
+                .register(meterRegistry);
+        this.deletedCounter = Counter.builder("image.deletion.completed")
+                .description("background worker가 삭제한 이미지 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("image.deletion.failed")
+                .description("재시도로 미뤄진 이미지 삭제 시도 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출자의 트랜잭션 안에서 삭제 작업을 기록합니다.
+     * 트랜잭션이 롤백되면 작업도 함께 사라지므로 커밋되지 않은 삭제가 저장소에 반영되지 않습니다.
+     * 대기열 gauge도 커밋 이후에만 늘립니다.
+     */
+    @Transactional
+    public void enqueue(String imageName, ImageType type) {
+        if (imageName == null || imageName.isBlank()) {
+            return;
+        }
+        repository.save(ImageDeletionTask.builder()
+                .imageName(imageName)
+                .imageType(type)
+                .attempts(0)
+                .nextAttemptAt(now())
+                .createdAt(now())
+                .build());
+        afterCommit(queueDepth::incrementAndGet);
+    }
+
+    /**
+     * 재시도 시각이 지난 작업을 한 배치 처리합니다.
+     * 이미지 타입별로 virtual thread에서 일괄 삭제를 실행하며, DB 트랜잭션은 저장소 I/O 동안 열어두지 않습니다.
+     *
+     * @return 이번 배치에서 시도한 작업 수
+     */
+    public int drainDueTasks() {
+        List<ImageDeletionTask> due = claimDueTasks();
+        if (due.isEmpty()) {
+            refreshQueueDepth();
+            return 0;
+        }
+
+        Map<ImageType, List<ImageDeletionTask>> tasksByType = new EnumMap<>(ImageType.class);
+        for (ImageDeletionTask task : due) {
+            tasksByType.computeIfAbsent(task.getImageType(), ignored -> new ArrayList<>()).add(task);
+        }
+
+        Map<ImageType, Future<List<String>>> deletions = new EnumMap<>(ImageType.class);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            tasksByType.forEach((type, tasks) -> {
+                List<String> imageNames = tasks.stream().map(ImageDeletionTask::getImageName).toList();
+                deletions.put(type, executor.submit(() -> imageService.deleteImages(imageNames, type)));
+            });
+        }
+
+        List<Long> completedIds = new ArrayList<>();
+        List<ImageDeletionTask> retries = new ArrayList<>();
+        tasksByType.forEach((type, tasks) -> {
+            DeletionOutcome outcome = awaitDeletion(deletions.get(type), tasks);
+            for (ImageDeletionTask task : tasks) {
+                if (outcome.failedImageNames().contains(task.getImageName())) {
+                    retries.add(scheduleRetry(task, outcome.error()));
+                } else {
+                    completedIds.add(task.getId());
+                }
+            }
+        });
+
+        if (!completedIds.isEmpty()) {
+            repository.deleteAllByIdInBatch(completedIds);
+            deletedCounter.increment(completedIds.size());
+        }
+        if (!retries.isEmpty()) {
+            repository.saveAll(retries);
+            failedCounter.increment(retries.size());
+        }
+        refreshQueueDepth();
+        log.info(
+                "이미지 삭제 대기열 처리: attempted={}, deleted={}, retry={}, remaining={}",
+                due.size(),
+                completedIds.size(),
+                retries.size(),
+                queueDepth.get()
+        );
+        return due.size();
+    }
+
+    public long getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * 처리할 작업을 이번 배치 토큰으로 가져갑니다. 다른 인스턴스가 먼저 가져간 작업은 빠집니다.
+     * 가져간 작업은 claim 만료 시각까지 처리 대상에서 빠지고, 그 안에 결과를 기록하지 못하면 다시 처리 대상이 됩니다.
+     */
+    private List<ImageDeletionTask> claimDueTasks() {
+        LocalDateTime now = now();
+        List<Long> dueIds = repository
+                .findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAscIdAsc(
+                        maxAttempts,
+                        now,
+                        PageRequest.of(0, DRAIN_BATCH_SIZE)
+                )
+                .stream()
+                .map(ImageDeletionTask::getId)
+                .toList();
+        if (dueIds.isEmpty()) {
+            return List.of();
+        }
+        String claimToken = UUID.randomUUID().toString();
+        LocalDateTime claimedUntil = now.plusSeconds(Math.max(1, claimTimeoutSeconds));
+        if (repository.claim(dueIds, claimToken, claimedUntil, maxAttempts, now) == 0) {
+            return List.of();
+        }
+        return repository.findByClaimedByOrderByIdAsc(claimToken);
+    }
+
+    private DeletionOutcome awaitDeletion(Future<List<String>> deletion, List<ImageDeletionTask> tasks) {
+        try {
+            return new DeletionOutcome(new HashSet<>(deletion.get()), "저장소 삭제 실패");
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+            return allFailed(tasks, "이미지 삭제 작업이 중단되었습니다.");
+        } catch (ExecutionException error) {
+            log.warn("이미지 일괄 삭제 작업 실패", error.getCause());
+            return allFailed(tasks, String.valueOf(error.getCause()));
+        }
+    }
+
+    private DeletionOutcome allFailed(List<ImageDeletionTask> tasks, String error) {
+        Set<String> imageNames = new HashSet<>();
+        tasks.forEach(task -> imageNames.add(task.getImageName()));
+        return new DeletionOutcome(imageNames, error);
+    }
+
+    private ImageDeletionTask scheduleRetry(ImageDeletionTask task, String error) {
+        int attempts = task.getAttempts() + 1;
+        task.setAttempts(attempts);
+        task.setClaimedBy(null);
+        task.setNextAttemptAt(now().plus(backoff(attempts)));
+        task.setLastError(error == null || error.length() <= MAX_ERROR_LENGTH
+                ? error
+                : error.substring(0, MAX_ERROR_LENGTH));
+        if (attempts >= maxAttempts) {
+            log.error(
+                    "이미지 삭제 재시도 한도 초과, 수동 정리가 필요합니다: {} (타입: {})",
+                    task.getImageName(),
+                    task.getImageType()
+            );
+        }
+        return task;
+    }
+
+    private Duration backoff(int attempts) {
+        long initial = Math.max(1, initialBackoffSeconds);
+        long ceiling = Math.max(initial, maxBackoffSeconds);
+        int shift = Math.min(attempts - 1, 20);
+        return Duration.ofSeconds(Math.min(ceiling, initial << shift));
+    }
+
+    private void refreshQueueDepth() {
+        queueDepth.set(repository.countByAttemptsLessThan(maxAttempts));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.ofInstant(clock.instant(), ZoneOffset.UTC);
+    }
+
+    private record DeletionOutcome(Set<String> failedImageNames, String error) {}
+}
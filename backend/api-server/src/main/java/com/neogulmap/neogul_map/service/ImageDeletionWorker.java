@@ -0,0 +1,35 @@
+package com.neogulmap.neogul_map.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = "app.image.deletion-queue.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class ImageDeletionWorker {
+
+    private final ImageDeletionQueue imageDeletionQueue;
+
+    @Scheduled(
+            initialDelayString = "${app.image.deletion-queue.initial-delay-ms:10000}",
+            fixedDelayString = "${app.image.deletion-queue.poll-interval-ms:5000}"
+    )
+    public void drain() {
+        try {
+            int attempted;
+            do {
+                attempted = imageDeletionQueue.drainDueTasks();
+            } while (attempted >= ImageDeletionQueue.DRAIN_BATCH_SIZE);
+        } catch (RuntimeException error) {
+            log.warn("이미지 삭제 대기열 처리 실패: {}", error.getMessage());
+        }
+    }
+}
@@ -15,6 +15,8 @@ import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
@@ -26,6 +28,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -95,6 +99,23 @@ public class ImageService {
         }
     }
     
+    /**
+     * 장소 이미지를 검증한 뒤 임시 저장소에만 올리고 최종 파일명을 미리 정합니다.
+     * 최종 위치로의 확정은 장소 저장이 커밋된 뒤 outbox 처리기(ZoneImageCommitHandler)가 수행하고,
+     * 트랜잭션이 롤백되면 임시 파일을 바로 삭제합니다.
+     * 
+     * @param image 업로드할 이미지 파일
+     * @return 임시 파일명과 확정될 최종 파일명
+     */
+    public StagedImage stageZoneImage(MultipartFile image) {
+        validateImage(image);
+        String tempFileName = storageService.saveTemp(image);
+        String finalFileName = generateFileName(image, ImageType.ZONE);
+        discardOnRollback(tempFileName);
+        log.info("ZONE 이미지 임시 저장: {} -> {} (크기: {} bytes)", tempFileName, finalFileName, image.getSize());
+        return new StagedImage(tempFileName, finalFileName);
+    }
+    
     /**
      * 이미지 파일을 조회합니다.
      * 
@@ -205,6 +226,42 @@ public class ImageService {
         }
     }
     
+    /**
+     * 같은 타입의 이미지 파일을 일괄 삭제합니다.
+     * deleteImage와 달리 실패를 삼키지 않고 호출자에게 돌려주어 삭제 대기열이 재시도할 수 있게 합니다.
+     * 
+     * @param fileNames 삭제할 파일명 목록
+     * @param type 이미지 타입
+     * @return 삭제에 실패한 파일명 목록
+     */
+    public List<String> deleteImages(List<String> fileNames, ImageType type) {
+        List<String> targets = fileNames.stream()
+                .filter(fileName -> fileName != null && !fileName.trim().isEmpty())
+                .distinct()
+                .toList();
+        if (targets.isEmpty()) {
+            return List.of();
+        }
+        
+        // S3 저장소인 경우 DeleteObjects 한 번으로 처리
+        if ("s3".equalsIgnoreCase(storageType) && storageService instanceof S3StorageServiceImpl) {
+            S3StorageServiceImpl s3StorageService = (S3StorageServiceImpl) storageService;
+            return s3StorageService.deleteImages(targets, type);
+        }
+        
+        // 로컬 저장소인 경우
+        List<String> failed = new ArrayList<>();
+        for (String fileName : targets) {
+            try {
+                Files.deleteIfExists(getUploadPath(type.getDirectory(), fileName));
+            } catch (IOException | SecurityException e) {
+                log.warn("{} 이미지 삭제 실패: {} - {}", type.name(), fileName, e.getMessage());
+                failed.add(fileName);
+            }
+        }
+        return failed;
+    }
+    
     /**
      * 파일의 Content-Type을 반환합니다.
      * 
@@ -300,6 +357,23 @@ public class ImageService {
         log.debug("이미지 저장 완료: {}", filePath);
     }
     
+    /**
+     * 트랜잭션이 롤백되면 커밋 이벤트도 함께 사라지므로 임시 파일을 직접 정리합니다.
+     */
+    private void discardOnRollback(String tempFileName) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    storageService.deleteQuietly(tempFileName);
+                }
+            }
+        });
+    }
+    
     /**
      * 업로드 경로를 반환합니다.
      * 
@@ -325,4 +399,6 @@ public class ImageService {
         
         return fullPath;
     }
+    
+    public record StagedImage(String tempFileName, String finalFileName) {}
 }
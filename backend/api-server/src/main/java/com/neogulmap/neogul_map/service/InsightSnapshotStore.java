@@ -0,0 +1,95 @@
+package com.neogulmap.neogul_map.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * 공급자 스냅샷을 로컬 JSON 파일로 남겨 두는 저장소
+ * 재시작 직후에도 마지막으로 받은 스냅샷을 읽어 warm-up이 끝나기 전부터 응답할 수 있게 합니다.
+ * 파일은 같은 디렉터리의 임시 파일에 쓴 뒤 바꿔치기하므로 읽는 쪽이 쓰다 만 파일을 보지 않습니다.
+ * 디렉터리가 비어 있으면 읽기와 쓰기 모두 아무것도 하지 않습니다.
+ */
+@Slf4j
+@Component
+public class InsightSnapshotStore {
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+
+    @Autowired
+    public InsightSnapshotStore(
+            ObjectMapper objectMapper,
+            @Value("${external.insights.snapshot.dir:${INSIGHTS_SNAPSHOT_DIR:insight-snapshots}}") String directory
+    ) {
+        this.objectMapper = objectMapper;
+        this.directory = directory == null || directory.isBlank() ? null : Path.of(directory.trim());
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * 저장해 둔 스냅샷. 저장소가 꺼져 있거나 파일이 없거나 읽을 수 없으면 비어 있습니다.
+     */
+    public <T> Optional<T> read(String name, Class<T> type) {
+        if (directory == null) {
+            return Optional.empty();
+        }
+        Path file = directory.resolve(name + ".json");
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(objectMapper.readValue(file.toFile(), type));
+        } catch (IOException | RuntimeException error) {
+            log.warn("인사이트 스냅샷 읽기 실패: {}", file.toAbsolutePath());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 스냅샷을 덮어씁니다. 실패해도 서비스 동작에는 영향이 없으므로 로그만 남깁니다.
+     */
+    public void write(String name, Object snapshot) {
+        if (directory == null) {
+            return;
+        }
+        Path file = directory.resolve(name + ".json");
+        Path temporary = null;
+        try {
+            Files.createDirectories(directory);
+            temporary = Files.createTempFile(directory, name + ".", ".tmp");
+            objectMapper.writeValue(temporary.toFile(), snapshot);
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ignored) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException error) {
+            log.warn("인사이트 스냅샷 저장 실패: {}", file.toAbsolutePath());
+            deleteQuietly(temporary);
+        }
+    }
+
+    private void deleteQuietly(Path temporary) {
+        if (temporary == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temporary);
+        } catch (IOException ignored) {
+            // 다음 저장이 새 임시 파일을 만들므로 남은 파일은 무시합니다.
+        }
+    }
+}
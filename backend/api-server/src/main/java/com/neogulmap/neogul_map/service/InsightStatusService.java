@@ -1,13 +1,11 @@
 package com.neogulmap.neogul_map.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.neogulmap.neogul_map.dto.InsightStatusResponse;
 import com.neogulmap.neogul_map.dto.InsightStatusResponse.ProviderStatus;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.File;
 import java.net.URI;
 import java.time.Duration;
 import java.time.Instant;
@@ -15,14 +13,15 @@ import java.time.OffsetDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
-@RequiredArgsConstructor
 public class InsightStatusService {
 
-    private final ObjectMapper objectMapper;
     private final HotplaceService hotplaceService;
     private final EventInsightService eventInsightService;
+    private final PopupTrendFileCache popupTrendFileCache;
+    private final AtomicReference<CachedPopupInspection> popupInspection = new AtomicReference<>();
 
     @Value("${external.seoul.citydata.api-key:${SEOUL_CITYDATA_API_KEY:}}")
     private String seoulCityDataApiKey;
@@ -45,6 +44,17 @@ public class InsightStatusService {
     @Value("${external.popup-trends.max-age-hours:${POPUP_TRENDS_MAX_AGE_HOURS:24}}")
     private long popupTrendsMaxAgeHours;
 
+    @Autowired
+    public InsightStatusService(
+            HotplaceService hotplaceService,
+            EventInsightService eventInsightService,
+            PopupTrendFileCache popupTrendFileCache
+    ) {
+        this.hotplaceService = hotplaceService;
+        this.eventInsightService = eventInsightService;
+        this.popupTrendFileCache = popupTrendFileCache;
+    }
+
     public InsightStatusResponse getStatus() {
         boolean hasSeoulKey = hasText(seoulCityDataApiKey);
         boolean hasTelecomKey = hasText(telecomCrowdApiKey);
@@ -124,8 +134,8 @@ public class InsightStatusService {
             );
         }
 
-        File file = new File(popupTrendsFile.trim());
-        if (!file.isFile()) {
+        PopupTrendFileCache.Snapshot snapshot = popupTrendFileCache.read(popupTrendsFile);
+        if (!snapshot.exists()) {
             return new InsightStatusResponse.PopupTrendStatus(
                     true,
                     false,
@@ -135,52 +145,47 @@ public class InsightStatusService {
                     "Configured popup trends file does not exist"
             );
         }
-
-        try {
-            Object payload = objectMapper.readValue(file, Object.class);
-            List<?> items = readItems(payload);
-            if (items.isEmpty()) {
-                return new InsightStatusResponse.PopupTrendStatus(
-                        true,
-                        true,
-                        0,
-                        null,
-                        "EMPTY",
-                        "Popup trends file has no items"
-                );
-            }
-
-            PopupInspection inspection = inspectItems(items);
-            String qualityStatus = popupQualityStatus(inspection);
+        if (!snapshot.parsed()) {
             return new InsightStatusResponse.PopupTrendStatus(
                     true,
                     true,
-                    items.size(),
-                    inspection.latestCollectedAt(),
-                    qualityStatus,
-                    popupQualityDetail(inspection, qualityStatus)
+                    0,
+                    null,
+                    "INVALID_JSON",
+                    "Popup trends file cannot be parsed"
             );
-        } catch (Exception error) {
+        }
+
+        List<?> items = snapshot.items();
+        if (items.isEmpty()) {
             return new InsightStatusResponse.PopupTrendStatus(
                     true,
                     true,
                     0,
                     null,
-                    "INVALID_JSON",
-                    "Popup trends file cannot be parsed"
+                    "EMPTY",
+                    "Popup trends file has no items"
             );
         }
-    }
 
-    @SuppressWarnings("unchecked")
-    private List<?> readItems(Object payload) {
-        if (payload instanceof List<?> list) {
-            return list;
-        }
-        if (payload instanceof Map<?, ?> map && map.get("items") instanceof List<?> list) {
-            return list;
+        // 항목 검사는 파일이 바뀔 때만 하고, 오래된 데이터 판단만 요청마다 다시 합니다.
+        CachedPopupInspection cached = popupInspection.get();
+        PopupInspection inspection;
+        if (cached != null && cached.snapshot() == snapshot) {
+            inspection = cached.inspection();
+        } else {
+            inspection = inspectItems(items);
+            popupInspection.set(new CachedPopupInspection(snapshot, inspection));
         }
-        return List.of();
+        String qualityStatus = popupQualityStatus(inspection);
+        return new InsightStatusResponse.PopupTrendStatus(
+                true,
+                true,
+                items.size(),
+                inspection.latestCollectedAt(),
+                qualityStatus,
+                popupQualityDetail(inspection, qualityStatus)
+        );
     }
 
     private PopupInspection inspectItems(List<?> items) {
@@ -317,6 +322,9 @@ public class InsightStatusService {
         }
     }
 
+    private record CachedPopupInspection(PopupTrendFileCache.Snapshot snapshot, PopupInspection inspection) {
+    }
+
     private record PopupInspection(
             int invalidRecords,
             int liveEligibleRecords,
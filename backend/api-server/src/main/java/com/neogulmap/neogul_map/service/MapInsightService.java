@@ -0,0 +1,344 @@
+package com.neogulmap.neogul_map.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neogulmap.neogul_map.dto.EventInsightResponse;
+import com.neogulmap.neogul_map.dto.HotplaceResponse;
+import com.neogulmap.neogul_map.dto.MapInsightResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * /insights/map 응답을 JSON 바이트로 만들어 두고 재사용하는 서비스
+ * 핫플과 행사 데이터는 warm-up이 돌 때만 바뀌므로 같은 검색어와 지도 타일에서 같은 항목을 고르는 요청은 직렬화된 응답을 그대로 돌려줍니다.
+ * 캐시 항목에는 만들 때의 공급자 스냅샷 버전을 함께 기록해 두고, 버전이 바뀌면 TTL 전이라도 다시 만듭니다.
+ * 핫플과 행사 목록은 지도 범위를 타일 경계로 바깥쪽으로 넓혀 최대 개수까지 계산해 두므로 조금씩 움직인 지도 요청도 같은 타일 결과를 함께 씁니다.
+ * 응답은 타일 결과를 요청한 지도 범위와 개수로 줄여 만들고, 타일 결과가 개수 제한에 걸려 모자라면 요청 범위로 다시 계산합니다.
+ */
+@Service
+public class MapInsightService {
+
+    static final String SUCCESS_MESSAGE = "시즌2 지도 인사이트 조회 성공";
+
+    private static final int MAX_LIMIT = 20;
+    private static final double TILE_EDGE_EPSILON = 1e-9;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final HotplaceService hotplaceService;
+    private final EventInsightService eventInsightService;
+    private final InsightStatusService insightStatusService;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final int tilesPerDegree;
+    private final int maxKeywordLength;
+    private final Clock clock;
+    private final ConcurrentHashMap<CacheKey, CachedResponse> responses = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<TileKey, CachedTile> tiles = new ConcurrentHashMap<>();
+    private final AtomicLong nextCleanupMillis = new AtomicLong();
+
+    @Autowired
+    public MapInsightService(
+            HotplaceService hotplaceService,
+            EventInsightService eventInsightService,
+            InsightStatusService insightStatusService,
+            ObjectMapper objectMapper,
+            @Value("${external.insights.map-cache.enabled:true}") boolean enabled,
+            @Value("${external.insights.map-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${external.insights.map-cache.max-entries:512}") int maxEntries,
+            @Value("${external.insights.map-cache.tiles-per-degree:100}") int tilesPerDegree,
+            @Value("${external.insights.map-cache.max-keyword-length:40}") int maxKeywordLength
+    ) {
+        this(
+                hotplaceService,
+                eventInsightService,
+                insightStatusService,
+                objectMapper,
+                enabled,
+                ttlSeconds,
+                maxEntries,
+                tilesPerDegree,
+                maxKeywordLength,
+                Clock.systemUTC()
+        );
+    }
+
+    MapInsightService(
+            HotplaceService hotplaceService,
+            EventInsightService eventInsightService,
+            InsightStatusService insightStatusService,
+            ObjectMapper objectMapper,
+            boolean enabled,
+            long ttlSeconds,
+            int maxEntries,
+            int tilesPerDegree,
+            int maxKeywordLength,
+            Clock clock
+    ) {
+        this.hotplaceService = hotplaceService;
+        this.eventInsightService = eventInsightService;
+        this.insightStatusService = insightStatusService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled && ttlSeconds > 0;
+        this.ttlMillis = Math.max(1, ttlSeconds) * 1_000L;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.tilesPerDegree = Math.max(1, tilesPerDegree);
+        this.maxKeywordLength = Math.max(1, maxKeywordLength);
+        this.clock = clock;
+    }
+
+    /**
+     * 성공 응답 본문({@code success}, {@code message}, {@code data})을 UTF-8 JSON 바이트로 돌려줍니다.
+     */
+    public byte[] getMapInsightJson(
+            String keyword,
+            int hotplaceLimit,
+            int eventLimit,
+            Double minLat,
+            Double maxLat,
+            Double minLng,
+            Double maxLng
+    ) {
+        String normalizedKeyword = normalizeKeyword(keyword);
+        int normalizedHotplaceLimit = normalizeLimit(hotplaceLimit);
+        int normalizedEventLimit = normalizeLimit(eventLimit);
+        Tile bounds = Tile.exact(minLat, maxLat, minLng, maxLng);
+
+        boolean cacheable = enabled && (normalizedKeyword == null || normalizedKeyword.length() <= maxKeywordLength);
+        if (!cacheable) {
+            return serialize(
+                    hotplacesWithin(normalizedKeyword, normalizedHotplaceLimit, bounds),
+                    eventsWithin(normalizedKeyword, normalizedEventLimit, bounds)
+            );
+        }
+
+        long hotplaceVersion = hotplaceService.snapshotVersion();
+        long eventVersion = eventInsightService.snapshotVersion();
+        long nowMillis = clock.millis();
+        cleanExpiredEntries(nowMillis);
+        TileKey tileKey = new TileKey(normalizedKeyword, Tile.of(minLat, maxLat, minLng, maxLng, tilesPerDegree));
+        CachedTile tile = tileResult(tileKey, hotplaceVersion, eventVersion, nowMillis);
+        Predicate<HotplaceResponse.HotplaceItem> hotplaceInBounds =
+                place -> bounds.contains(place.latitude(), place.longitude());
+        Predicate<EventInsightResponse.EventInsightItem> eventInBounds =
+                event -> bounds.contains(event.latitude(), event.longitude());
+        int hotplaceSelection = selection(tile.hotplaces().places(), normalizedHotplaceLimit, hotplaceInBounds);
+        int eventSelection = selection(tile.events().events(), normalizedEventLimit, eventInBounds);
+
+        boolean hotplacesCutOff = Integer.bitCount(hotplaceSelection) < normalizedHotplaceLimit
+                && tile.hotplaces().places().size() >= MAX_LIMIT;
+        boolean eventsCutOff = Integer.bitCount(eventSelection) < normalizedEventLimit
+                && tile.events().events().size() >= MAX_LIMIT;
+        if (hotplacesCutOff || eventsCutOff) {
+            // 타일 결과가 개수 제한에 걸려 잘렸을 수 있으므로 요청 범위로 다시 계산합니다. 타일 안 선택으로 식별할 수 없어 캐시하지 않습니다.
+            return serialize(
+                    hotplacesCutOff
+                            ? hotplacesWithin(normalizedKeyword, normalizedHotplaceLimit, bounds)
+                            : HotplaceService.narrow(tile.hotplaces(), normalizedHotplaceLimit, hotplaceInBounds),
+                    eventsCutOff
+                            ? eventsWithin(normalizedKeyword, normalizedEventLimit, bounds)
+                            : EventInsightService.narrow(tile.events(), normalizedEventLimit, eventInBounds)
+            );
+        }
+
+        // 같은 타일에서 같은 항목을 고른 지도 범위는 응답도 같으므로 직렬화한 바이트를 함께 씁니다.
+        CacheKey key = new CacheKey(tileKey, hotplaceSelection, eventSelection);
+        CachedResponse cached = responses.get(key);
+        if (cached != null && cached.isCurrent(hotplaceVersion, eventVersion, nowMillis)) {
+            return cached.json();
+        }
+        byte[] json = serialize(
+                HotplaceService.narrow(tile.hotplaces(), normalizedHotplaceLimit, hotplaceInBounds),
+                EventInsightService.narrow(tile.events(), normalizedEventLimit, eventInBounds)
+        );
+        if (responses.containsKey(key) || responses.size() < maxEntries) {
+            // 계산 전에 읽은 버전으로 기록하므로, 계산 중에 새 데이터가 들어왔다면 다음 요청에서 다시 만듭니다.
+            responses.put(key, new CachedResponse(hotplaceVersion, eventVersion, json, nowMillis + ttlMillis));
+        }
+        return json;
+    }
+
+    /**
+     * 타일 목록에서 요청 범위에 들어 개수 제한 안에 드는 항목의 위치를 비트로 표시합니다. 타일 목록은 최대 {@value #MAX_LIMIT}개입니다.
+     */
+    private static <T> int selection(List<T> items, int limit, Predicate<T> filter) {
+        int selection = 0;
+        int selected = 0;
+        for (int index = 0; index < items.size() && index < Integer.SIZE && selected < limit; index++) {
+            if (filter.test(items.get(index))) {
+                selection |= 1 << index;
+                selected++;
+            }
+        }
+        return selection;
+    }
+
+    /**
+     * 검색어와 타일에 해당하는 핫플·행사 목록. 요청 개수와 상관없이 최대 개수까지 계산해 두어 여러 요청이 함께 씁니다.
+     */
+    private CachedTile tileResult(TileKey key, long hotplaceVersion, long eventVersion, long nowMillis) {
+        CachedTile cached = tiles.get(key);
+        if (cached != null && cached.isCurrent(hotplaceVersion, eventVersion, nowMillis)) {
+            return cached;
+        }
+        CachedTile computed = new CachedTile(
+                hotplaceVersion,
+                eventVersion,
+                hotplacesWithin(key.keyword(), MAX_LIMIT, key.tile()),
+                eventsWithin(key.keyword(), MAX_LIMIT, key.tile()),
+                nowMillis + ttlMillis
+        );
+        if (tiles.containsKey(key) || tiles.size() < maxEntries) {
+            tiles.put(key, computed);
+        }
+        return computed;
+    }
+
+    private HotplaceResponse hotplacesWithin(String keyword, int limit, Tile bounds) {
+        return hotplaceService.getHotplaces(keyword, limit, bounds.minLat(), bounds.maxLat(), bounds.minLng(), bounds.maxLng());
+    }
+
+    private EventInsightResponse eventsWithin(String keyword, int limit, Tile bounds) {
+        return eventInsightService.getEvents(keyword, limit, bounds.minLat(), bounds.maxLat(), bounds.minLng(), bounds.maxLng());
+    }
+
+    int size() {
+        return responses.size();
+    }
+
+    private byte[] serialize(HotplaceResponse hotplaces, EventInsightResponse events) {
+        MapInsightResponse response = new MapInsightResponse(
+                hotplaces,
+                events,
+                insightStatusService.getStatus(),
+                Instant.now(clock)
+        );
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("success", true);
+        body.put("message", SUCCESS_MESSAGE);
+        body.put("data", response);
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException error) {
+            throw new IllegalStateException("지도 인사이트 응답을 직렬화할 수 없습니다.", error);
+        }
+    }
+
+    private void cleanExpiredEntries(long nowMillis) {
+        long scheduled = nextCleanupMillis.get();
+        if (nowMillis < scheduled || !nextCleanupMillis.compareAndSet(scheduled, nowMillis + ttlMillis)) {
+            return;
+        }
+        responses.values().removeIf(cached -> cached.expiresAtMillis() <= nowMillis);
+        tiles.values().removeIf(cached -> cached.expiresAtMillis() <= nowMillis);
+    }
+
+    private String normalizeKeyword(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        return WHITESPACE.matcher(keyword.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private int normalizeLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    private record CacheKey(TileKey tile, int hotplaceSelection, int eventSelection) {
+    }
+
+    private record TileKey(String keyword, Tile tile) {
+    }
+
+    private record CachedResponse(long hotplaceVersion, long eventVersion, byte[] json, long expiresAtMillis) {
+        boolean isCurrent(long currentHotplaceVersion, long currentEventVersion, long nowMillis) {
+            return hotplaceVersion == currentHotplaceVersion
+                    && eventVersion == currentEventVersion
+                    && nowMillis < expiresAtMillis;
+        }
+    }
+
+    private record CachedTile(
+            long hotplaceVersion,
+            long eventVersion,
+            HotplaceResponse hotplaces,
+            EventInsightResponse events,
+            long expiresAtMillis
+    ) {
+        boolean isCurrent(long currentHotplaceVersion, long currentEventVersion, long nowMillis) {
+            return hotplaceVersion == currentHotplaceVersion
+                    && eventVersion == currentEventVersion
+                    && nowMillis < expiresAtMillis;
+        }
+    }
+
+    /**
+     * 지도 범위. {@link #of}는 1/{@code tilesPerDegree}도 격자에 맞춰 바깥쪽으로 넓히고, {@link #exact}는 요청 범위 그대로입니다.
+     * 좌표 하나라도 없으면 전체 범위입니다.
+     */
+    record Tile(Double minLat, Double maxLat, Double minLng, Double maxLng) {
+
+        static final Tile ALL = new Tile(null, null, null, null);
+
+        static Tile of(Double minLat, Double maxLat, Double minLng, Double maxLng, int tilesPerDegree) {
+            if (!isComplete(minLat, maxLat, minLng, maxLng)) {
+                return ALL;
+            }
+            return new Tile(
+                    floor(Math.min(minLat, maxLat), tilesPerDegree),
+                    ceil(Math.max(minLat, maxLat), tilesPerDegree),
+                    floor(Math.min(minLng, maxLng), tilesPerDegree),
+                    ceil(Math.max(minLng, maxLng), tilesPerDegree)
+            );
+        }
+
+        static Tile exact(Double minLat, Double maxLat, Double minLng, Double maxLng) {
+            if (!isComplete(minLat, maxLat, minLng, maxLng)) {
+                return ALL;
+            }
+            return new Tile(
+                    Math.min(minLat, maxLat),
+                    Math.max(minLat, maxLat),
+                    Math.min(minLng, maxLng),
+                    Math.max(minLng, maxLng)
+            );
+        }
+
+        boolean contains(Double latitude, Double longitude) {
+            if (minLat == null) {
+                return true;
+            }
+            if (latitude == null || longitude == null) {
+                return false;
+            }
+            return latitude >= minLat && latitude <= maxLat && longitude >= minLng && longitude <= maxLng;
+        }
+
+        private static boolean isComplete(Double minLat, Double maxLat, Double minLng, Double maxLng) {
+            return minLat != null && maxLat != null && minLng != null && maxLng != null
+                    && Double.isFinite(minLat) && Double.isFinite(maxLat)
+                    && Double.isFinite(minLng) && Double.isFinite(maxLng);
+        }
+
+        private static double floor(double value, int tilesPerDegree) {
+            return Math.floor(value * tilesPerDegree + TILE_EDGE_EPSILON) / tilesPerDegree;
+        }
+
+        private static double ceil(double value, int tilesPerDegree) {
+            return Math.ceil(value * tilesPerDegree - TILE_EDGE_EPSILON) / tilesPerDegree;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.neogulmap.neogul_map.service;
+
+import com.neogulmap.neogul_map.domain.enums.ModerationStatus;
+import com.neogulmap.neogul_map.domain.enums.SupportRequestStatus;
+import com.neogulmap.neogul_map.domain.enums.ZonePublicationStatus;
+import com.neogulmap.neogul_map.repository.SupportRequestRepository;
+import com.neogulmap.neogul_map.repository.ZoneReportRepository;
+import com.neogulmap.neogul_map.repository.ZoneRepository;
+import com.neogulmap.neogul_map.repository.ZoneReviewReportRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 운영자 검토 대기열 지표
+ * 대기 건수는 신고/등록/처리 시점에 증감하는 gauge로 유지하므로 scrape 때마다 COUNT 쿼리를 실행하지 않습니다.
+ * 연쇄 삭제나 계정 삭제처럼 개별 건을 추적하지 않는 경로의 오차는 주기적인 재집계로 보정합니다.
+ */
+@Slf4j
+@Component
+public class ModerationWorkloadMetrics {
+
+    public enum Queue {
+        ZONE_REPORT,
+        REVIEW_REPORT,
+        ZONE_SUBMISSION,
+        SUPPORT_REQUEST;
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    static final String PENDING_GAUGE = "moderation.queue.pending";
+    static final String DECISION_TIMER = "moderation.decision.latency";
+
+    private final ZoneReportRepository zoneReportRepository;
+    private final ZoneReviewReportRepository reviewReportRepository;
+    private final ZoneRepository zoneRepository;
+    private final SupportRequestRepository supportRequestRepository;
+    private final MeterRegistry meterRegistry;
+    private final Map<Queue, AtomicLong> pending = new EnumMap<>(Queue.class);
+    private final Map<String, Timer> decisionTimers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ModerationWorkloadMetrics(
+            ZoneReportRepository zoneReportRepository,
+            ZoneReviewReportRepository reviewReportRepository,
+            ZoneRepository zoneRepository,
+            SupportRequestRepository supportRequestRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.zoneReportRepository = zoneReportRepository;
+        this.reviewReportRepository = reviewReportRepository;
+        this.zoneRepository = zoneRepository;
+        this.supportRequestRepository = supportRequestRepository;
+        this.meterRegistry = meterRegistry;
+        for (Queue queue : Queue.values()) {
+            AtomicLong depth = new AtomicLong();
+            pending.put(queue, depth);
+            Gauge.builder(PENDING_GAUGE, depth, AtomicLong::get)
+                    .description("운영자 처리를 기다리는 항목 수")
+                    .tag("queue", queue.tag())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 새 항목이 대기열에 들어왔음을 기록합니다. 트랜잭션 안에서는 커밋 이후에만 반영합니다.
+     */
+    public void submitted(Queue queue) {
+        afterCommit(() -> pending.get(queue).incrementAndGet());
+    }
+
+    /**
+     * 운영자 결정을 기록합니다. 대기 건수를 줄이고 접수부터 결정까지의 시간을 timer에 남깁니다.
+     * 접수 시각을 알 수 없는 과거 데이터는 대기 건수만 줄입니다.
+     */
+    public void decided(Queue queue, String outcome, LocalDateTime submittedAt, LocalDateTime decidedAt) {
+        afterCommit(() -> {
+            decrement(queue, 1);
+            if (submittedAt != null && decidedAt != null) {
+                Duration latency = Duration.between(submittedAt, decidedAt);
+                decisionTimer(queue, outcome).record(latency.isNegative() ? Duration.ZERO : latency);
+            }
+        });
+    }
+
+    /**
+     * 결정 없이 대기열에서 사라진 항목(콘텐츠 삭제에 따른 연쇄 삭제 등)을 기록합니다.
+     */
+    public void discarded(Queue queue, long count) {
+        if (count <= 0) {
+            return;
+        }
+        afterCommit(() -> decrement(queue, count));
+    }
+
+    public long pendingCount(Queue queue) {
+        return pending.get(queue).get();
+    }
+
+    /**
+     * 실제 대기 건수로 gauge를 다시 맞춥니다. 기동 직후와 설정된 주기마다 실행됩니다.
+     */
+    @Scheduled(
+            initialDelayString = "${app.moderation.metrics.initial-delay-ms:20000}",
+            fixedDelayString = "${app.moderation.metrics.reconcile-interval-ms:600000}"
+    )
+    public void reconcile() {
+        try {
+            pending.get(Queue.ZONE_REPORT).set(zoneReportRepository.countByStatus(ModerationStatus.PENDING));
+            pending.get(Queue.REVIEW_REPORT).set(reviewReportRepository.countByStatus(ModerationStatus.PENDING));
+            pending.get(Queue.ZONE_SUBMISSION).set(
+                    zoneRepository.countByPublicationStatus(ZonePublicationStatus.PENDING)
+            );
+            pending.get(Queue.SUPPORT_REQUEST).set(supportRequestRepository.countByStatusIn(List.of(
+                    SupportRequestStatus.PENDING,
+                    SupportRequestStatus.IN_PROGRESS
+            )));
+        } catch (RuntimeException error) {
+            log.warn("운영 대기열 지표 재집계 실패: {}", error.getMessage());
+        }
+    }
+
+    /**
+     * actuator moderation endpoint에서 사용하는 현재 대기 건수와 결정 지연 요약입니다.
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> queues = new LinkedHashMap<>();
+        for (Queue queue : Queue.values()) {
+            Map<String, Object> outcomes = new LinkedHashMap<>();
+            decisionTimers.forEach((key, timer) -> {
+                if (key.startsWith(queue.tag() + ":")) {
+                    outcomes.put(key.substring(queue.tag().length() + 1), summarize(timer));
+                }
+            });
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("pending", pendingCount(queue));
+            entry.put("decisionLatency", outcomes);
+            queues.put(queue.tag(), entry);
+        }
+        return queues;
+    }
+
+    private Timer decisionTimer(Queue queue, String outcome) {
+        String normalizedOutcome = outcome == null ? "unknown" : outcome.toLowerCase(Locale.ROOT);
+        return decisionTimers.computeIfAbsent(queue.tag() + ":" + normalizedOutcome, key -> Timer
+                .builder(DECISION_TIMER)
+                .description("접수부터 운영자 결정까지 걸린 시간")
+                .tag("queue", queue.tag())
+                .tag("outcome", normalizedOutcome)
+                .publishPercentiles(0.5, 0.95)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMinutes(1))
+                .maximumExpectedValue(Duration.ofDays(30))
+                .register(meterRegistry));
+    }
+
+    private Map<String, Object> summarize(Timer timer) {
+        var snapshot = timer.takeSnapshot();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", snapshot.count());
+        summary.put("meanSeconds", snapshot.mean(TimeUnit.SECONDS));
+        summary.put("maxSeconds", snapshot.max(TimeUnit.SECONDS));
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            summary.put(
+                    "p" + Math.round(percentile.percentile() * 100) + "Seconds",
+                    percentile.value(TimeUnit.SECONDS)
+            );
+        }
+        return summary;
+    }
+
+    private void decrement(Queue queue, long count) {
+        pending.get(queue).updateAndGet(current -> Math.max(0, current - count));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
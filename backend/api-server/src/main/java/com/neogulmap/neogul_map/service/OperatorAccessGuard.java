@@ -24,12 +24,24 @@ public class OperatorAccessGuard {
                     "운영자 조회 키가 구성되지 않았습니다."
             );
         }
+        if (!matches(providedKey)) {
+            throw new BusinessBaseException(ErrorCode.OPERATOR_ACCESS_DENIED, "운영자 접근 권한이 없습니다.");
+        }
+    }
+
+    /**
+     * 예외 대신 결과만 필요한 보안 필터 체인(actuator 운영 endpoint)에서 사용합니다.
+     * 키가 구성되지 않았으면 항상 거부합니다.
+     */
+    public boolean hasAccess(String providedKey) {
+        return configuredKey != null && !configuredKey.isBlank() && matches(providedKey);
+    }
+
+    private boolean matches(String providedKey) {
         byte[] configured = configuredKey.getBytes(StandardCharsets.UTF_8);
         byte[] provided = providedKey == null
                 ? new byte[0]
                 : providedKey.getBytes(StandardCharsets.UTF_8);
-        if (!MessageDigest.isEqual(configured, provided)) {
-            throw new BusinessBaseException(ErrorCode.OPERATOR_ACCESS_DENIED, "운영자 접근 권한이 없습니다.");
-        }
+        return MessageDigest.isEqual(configured, provided);
     }
 }
@@ -0,0 +1,35 @@
+package com.neogulmap.neogul_map.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = "app.outbox.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class OutboxDispatchWorker {
+
+    private final OutboxDispatcher outboxDispatcher;
+
+    @Scheduled(
+            initialDelayString = "${app.outbox.initial-delay-ms:5000}",
+            fixedDelayString = "${app.outbox.poll-interval-ms:1000}"
+    )
+    public void dispatch() {
+        try {
+            int fetched;
+            do {
+                fetched = outboxDispatcher.dispatchDueEvents();
+            } while (fetched >= OutboxDispatcher.DISPATCH_BATCH_SIZE);
+        } catch (RuntimeException error) {
+            log.warn("outbox 전달 실패: {}", error.getMessage());
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package com.neogulmap.neogul_map.service;
+
+import com.neogulmap.neogul_map.domain.OutboxEvent;
+import com.neogulmap.neogul_map.domain.enums.OutboxEventType;
+import com.neogulmap.neogul_map.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 트랜잭션 outbox 전달
+ * 조회한 이벤트를 aggregate별 순번으로 나누어 같은 순번끼리 종류별로 한 번에 전달합니다.
+ * 앞선 이벤트가 실패한 aggregate는 그 이벤트가 재시도되기 전까지 뒤의 이벤트를 전달하지 않고,
+ * 재시도 한도를 넘겨 보류된 이벤트가 있으면 수동으로 정리될 때까지 뒤의 이벤트를 계속 붙잡아 둡니다.
+ * 여러 API 인스턴스가 함께 전달하므로 이벤트는 claim 토큰으로 가져간 뒤에만 전달합니다.
+ */
+@Slf4j
+@Service
+public class OutboxDispatcher {
+
+    static final int DISPATCH_BATCH_SIZE = 200;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository repository;
+    private final Map<OutboxEventType, OutboxEventHandler> handlers = new EnumMap<>(OutboxEventType.class);
+    private final Clock clock;
+    private final AtomicLong pendingDepth = new AtomicLong();
+    private final Map<OutboxEventType, Counter> deliveredCounters = new EnumMap<>(OutboxEventType.class);
+    private final Map<OutboxEventType, Counter> failedCounters = new EnumMap<>(OutboxEventType.class);
+
+    @Value("${app.outbox.max-attempts:10}")
+    private int maxAttempts = 10;
+
+    @Value("${app.outbox.initial-backoff-seconds:10}")
+    private long initialBackoffSeconds = 10;
+
+    @Value("${app.outbox.max-backoff-seconds:1800}")
+    private long maxBackoffSeconds = 1800;
+
+    @Value("${app.outbox.claim-timeout-seconds:300}")
+    private long claimTimeoutSeconds = 300;
+
+    @Autowired
+    public OutboxDispatcher(
+            OutboxEventRepository repository,
+            List<OutboxEventHandler> handlers,
+            MeterRegistry meterRegistry
+    ) {
+        this(repository, handlers, meterRegistry, Clock.systemUTC());
+    }
+
+    OutboxDispatcher(
+            OutboxEventRepository repository,
+            List<OutboxEventHandler> handlers,
+            MeterRegistry meterRegistry,
+            Clock clock
+    ) {
+        this.repository = repository;
+        this.clock = clock;
+        for (OutboxEventHandler handler : handlers) {
+            OutboxEventHandler previous = this.handlers.put(handler.eventType(), handler);
+            if (previous != null) {
+                throw new IllegalStateException("outbox 처리기가 중복 등록되었습니다: " + handler.eventType());
+            }
+        }
+        Gauge.builder("outbox.events.pending", pendingDepth, AtomicLong::get)
+                .description("전달을 기다리는 outbox 이벤트 수")
+                .register(meterRegistry);
+        for (OutboxEventType type : OutboxEventType.values()) {
+            String tag = type.name().toLowerCase(Locale.ROOT);
+            deliveredCounters.put(type, Counter.builder("outbox.events.delivered")
+                    .description("전달을 마친 outbox 이벤트 수")
+                    .tag("type", tag)
+                    .register(meterRegistry));
+            failedCounters.put(type, Counter.builder("outbox.events.failed")
+                    .description("재시도로 미뤄진 outbox 전달 시도 수")
+                    .tag("type", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 전달할 차례가 된 이벤트를 한 배치 처리합니다.
+     * 처리기 I/O 동안 DB 트랜잭션을 열어두지 않으며, 종류가 다른 이벤트는 virtual thread에서 동시에 전달합니다.
+     *
+     * @return 이번 배치에서 가져간 이벤트 수
+     */
+    public int dispatchDueEvents() {
+        String claimToken = UUID.randomUUID().toString();
+        List<OutboxEvent> due = claimDueEvents(claimToken);
+        if (due.isEmpty()) {
+            refreshPendingDepth();
+            return 0;
+        }
+
+        // aggregate마다 n번째 이벤트끼리 같은 round에 모읍니다. 한 round 안에서는 aggregate당 한 건뿐이므로
+        // 종류별로 묶어 동시에 전달해도 aggregate 안의 순서가 바뀌지 않습니다.
+        List<List<OutboxEvent>> rounds = new ArrayList<>();
+        Map<String, Integer> positions = new HashMap<>();
+        for (OutboxEvent event : due) {
+            int round = positions.merge(event.aggregateKey(), 1, Integer::sum) - 1;
+            if (round == rounds.size()) {
+                rounds.add(new ArrayList<>());
+            }
+            rounds.get(round).add(event);
+        }
+
+        Set<String> failedAggregates = new HashSet<>();
+        List<Long> deliveredIds = new ArrayList<>();
+        List<OutboxEvent> retries = new ArrayList<>();
+        List<Long> heldIds = new ArrayList<>();
+        for (List<OutboxEvent> round : rounds) {
+            List<OutboxEvent> deliverable = new ArrayList<>();
+            for (OutboxEvent event : round) {
+                if (failedAggregates.contains(event.aggregateKey())) {
+                    heldIds.add(event.getId());
+                } else {
+                    deliverable.add(event);
+                }
+            }
+            if (deliverable.isEmpty()) {
+                continue;
+            }
+
+            Map<Long, String> failures = deliver(deliverable);
+            for (OutboxEvent event : deliverable) {
+                String error = failures.get(event.getId());
+                if (error == null) {
+                    deliveredIds.add(event.getId());
+                    deliveredCounters.get(event.getEventType()).increment();
+                } else {
+                    retries.add(scheduleRetry(event, error));
+                    failedAggregates.add(event.aggregateKey());
+                    failedCounters.get(event.getEventType()).increment();
+                }
+            }
+        }
+
+        if (!deliveredIds.isEmpty()) {
+            repository.deleteAllByIdInBatch(deliveredIds);
+        }
+        if (!retries.isEmpty()) {
+            repository.saveAll(retries);
+            notifyParked(retries);
+        }
+        if (!heldIds.isEmpty()) {
+            // 붙잡아 둔 이벤트는 claim 만료를 기다리지 않고, 앞선 이벤트의 재시도 뒤에 바로 전달되도록 돌려놓습니다.
+            repository.release(heldIds, claimToken, now());
+        }
+        refreshPendingDepth();
+        log.info(
+                "outbox 전달: fetched={}, delivered={}, retry={}, held={}, remaining={}",
+                due.size(),
+                deliveredIds.size(),
+                retries.size(),
+                heldIds.size(),
+                pendingDepth.get()
+        );
+        return due.size();
+    }
+
+    public long getPendingDepth() {
+        return pendingDepth.get();
+    }
+
+    /**
+     * 전달할 차례가 된 이벤트를 이번 배치 토큰으로 가져갑니다. 다른 인스턴스가 먼저 가져간 이벤트는 빠집니다.
+     * 가져간 이벤트는 claim 만료 시각까지 조회에서 빠지고, 같은 aggregate의 뒤 이벤트도 그동안 함께 붙잡힙니다.
+     * 같은 aggregate의 앞선 이벤트를 다른 인스턴스가 가져갔다면 순서를 지키기 위해 뒤의 이벤트는 돌려놓습니다.
+     */
+    private List<OutboxEvent> claimDueEvents(String claimToken) {
+        LocalDateTime now = now();
+        List<Long> dueIds = repository.findDeliverable(
+                        maxAttempts,
+                        now,
+                        PageRequest.of(0, DISPATCH_BATCH_SIZE)
+                )
+                .stream()
+                .map(OutboxEvent::getId)
+                .toList();
+        if (dueIds.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime claimedUntil = now.plusSeconds(Math.max(1, claimTimeoutSeconds));
+        if (repository.claim(dueIds, claimToken, claimedUntil, maxAttempts, now) == 0) {
+            return List.of();
+        }
+        List<Long> outOfOrder = repository.findClaimedBehindOthers(claimToken);
+        if (!outOfOrder.isEmpty()) {
+            repository.release(outOfOrder, claimToken, now);
+        }
+        return repository.findByClaimedByOrderByIdAsc(claimToken);
+    }
+
+    /**
+     * @return 실패한 이벤트 id와 오류 메시지
+     */
+    private Map<Long, String> deliver(List<OutboxEvent> events) {
+        Map<OutboxEventType, List<OutboxEvent>> eventsByType = new EnumMap<>(OutboxEventType.class);
+        for (OutboxEvent event : events) {
+            eventsByType.computeIfAbsent(event.getEventType(), ignored -> new ArrayList<>()).add(event);
+        }
+
+        Map<OutboxEventType, Future<Set<Long>>> deliveries = new EnumMap<>(OutboxEventType.class);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            eventsByType.forEach((type, batch) -> {
+                OutboxEventHandler handler = handlers.get(type);
+                if (handler != null) {
+                    deliveries.put(type, executor.submit(() -> handler.handle(batch)));
+                }
+            });
+        }
+
+        Map<Long, String> failures = new HashMap<>();
+        eventsByType.forEach((type, batch) -> {
+            Future<Set<Long>> delivery = deliveries.get(type);
+            if (delivery == null) {
+                log.error("outbox 처리기가 등록되지 않았습니다: {}", type);
+                batch.forEach(event -> failures.put(event.getId(), "처리기 없음: " + type));
+                return;
+            }
+            try {
+                for (Long failedId : delivery.get()) {
+                    failures.put(failedId, type + " 전달 실패");
+                }
+            } catch (InterruptedException error) {
+                Thread.currentThread().interrupt();
+                batch.forEach(event -> failures.put(event.getId(), "outbox 전달 작업이 중단되었습니다."));
+            } catch (ExecutionException error) {
+                log.warn("outbox 일괄 전달 실패: {}", type, error.getCause());
+                batch.forEach(event -> failures.put(event.getId(), String.valueOf(error.getCause())));
+            }
+        });
+        return failures;
+    }
+
+    /**
+     * 이번 실패로 재시도 한도에 도달한 이벤트를 종류별 처리기에 알립니다. 알림 실패는 전달 결과에 영향을 주지 않습니다.
+     */
+    private void notifyParked(List<OutboxEvent> retries) {
+        Map<OutboxEventType, List<OutboxEvent>> parkedByType = new EnumMap<>(OutboxEventType.class);
+        for (OutboxEvent event : retries) {
+            if (event.getAttempts() >= maxAttempts) {
+                parkedByType.computeIfAbsent(event.getEventType(), ignored -> new ArrayList<>()).add(event);
+            }
+        }
+        parkedByType.forEach((type, parked) -> {
+            OutboxEventHandler handler = handlers.get(type);
+            if (handler == null) {
+                return;
+            }
+            try {
+                handler.parked(parked);
+            } catch (RuntimeException error) {
+                log.warn("outbox 보류 처리 실패: {}", type, error);
+            }
+        });
+    }
+
+    private OutboxEvent scheduleRetry(OutboxEvent event, String error) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        event.setClaimedBy(null);
+        event.setNextAttemptAt(now().plus(backoff(attempts)));
+        event.setLastError(error == null || error.length() <= MAX_ERROR_LENGTH
+                ? error
+                : error.substring(0, MAX_ERROR_LENGTH));
+        if (attempts >= maxAttempts) {
+            log.error(
+                    "outbox 재시도 한도 초과, 수동 처리 전까지 같은 aggregate의 뒤 이벤트도 보류됩니다: id={}, type={}, aggregate={}",
+                    event.getId(),
+                    event.getEventType(),
+                    event.aggregateKey()
+            );
+        }
+        return event;
+    }
+
+    private Duration backoff(int attempts) {
+        long initial = Math.max(1, initialBackoffSeconds);
+        long ceiling = Math.max(initial, maxBackoffSeconds);
+        int shift = Math.min(attempts - 1, 20);
+        return Duration.ofSeconds(Math.min(ceiling, initial << shift));
+    }
+
+    private void refreshPendingDepth() {
+        pendingDepth.set(repository.countByAttemptsLessThan(maxAttempts));
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.ofInstant(clock.instant(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,30 @@
+package com.neogulmap.neogul_map.service;
+
+import com.neogulmap.neogul_map.domain.OutboxEvent;
+import com.neogulmap.neogul_map.domain.enums.OutboxEventType;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * outbox 이벤트 종류별 전달 처리기
+ * OutboxDispatcher는 한 번의 호출에 aggregate당 최대 한 건만 넘기므로 처리기는 배치 안의 순서를 신경 쓰지 않아도 됩니다.
+ * 같은 이벤트가 다시 전달될 수 있으므로 처리는 멱등이어야 합니다.
+ */
+public interface OutboxEventHandler {
+
+    OutboxEventType eventType();
+
+    /**
+     * @param events 같은 종류의 전달 대상 이벤트
+     * @return 처리에 실패해 재시도해야 하는 이벤트 id
+     */
+    Set<Long> handle(List<OutboxEvent> events);
+
+    /**
+     * 재시도 한도를 넘겨 더 이상 자동으로 전달되지 않을 이벤트를 알립니다.
+     * 처리기는 확정되지 못한 부수 효과를 되돌리거나 정리할 수 있으며, 이 호출도 다시 일어날 수 있으므로 멱등이어야 합니다.
+     */
+    default void parked(List<OutboxEvent> events) {
+    }
+}
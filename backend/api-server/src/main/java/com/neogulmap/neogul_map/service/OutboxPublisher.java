@@ -0,0 +1,64 @@
+package com.neogulmap.neogul_map.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neogulmap.neogul_map.domain.OutboxEvent;
+import com.neogulmap.neogul_map.domain.enums.OutboxEventType;
+import com.neogulmap.neogul_map.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 트랜잭션 outbox 기록
+ * 요청 트랜잭션에는 이벤트 행만 추가하고, 저장소 I/O 같은 부수 효과는 커밋 이후 OutboxDispatcher가 실행합니다.
+ */
+@Service
+public class OutboxPublisher {
+
+    private final OutboxEventRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    @Autowired
+    public OutboxPublisher(OutboxEventRepository repository, ObjectMapper objectMapper) {
+        this(repository, objectMapper, Clock.systemUTC());
+    }
+
+    OutboxPublisher(OutboxEventRepository repository, ObjectMapper objectMapper, Clock clock) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    /**
+     * 호출자의 트랜잭션 안에서 이벤트를 기록합니다. 트랜잭션이 롤백되면 이벤트도 함께 사라집니다.
+     * 같은 aggregate의 이벤트는 기록된 순서대로 전달됩니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent publish(OutboxEventType eventType, String aggregateType, Object aggregateId, Object payload) {
+        LocalDateTime now = LocalDateTime.ofInstant(clock.instant(), ZoneOffset.UTC);
+        return repository.save(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(String.valueOf(aggregateId))
+                .eventType(eventType)
+                .payload(serialize(payload))
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException error) {
+            throw new IllegalStateException("outbox payload 직렬화 실패: " + payload.getClass().getSimpleName(), error);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.neogulmap.neogul_map.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * POPUP_TRENDS_FILE을 한 번만 파싱해 두고 파일이 바뀔 때만 다시 읽는 캐시
+ * 이벤트 조회와 상태 조회가 같은 스냅샷을 함께 쓰므로 요청 비용이 파일 크기에 비례하지 않습니다.
+ * 파일 확인(수정 시각과 크기 비교)은 {@code check-interval-ms}마다 한 번만 합니다.
+ * 파일이 바뀌지 않으면 같은 {@link Snapshot} 인스턴스를 돌려주므로 호출하는 쪽은 인스턴스 비교로 파생 결과를 재사용할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class PopupTrendFileCache {
+
+    private final ObjectMapper objectMapper;
+    private final long checkIntervalMillis;
+    private final Clock clock;
+    private final AtomicReference<CheckedSnapshot> current = new AtomicReference<>();
+
+    @Autowired
+    public PopupTrendFileCache(
+            ObjectMapper objectMapper,
+            @Value("${external.popup-trends.check-interval-ms:${POPUP_TRENDS_CHECK_INTERVAL_MS:5000}}") long checkIntervalMillis
+    ) {
+        this(objectMapper, checkIntervalMillis, Clock.systemUTC());
+    }
+
+    PopupTrendFileCache(ObjectMapper objectMapper, long checkIntervalMillis, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.checkIntervalMillis = Math.max(0, checkIntervalMillis);
+        this.clock = clock;
+    }
+
+    /**
+     * 설정된 경로의 현재 스냅샷. 경로가 비어 있으면 {@link Snapshot#NOT_CONFIGURED}를 돌려줍니다.
+     */
+    public Snapshot read(String configuredPath) {
+        if (configuredPath == null || configuredPath.isBlank()) {
+            return Snapshot.NOT_CONFIGURED;
+        }
+        String path = configuredPath.trim();
+        long nowMillis = clock.millis();
+        CheckedSnapshot checked = current.get();
+        if (checked != null && checked.snapshot().path().equals(path) && nowMillis < checked.nextCheckAtMillis()) {
+            return checked.snapshot();
+        }
+
+        synchronized (this) {
+            checked = current.get();
+            if (checked != null && checked.snapshot().path().equals(path) && nowMillis < checked.nextCheckAtMillis()) {
+                return checked.snapshot();
+            }
+            File file = new File(path);
+            boolean exists = file.isFile();
+            long lastModified = exists ? file.lastModified() : 0L;
+            long size = exists ? file.length() : -1L;
+            Snapshot snapshot = checked != null && checked.snapshot().isSameFile(path, exists, lastModified, size)
+                    ? checked.snapshot()
+                    : load(path, file, exists, lastModified, size);
+            current.set(new CheckedSnapshot(snapshot, nowMillis + checkIntervalMillis));
+            return snapshot;
+        }
+    }
+
+    private Snapshot load(String path, File file, boolean exists, long lastModified, long size) {
+        if (!exists) {
+            return new Snapshot(path, true, false, false, lastModified, size, List.of(), List.of());
+        }
+        try {
+            Object payload = objectMapper.readValue(file, Object.class);
+            List<?> items = readItems(payload);
+            List<Map<String, Object>> records = readRecords(items);
+            log.info("팝업 트렌드 파일 로드: {}건", items.size());
+            return new Snapshot(path, true, true, true, lastModified, size, items, records);
+        } catch (Exception error) {
+            log.warn("팝업 트렌드 파일 읽기 실패: {}", file.getAbsolutePath());
+            return new Snapshot(path, true, true, false, lastModified, size, List.of(), List.of());
+        }
+    }
+
+    private List<?> readItems(Object payload) {
+        Object items = payload;
+        if (payload instanceof Map<?, ?> mapPayload) {
+            items = mapPayload.get("items");
+        }
+        if (!(items instanceof List<?> list)) {
+            return List.of();
+        }
+        // JSON 배열에는 null이 있을 수 있어 List.copyOf 대신 감싸기만 합니다.
+        return Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> readRecords(List<?> items) {
+        List<Map<String, Object>> records = new ArrayList<>(items.size());
+        for (Object item : items) {
+            if (item instanceof Map<?, ?> map) {
+                records.add(Collections.unmodifiableMap((Map<String, Object>) map));
+            }
+        }
+        return Collections.unmodifiableList(records);
+    }
+
+    /**
+     * 파싱이 끝난 팝업 트렌드 파일. {@code items}는 원본 항목 전체, {@code records}는 그중 객체 항목입니다.
+     */
+    public record Snapshot(
+            String path,
+            boolean configured,
+            boolean exists,
+            boolean parsed,
+            long lastModified,
+            long size,
+            List<?> items,
+            List<Map<String, Object>> records
+    ) {
+        public static final Snapshot NOT_CONFIGURED = new Snapshot("", false, false, false, 0L, -1L, List.of(), List.of());
+
+        private boolean isSameFile(String otherPath, boolean otherExists, long otherLastModified, long otherSize) {
+            return path.equals(otherPath)
+                    && exists == otherExists
+                    && lastModified == otherLastModified
+                    && size == otherSize;
+        }
+    }
+
+    private record CheckedSnapshot(Snapshot snapshot, long nextCheckAtMillis) {
+    }
+}
@@ -0,0 +1,203 @@
+package com.neogulmap.neogul_map.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 외부 공급자(서울 도시데이터, 통신사 혼잡도, 관광공사, 서울 문화행사) 호출이 함께 쓰는 HTTP 계층
+ * 하나의 {@link HttpClient}를 공유하므로 같은 호스트로 가는 요청은 keep-alive 연결을 재사용합니다.
+ * 서울 열린데이터 API처럼 평문 http로만 열린 공급자가 있어 HTTP/1.1로 고정하고, h2c 업그레이드를 시도하지 않습니다.
+ * 공급자(호스트)마다 동시에 열 수 있는 요청 수를 제한하고, 지연 시간과 결과를 {@code insights.provider.http} 타이머로 남깁니다.
+ * 연결 슬롯은 응답 본문을 닫을 때 반납하므로 본문을 읽는 동안에도 한도에 포함됩니다.
+ */
+@Component
+public class ProviderHttpClient implements AutoCloseable {
+
+    static final String METRIC_NAME = "insights.provider.http";
+
+    private final RestTemplateBuilder restTemplateBuilder;
+    private final MeterRegistry meterRegistry;
+    private final int maxConnectionsPerProvider;
+    private final long acquireTimeoutMillis;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient;
+    private final JdkClientHttpRequestFactory requestFactory;
+    private final Map<String, Semaphore> connectionSlots = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ProviderHttpClient(
+            RestTemplateBuilder restTemplateBuilder,
+            MeterRegistry meterRegistry,
+            @Value("${external.insights.http.connect-timeout-ms:${INSIGHTS_HTTP_CONNECT_TIMEOUT_MS:3000}}") long connectTimeoutMillis,
+            @Value("${external.insights.http.read-timeout-ms:${INSIGHTS_HTTP_READ_TIMEOUT_MS:5000}}") long readTimeoutMillis,
+            @Value("${external.insights.http.max-connections-per-provider:${INSIGHTS_HTTP_MAX_CONNECTIONS_PER_PROVIDER:4}}") int maxConnectionsPerProvider
+    ) {
+        this.restTemplateBuilder = restTemplateBuilder;
+        this.meterRegistry = meterRegistry;
+        this.maxConnectionsPerProvider = Math.max(1, maxConnectionsPerProvider);
+        // 슬롯을 기다리는 시간도 읽기 제한 시간을 넘지 않게 해서, 한도에 막힌 요청이 warm-up을 붙잡아 두지 않게 합니다.
+        this.acquireTimeoutMillis = Math.max(1, readTimeoutMillis);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(Math.max(1, connectTimeoutMillis)))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+        this.requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        this.requestFactory.setReadTimeout(Duration.ofMillis(Math.max(1, readTimeoutMillis)));
+    }
+
+    /**
+     * 공유 연결 풀과 공급자별 한도, 지표가 적용된 {@link RestTemplate}. 메시지 변환기 등은 전달받은 builder 설정을 따릅니다.
+     */
+    public RestTemplate restTemplate() {
+        return restTemplateBuilder
+                .requestFactory(() -> requestFactory)
+                .additionalInterceptors(this::intercept)
+                .build();
+    }
+
+    /**
+     * 공급자 호출을 virtual thread에서 비동기로 실행합니다. single-flight 조회가 이 future를 대기 중인 호출과 공유합니다.
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, executor);
+    }
+
+    int availableSlots(String provider) {
+        Semaphore slots = connectionSlots.get(provider);
+        return slots == null ? maxConnectionsPerProvider : slots.availablePermits();
+    }
+
+    @Override
+    public void close() {
+        httpClient.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private ClientHttpResponse intercept(
+            HttpRequest request,
+            byte[] body,
+            ClientHttpRequestExecution execution
+    ) throws IOException {
+        String provider = providerKey(request.getURI());
+        Semaphore slots = connectionSlots.computeIfAbsent(provider, key -> new Semaphore(maxConnectionsPerProvider));
+        long startedAt = System.nanoTime();
+        if (!acquireSlot(slots, provider)) {
+            record(provider, "REJECTED", startedAt);
+            throw new IOException("공급자 연결 한도 대기 시간을 넘었습니다: " + provider);
+        }
+
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            String outcome = response.getStatusCode().isError() ? "HTTP_ERROR" : "SUCCESS";
+            return new SlotReleasingResponse(response, () -> {
+                slots.release();
+                record(provider, outcome, startedAt);
+            });
+        } catch (IOException | RuntimeException error) {
+            slots.release();
+            record(provider, "IO_ERROR", startedAt);
+            throw error;
+        }
+    }
+
+    private boolean acquireSlot(Semaphore slots, String provider) throws IOException {
+        try {
+            return slots.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("공급자 연결 슬롯 대기 중 중단되었습니다: " + provider);
+        }
+    }
+
+    private void record(String provider, String outcome, long startedAt) {
+        timers.computeIfAbsent(provider + ':' + outcome, key -> Timer.builder(METRIC_NAME)
+                        .description("외부 공급자 HTTP 호출 지연 시간")
+                        .tag("provider", provider)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry))
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private String providerKey(URI uri) {
+        String host = uri.getHost();
+        if (host == null || host.isBlank()) {
+            return "unknown";
+        }
+        String normalizedHost = host.toLowerCase(Locale.ROOT);
+        return uri.getPort() < 0 ? normalizedHost : normalizedHost + ':' + uri.getPort();
+    }
+
+    private static final class SlotReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final Runnable onClose;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private SlotReleasingResponse(ClientHttpResponse delegate, Runnable onClose) {
+            this.delegate = delegate;
+            this.onClose = onClose;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (closed.compareAndSet(false, true)) {
+                    onClose.run();
+                }
+            }
+        }
+    }
+}
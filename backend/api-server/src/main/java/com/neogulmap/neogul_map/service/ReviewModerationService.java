@@ -25,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Locale;
@@ -38,6 +39,7 @@ public class ReviewModerationService {
     private final ZoneReviewReportRepository reportRepository;
     private final UserRepository userRepository;
     private final UserBlockRepository userBlockRepository;
+    private final ModerationWorkloadMetrics workloadMetrics;
     private final Clock clock;
 
     @Autowired
@@ -45,13 +47,15 @@ public class ReviewModerationService {
             ZoneReviewRepository zoneReviewRepository,
             ZoneReviewReportRepository reportRepository,
             UserRepository userRepository,
-            UserBlockRepository userBlockRepository
+            UserBlockRepository userBlockRepository,
+            ModerationWorkloadMetrics workloadMetrics
     ) {
         this(
                 zoneReviewRepository,
                 reportRepository,
                 userRepository,
                 userBlockRepository,
+                workloadMetrics,
                 Clock.systemUTC()
         );
     }
@@ -61,12 +65,14 @@ public class ReviewModerationService {
             ZoneReviewReportRepository reportRepository,
             UserRepository userRepository,
             UserBlockRepository userBlockRepository,
+            ModerationWorkloadMetrics workloadMetrics,
             Clock clock
     ) {
         this.zoneReviewRepository = zoneReviewRepository;
         this.reportRepository = reportRepository;
         this.userRepository = userRepository;
         this.userBlockRepository = userBlockRepository;
+        this.workloadMetrics = workloadMetrics;
         this.clock = clock;
     }
 
@@ -75,15 +81,15 @@ public class ReviewModerationService {
             Integer zoneId,
             Long reviewId,
             ReviewReportRequest request,
-            User reporter
+            Long reporterId
     ) {
-        requireAuthenticated(reporter);
+        requireAuthenticated(reporterId);
         ZoneReview review = zoneReviewRepository.findByIdWithAuthorAndZone(reviewId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.REVIEW_NOT_FOUND));
         if (review.getZone() == null || !zoneId.equals(review.getZone().getId())) {
             throw new NotFoundException(ErrorCode.REVIEW_NOT_FOUND);
         }
-        if (reportRepository.existsByReviewIdAndReporterId(reviewId, reporter.getId())) {
+        if (reportRepository.existsByReviewIdAndReporterId(reviewId, reporterId)) {
             throw new BusinessBaseException(
                     ErrorCode.REVIEW_DUPLICATE_REPORT,
                     "이미 신고한 리뷰입니다."
@@ -101,35 +107,37 @@ public class ReviewModerationService {
 
         ZoneReviewReport report = reportRepository.save(ZoneReviewReport.builder()
                 .review(review)
-                .reporter(reporter)
+                // 신고자는 FK로만 쓰므로 엔티티를 읽지 않고 참조만 연결합니다.
+                .reporter(userRepository.getReferenceById(reporterId))
                 .reason(reason)
                 .details(details)
                 .status(ModerationStatus.PENDING)
                 .build());
+        workloadMetrics.submitted(ModerationWorkloadMetrics.Queue.REVIEW_REPORT);
         return ReviewReportResponse.from(report);
     }
 
     @Transactional
-    public void blockUser(Long blockedUserId, User blocker) {
-        requireAuthenticated(blocker);
-        if (blockedUserId == null || blockedUserId.equals(blocker.getId())) {
+    public void blockUser(Long blockedUserId, Long blockerId) {
+        requireAuthenticated(blockerId);
+        if (blockedUserId == null || blockedUserId.equals(blockerId)) {
             throw new ValidationException(ErrorCode.USER_BLOCK_INVALID, "본인 계정은 차단할 수 없습니다.");
         }
         User blocked = userRepository.findById(blockedUserId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
-        if (userBlockRepository.existsByBlockerIdAndBlockedId(blocker.getId(), blockedUserId)) {
+        if (userBlockRepository.existsByBlockerIdAndBlockedId(blockerId, blockedUserId)) {
             return;
         }
         userBlockRepository.save(UserBlock.builder()
-                .blocker(blocker)
+                .blocker(userRepository.getReferenceById(blockerId))
                 .blocked(blocked)
                 .build());
     }
 
     @Transactional
-    public void unblockUser(Long blockedUserId, User blocker) {
-        requireAuthenticated(blocker);
-        userBlockRepository.deleteByBlockerIdAndBlockedId(blocker.getId(), blockedUserId);
+    public void unblockUser(Long blockedUserId, Long blockerId) {
+        requireAuthenticated(blockerId);
+        userBlockRepository.deleteByBlockerIdAndBlockedId(blockerId, blockedUserId);
     }
 
     @Transactional(readOnly = true)
@@ -147,9 +155,19 @@ public class ReviewModerationService {
         requirePending(report.getStatus());
 
         String action = parseDecisionAction(request == null ? null : request.action());
+        workloadMetrics.decided(
+                ModerationWorkloadMetrics.Queue.REVIEW_REPORT,
+                action,
+                report.getCreatedAt(),
+                localNow()
+        );
         if ("REMOVE_CONTENT".equals(action)) {
             ZoneReview review = report.getReview();
             Long reviewId = review.getId();
+            workloadMetrics.discarded(
+                    ModerationWorkloadMetrics.Queue.REVIEW_REPORT,
+                    reportRepository.countByReviewIdAndStatus(reviewId, ModerationStatus.PENDING) - 1
+            );
             reportRepository.deleteByReviewId(reviewId);
             zoneReviewRepository.delete(review);
             return new ModerationDecisionResponse(
@@ -173,8 +191,13 @@ public class ReviewModerationService {
         return LocalDateTime.ofInstant(clock.instant(), ZoneOffset.UTC);
     }
 
-    private void requireAuthenticated(User user) {
-        if (user == null || user.getId() == null) {
+    // createdAt은 엔티티의 @PrePersist에서 JVM 기본 시간대로 기록되므로 지연 측정도 같은 기준을 사용합니다.
+    private LocalDateTime localNow() {
+        return LocalDateTime.ofInstant(clock.instant(), ZoneId.systemDefault());
+    }
+
+    private void requireAuthenticated(Long userId) {
+        if (userId == null) {
             throw new BusinessBaseException(ErrorCode.ZONE_ACCESS_DENIED, "로그인이 필요합니다.");
         }
     }
@@ -0,0 +1,94 @@
+package com.neogulmap.neogul_map.service;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+
+/**
+ * 서울 실시간 도시데이터(citydata_ppltn) XML에서 혼잡도 계산에 필요한 태그만 읽는 StAX 파서
+ * 응답에는 날씨, 교통, 행사 정보까지 함께 들어 있어 DOM으로 전부 만들면 응답 크기만큼 할당이 생깁니다.
+ * 필요한 태그를 모두 읽으면 나머지 문서는 읽지 않고 멈추며, 같은 태그가 여러 번 나오면 문서 순서상 첫 값을 씁니다.
+ * DTD와 외부 엔티티는 처리하지 않습니다.
+ */
+final class SeoulCityDataXml {
+
+    // 설정이 끝난 팩토리는 reader 생성에만 쓰므로 요청마다 만들지 않고 공유합니다.
+    private static final XMLInputFactory INPUT_FACTORY = newInputFactory();
+
+    private SeoulCityDataXml() {
+    }
+
+    /**
+     * 문서에서 처음 나오는 도시데이터 인구 태그 값을 읽습니다. 없는 태그는 {@code null}입니다.
+     *
+     * @throws XMLStreamException 필요한 태그를 다 읽기 전에 문서가 올바르지 않을 때
+     */
+    static Fields parse(String xml) throws XMLStreamException {
+        String[] values = new String[Tag.values().length];
+        int remaining = values.length;
+        XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(new StringReader(xml));
+        try {
+            while (remaining > 0 && reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                Tag tag = Tag.of(reader.getLocalName());
+                if (tag != null && values[tag.ordinal()] == null) {
+                    values[tag.ordinal()] = reader.getElementText();
+                    remaining--;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return new Fields(
+                values[Tag.AREA_NM.ordinal()],
+                values[Tag.AREA_CONGEST_LVL.ordinal()],
+                values[Tag.AREA_CONGEST_MSG.ordinal()],
+                values[Tag.AREA_PPLTN_MIN.ordinal()],
+                values[Tag.AREA_PPLTN_MAX.ordinal()],
+                values[Tag.PPLTN_TIME.ordinal()]
+        );
+    }
+
+    private static XMLInputFactory newInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    record Fields(
+            String areaName,
+            String congestionLevel,
+            String congestionMessage,
+            String minPeople,
+            String maxPeople,
+            String populationTime
+    ) {
+    }
+
+    private enum Tag {
+        AREA_NM,
+        AREA_CONGEST_LVL,
+        AREA_CONGEST_MSG,
+        AREA_PPLTN_MIN,
+        AREA_PPLTN_MAX,
+        PPLTN_TIME;
+
+        static Tag of(String localName) {
+            return switch (localName) {
+                case "AREA_NM" -> AREA_NM;
+                case "AREA_CONGEST_LVL" -> AREA_CONGEST_LVL;
+                case "AREA_CONGEST_MSG" -> AREA_CONGEST_MSG;
+                case "AREA_PPLTN_MIN" -> AREA_PPLTN_MIN;
+                case "AREA_PPLTN_MAX" -> AREA_PPLTN_MAX;
+                case "PPLTN_TIME" -> PPLTN_TIME;
+                default -> null;
+            };
+        }
+    }
+}
@@ -17,6 +17,7 @@ public interface StorageService {
     
     /**
      * 임시 파일을 최종 파일로 확정 (트랜잭션 커밋 후)
+     * 임시 파일이 없으면 예외를 던집니다.
      * @param tempName 임시 파일명
      * @param finalName 최종 파일명
      */
@@ -35,18 +35,27 @@ public class SupportRequestService {
     private static final Duration SAME_EMAIL_COOLDOWN = Duration.ofMinutes(10);
 
     private final SupportRequestRepository repository;
+    private final ModerationWorkloadMetrics workloadMetrics;
     private final Clock clock;
 
     @Value("${app.support.closed-request-retention-days:30}")
     private long closedRequestRetentionDays = 30;
 
     @Autowired
-    public SupportRequestService(SupportRequestRepository repository) {
-        this(repository, Clock.systemUTC());
+    public SupportRequestService(
+            SupportRequestRepository repository,
+            ModerationWorkloadMetrics workloadMetrics
+    ) {
+        this(repository, workloadMetrics, Clock.systemUTC());
     }
 
-    SupportRequestService(SupportRequestRepository repository, Clock clock) {
+    SupportRequestService(
+            SupportRequestRepository repository,
+            ModerationWorkloadMetrics workloadMetrics,
+            Clock clock
+    ) {
         this.repository = repository;
+        this.workloadMetrics = workloadMetrics;
         this.clock = clock;
     }
 
@@ -79,6 +88,7 @@ public class SupportRequestService {
                 .status(SupportRequestStatus.PENDING)
                 .createdAt(now)
                 .build());
+        workloadMetrics.submitted(ModerationWorkloadMetrics.Queue.SUPPORT_REQUEST);
         return SupportRequestResponse.from(saved);
     }
 
@@ -113,6 +123,12 @@ public class SupportRequestService {
         supportRequest.setStatus(nextStatus);
         if (nextStatus == SupportRequestStatus.RESOLVED || nextStatus == SupportRequestStatus.REJECTED) {
             supportRequest.setResolvedAt(now());
+            workloadMetrics.decided(
+                    ModerationWorkloadMetrics.Queue.SUPPORT_REQUEST,
+                    nextStatus.name(),
+                    supportRequest.getCreatedAt(),
+                    supportRequest.getResolvedAt()
+            );
         } else {
             supportRequest.setResolvedAt(null);
         }
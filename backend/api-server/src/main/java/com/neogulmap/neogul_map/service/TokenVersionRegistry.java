@@ -0,0 +1,126 @@
+package com.neogulmap.neogul_map.service;
+
+import com.neogulmap.neogul_map.domain.User;
+import com.neogulmap.neogul_map.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 토큰 버전 메모리 맵
+ * 요청마다 JWT의 tv claim을 이 맵과 비교하므로 버전 확인 때문에 DB를 조회하지 않습니다.
+ * 이 인스턴스에서 올린 버전은 커밋 직후 반영되고, 다른 인스턴스에서 올린 버전은 항목 TTL이 지나 다시 읽을 때 반영됩니다.
+ */
+@Component
+public class TokenVersionRegistry {
+
+    /**
+     * 삭제되었거나 존재하지 않는 사용자. 어떤 토큰 버전과도 일치하지 않습니다.
+     */
+    static final int REVOKED = -1;
+
+    private final UserRepository userRepository;
+    private final long ttlSeconds;
+    private final int maxEntries;
+    private final Clock clock;
+    private final ConcurrentHashMap<Long, CachedVersion> versions = new ConcurrentHashMap<>();
+    private final AtomicLong nextCleanupEpochSecond = new AtomicLong();
+
+    @Autowired
+    public TokenVersionRegistry(
+            UserRepository userRepository,
+            @Value("${app.security.token-version.ttl-seconds:60}") long ttlSeconds,
+            @Value("${app.security.token-version.max-entries:100000}") int maxEntries
+    ) {
+        this(userRepository, ttlSeconds, maxEntries, Clock.systemUTC());
+    }
+
+    TokenVersionRegistry(UserRepository userRepository, long ttlSeconds, int maxEntries, Clock clock) {
+        this.userRepository = userRepository;
+        this.ttlSeconds = Math.max(1, ttlSeconds);
+        this.maxEntries = Math.max(1, maxEntries);
+        this.clock = clock;
+    }
+
+    /**
+     * 토큰에 담긴 버전이 사용자의 현재 토큰 버전과 같은지 확인합니다.
+     * 맵에 없거나 TTL이 지난 사용자만 토큰 버전 컬럼 하나를 다시 읽습니다.
+     */
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        if (userId == null) {
+            return false;
+        }
+        Instant now = clock.instant();
+        cleanExpiredEntries(now);
+        CachedVersion cached = versions.get(userId);
+        if (cached == null || !cached.expiresAt().isAfter(now)) {
+            cached = load(userId, now);
+        }
+        return cached.version() == tokenVersion;
+    }
+
+    /**
+     * 사용자의 토큰 버전을 올려 이미 발급된 access/refresh 토큰을 모두 무효화합니다.
+     * 호출하는 트랜잭션이 관리하는 엔티티를 넘겨야 하며, 새 버전은 커밋된 뒤에 맵에 기록됩니다.
+     */
+    public void revoke(User user) {
+        int next = user.getTokenVersion() + 1;
+        user.setTokenVersion(next);
+        Long userId = user.getId();
+        versions.remove(userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(userId, next);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(userId, next);
+            }
+        });
+    }
+
+    int size() {
+        return versions.size();
+    }
+
+    private CachedVersion load(Long userId, Instant now) {
+        CachedVersion loaded = new CachedVersion(
+                userRepository.findActiveTokenVersionById(userId).orElse(REVOKED),
+                now.plusSeconds(ttlSeconds)
+        );
+        if (!versions.containsKey(userId) && versions.size() >= maxEntries) {
+            return loaded;
+        }
+        // 조회하는 사이 커밋된 revoke가 더 높은 버전을 기록했다면 방금 읽은 이전 값으로 덮어쓰지 않습니다.
+        return versions.merge(userId, loaded, (current, fresh) ->
+                current.version() > fresh.version() && current.expiresAt().isAfter(now) ? current : fresh);
+    }
+
+    private void record(Long userId, int version) {
+        if (!versions.containsKey(userId) && versions.size() >= maxEntries) {
+            return;
+        }
+        versions.put(userId, new CachedVersion(version, clock.instant().plusSeconds(ttlSeconds)));
+    }
+
+    private void cleanExpiredEntries(Instant now) {
+        long currentEpochSecond = now.getEpochSecond();
+        long scheduled = nextCleanupEpochSecond.get();
+        if (currentEpochSecond < scheduled
+                || !nextCleanupEpochSecond.compareAndSet(scheduled, currentEpochSecond + ttlSeconds)) {
+            return;
+        }
+        versions.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+    }
+
+    private record CachedVersion(int version, Instant expiresAt) {
+    }
+}
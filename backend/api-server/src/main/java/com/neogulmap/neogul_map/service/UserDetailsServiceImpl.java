@@ -3,7 +3,6 @@ package com.neogulmap.neogul_map.service;
 import com.neogulmap.neogul_map.config.exceptionHandling.ErrorCode;
 import com.neogulmap.neogul_map.config.exceptionHandling.exception.NotFoundException;
 import com.neogulmap.neogul_map.domain.User;
-import com.neogulmap.neogul_map.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
@@ -11,11 +10,11 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
-    private final UserRepository userRepository;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
     @Override
     public User loadUserByUsername(String email) {
-        return userRepository.findByEmail(email)
+        return authenticatedUserCache.findByEmail(email)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
     }
 }
@@ -8,11 +8,8 @@ import com.neogulmap.neogul_map.config.exceptionHandling.exception.ValidationExc
 import com.neogulmap.neogul_map.config.security.jwt.TokenProvider;
 import com.neogulmap.neogul_map.config.security.oauth.OAuth2UserCustomService;
 import com.neogulmap.neogul_map.config.exceptionHandling.ErrorCode;
-import com.neogulmap.neogul_map.domain.Zone;
-import com.neogulmap.neogul_map.domain.enums.ImageType;
+import com.neogulmap.neogul_map.domain.AccountDeletionJob;
 import com.neogulmap.neogul_map.repository.UserRepository;
-import com.neogulmap.neogul_map.repository.ZoneRepository;
-import com.neogulmap.neogul_map.repository.ZoneReviewRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,13 +29,13 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
-    private final ZoneRepository zoneRepository;
-    private final ZoneReviewRepository zoneReviewRepository;
-    private final ImageService imageService;
+    private final AccountDeletionJobService accountDeletionJobService;
     private final TokenProvider tokenProvider;
     private final LinkedAccountRevocationService linkedAccountRevocationService;
     private final AppleRefreshTokenCipher appleRefreshTokenCipher;
     private final ReviewContentPolicy contentPolicy;
+    private final AuthenticatedUserCache authenticatedUserCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
     
     // 이미지 처리 관련 설정은 ImageService로 이동됨
 
@@ -79,6 +76,7 @@ public class UserService {
             userRequest.setNickname(validatePublicNickname(userRequest.getNickname()));
         }
         user.update(userRequest);
+        authenticatedUserCache.invalidate(id);
         return UserResponse.from(user);
     }
 
@@ -109,6 +107,7 @@ public class UserService {
     @Transactional
     public AccountDeletionResult deleteUser(Long id) {
         User user = userRepository.findById(id)
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
         boolean appleAccount = "apple".equalsIgnoreCase(user.getOauthProvider());
         boolean manualAppleRevocationRequired = appleAccount
@@ -120,29 +119,35 @@ public class UserService {
         // had a token still complete local deletion and receive the manual-revocation notice.
         linkedAccountRevocationService.revokeBeforeDeletion(user);
 
-        // App Store account-deletion contract: remove reviews authored on places owned by others too.
-        zoneReviewRepository.deleteByAuthorId(id);
+        // Only the account itself is retired here. Reviews, reports, zones and storage objects are purged
+        // by AccountDeletionWorker in bounded batches, so prolific contributors neither time out the
+        // request nor hold long locks on `zone`. The job still covers reviews on places owned by
+        // others, as required by the App Store account-deletion contract.
+        AccountDeletionJob job = accountDeletionJobService.schedule(user);
+        // 삭제 요청 전에 발급된 토큰은 정리 작업이 끝나기 전에도 더 이상 사용할 수 없습니다.
+        tokenVersionRegistry.revoke(user);
+        authenticatedUserCache.invalidate(id);
+        return new AccountDeletionResult(manualAppleRevocationRequired, job.getId());
+    }
 
-        List<Zone> ownedZones = zoneRepository.findByCreatorId(id);
-        for (Zone zone : ownedZones) {
-            if (zone.getImage() != null && !zone.getImage().isBlank()) {
-                imageService.deleteImage(zone.getImage(), ImageType.ZONE);
-            }
-        }
-        zoneRepository.deleteAll(ownedZones);
+    public record AccountDeletionResult(boolean manualAppleRevocationRequired, Long deletionJobId) {}
 
-        if (user.getProfileImage() != null && !user.getProfileImage().isBlank()) {
-            imageService.deleteImage(user.getProfileImage(), ImageType.PROFILE);
-        }
-        userRepository.deleteById(id);
-        return new AccountDeletionResult(manualAppleRevocationRequired);
+    /**
+     * 모든 기기에서 로그아웃합니다. 토큰 버전을 올려 지금까지 발급된 access/refresh 토큰을 모두 무효화합니다.
+     */
+    @Transactional
+    public void revokeAllTokens(Long id) {
+        User user = userRepository.findById(id)
+                .filter(found -> !found.isDeleted())
+                .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
+        tokenVersionRegistry.revoke(user);
+        authenticatedUserCache.invalidate(id);
     }
 
-    public record AccountDeletionResult(boolean manualAppleRevocationRequired) {}
-
     @Transactional(readOnly = true)
     public User getUser(Long id) {
         return userRepository.findById(id)
+                .filter(user -> !user.isDeleted())
                 .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
     }
     
@@ -182,6 +187,7 @@ public class UserService {
         
         user.setProfileImage(profileImagePath);
         userRepository.save(user);
+        authenticatedUserCache.invalidate(id);
     }
     
     /**
@@ -208,7 +214,7 @@ public class UserService {
             throw new NotFoundException(ErrorCode.USER_NOT_FOUND);
         }
 
-        return userRepository.findByEmail(email)
+        return authenticatedUserCache.findByEmail(email)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
     }
     
@@ -227,24 +233,16 @@ public class UserService {
         }
         String encryptedRefreshToken = appleRefreshTokenCipher.encrypt(appleRefreshToken);
 
-        Optional<User> existingByAppleId = userRepository.findByOauthProviderAndOauthId("apple", appleSubject);
-        if (existingByAppleId.isPresent()) {
-            User existingUser = existingByAppleId.get();
-            existingUser.setAppleRefreshTokenCiphertext(encryptedRefreshToken);
-            return userRepository.save(existingUser);
-        }
-
-        if (email == null || email.isBlank()) {
+        User existingUser = findLoginUser("apple", appleSubject, email);
+        if (existingUser == null && (email == null || email.isBlank())) {
             throw new IllegalArgumentException("최초 Apple 로그인에는 이메일 동의가 필요합니다.");
         }
-
-        Optional<User> existingByEmail = getUserByEmail(email);
-        if (existingByEmail.isPresent()) {
-            User existingUser = existingByEmail.get();
-            existingUser.setOauthId(appleSubject);
-            existingUser.setOauthProvider("apple");
+        if (existingUser != null) {
+            // 조회한 엔티티는 트랜잭션이 관리하므로 변경 감지로 한 번만 UPDATE 합니다.
+            linkProvider(existingUser, "apple", appleSubject);
             existingUser.setAppleRefreshTokenCiphertext(encryptedRefreshToken);
-            return userRepository.save(existingUser);
+            authenticatedUserCache.invalidate(existingUser.getId());
+            return existingUser;
         }
 
         String normalizedName = providerNicknameOrNull(fullName);
@@ -276,6 +274,8 @@ public class UserService {
     /**
      * OAuth2 사용자 처리 (생성 또는 업데이트)
      * OAuth2SuccessHandler에서 호출됨
+     * provider 계정과 같은 이메일 계정을 한 번에 조회하므로 재로그인은 SELECT 1회로 끝나고,
+     * 계정 연결이 바뀔 때만 UPDATE, 첫 로그인일 때만 INSERT가 추가됩니다.
      * 
      * @param customOAuth2User OAuth2 사용자 정보
      * @return 생성 또는 업데이트된 User 객체
@@ -292,50 +292,55 @@ public class UserService {
             throw new RuntimeException("OAuth2에서 이메일을 가져올 수 없습니다.");
         }
         
-        // 기존 사용자 조회
-        Optional<User> existingUserOpt = getUserByEmail(email);
-        log.debug("기존 OAuth 사용자 조회 완료 - 존재 여부: {}", existingUserOpt.isPresent());
-        
-        return existingUserOpt
-                .map(existingUser -> {
-                    // 기존 사용자 정보 업데이트 (OAuth 정보만 업데이트, 닉네임과 프로필 이미지는 회원가입에서 설정)
-                    log.debug("기존 OAuth 사용자 업데이트 시작");
-                    existingUser.setOauthId(oauthId);
-                    existingUser.setOauthProvider(oauthProvider);
-                    // 직접 저장 (순환 참조 방지)
-                    User savedUser = userRepository.save(existingUser);
-                    log.debug("기존 OAuth 사용자 저장 완료");
-                    
-                    // 저장 후 DB에서 다시 조회하여 확인
-                    User verifiedUser = userRepository.findById(savedUser.getId())
-                        .orElseThrow(() -> new RuntimeException("저장된 사용자를 DB에서 찾을 수 없습니다."));
-                    log.debug("기존 OAuth 사용자 DB 재조회 완료");
-                    
-                    return verifiedUser;
-                })
-                .orElseGet(() -> {
-                    // 첫 로그인: OAuth 정보만 저장하고 닉네임과 프로필 이미지는 null로 설정 (회원가입에서 설정)
-                    log.debug("신규 OAuth 사용자 생성 시작 - Provider: {}", oauthProvider);
-                    User newUser = User.builder()
-                            .email(email)
-                            .nickname(null) // 회원가입에서 설정하도록 null로 설정
-                            .profileImage(null) // 회원가입에서 설정하도록 null로 설정
-                            .oauthId(oauthId)
-                            .oauthProvider(oauthProvider)
-                            .createdAt(LocalDateTime.now())
-                            .build();
-                    
-                    // 직접 저장 (순환 참조 방지)
-                    User savedUser = userRepository.save(newUser);
-                    log.debug("신규 OAuth 사용자 저장 완료");
-                    
-                    // 저장 후 DB에서 다시 조회하여 확인
-                    User verifiedUser = userRepository.findById(savedUser.getId())
-                        .orElseThrow(() -> new RuntimeException("저장된 사용자를 DB에서 찾을 수 없습니다."));
-                    log.debug("신규 OAuth 사용자 DB 재조회 완료");
-                    
-                    return verifiedUser;
-                });
+        User existingUser = findLoginUser(oauthProvider, oauthId, email);
+        log.debug("기존 OAuth 사용자 조회 완료 - 존재 여부: {}", existingUser != null);
+        if (existingUser != null) {
+            // 다른 provider로 가입한 같은 이메일 계정이면 이번 provider로 연결합니다.
+            // (닉네임과 프로필 이미지는 회원가입에서 설정)
+            if (linkProvider(existingUser, oauthProvider, oauthId)) {
+                authenticatedUserCache.invalidate(existingUser.getId());
+                log.debug("기존 OAuth 사용자 provider 연결 변경");
+            }
+            return existingUser;
+        }
+
+        // 첫 로그인: OAuth 정보만 저장하고 닉네임과 프로필 이미지는 null로 설정 (회원가입에서 설정)
+        log.debug("신규 OAuth 사용자 생성 시작 - Provider: {}", oauthProvider);
+        User newUser = User.builder()
+                .email(email)
+                .nickname(null) // 회원가입에서 설정하도록 null로 설정
+                .profileImage(null) // 회원가입에서 설정하도록 null로 설정
+                .oauthId(oauthId)
+                .oauthProvider(oauthProvider)
+                .createdAt(LocalDateTime.now())
+                .build();
+        return userRepository.save(newUser);
+    }
+
+    /**
+     * provider 계정이 있으면 그 사용자를, 없으면 같은 이메일 사용자를 돌려줍니다.
+     */
+    private User findLoginUser(String oauthProvider, String oauthId, String email) {
+        User sameEmail = null;
+        for (User candidate : userRepository.findLoginCandidates(oauthProvider, oauthId, email)) {
+            if (oauthProvider.equals(candidate.getOauthProvider()) && oauthId.equals(candidate.getOauthId())) {
+                return candidate;
+            }
+            sameEmail = candidate;
+        }
+        return sameEmail;
+    }
+
+    /**
+     * @return 연결된 provider 계정이 바뀌었으면 true
+     */
+    private boolean linkProvider(User user, String oauthProvider, String oauthId) {
+        if (oauthProvider.equals(user.getOauthProvider()) && oauthId.equals(user.getOauthId())) {
+            return false;
+        }
+        user.setOauthProvider(oauthProvider);
+        user.setOauthId(oauthId);
+        return true;
     }
     
     // 이미지 처리 관련 메서드들은 ImageService로 이동됨
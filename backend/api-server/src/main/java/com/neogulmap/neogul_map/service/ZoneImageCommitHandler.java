@@ -0,0 +1,210 @@
+package com.neogulmap.neogul_map.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neogulmap.neogul_map.domain.OutboxEvent;
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.domain.enums.ImageType;
+import com.neogulmap.neogul_map.domain.enums.OutboxEventType;
+import com.neogulmap.neogul_map.event.ZoneImageCommitEvent;
+import com.neogulmap.neogul_map.repository.OutboxEventRepository;
+import com.neogulmap.neogul_map.repository.ZoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 장소 저장이 커밋된 뒤 임시 이미지를 최종 위치로 확정하고, 확정된 뒤에야 장소 이미지로 노출합니다.
+ * 그 전까지 장소는 이전 이미지를 계속 가리키므로 아직 옮겨지지 않은 파일을 조회하는 일이 없습니다.
+ * 전달 전에 장소가 삭제되었거나, 이미지가 다른 값으로 바뀌었거나, 같은 장소의 더 새로운 업로드가 기다리고 있다면
+ * 확정하지 않고 임시 파일만 정리합니다.
+ * 교체된 이전 이미지는 새 이미지가 노출되었거나 더 이상 참조되지 않을 때만 삭제 대기열에 넣고,
+ * 재시도 한도를 넘긴 확정은 이전 이미지를 그대로 두고 임시 파일만 지웁니다.
+ * 파일마다 저장소 요청이 필요하므로 배치 안의 확정은 virtual thread에서 동시에 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ZoneImageCommitHandler implements OutboxEventHandler {
+
+    private final StorageService storageService;
+    private final ZoneRepository zoneRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ImageDeletionQueue imageDeletionQueue;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public OutboxEventType eventType() {
+        return OutboxEventType.ZONE_IMAGE_COMMIT;
+    }
+
+    @Override
+    public Set<Long> handle(List<OutboxEvent> events) {
+        Set<Long> failed = new HashSet<>();
+        Map<Long, ZoneImageCommitEvent> payloads = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            ZoneImageCommitEvent payload = readPayload(event);
+            if (payload == null) {
+                failed.add(event.getId());
+            } else {
+                payloads.put(event.getId(), payload);
+            }
+        }
+        if (payloads.isEmpty()) {
+            return failed;
+        }
+
+        Map<Integer, String> currentImages = currentImages(payloads.values());
+        Set<Long> latestIds = latestIds(events);
+        Map<Long, Future<Boolean>> commits = new LinkedHashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            payloads.forEach((eventId, payload) -> {
+                if (!latestIds.contains(eventId)) {
+                    // 같은 장소의 더 새로운 업로드가 이 업로드를 대신하고, 이전 이미지도 그 업로드가 교체합니다.
+                    storageService.deleteQuietly(payload.tempFileName());
+                } else if (currentImages.containsKey(payload.zoneId())
+                        && Objects.equals(currentImages.get(payload.zoneId()), payload.previousFileName())) {
+                    commits.put(eventId, executor.submit(() -> commit(payload)));
+                } else {
+                    // 커밋 전에 장소가 삭제되었거나 이미지가 다른 값으로 바뀌어 더 이상 노출할 수 없는 업로드입니다.
+                    storageService.deleteQuietly(payload.tempFileName());
+                    discardPreviousImage(payload, currentImages.get(payload.zoneId()));
+                }
+            });
+        }
+
+        Map<Long, ZoneImageCommitEvent> committed = new LinkedHashMap<>();
+        commits.forEach((eventId, commit) -> {
+            try {
+                if (commit.get()) {
+                    committed.put(eventId, payloads.get(eventId));
+                } else {
+                    failed.add(eventId);
+                }
+            } catch (InterruptedException error) {
+                Thread.currentThread().interrupt();
+                failed.add(eventId);
+            } catch (ExecutionException error) {
+                failed.add(eventId);
+            }
+        });
+        committed.values().forEach(this::publish);
+        return failed;
+    }
+
+    /**
+     * 끝내 확정되지 못한 업로드는 노출된 적이 없으므로 임시 파일만 지우고, 장소는 이전 이미지를 그대로 보여줍니다.
+     */
+    @Override
+    public void parked(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            ZoneImageCommitEvent payload = readPayload(event);
+            if (payload == null) {
+                continue;
+            }
+            storageService.deleteQuietly(payload.tempFileName());
+            log.error(
+                    "장소 이미지 확정 포기, 이전 이미지를 유지합니다 - zoneId: {}, 파일: {}, 이전: {}",
+                    payload.zoneId(),
+                    payload.finalFileName(),
+                    payload.previousFileName()
+            );
+            // 그 사이 장소가 삭제되었거나 다른 이미지로 바뀌었다면 이전 이미지도 더 이상 참조되지 않습니다.
+            Map<Integer, String> currentImages = currentImages(List.of(payload));
+            discardPreviousImage(payload, currentImages.get(payload.zoneId()));
+        }
+    }
+
+    private boolean commit(ZoneImageCommitEvent payload) {
+        try {
+            storageService.confirm(payload.tempFileName(), payload.finalFileName());
+            return true;
+        } catch (RuntimeException error) {
+            // 이전 전달에서 이미 확정된 뒤 결과 기록만 실패했다면 임시 파일은 없고 최종 파일만 남아 있습니다.
+            if (storageService.exists(payload.finalFileName())) {
+                return true;
+            }
+            log.warn(
+                    "장소 이미지 확정 실패 - zoneId: {}, 파일: {} - {}",
+                    payload.zoneId(),
+                    payload.finalFileName(),
+                    error.getMessage()
+            );
+            return false;
+        }
+    }
+
+    /**
+     * 확정된 이미지를 장소에 노출하고, 교체된 이전 이미지는 이제 삭제 대기열에 넘깁니다.
+     * 확정하는 사이에 장소가 삭제되었거나 이미지가 바뀌었다면 확정한 파일은 참조되지 않으므로 직접 정리합니다.
+     */
+    private void publish(ZoneImageCommitEvent payload) {
+        int published = zoneRepository.publishImage(
+                payload.zoneId(),
+                payload.previousFileName(),
+                payload.finalFileName()
+        );
+        if (published > 0) {
+            discardPreviousImage(payload, payload.finalFileName());
+            return;
+        }
+        Map<Integer, String> currentImages = currentImages(List.of(payload));
+        String currentImage = currentImages.get(payload.zoneId());
+        if (!Objects.equals(currentImage, payload.finalFileName())) {
+            storageService.deleteQuietly(payload.finalFileName());
+        }
+        discardPreviousImage(payload, currentImage);
+    }
+
+    private void discardPreviousImage(ZoneImageCommitEvent payload, String currentImage) {
+        String previous = payload.previousFileName();
+        if (previous == null || previous.isBlank()
+                || previous.equals(payload.finalFileName())
+                || previous.equals(currentImage)) {
+            return;
+        }
+        imageDeletionQueue.enqueue(previous, ImageType.ZONE);
+    }
+
+    private Set<Long> latestIds(List<OutboxEvent> events) {
+        Set<String> zoneIds = new HashSet<>();
+        events.forEach(event -> zoneIds.add(event.getAggregateId()));
+        return new HashSet<>(outboxEventRepository.findLatestIds(
+                OutboxEventType.ZONE_IMAGE_COMMIT,
+                ZoneService.ZONE_AGGREGATE,
+                zoneIds
+        ));
+    }
+
+    private Map<Integer, String> currentImages(Collection<ZoneImageCommitEvent> payloads) {
+        Set<Integer> zoneIds = new HashSet<>();
+        payloads.forEach(payload -> zoneIds.add(payload.zoneId()));
+        Map<Integer, String> images = new HashMap<>();
+        for (Zone zone : zoneRepository.findAllById(zoneIds)) {
+            images.put(zone.getId(), zone.getImage());
+        }
+        return images;
+    }
+
+    private ZoneImageCommitEvent readPayload(OutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), ZoneImageCommitEvent.class);
+        } catch (JsonProcessingException error) {
+            log.error("장소 이미지 확정 이벤트 payload 해석 실패 - id: {}", event.getId());
+            return null;
+        }
+    }
+}
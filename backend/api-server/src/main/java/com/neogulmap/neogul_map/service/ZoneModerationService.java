@@ -4,7 +4,6 @@ import com.neogulmap.neogul_map.config.exceptionHandling.ErrorCode;
 import com.neogulmap.neogul_map.config.exceptionHandling.exception.BusinessBaseException;
 import com.neogulmap.neogul_map.config.exceptionHandling.exception.NotFoundException;
 import com.neogulmap.neogul_map.config.exceptionHandling.exception.ValidationException;
-import com.neogulmap.neogul_map.domain.User;
 import com.neogulmap.neogul_map.domain.Zone;
 import com.neogulmap.neogul_map.domain.ZoneReport;
 import com.neogulmap.neogul_map.domain.enums.ModerationStatus;
@@ -17,6 +16,7 @@ import com.neogulmap.neogul_map.dto.ZoneSubmissionOperatorResponse;
 import com.neogulmap.neogul_map.dto.ZonePublicationDecisionResponse;
 import com.neogulmap.neogul_map.dto.ModerationDecisionRequest;
 import com.neogulmap.neogul_map.dto.ModerationDecisionResponse;
+import com.neogulmap.neogul_map.repository.UserRepository;
 import com.neogulmap.neogul_map.repository.ZoneReportRepository;
 import com.neogulmap.neogul_map.repository.ZoneRepository;
 import com.neogulmap.neogul_map.domain.enums.ImageType;
@@ -24,11 +24,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Locale;
@@ -41,36 +40,44 @@ public class ZoneModerationService {
 
     private final ZoneRepository zoneRepository;
     private final ZoneReportRepository reportRepository;
-    private final ImageService imageService;
+    private final UserRepository userRepository;
+    private final ImageDeletionQueue imageDeletionQueue;
+    private final ModerationWorkloadMetrics workloadMetrics;
     private final Clock clock;
 
     @Autowired
     public ZoneModerationService(
             ZoneRepository zoneRepository,
             ZoneReportRepository reportRepository,
-            ImageService imageService
+            UserRepository userRepository,
+            ImageDeletionQueue imageDeletionQueue,
+            ModerationWorkloadMetrics workloadMetrics
     ) {
-        this(zoneRepository, reportRepository, imageService, Clock.systemUTC());
+        this(zoneRepository, reportRepository, userRepository, imageDeletionQueue, workloadMetrics, Clock.systemUTC());
     }
 
     ZoneModerationService(
             ZoneRepository zoneRepository,
             ZoneReportRepository reportRepository,
-            ImageService imageService,
+            UserRepository userRepository,
+            ImageDeletionQueue imageDeletionQueue,
+            ModerationWorkloadMetrics workloadMetrics,
             Clock clock
     ) {
         this.zoneRepository = zoneRepository;
         this.reportRepository = reportRepository;
-        this.imageService = imageService;
+        this.userRepository = userRepository;
+        this.imageDeletionQueue = imageDeletionQueue;
+        this.workloadMetrics = workloadMetrics;
         this.clock = clock;
     }
 
     @Transactional
-    public ZoneReportResponse reportZone(Integer zoneId, ZoneReportRequest request, User reporter) {
-        requireAuthenticated(reporter);
+    public ZoneReportResponse reportZone(Integer zoneId, ZoneReportRequest request, Long reporterId) {
+        requireAuthenticated(reporterId);
         Zone zone = zoneRepository.findByIdAndPublicationStatus(zoneId, ZonePublicationStatus.PUBLISHED)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.ZONE_NOT_FOUND));
-        if (reportRepository.existsByZoneIdAndReporterId(zoneId, reporter.getId())) {
+        if (reportRepository.existsByZoneIdAndReporterId(zoneId, reporterId)) {
             throw new BusinessBaseException(ErrorCode.ZONE_DUPLICATE_REPORT);
         }
 
@@ -85,11 +92,13 @@ public class ZoneModerationService {
 
         ZoneReport report = reportRepository.save(ZoneReport.builder()
                 .zone(zone)
-                .reporter(reporter)
+                // 신고자는 FK로만 쓰므로 엔티티를 읽지 않고 참조만 연결합니다.
+                .reporter(userRepository.getReferenceById(reporterId))
                 .reason(reason)
                 .details(details)
                 .status(ModerationStatus.PENDING)
                 .build());
+        workloadMetrics.submitted(ModerationWorkloadMetrics.Queue.ZONE_REPORT);
         return ZoneReportResponse.from(report);
     }
 
@@ -124,6 +133,12 @@ public class ZoneModerationService {
         }
 
         String action = parsePublicationAction(request == null ? null : request.action());
+        workloadMetrics.decided(
+                ModerationWorkloadMetrics.Queue.ZONE_SUBMISSION,
+                action,
+                zone.getCreatedAt(),
+                localNow()
+        );
         if ("PUBLISH".equals(action)) {
             zone.setPublicationStatus(ZonePublicationStatus.PUBLISHED);
             zoneRepository.save(zone);
@@ -137,7 +152,7 @@ public class ZoneModerationService {
 
         String imageName = zone.getImage();
         zoneRepository.delete(zone);
-        deleteImageAfterCommit(imageName);
+        imageDeletionQueue.enqueue(imageName, ImageType.ZONE);
         return new ZonePublicationDecisionResponse(
                 zoneId,
                 action,
@@ -153,12 +168,23 @@ public class ZoneModerationService {
         requirePending(report.getStatus());
 
         String action = parseDecisionAction(request == null ? null : request.action());
+        workloadMetrics.decided(
+                ModerationWorkloadMetrics.Queue.ZONE_REPORT,
+                action,
+                report.getCreatedAt(),
+                localNow()
+        );
         if ("REMOVE_CONTENT".equals(action)) {
             Zone zone = report.getZone();
             String imageName = zone.getImage();
+            // 같은 장소에 쌓인 다른 대기 신고도 장소와 함께 사라지므로 대기 건수에서 제외합니다.
+            workloadMetrics.discarded(
+                    ModerationWorkloadMetrics.Queue.ZONE_REPORT,
+                    reportRepository.countByZoneIdAndStatus(zone.getId(), ModerationStatus.PENDING) - 1
+            );
             reportRepository.deleteByZoneId(zone.getId());
             zoneRepository.delete(zone);
-            deleteImageAfterCommit(imageName);
+            imageDeletionQueue.enqueue(imageName, ImageType.ZONE);
             return new ModerationDecisionResponse(
                     reportId,
                     action,
@@ -180,31 +206,13 @@ public class ZoneModerationService {
         return LocalDateTime.ofInstant(clock.instant(), ZoneOffset.UTC);
     }
 
-    private void deleteImageAfterCommit(String imageName) {
-        if (imageName == null || imageName.isBlank()) {
-            return;
-        }
-        Runnable deleteImage = () -> {
-            try {
-                imageService.deleteImage(imageName, ImageType.ZONE);
-            } catch (RuntimeException exception) {
-                log.error("신고 처리 후 장소 이미지 삭제 실패: {}", imageName, exception);
-            }
-        };
-        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
-            deleteImage.run();
-            return;
-        }
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                deleteImage.run();
-            }
-        });
+    // createdAt은 엔티티의 @PrePersist에서 JVM 기본 시간대로 기록되므로 지연 측정도 같은 기준을 사용합니다.
+    private LocalDateTime localNow() {
+        return LocalDateTime.ofInstant(clock.instant(), ZoneId.systemDefault());
     }
 
-    private void requireAuthenticated(User user) {
-        if (user == null || user.getId() == null) {
+    private void requireAuthenticated(Long userId) {
+        if (userId == null) {
             throw new BusinessBaseException(ErrorCode.ZONE_ACCESS_DENIED, "로그인이 필요합니다.");
         }
     }
@@ -40,11 +40,11 @@ public class ZoneReviewService {
     }
 
     @Transactional(readOnly = true)
-    public List<ZoneReviewResponse> getReviews(Integer zoneId, User currentUser) {
+    public List<ZoneReviewResponse> getReviews(Integer zoneId, Long currentUserId) {
         ensureZoneExists(zoneId);
-        Set<Long> blockedUserIds = currentUser == null || currentUser.getId() == null
+        Set<Long> blockedUserIds = currentUserId == null
                 ? Set.of()
-                : userBlockRepository.findBlockedUserIdsByBlockerId(currentUser.getId());
+                : userBlockRepository.findBlockedUserIdsByBlockerId(currentUserId);
         return zoneReviewRepository.findByZoneIdWithAuthorOrderByCreatedAtDesc(zoneId)
                 .stream()
                 .filter(review -> review.getAuthor() == null
@@ -4,6 +4,7 @@ import com.neogulmap.neogul_map.config.exceptionHandling.ErrorCode;
 import com.neogulmap.neogul_map.config.exceptionHandling.exception.BusinessBaseException;
 import com.neogulmap.neogul_map.config.exceptionHandling.exception.NotFoundException;
 import com.neogulmap.neogul_map.config.exceptionHandling.exception.ValidationException;
+import com.neogulmap.neogul_map.config.security.AuthenticatedPrincipal;
 import com.neogulmap.neogul_map.domain.Zone;
 import com.neogulmap.neogul_map.domain.User;
 import com.neogulmap.neogul_map.dto.ZoneRequest;
@@ -11,7 +12,9 @@ import com.neogulmap.neogul_map.dto.ZoneResponse;
 import com.neogulmap.neogul_map.repository.ZoneRepository;
 import com.neogulmap.neogul_map.service.ImageService;
 import com.neogulmap.neogul_map.domain.enums.ImageType;
+import com.neogulmap.neogul_map.domain.enums.OutboxEventType;
 import com.neogulmap.neogul_map.domain.enums.ZonePublicationStatus;
+import com.neogulmap.neogul_map.event.ZoneImageCommitEvent;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -32,27 +35,32 @@ import java.util.stream.Collectors;
 public class ZoneService {
 
     private static final int DEFAULT_PUBLIC_LIST_LIMIT = 100;
-    private static final int MAX_PUBLIC_LIST_LIMIT = 200;
+    public static final int MAX_PUBLIC_LIST_LIMIT = 200;
     private static final int DEFAULT_BOUNDS_LIMIT = 200;
-    private static final int MAX_BOUNDS_LIMIT = 500;
+    public static final int MAX_BOUNDS_LIMIT = 500;
     private static final int MAX_SEARCH_KEYWORD_LENGTH = 100;
-    private static final int MAX_RADIUS_METERS = 50_000;
+    public static final int MAX_RADIUS_METERS = 50_000;
     private static final double MAX_BOUNDS_SPAN_DEGREES = 5.0;
-    private static final double MAX_BOUNDS_AREA_SQUARE_DEGREES = 4.0;
+    public static final double MAX_BOUNDS_AREA_SQUARE_DEGREES = 4.0;
+    static final String ZONE_AGGREGATE = "zone";
     
     private final ZoneRepository zoneRepository;
     private final ImageService imageService;
+    private final ImageDeletionQueue imageDeletionQueue;
     private final ReviewContentPolicy contentPolicy;
+    private final ModerationWorkloadMetrics workloadMetrics;
+    private final OutboxPublisher outboxPublisher;
 
     @Transactional
     public ZoneResponse createZone(ZoneRequest request, MultipartFile image, User creator) {
         contentPolicy.ensureAllowed(request.getDescription());
         contentPolicy.ensureAllowed(request.getAddress());
         try {
-            // 이미지 처리 (ImageService 사용)
+            // 이미지는 임시 저장소에만 올리고, 최종 위치 확정과 장소 이미지 노출은 커밋 이후 outbox 처리기가 수행
+            ImageService.StagedImage stagedImage = null;
             if (image != null && !image.isEmpty()) {
-                String imageFileName = imageService.processImage(image, ImageType.ZONE);
-                request.setImage(imageFileName);
+                stagedImage = imageService.stageZoneImage(image);
+                request.setImage(null);
             }
 
             Zone zone = request.toEntity();
@@ -72,6 +80,12 @@ public class ZoneService {
             }
             
             Zone savedZone = zoneRepository.save(zone);
+            if (stagedImage != null) {
+                publishImageCommit(savedZone.getId(), stagedImage, null);
+            }
+            if (savedZone.getPublicationStatus() == ZonePublicationStatus.PENDING) {
+                workloadMetrics.submitted(ModerationWorkloadMetrics.Queue.ZONE_SUBMISSION);
+            }
             return ZoneResponse.from(savedZone);
             
         } catch (DataIntegrityViolationException e) {
@@ -292,17 +306,24 @@ public class ZoneService {
     }
 
     @Transactional
-    public ZoneResponse updateZone(Integer zoneId, ZoneRequest request, MultipartFile image, User currentUser) {
+    public ZoneResponse updateZone(
+            Integer zoneId,
+            ZoneRequest request,
+            MultipartFile image,
+            AuthenticatedPrincipal currentUser
+    ) {
         Zone zone = zoneRepository.findById(zoneId)
                 .orElseThrow(() -> new NotFoundException(ErrorCode.ZONE_NOT_FOUND));
         validateZoneOwner(zone, currentUser);
         contentPolicy.ensureAllowed(request.getDescription());
         contentPolicy.ensureAllowed(request.getAddress());
 
-        // 이미지 처리 (ImageService 사용)
+        // 이미지는 임시 저장소에만 올리고, 최종 위치 확정과 이미지 교체, 이전 이미지 삭제는 커밋 이후 outbox 처리기가 처리
+        // 확정 전까지는 이전 이미지를 계속 노출합니다.
         if (image != null && !image.isEmpty()) {
-            String imageFileName = imageService.processImage(image, ImageType.ZONE);
-            request.setImage(imageFileName);
+            ImageService.StagedImage stagedImage = imageService.stageZoneImage(image);
+            request.setImage(zone.getImage());
+            publishImageCommit(zoneId, stagedImage, zone.getImage());
         } else if (request.getImage() == null || request.getImage().isEmpty()) {
             // 이미지가 null이거나 비어있으면 기존 이미지 유지 또는 삭제
             // 여기서는 기존 이미지를 유지하는 것으로 가정 (요청에 따라 변경 가능)
@@ -324,18 +345,18 @@ public class ZoneService {
     }
 
     @Transactional
-    public void deleteZone(Integer zoneId, User currentUser) {
+    public void deleteZone(Integer zoneId, AuthenticatedPrincipal currentUser) {
         try {
             Zone zone = zoneRepository.findById(zoneId)
                         .orElseThrow(() -> new NotFoundException(ErrorCode.ZONE_NOT_FOUND));
             validateZoneOwner(zone, currentUser);
             
-            // 이미지 파일도 삭제
-            if (zone.getImage() != null && !zone.getImage().isEmpty()) {
-                imageService.deleteImage(zone.getImage(), ImageType.ZONE);
-            }
-            
             zoneRepository.deleteById(zoneId);
+            if (zone.getPublicationStatus() == ZonePublicationStatus.PENDING) {
+                workloadMetrics.discarded(ModerationWorkloadMetrics.Queue.ZONE_SUBMISSION, 1);
+            }
+            // 이미지 파일은 커밋 이후 삭제 대기열 worker가 정리
+            imageDeletionQueue.enqueue(zone.getImage(), ImageType.ZONE);
         } catch (NotFoundException e) {
             throw e; // 이미 정의된 예외는 그대로 전파
         } catch (Exception e) {
@@ -344,7 +365,22 @@ public class ZoneService {
         }
     }
 
-    private void validateZoneOwner(Zone zone, User currentUser) {
+    private void publishImageCommit(Integer zoneId, ImageService.StagedImage stagedImage, String previousImage) {
+        outboxPublisher.publish(
+                OutboxEventType.ZONE_IMAGE_COMMIT,
+                ZONE_AGGREGATE,
+                zoneId,
+                ZoneImageCommitEvent.replacing(
+                        stagedImage.tempFileName(),
+                        stagedImage.finalFileName(),
+                        zoneId,
+                        previousImage
+                )
+        );
+    }
+
+    // 소유자 확인에는 JWT claim의 id와 이메일만 쓰므로 사용자 엔티티를 조회하지 않습니다.
+    private void validateZoneOwner(Zone zone, AuthenticatedPrincipal currentUser) {
         if (currentUser == null) {
             throw new BusinessBaseException(ErrorCode.ZONE_ACCESS_DENIED);
         }
@@ -352,12 +388,12 @@ public class ZoneService {
         boolean matchesCreatorId =
                 zone.getCreator() != null
                         && zone.getCreator().getId() != null
-                        && zone.getCreator().getId().equals(currentUser.getId());
+                        && zone.getCreator().getId().equals(currentUser.id());
 
         boolean matchesLegacyUser =
                 zone.getUser() != null
-                        && currentUser.getEmail() != null
-                        && zone.getUser().equalsIgnoreCase(currentUser.getEmail());
+                        && currentUser.email() != null
+                        && zone.getUser().equalsIgnoreCase(currentUser.email());
 
         if (!matchesCreatorId && !matchesLegacyUser) {
             throw new BusinessBaseException(ErrorCode.ZONE_ACCESS_DENIED);
@@ -20,7 +20,11 @@ import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignReques
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service("s3StorageService")
@@ -46,6 +50,7 @@ public class S3StorageServiceImpl implements StorageService {
     public String zonePrefix;
     
     private static final String TEMP_PREFIX = "temp_";
+    private static final int MAX_DELETE_OBJECTS_KEYS = 1000;
     
     /**
      * 이미지를 S3에 직접 저장 (ImageService에서 사용)
@@ -170,6 +175,42 @@ public class S3StorageServiceImpl implements StorageService {
         }
     }
     
+    /**
+     * 여러 이미지 파일을 DeleteObjects 요청으로 한 번에 삭제
+     * @param fileNames 파일명 목록
+     * @param imageType 이미지 타입
+     * @return 삭제에 실패한 파일명 목록 (재시도 대상)
+     */
+    public List<String> deleteImages(List<String> fileNames, ImageType imageType) {
+        List<String> failed = new ArrayList<>();
+        for (int from = 0; from < fileNames.size(); from += MAX_DELETE_OBJECTS_KEYS) {
+            List<String> chunk = fileNames.subList(from, Math.min(fileNames.size(), from + MAX_DELETE_OBJECTS_KEYS));
+            List<ObjectIdentifier> objects = chunk.stream()
+                    .map(fileName -> ObjectIdentifier.builder().key(getS3Key(fileName, imageType)).build())
+                    .toList();
+            try {
+                DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                        .bucket(bucketName)
+                        .delete(Delete.builder().objects(objects).quiet(true).build())
+                        .build());
+                Set<String> failedKeys = response.errors().stream()
+                        .map(S3Error::key)
+                        .collect(Collectors.toSet());
+                for (String fileName : chunk) {
+                    if (failedKeys.contains(getS3Key(fileName, imageType))) {
+                        failed.add(fileName);
+                    }
+                }
+                log.info("S3 이미지 일괄 삭제 완료: {}건 요청, {}건 실패 (타입: {})",
+                        chunk.size(), failedKeys.size(), imageType);
+            } catch (Exception e) {
+                log.warn("S3 이미지 일괄 삭제 실패: {}건 (타입: {}) - {}", chunk.size(), imageType, e.getMessage());
+                failed.addAll(chunk);
+            }
+        }
+        return failed;
+    }
+    
     @Override
     public String saveTemp(MultipartFile file) {
         if (file == null || file.isEmpty()) {
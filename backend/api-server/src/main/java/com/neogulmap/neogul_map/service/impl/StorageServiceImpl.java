@@ -20,7 +20,8 @@ import java.util.UUID;
 @Service("localStorageService")
 public class StorageServiceImpl implements StorageService {
     
-    @Value("${app.upload.dir:uploads}")
+    // 이미지 조회(ImageService)와 같은 업로드 기본 경로를 사용합니다.
+    @Value("${app.upload.dir:${app.image.upload-base-path:uploads}}")
     private String uploadDir;
     
     private static final String TEMP_PREFIX = "temp_";
@@ -68,10 +69,10 @@ public class StorageServiceImpl implements StorageService {
             Path tempFilePath = tempDir.resolve(tempName);
             Path finalFilePath = finalDir.resolve(finalName);
             
-            // 임시 파일이 존재하는지 확인
+            // 임시 파일이 없으면 확정된 것으로 보지 않습니다. 이미 확정된 재전달인지는 호출자가 최종 파일로 확인합니다.
             if (!Files.exists(tempFilePath)) {
                 log.warn("임시 파일이 존재하지 않습니다: {}", tempName);
-                return;
+                throw new FileStorageException(ErrorCode.FILE_NOT_FOUND, "확정할 임시 파일이 없습니다: " + tempName);
             }
             
             // 임시 파일을 최종 위치로 이동
@@ -0,0 +1,18 @@
+-- Move moderation/account-deletion storage I/O off the request path.
+-- Rows are written in the same transaction as the zone/user delete and drained by the API's background worker.
+-- Each worker claims due rows with claimed_by and pushes next_attempt_at forward, so several API instances never delete the same row twice.
+-- Safe to run repeatedly on MySQL 8.0 because the table creation is guarded.
+
+CREATE TABLE IF NOT EXISTS `image_deletion_task` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT,
+  `image_name` VARCHAR(255) NOT NULL,
+  `image_type` VARCHAR(20) NOT NULL,
+  `attempts` INT NOT NULL DEFAULT 0,
+  `next_attempt_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `last_error` VARCHAR(500) NULL,
+  `claimed_by` VARCHAR(36) NULL,
+  `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`id`),
+  INDEX `idx_image_deletion_task_due` (`attempts`, `next_attempt_at`),
+  INDEX `idx_image_deletion_task_claim` (`claimed_by`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,41 @@
+-- Account deletion becomes a tracked background job.
+-- The request marks the user deleted (users.deleted_at) and the API's worker purges reviews, reports and zones in bounded batches.
+-- Failed jobs back off through next_attempt_at and park after app.account-deletion.max-attempts, so they never block later deletions.
+-- Safe to run repeatedly on MySQL 8.0 because the column add and table creation are guarded.
+SET @users_deleted_at_exists = (
+  SELECT COUNT(*)
+  FROM information_schema.columns
+  WHERE table_schema = DATABASE()
+    AND table_name = 'users'
+    AND column_name = 'deleted_at'
+);
+
+SET @users_deleted_at_ddl = IF(
+  @users_deleted_at_exists = 0,
+  'ALTER TABLE `users` ADD COLUMN `deleted_at` DATETIME NULL AFTER `created_at`',
+  'SELECT 1'
+);
+
+PREPARE users_deleted_at_statement FROM @users_deleted_at_ddl;
+EXECUTE users_deleted_at_statement;
+DEALLOCATE PREPARE users_deleted_at_statement;
+
+CREATE TABLE IF NOT EXISTS `account_deletion_job` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT,
+  `user_id` BIGINT NOT NULL,
+  `stage` VARCHAR(20) NOT NULL DEFAULT 'REVIEWS',
+  `reviews_deleted` INT NOT NULL DEFAULT 0,
+  `reports_deleted` INT NOT NULL DEFAULT 0,
+  `zones_deleted` INT NOT NULL DEFAULT 0,
+  `images_queued` INT NOT NULL DEFAULT 0,
+  `attempts` INT NOT NULL DEFAULT 0,
+  `next_attempt_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `last_error` VARCHAR(500) NULL,
+  `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `completed_at` DATETIME NULL,
+  PRIMARY KEY (`id`),
+  INDEX `idx_account_deletion_job_pending` (`completed_at`, `id`),
+  INDEX `idx_account_deletion_job_due` (`completed_at`, `attempts`, `next_attempt_at`, `id`),
+  INDEX `idx_account_deletion_job_user` (`user_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,20 @@
+-- Record when a zone was submitted so moderation can measure submission-to-decision latency.
+-- Existing rows keep NULL because only the submission date was stored before; the latency timer skips them.
+-- Safe to run repeatedly on MySQL 8.0 because the column add is guarded.
+SET @zone_created_at_exists = (
+  SELECT COUNT(*)
+  FROM information_schema.columns
+  WHERE table_schema = DATABASE()
+    AND table_name = 'zone'
+    AND column_name = 'created_at'
+);
+
+SET @zone_created_at_ddl = IF(
+  @zone_created_at_exists = 0,
+  'ALTER TABLE `zone` ADD COLUMN `created_at` DATETIME NULL AFTER `publication_status`',
+  'SELECT 1'
+);
+
+PREPARE zone_created_at_statement FROM @zone_created_at_ddl;
+EXECUTE zone_created_at_statement;
+DEALLOCATE PREPARE zone_created_at_statement;
@@ -0,0 +1,21 @@
+-- Transactional outbox for post-commit side effects (zone image commit, ...).
+-- Rows are written in the same transaction as the zone change and delivered by the API's background dispatcher.
+-- Each dispatcher claims due rows with claimed_by and pushes next_attempt_at forward, so several API instances never deliver the same row at once.
+-- Safe to run repeatedly on MySQL 8.0 because the table creation is guarded.
+
+CREATE TABLE IF NOT EXISTS `outbox_event` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT,
+  `aggregate_type` VARCHAR(40) NOT NULL,
+  `aggregate_id` VARCHAR(64) NOT NULL,
+  `event_type` VARCHAR(60) NOT NULL,
+  `payload` TEXT NOT NULL,
+  `attempts` INT NOT NULL DEFAULT 0,
+  `next_attempt_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `last_error` VARCHAR(500) NULL,
+  `claimed_by` VARCHAR(36) NULL,
+  `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`id`),
+  INDEX `idx_outbox_event_due` (`attempts`, `next_attempt_at`, `id`),
+  INDEX `idx_outbox_event_aggregate` (`aggregate_type`, `aggregate_id`, `id`),
+  INDEX `idx_outbox_event_claim` (`claimed_by`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,21 @@
+-- Track a per-user token version so issued JWTs can be revoked without a token blacklist.
+-- Tokens carry the version in the `tv` claim; bumping the column invalidates every token issued before.
+-- Existing rows start at 0, which is also what tokens without a `tv` claim are treated as.
+-- Safe to run repeatedly on MySQL 8.0 because the column add is guarded.
+SET @users_token_version_exists = (
+  SELECT COUNT(*)
+  FROM information_schema.columns
+  WHERE table_schema = DATABASE()
+    AND table_name = 'users'
+    AND column_name = 'token_version'
+);
+
+SET @users_token_version_ddl = IF(
+  @users_token_version_exists = 0,
+  'ALTER TABLE `users` ADD COLUMN `token_version` INT NOT NULL DEFAULT 0 AFTER `deleted_at`',
+  'SELECT 1'
+);
+
+PREPARE users_token_version_statement FROM @users_token_version_ddl;
+EXECUTE users_token_version_statement;
+DEALLOCATE PREPARE users_token_version_statement;
@@ -0,0 +1,21 @@
+-- Shared store for one-time native OAuth login codes so the code exchange works on any API instance.
+-- Only used when app.oauth2.native-code.store=database; rows live for at most a few minutes and are
+-- deleted on exchange or by the expired-code purge. The code itself is stored as a SHA-256 hash, and the
+-- access/refresh token columns hold AES-GCM ciphertext keyed by the raw code, which is never stored.
+-- Production validates the schema at startup, so apply this before deploying the new API image.
+-- Safe to run repeatedly on MySQL 8.0 because the table creation is guarded.
+
+CREATE TABLE IF NOT EXISTS `native_oauth_code` (
+  `code_hash` VARCHAR(64) NOT NULL,
+  `access_token` TEXT NOT NULL,
+  `refresh_token` TEXT NOT NULL,
+  `user_id` BIGINT NOT NULL,
+  `email` VARCHAR(255) NULL,
+  `nickname` VARCHAR(100) NULL,
+  `profile_complete` TINYINT(1) NOT NULL DEFAULT 0,
+  `code_challenge` VARCHAR(128) NOT NULL,
+  `code_challenge_method` VARCHAR(10) NOT NULL,
+  `expires_at` DATETIME NOT NULL,
+  PRIMARY KEY (`code_hash`),
+  INDEX `idx_native_oauth_code_expires_at` (`expires_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
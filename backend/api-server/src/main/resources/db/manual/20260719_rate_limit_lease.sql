@@ -0,0 +1,16 @@
+-- Shared per-client request counters for the optional distributed rate limit
+-- (app.security.distributed-rate-limit.enabled=true). Each API instance leases a few requests at a time
+-- from the current fixed window, so the table sees roughly one write per client per lease chunk.
+-- Client addresses are stored only as the first 8 bytes of their SHA-256 hash.
+-- Rows expire one window after their window ends and are removed by the lease purge worker.
+-- Safe to run repeatedly on MySQL 8.0 because the table creation is guarded.
+
+CREATE TABLE IF NOT EXISTS `rate_limit_lease` (
+  `limiter_name` VARCHAR(40) NOT NULL,
+  `client_hash` BIGINT NOT NULL,
+  `window_index` BIGINT NOT NULL,
+  `consumed` INT NOT NULL,
+  `expires_at` DATETIME NOT NULL,
+  PRIMARY KEY (`limiter_name`, `client_hash`, `window_index`),
+  INDEX `idx_rate_limit_lease_expires_at` (`expires_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -14,6 +14,8 @@ CREATE TABLE IF NOT EXISTS `users` (
   `profile_image_url` VARCHAR(255) NULL,
   `apple_refresh_token_ciphertext` TEXT NULL,
   `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `deleted_at` DATETIME NULL,
+  `token_version` INT NOT NULL DEFAULT 0,
   PRIMARY KEY (`id`),
   UNIQUE KEY `uk_users_email` (`email`),
   UNIQUE KEY `uk_users_oauth_id` (`oauth_id`)
@@ -37,6 +39,7 @@ CREATE TABLE IF NOT EXISTS `zone` (
   `creator_id` BIGINT NULL,
   `image` VARCHAR(255) NULL,
   `publication_status` VARCHAR(20) NOT NULL DEFAULT 'PUBLISHED',
+  `created_at` DATETIME NULL,
   PRIMARY KEY (`id`),
   UNIQUE KEY `uk_zone_address` (`address`),
   INDEX `idx_zone_creator_id` (`creator_id`),
@@ -157,3 +160,99 @@ CREATE TABLE IF NOT EXISTS `support_request` (
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- -----------------------------------------------------
+-- Table `image_deletion_task`
+-- Durable storage-deletion queue drained by a background worker after moderation or account deletion.
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `image_deletion_task` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT,
+  `image_name` VARCHAR(255) NOT NULL,
+  `image_type` VARCHAR(20) NOT NULL,
+  `attempts` INT NOT NULL DEFAULT 0,
+  `next_attempt_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `last_error` VARCHAR(500) NULL,
+  `claimed_by` VARCHAR(36) NULL,
+  `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`id`),
+  INDEX `idx_image_deletion_task_due` (`attempts`, `next_attempt_at`),
+  INDEX `idx_image_deletion_task_claim` (`claimed_by`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- -----------------------------------------------------
+-- Table `account_deletion_job`
+-- Tracks staged, resumable purges of a deleted account's reviews, reports and zones.
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `account_deletion_job` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT,
+  `user_id` BIGINT NOT NULL,
+  `stage` VARCHAR(20) NOT NULL DEFAULT 'REVIEWS',
+  `reviews_deleted` INT NOT NULL DEFAULT 0,
+  `reports_deleted` INT NOT NULL DEFAULT 0,
+  `zones_deleted` INT NOT NULL DEFAULT 0,
+  `images_queued` INT NOT NULL DEFAULT 0,
+  `attempts` INT NOT NULL DEFAULT 0,
+  `next_attempt_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `last_error` VARCHAR(500) NULL,
+  `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `completed_at` DATETIME NULL,
+  PRIMARY KEY (`id`),
+  INDEX `idx_account_deletion_job_pending` (`completed_at`, `id`),
+  INDEX `idx_account_deletion_job_due` (`completed_at`, `attempts`, `next_attempt_at`, `id`),
+  INDEX `idx_account_deletion_job_user` (`user_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- -----------------------------------------------------
+-- Table `outbox_event`
+-- Transactional outbox of post-commit side effects, delivered in order per aggregate by a background dispatcher.
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `outbox_event` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT,
+  `aggregate_type` VARCHAR(40) NOT NULL,
+  `aggregate_id` VARCHAR(64) NOT NULL,
+  `event_type` VARCHAR(60) NOT NULL,
+  `payload` TEXT NOT NULL,
+  `attempts` INT NOT NULL DEFAULT 0,
+  `next_attempt_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `last_error` VARCHAR(500) NULL,
+  `claimed_by` VARCHAR(36) NULL,
+  `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`id`),
+  INDEX `idx_outbox_event_due` (`attempts`, `next_attempt_at`, `id`),
+  INDEX `idx_outbox_event_aggregate` (`aggregate_type`, `aggregate_id`, `id`),
+  INDEX `idx_outbox_event_claim` (`claimed_by`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- -----------------------------------------------------
+-- Table `native_oauth_code`
+-- One-time native OAuth login codes shared across API instances (app.oauth2.native-code.store=database).
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `native_oauth_code` (
+  `code_hash` VARCHAR(64) NOT NULL,
+  `access_token` TEXT NOT NULL,
+  `refresh_token` TEXT NOT NULL,
+  `user_id` BIGINT NOT NULL,
+  `email` VARCHAR(255) NULL,
+  `nickname` VARCHAR(100) NULL,
+  `profile_complete` TINYINT(1) NOT NULL DEFAULT 0,
+  `code_challenge` VARCHAR(128) NOT NULL,
+  `code_challenge_method` VARCHAR(10) NOT NULL,
+  `expires_at` DATETIME NOT NULL,
+  PRIMARY KEY (`code_hash`),
+  INDEX `idx_native_oauth_code_expires_at` (`expires_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- -----------------------------------------------------
+-- Table `rate_limit_lease`
+-- Shared per-client request counters for the distributed rate limit (app.security.distributed-rate-limit.enabled=true).
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `rate_limit_lease` (
+  `limiter_name` VARCHAR(40) NOT NULL,
+  `client_hash` BIGINT NOT NULL,
+  `window_index` BIGINT NOT NULL,
+  `consumed` INT NOT NULL,
+  `expires_at` DATETIME NOT NULL,
+  PRIMARY KEY (`limiter_name`, `client_hash`, `window_index`),
+  INDEX `idx_rate_limit_lease_expires_at` (`expires_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- -----------------------------------------------------
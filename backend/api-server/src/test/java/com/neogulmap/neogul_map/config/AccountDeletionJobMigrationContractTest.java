@@ -0,0 +1,44 @@
+package com.neogulmap.neogul_map.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountDeletionJobMigrationContractTest {
+
+    private static final String JOB_RETRY_COLUMNS =
+            "`attempts` INT NOT NULL DEFAULT 0,\n  `next_attempt_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,\n  `last_error` VARCHAR(500) NULL,";
+    private static final String JOB_DUE_INDEX =
+            "INDEX `idx_account_deletion_job_due` (`completed_at`, `attempts`, `next_attempt_at`, `id`)";
+
+    @Test
+    void migrationAddsDeletedMarkerAndJobTableMatchingSchema() throws IOException {
+        String migration = readResource("/db/manual/20260714_account_deletion_job.sql");
+        String schema = readResource("/schema.sql");
+
+        assertThat(migration)
+                .contains("column_name = 'deleted_at'")
+                .contains("ADD COLUMN `deleted_at` DATETIME NULL")
+                .contains("CREATE TABLE IF NOT EXISTS `account_deletion_job`")
+                .contains("`stage` VARCHAR(20) NOT NULL DEFAULT 'REVIEWS'")
+                .contains("INDEX `idx_account_deletion_job_pending` (`completed_at`, `id`)")
+                .contains(JOB_RETRY_COLUMNS)
+                .contains(JOB_DUE_INDEX);
+        assertThat(schema)
+                .contains("`deleted_at` DATETIME NULL")
+                .contains("CREATE TABLE IF NOT EXISTS `account_deletion_job`")
+                .contains("INDEX `idx_account_deletion_job_pending` (`completed_at`, `id`)")
+                .contains(JOB_RETRY_COLUMNS)
+                .contains(JOB_DUE_INDEX);
+    }
+
+    private String readResource(String path) throws IOException {
+        try (var stream = getClass().getResourceAsStream(path)) {
+            assertThat(stream).as("classpath resource %s", path).isNotNull();
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.neogulmap.neogul_map.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageDeletionQueueMigrationContractTest {
+
+    @Test
+    void migrationCreatesGuardedDeletionQueueMatchingSchema() throws IOException {
+        String migration = readResource("/db/manual/20260713_image_deletion_queue.sql");
+        String schema = readResource("/schema.sql");
+
+        assertThat(migration)
+                .contains("CREATE TABLE IF NOT EXISTS `image_deletion_task`")
+                .contains("`image_type` VARCHAR(20) NOT NULL")
+                .contains("`next_attempt_at` DATETIME NOT NULL")
+                .contains("`claimed_by` VARCHAR(36) NULL")
+                .contains("INDEX `idx_image_deletion_task_due` (`attempts`, `next_attempt_at`)")
+                .contains("INDEX `idx_image_deletion_task_claim` (`claimed_by`)");
+        assertThat(schema)
+                .contains("CREATE TABLE IF NOT EXISTS `image_deletion_task`")
+                .contains("`claimed_by` VARCHAR(36) NULL")
+                .contains("INDEX `idx_image_deletion_task_due` (`attempts`, `next_attempt_at`)")
+                .contains("INDEX `idx_image_deletion_task_claim` (`claimed_by`)");
+    }
+
+    private String readResource(String path) throws IOException {
+        try (var stream = getClass().getResourceAsStream(path)) {
+            assertThat(stream).as("classpath resource %s", path).isNotNull();
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
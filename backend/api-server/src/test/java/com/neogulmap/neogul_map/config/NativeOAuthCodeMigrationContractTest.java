@@ -0,0 +1,34 @@
+package com.neogulmap.neogul_map.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeOAuthCodeMigrationContractTest {
+
+    @Test
+    void migrationCreatesGuardedCodeTableMatchingSchema() throws IOException {
+        String migration = readResource("/db/manual/20260718_native_oauth_code.sql");
+        String schema = readResource("/schema.sql");
+
+        assertThat(migration)
+                .contains("CREATE TABLE IF NOT EXISTS `native_oauth_code`")
+                .contains("`code_hash` VARCHAR(64) NOT NULL")
+                .contains("PRIMARY KEY (`code_hash`)")
+                .contains("INDEX `idx_native_oauth_code_expires_at` (`expires_at`)");
+        assertThat(schema)
+                .contains("CREATE TABLE IF NOT EXISTS `native_oauth_code`")
+                .contains("PRIMARY KEY (`code_hash`)")
+                .contains("INDEX `idx_native_oauth_code_expires_at` (`expires_at`)");
+    }
+
+    private String readResource(String path) throws IOException {
+        try (var stream = getClass().getResourceAsStream(path)) {
+            assertThat(stream).as("classpath resource %s", path).isNotNull();
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.neogulmap.neogul_map.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxEventMigrationContractTest {
+
+    @Test
+    void migrationCreatesGuardedOutboxMatchingSchema() throws IOException {
+        String migration = readResource("/db/manual/20260716_outbox_event.sql");
+        String schema = readResource("/schema.sql");
+
+        assertThat(migration)
+                .contains("CREATE TABLE IF NOT EXISTS `outbox_event`")
+                .contains("`event_type` VARCHAR(60) NOT NULL")
+                .contains("`payload` TEXT NOT NULL")
+                .contains("`claimed_by` VARCHAR(36) NULL")
+                .contains("INDEX `idx_outbox_event_due` (`attempts`, `next_attempt_at`, `id`)")
+                .contains("INDEX `idx_outbox_event_aggregate` (`aggregate_type`, `aggregate_id`, `id`)")
+                .contains("INDEX `idx_outbox_event_claim` (`claimed_by`)");
+        assertThat(schema)
+                .contains("CREATE TABLE IF NOT EXISTS `outbox_event`")
+                .contains("`claimed_by` VARCHAR(36) NULL")
+                .contains("INDEX `idx_outbox_event_due` (`attempts`, `next_attempt_at`, `id`)")
+                .contains("INDEX `idx_outbox_event_aggregate` (`aggregate_type`, `aggregate_id`, `id`)")
+                .contains("INDEX `idx_outbox_event_claim` (`claimed_by`)");
+    }
+
+    private String readResource(String path) throws IOException {
+        try (var stream = getClass().getResourceAsStream(path)) {
+            assertThat(stream).as("classpath resource %s", path).isNotNull();
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.neogulmap.neogul_map.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitLeaseMigrationContractTest {
+
+    @Test
+    void migrationCreatesGuardedCounterTableMatchingSchema() throws IOException {
+        String migration = readResource("/db/manual/20260719_rate_limit_lease.sql");
+        String schema = readResource("/schema.sql");
+
+        assertThat(migration)
+                .contains("CREATE TABLE IF NOT EXISTS `rate_limit_lease`")
+                .contains("`client_hash` BIGINT NOT NULL")
+                .contains("PRIMARY KEY (`limiter_name`, `client_hash`, `window_index`)")
+                .contains("INDEX `idx_rate_limit_lease_expires_at` (`expires_at`)");
+        assertThat(schema)
+                .contains("CREATE TABLE IF NOT EXISTS `rate_limit_lease`")
+                .contains("PRIMARY KEY (`limiter_name`, `client_hash`, `window_index`)")
+                .contains("INDEX `idx_rate_limit_lease_expires_at` (`expires_at`)");
+    }
+
+    private String readResource(String path) throws IOException {
+        try (var stream = getClass().getResourceAsStream(path)) {
+            assertThat(stream).as("classpath resource %s", path).isNotNull();
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
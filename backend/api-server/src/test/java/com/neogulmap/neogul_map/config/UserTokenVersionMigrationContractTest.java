@@ -0,0 +1,31 @@
+package com.neogulmap.neogul_map.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserTokenVersionMigrationContractTest {
+
+    @Test
+    void migrationAddsTokenVersionMatchingSchema() throws IOException {
+        String migration = readResource("/db/manual/20260717_users_token_version.sql");
+        String schema = readResource("/schema.sql");
+
+        assertThat(migration)
+                .contains("table_name = 'users'")
+                .contains("column_name = 'token_version'")
+                .contains("ADD COLUMN `token_version` INT NOT NULL DEFAULT 0 AFTER `deleted_at`");
+        assertThat(schema)
+                .contains("`deleted_at` DATETIME NULL,\n  `token_version` INT NOT NULL DEFAULT 0,\n  PRIMARY KEY (`id`),");
+    }
+
+    private String readResource(String path) throws IOException {
+        try (var stream = getClass().getResourceAsStream(path)) {
+            assertThat(stream).as("classpath resource %s", path).isNotNull();
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.neogulmap.neogul_map.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ZoneCreatedAtMigrationContractTest {
+
+    @Test
+    void migrationAddsNullableZoneCreatedAtMatchingSchema() throws IOException {
+        String migration = readResource("/db/manual/20260715_zone_created_at.sql");
+        String schema = readResource("/schema.sql");
+
+        assertThat(migration)
+                .contains("table_name = 'zone'")
+                .contains("column_name = 'created_at'")
+                .contains("ADD COLUMN `created_at` DATETIME NULL AFTER `publication_status`");
+        assertThat(schema)
+                .contains("`publication_status` VARCHAR(20) NOT NULL DEFAULT 'PUBLISHED',\n  `created_at` DATETIME NULL,");
+    }
+
+    private String readResource(String path) throws IOException {
+        try (var stream = getClass().getResourceAsStream(path)) {
+            assertThat(stream).as("classpath resource %s", path).isNotNull();
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.neogulmap.neogul_map.config.security;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitFilterTest {
+
+    @Test
+    void mapsDatabaseBackedEndpointsToSeparatePools() {
+        assertThat(AdaptiveConcurrencyLimitFilter.poolOf(request("GET", "/zones/bounds")))
+                .isEqualTo(AdaptiveConcurrencyLimitFilter.Pool.ZONE_READS);
+        assertThat(AdaptiveConcurrencyLimitFilter.poolOf(request("PUT", "/zones/10")))
+                .isEqualTo(AdaptiveConcurrencyLimitFilter.Pool.ZONE_WRITES);
+        assertThat(AdaptiveConcurrencyLimitFilter.poolOf(multipart("PUT", "/zones/10")))
+                .isEqualTo(AdaptiveConcurrencyLimitFilter.Pool.ZONE_UPLOADS);
+        assertThat(AdaptiveConcurrencyLimitFilter.poolOf(request("POST", "/zones/10/reviews")))
+                .isEqualTo(AdaptiveConcurrencyLimitFilter.Pool.REVIEWS);
+        assertThat(AdaptiveConcurrencyLimitFilter.poolOf(request("POST", "/zones/10/reports")))
+                .isEqualTo(AdaptiveConcurrencyLimitFilter.Pool.MODERATION);
+        assertThat(AdaptiveConcurrencyLimitFilter.poolOf(request("GET", "/operator/moderation/reports")))
+                .isEqualTo(AdaptiveConcurrencyLimitFilter.Pool.MODERATION);
+        assertThat(AdaptiveConcurrencyLimitFilter.poolOf(request("GET", "/insights/map"))).isNull();
+        assertThat(AdaptiveConcurrencyLimitFilter.poolOf(request("POST", "/auth/refresh"))).isNull();
+        assertThat(AdaptiveConcurrencyLimitFilter.poolOf(request("GET", "/actuator/health"))).isNull();
+    }
+
+    @Test
+    void shedsExcessWorkInSaturatedPoolWhileOtherPoolsAndInsightsKeepWorking() throws Exception {
+        AdaptiveConcurrencyLimitFilter filter = new AdaptiveConcurrencyLimitFilter(
+                true, 1, 1, 10, Duration.ofMillis(500), 0.9, 2, null
+        );
+        List<MockHttpServletResponse> nested = new ArrayList<>();
+        FilterChain passThrough = (request, response) -> {
+        };
+        FilterChain slowZoneQuery = (request, response) -> {
+            for (String path : List.of("/zones/11", "/zones/10/reviews", "/insights/map")) {
+                MockHttpServletResponse nestedResponse = new MockHttpServletResponse();
+                filter.doFilter(request("GET", path), nestedResponse, passThrough);
+                nested.add(nestedResponse);
+            }
+        };
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/zones/10"), first, slowZoneQuery);
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(nested.get(0).getStatus()).isEqualTo(503);
+        assertThat(nested.get(0).getHeader("Retry-After")).isEqualTo("2");
+        assertThat(nested.get(0).getContentAsString()).contains("SERVICE_OVERLOADED");
+        assertThat(nested.get(1).getStatus()).isEqualTo(200);
+        assertThat(nested.get(2).getStatus()).isEqualTo(200);
+        assertThat(filter.limiter(AdaptiveConcurrencyLimitFilter.Pool.ZONE_READS).inFlight()).isZero();
+    }
+
+    @Test
+    void serverErrorsCountAsCongestion() throws Exception {
+        AdaptiveConcurrencyLimitFilter filter = new AdaptiveConcurrencyLimitFilter(
+                true, 10, 1, 10, Duration.ofMillis(500), 0.5, 1, null
+        );
+        FilterChain failing = (request, response) ->
+                ((MockHttpServletResponse) response).setStatus(500);
+
+        filter.doFilter(request("GET", "/zones/10"), new MockHttpServletResponse(), failing);
+
+        assertThat(filter.limiter(AdaptiveConcurrencyLimitFilter.Pool.ZONE_READS).limit()).isEqualTo(5);
+        assertThat(filter.limiter(AdaptiveConcurrencyLimitFilter.Pool.ZONE_WRITES).limit()).isEqualTo(10);
+    }
+
+    @Test
+    void slowUploadsDoNotShrinkAnyLimit() throws Exception {
+        AdaptiveConcurrencyLimitFilter filter = new AdaptiveConcurrencyLimitFilter(
+                true, 10, 1, 10, Duration.ofMillis(500), 0.5, 1, null
+        );
+        FilterChain failing = (request, response) ->
+                ((MockHttpServletResponse) response).setStatus(500);
+
+        filter.doFilter(multipart("POST", "/zones"), new MockHttpServletResponse(), failing);
+
+        assertThat(filter.limiter(AdaptiveConcurrencyLimitFilter.Pool.ZONE_UPLOADS).limit()).isEqualTo(10);
+        assertThat(filter.limiter(AdaptiveConcurrencyLimitFilter.Pool.ZONE_UPLOADS).inFlight()).isZero();
+        assertThat(filter.limiter(AdaptiveConcurrencyLimitFilter.Pool.ZONE_WRITES).limit()).isEqualTo(10);
+    }
+
+    private static MockHttpServletRequest multipart(String method, String path) {
+        MockHttpServletRequest request = request(method, path);
+        request.setContentType("multipart/form-data; boundary=zone");
+        return request;
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+}
@@ -0,0 +1,120 @@
+package com.neogulmap.neogul_map.config.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(20).toNanos();
+    private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+    private long now;
+
+    @Test
+    void rejectsOnceInFlightReachesTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2);
+
+        assertThat(limiter.tryAcquire()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isEqualTo(2);
+        assertThat(limiter.tryAcquire()).isZero();
+
+        release(limiter, 2, FAST, false);
+        assertThat(limiter.tryAcquire()).isEqualTo(2);
+    }
+
+    @Test
+    void slowOrFailedResponsesShrinkTheLimitDownToTheFloor() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+
+        release(limiter, acquire(limiter), SLOW, false);
+        assertThat(limiter.limit()).isEqualTo(9);
+        release(limiter, acquire(limiter), FAST, true);
+        assertThat(limiter.limit()).isEqualTo(8);
+
+        for (int i = 0; i < 50; i++) {
+            release(limiter, acquire(limiter), SLOW, false);
+        }
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void fastResponsesUnderLoadGrowTheLimitAdditively() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4);
+        for (int i = 0; i < 4; i++) {
+            acquire(limiter);
+        }
+
+        for (int i = 0; i < 4; i++) {
+            release(limiter, 4, FAST, false);
+            acquire(limiter);
+        }
+        assertThat(limiter.limit()).isEqualTo(4);
+
+        for (int i = 0; i < 5; i++) {
+            release(limiter, 4, FAST, false);
+            acquire(limiter);
+        }
+        assertThat(limiter.limit()).isEqualTo(5);
+    }
+
+    @Test
+    void idleTrafficDoesNotInflateTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4);
+
+        for (int i = 0; i < 100; i++) {
+            release(limiter, acquire(limiter), FAST, false);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(4);
+    }
+
+    @Test
+    void concurrentSlowResponsesBackOffOncePerWindow() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+        long startedAt = now;
+        int[] inFlight = new int[5];
+        for (int i = 0; i < inFlight.length; i++) {
+            inFlight[i] = acquire(limiter);
+        }
+
+        now += SLOW;
+        for (int started : inFlight) {
+            limiter.release(started, startedAt, now, false);
+        }
+        assertThat(limiter.limit()).isEqualTo(9);
+
+        release(limiter, acquire(limiter), SLOW, false);
+        assertThat(limiter.limit()).isEqualTo(8);
+    }
+
+    @Test
+    void unsampledReleaseOnlyFreesTheSlot() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2);
+        acquire(limiter);
+
+        limiter.releaseUnsampled();
+
+        assertThat(limiter.inFlight()).isZero();
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+
+    // 요청마다 앞선 요청이 끝난 뒤 시작하도록 시각을 진행합니다.
+    private void release(AdaptiveConcurrencyLimiter limiter, int inFlightAtStart, long latency, boolean failed) {
+        long startedAt = now;
+        now += latency;
+        limiter.release(inFlightAtStart, startedAt, now, failed);
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, 2, 20, Duration.ofMillis(500).toNanos(), 0.9);
+    }
+
+    private int acquire(AdaptiveConcurrencyLimiter limiter) {
+        int inFlight = limiter.tryAcquire();
+        assertThat(inFlight).isPositive();
+        return inFlight;
+    }
+}
@@ -0,0 +1,107 @@
+package com.neogulmap.neogul_map.config.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientRateLimiterTest {
+
+    private static final long NOW = 1_780_000_000_000L;
+
+    @Test
+    void allowsBurstUpToLimitThenRefillsOneRequestPerInterval() {
+        ClientRateLimiter limiter = new ClientRateLimiter(4, 60, 100);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire("198.51.100.10", NOW)).isZero();
+        }
+        assertThat(limiter.tryAcquire("198.51.100.10", NOW)).isEqualTo(15_000);
+        assertThat(limiter.tryAcquire("198.51.100.10", NOW + 14_999)).isEqualTo(1);
+        assertThat(limiter.tryAcquire("198.51.100.10", NOW + 15_000)).isZero();
+        assertThat(limiter.tryAcquire("198.51.100.10", NOW + 15_000)).isEqualTo(15_000);
+    }
+
+    @Test
+    void weightedRequestsConsumeSeveralUnitsAndCostIsCappedAtTheLimit() {
+        ClientRateLimiter limiter = new ClientRateLimiter(10, 60, 100);
+
+        assertThat(limiter.tryAcquire("198.51.100.10", 8, NOW)).isZero();
+        assertThat(limiter.tryAcquire("198.51.100.10", 3, NOW)).isEqualTo(6_000);
+        assertThat(limiter.tryAcquire("198.51.100.10", 2, NOW)).isZero();
+
+        assertThat(limiter.tryAcquire("198.51.100.11", 50, NOW)).isZero();
+        assertThat(limiter.tryAcquire("198.51.100.11", NOW)).isEqualTo(6_000);
+    }
+
+    @Test
+    void rejectedRequestsDoNotConsumeCapacity() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 60, 100);
+
+        assertThat(limiter.tryAcquire("198.51.100.10", NOW)).isZero();
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("198.51.100.10", NOW + 1_000)).isPositive();
+        }
+
+        assertThat(limiter.tryAcquire("198.51.100.10", NOW + 60_000)).isZero();
+    }
+
+    @Test
+    void idleClientsFreeTheirSlotsBeforeNewClientsFallBackToOverflow() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 60, 1);
+        assertThat(limiter.tryAcquire("198.51.100.1", NOW)).isZero();
+
+        long later = NOW + 60_000;
+        assertThat(limiter.tryAcquire("198.51.100.2", later)).isZero();
+        assertThat(limiter.tryAcquire("198.51.100.2", later)).isPositive();
+        assertThat(limiter.trackedClients()).isEqualTo(1);
+
+        assertThat(limiter.tryAcquire("198.51.100.3", later)).isZero();
+        assertThat(limiter.tryAcquire("198.51.100.4", later)).isPositive();
+        assertThat(limiter.trackedClients()).isEqualTo(1);
+    }
+
+    @Test
+    void retryAfterSecondsRoundsUpAndNeverReportsZero() {
+        assertThat(ClientRateLimiter.retryAfterSeconds(1)).isEqualTo(1);
+        assertThat(ClientRateLimiter.retryAfterSeconds(1_000)).isEqualTo(1);
+        assertThat(ClientRateLimiter.retryAfterSeconds(1_001)).isEqualTo(2);
+    }
+
+    @Test
+    void admitsExactlyTheLimitUnderContention() throws Exception {
+        int threads = 8;
+        int attemptsPerThread = 500;
+        ClientRateLimiter limiter = new ClientRateLimiter(1_000, 60, 10_000);
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        if (limiter.tryAcquire("198.51.100.10", NOW) == 0) {
+                            admitted.incrementAndGet();
+                        }
+                        limiter.tryAcquire("203.0.113." + (thread * attemptsPerThread + i) % 250, NOW);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(admitted).hasValue(1_000);
+        assertThat(limiter.trackedClients()).isEqualTo(251);
+    }
+}
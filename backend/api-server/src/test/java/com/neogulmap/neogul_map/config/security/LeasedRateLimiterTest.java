@@ -0,0 +1,143 @@
+package com.neogulmap.neogul_map.config.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeasedRateLimiterTest {
+
+    private static final long NOW = 1_780_000_020_000L;
+    private static final String CLIENT = "198.51.100.10";
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private RateLimitLeaseStore store;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:rate-limit-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "sa",
+                ""
+        );
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        // 운영에 적용하는 마이그레이션 그대로 테이블을 만들어, 스크립트와 저장소 쿼리가 어긋나면 여기서 드러나게 합니다.
+        new ResourceDatabasePopulator(new ClassPathResource("db/manual/20260719_rate_limit_lease.sql")).execute(dataSource);
+        store = new RateLimitLeaseStore(
+                dataSource,
+                5,
+                60_000,
+                30,
+                4,
+                Clock.fixed(Instant.ofEpochMilli(NOW + 120_001), ZoneOffset.UTC)
+        );
+    }
+
+    @Test
+    void globalLimitHoldsAcrossInstancesSharingTheStore() {
+        RequestRateLimiter first = RequestRateLimiter.create("public-zone", 20, 60, 100, store);
+        RequestRateLimiter second = RequestRateLimiter.create("public-zone", 20, 60, 100, store);
+
+        int admitted = 0;
+        for (int i = 0; i < 40; i++) {
+            RequestRateLimiter node = i % 2 == 0 ? first : second;
+            if (node.tryAcquire(CLIENT, NOW + i) == 0) {
+                admitted++;
+            }
+        }
+
+        assertThat(admitted).isEqualTo(20);
+        assertThat(first.tryAcquire(CLIENT, NOW + 1_000)).isEqualTo(59_000);
+        assertThat(first.tryAcquire(CLIENT, NOW + 60_000)).isZero();
+    }
+
+    @Test
+    void leasesQuotaInChunksSoMostRequestsStayLocal() {
+        RequestRateLimiter limiter = RequestRateLimiter.create("public-zone", 100, 60, 100, store);
+
+        assertThat(limiter.tryAcquire(CLIENT, NOW)).isZero();
+        assertThat(consumed()).isEqualTo(5);
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire(CLIENT, NOW)).isZero();
+        }
+        assertThat(consumed()).isEqualTo(5);
+
+        assertThat(limiter.tryAcquire(CLIENT, NOW)).isZero();
+        assertThat(consumed()).isEqualTo(10);
+    }
+
+    @Test
+    void degradesToInstanceLocalLimitWhenStoreFails() {
+        RequestRateLimiter limiter = RequestRateLimiter.create("sensitive", 3, 60, 100, store);
+        jdbcTemplate.execute("DROP TABLE rate_limit_lease");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(CLIENT, NOW)).isZero();
+        }
+        assertThat(limiter.tryAcquire(CLIENT, NOW)).isPositive();
+        assertThat(store.isAvailable(NOW)).isFalse();
+        assertThat(store.isAvailable(NOW + 30_000)).isTrue();
+    }
+
+    @Test
+    void slowStoreIsAbandonedAfterTheTimeoutAndTheRequestUsesTheLocalLimit() {
+        // 커넥션 풀이 막힌 상황처럼 커넥션을 얻는 데 오래 걸리는 저장소
+        DelegatingDataSource stalled = new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("interrupted", e);
+                }
+                return super.getConnection();
+            }
+        };
+        RateLimitLeaseStore slowStore = new RateLimitLeaseStore(
+                stalled,
+                5,
+                50,
+                30,
+                4,
+                Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC)
+        );
+        RequestRateLimiter limiter = RequestRateLimiter.create("public-zone", 100, 60, 100, slowStore);
+
+        long startedAt = System.nanoTime();
+        assertThat(limiter.tryAcquire(CLIENT, NOW)).isZero();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertThat(elapsedMillis).isLessThan(2_000);
+        assertThat(slowStore.isAvailable(NOW)).isFalse();
+        assertThat(limiter.tryAcquire(CLIENT, NOW)).isZero();
+        slowStore.close();
+    }
+
+    @Test
+    void purgesCountersOnceTheirWindowHasPassed() {
+        RequestRateLimiter limiter = RequestRateLimiter.create("public-zone", 100, 60, 100, store);
+        limiter.tryAcquire(CLIENT, NOW);
+        limiter.tryAcquire("198.51.100.11", NOW + 60_000);
+
+        assertThat(store.purgeExpired()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rate_limit_lease", Integer.class)).isEqualTo(1);
+    }
+
+    private int consumed() {
+        return jdbcTemplate.queryForObject("SELECT SUM(consumed) FROM rate_limit_lease", Integer.class);
+    }
+}
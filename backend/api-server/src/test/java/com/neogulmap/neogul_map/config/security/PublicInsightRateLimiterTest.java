@@ -23,7 +23,7 @@ class PublicInsightRateLimiterTest {
         PublicInsightRateLimiter.Decision denied = limiter.tryAcquire(request);
 
         assertThat(denied.allowed()).isFalse();
-        assertThat(denied.retryAfterSeconds()).isEqualTo(60);
+        assertThat(denied.retryAfterSeconds()).isEqualTo(30);
     }
 
     @Test
@@ -22,10 +22,12 @@ import com.neogulmap.neogul_map.dto.ZonePublicationDecisionResponse;
 import com.neogulmap.neogul_map.service.EventInsightService;
 import com.neogulmap.neogul_map.service.HotplaceService;
 import com.neogulmap.neogul_map.service.InsightStatusService;
+import com.neogulmap.neogul_map.service.MapInsightService;
 import com.neogulmap.neogul_map.service.ImageService;
 import com.neogulmap.neogul_map.service.OperatorAccessGuard;
 import com.neogulmap.neogul_map.service.ReviewModerationService;
 import com.neogulmap.neogul_map.service.SupportRequestService;
+import com.neogulmap.neogul_map.service.TokenVersionRegistry;
 import com.neogulmap.neogul_map.service.UserService;
 import com.neogulmap.neogul_map.service.ZoneModerationService;
 import com.neogulmap.neogul_map.service.ZoneService;
@@ -65,7 +67,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 })
 @ActiveProfiles("dev")
 @TestPropertySource(properties = "app.swagger.enabled=false")
-@Import({SecurityConfig.class, JwtAuthenticationFilter.class, JwtAuthenticationEntryPoint.class})
+@Import({SecurityConfig.class, JwtAuthenticationFilter.class, JwtAuthenticationEntryPoint.class, MapInsightService.class})
 class PublicLaunchSecurityTest {
 
     @Autowired private MockMvc mockMvc;
@@ -83,6 +85,7 @@ class PublicLaunchSecurityTest {
     @MockitoBean private UserService userService;
     @MockitoBean private TokenProvider tokenProvider;
     @MockitoBean private UserDetailsService userDetailsService;
+    @MockitoBean private TokenVersionRegistry tokenVersionRegistry;
     @MockitoBean private OAuth2SuccessHandler oAuth2SuccessHandler;
     @MockitoBean private OAuth2FailureHandler oAuth2FailureHandler;
     @MockitoBean private OAuth2UserCustomService oAuth2UserCustomService;
@@ -94,10 +97,10 @@ class PublicLaunchSecurityTest {
         when(publicInsightRateLimiter.tryAcquire(org.mockito.ArgumentMatchers.any()))
                 .thenReturn(new PublicInsightRateLimiter.Decision(true, 0));
         when(insightStatusService.getStatus()).thenReturn(fallbackStatus());
-        when(hotplaceService.getHotplaces(null, 8, null, null, null, null)).thenReturn(
+        when(hotplaceService.getHotplaces(null, 20, null, null, null, null)).thenReturn(
                 new HotplaceResponse(List.of(), "NO_VERIFIED_DATA", Instant.parse("2026-07-10T00:00:00Z"), List.of())
         );
-        when(eventInsightService.getEvents(null, 8, null, null, null, null)).thenReturn(
+        when(eventInsightService.getEvents(null, 20, null, null, null, null)).thenReturn(
                 new EventInsightResponse(List.of(), "NO_VERIFIED_DATA", Instant.parse("2026-07-10T00:00:00Z"), List.of())
         );
 
@@ -36,7 +36,7 @@ class PublicZoneReadRateLimitFilterTest {
         verify(chain).doFilter(second, secondResponse);
         verify(chain, never()).doFilter(third, rejected);
         assertThat(rejected.getStatus()).isEqualTo(429);
-        assertThat(rejected.getHeader("Retry-After")).isEqualTo("60");
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("30");
         assertThat(rejected.getContentAsString()).contains("RATE_LIMITED");
     }
 
@@ -82,6 +82,23 @@ class PublicZoneReadRateLimitFilterTest {
         assertThat(rejected.getStatus()).isEqualTo(429);
     }
 
+    @Test
+    void wideBoundsQueriesSpendTheBudgetFasterThanDetailLookups() {
+        PublicZoneReadRateLimitFilter filter = filter(10, 60, 100);
+        MockHttpServletRequest wide = zoneRequest("/zones/bounds", "198.51.100.30");
+        wide.setParameter("minLat", "36.0");
+        wide.setParameter("maxLat", "38.0");
+        wide.setParameter("minLng", "126.0");
+        wide.setParameter("maxLng", "128.0");
+        wide.setParameter("limit", "500");
+
+        assertThat(filter.tryAcquire(wide).allowed()).isTrue();
+        assertThat(filter.tryAcquire(wide).allowed()).isFalse();
+        assertThat(filter.tryAcquire(zoneRequest("/zones/10", "198.51.100.30")).allowed()).isTrue();
+        assertThat(filter.tryAcquire(zoneRequest("/zones/11", "198.51.100.30")).allowed()).isTrue();
+        assertThat(filter.tryAcquire(zoneRequest("/zones/12", "198.51.100.30")).allowed()).isFalse();
+    }
+
     @Test
     void boundsTrackedClientsWithSharedOverflowBucket() {
         PublicZoneReadRateLimitFilter filter = filter(1, 60, 1);
@@ -36,7 +36,7 @@ class SensitiveEndpointRateLimitFilterTest {
         verify(chain).doFilter(second, secondResponse);
         verify(chain, never()).doFilter(third, rejected);
         assertThat(rejected.getStatus()).isEqualTo(429);
-        assertThat(rejected.getHeader("Retry-After")).isEqualTo("60");
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("30");
     }
 
     @Test
@@ -0,0 +1,67 @@
+package com.neogulmap.neogul_map.config.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ZoneReadCostFunctionTest {
+
+    private final ZoneReadCostFunction costFunction = new ZoneReadCostFunction();
+
+    @Test
+    void singleZoneLookupCostsOneUnit() {
+        assertThat(costFunction.cost(get("/zones/10"))).isEqualTo(1);
+    }
+
+    @Test
+    void boundsCostGrowsWithAreaAndLimit() {
+        MockHttpServletRequest small = get("/zones/bounds");
+        small.setParameter("minLat", "37.50");
+        small.setParameter("maxLat", "37.52");
+        small.setParameter("minLng", "127.00");
+        small.setParameter("maxLng", "127.03");
+        small.setParameter("limit", "100");
+        MockHttpServletRequest widest = get("/zones/bounds");
+        widest.setParameter("minLat", "36.0");
+        widest.setParameter("maxLat", "38.0");
+        widest.setParameter("minLng", "126.0");
+        widest.setParameter("maxLng", "128.0");
+        widest.setParameter("limit", "500");
+
+        assertThat(costFunction.cost(small)).isEqualTo(2);
+        assertThat(costFunction.cost(widest)).isEqualTo(8);
+    }
+
+    @Test
+    void radiusAndKeywordSearchesCostMoreThanPlainListing() {
+        MockHttpServletRequest listing = get("/zones");
+        MockHttpServletRequest radius = get("/zones");
+        radius.setParameter("latitude", "37.5");
+        radius.setParameter("longitude", "127.0");
+        radius.setParameter("radius", "50");
+        MockHttpServletRequest search = get("/zones/search");
+        search.setParameter("keyword", "강남");
+
+        assertThat(costFunction.cost(listing)).isEqualTo(1);
+        assertThat(costFunction.cost(radius)).isEqualTo(4);
+        assertThat(costFunction.cost(search)).isEqualTo(3);
+    }
+
+    @Test
+    void malformedParametersFallBackToCheapDefaults() {
+        MockHttpServletRequest bounds = get("/zones/bounds");
+        bounds.setParameter("minLat", "north");
+        MockHttpServletRequest listing = get("/zones");
+        listing.setParameter("limit", "many");
+
+        assertThat(costFunction.cost(bounds)).isEqualTo(1);
+        assertThat(costFunction.cost(listing)).isEqualTo(1);
+    }
+
+    private MockHttpServletRequest get(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        return request;
+    }
+}
@@ -4,19 +4,23 @@ import com.neogulmap.neogul_map.domain.User;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Base64;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class TokenProviderTokenTypeTest {
 
-    private final TokenProvider tokenProvider = new TokenProvider(
-            Base64.getEncoder().encodeToString(
-                    "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8)
-            ),
-            7_200
+    private static final String SECRET = Base64.getEncoder().encodeToString(
+            "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8)
     );
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-07-20T09:00:00Z"));
+    private final TokenProvider tokenProvider = new TokenProvider(SECRET, 7_200, true, 300, 2, clock);
     private final User user = User.builder().id(7L).email("user@example.com").build();
 
     @Test
@@ -34,4 +38,90 @@ class TokenProviderTokenTypeTest {
         assertThat(tokenProvider.validRefreshToken(refreshToken)).isTrue();
         assertThat(tokenProvider.validAccessToken(refreshToken)).isFalse();
     }
+
+    @Test
+    void verifiedClaimsCarryEveryFieldCallersRead() {
+        String accessToken = tokenProvider.generateAccessToken(user, Duration.ofHours(2));
+
+        assertThat(tokenProvider.verifyAccessToken(accessToken)).hasValueSatisfying(claims -> {
+            assertThat(claims.email()).isEqualTo("user@example.com");
+            assertThat(claims.userId()).isEqualTo(7L);
+            assertThat(claims.isAccessToken()).isTrue();
+            assertThat(claims.expiresAt()).isEqualTo(Instant.parse("2026-07-20T11:00:00Z"));
+        });
+        assertThat(tokenProvider.getEmailFromToken(accessToken)).isEqualTo("user@example.com");
+        assertThat(tokenProvider.getUserId(accessToken)).isEqualTo(7L);
+        assertThat(tokenProvider.cachedTokenCount()).isEqualTo(1);
+    }
+
+    @Test
+    void tokenCarriesTheUsersTokenVersion() {
+        User versioned = User.builder().id(8L).email("versioned@example.com").tokenVersion(4).build();
+
+        String accessToken = tokenProvider.generateAccessToken(versioned, Duration.ofHours(2));
+
+        assertThat(tokenProvider.verifyAccessToken(accessToken))
+                .hasValueSatisfying(claims -> assertThat(claims.tokenVersion()).isEqualTo(4));
+    }
+
+    @Test
+    void cachedClaimsDoNotOutliveTheToken() {
+        String accessToken = tokenProvider.generateAccessToken(user, Duration.ofMinutes(2));
+        assertThat(tokenProvider.validAccessToken(accessToken)).isTrue();
+
+        clock.advance(Duration.ofMinutes(3));
+
+        assertThat(tokenProvider.validAccessToken(accessToken)).isFalse();
+        assertThat(tokenProvider.isTokenExpiringSoon(accessToken)).isTrue();
+    }
+
+    @Test
+    void rejectedTokensAreNotCached() {
+        String accessToken = tokenProvider.generateAccessToken(user, Duration.ofHours(2));
+        String tampered = accessToken.substring(0, accessToken.length() - 2)
+                + (accessToken.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(tokenProvider.verify(tampered)).isEmpty();
+        assertThat(tokenProvider.verify("not-a-jwt")).isEmpty();
+        assertThat(tokenProvider.cachedTokenCount()).isZero();
+    }
+
+    @Test
+    void cacheStopsGrowingAtMaxEntries() {
+        for (long id = 1; id <= 3; id++) {
+            User other = User.builder().id(id).email("user" + id + "@example.com").build();
+            assertThat(tokenProvider.validAccessToken(tokenProvider.generateAccessToken(other, Duration.ofHours(2))))
+                    .isTrue();
+        }
+
+        assertThat(tokenProvider.cachedTokenCount()).isEqualTo(2);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
 }
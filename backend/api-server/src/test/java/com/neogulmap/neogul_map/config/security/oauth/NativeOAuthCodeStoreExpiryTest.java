@@ -0,0 +1,143 @@
+package com.neogulmap.neogul_map.config.security.oauth;
+
+import com.neogulmap.neogul_map.domain.NativeOAuthCode;
+import com.neogulmap.neogul_map.domain.User;
+import com.neogulmap.neogul_map.repository.NativeOAuthCodeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NativeOAuthCodeStoreExpiryTest {
+
+    private static final Instant NOW = Instant.parse("2026-07-18T09:00:00Z");
+
+    @Mock private NativeOAuthCodeRepository repository;
+
+    private final MutableClock clock = new MutableClock(NOW);
+    private final User user = User.builder().id(7L).email("native@nugulmap.com").nickname("너굴").build();
+
+    @Test
+    void purgeRemovesOnlyExpiredCodes() {
+        InMemoryCodeStore codeStore = new InMemoryCodeStore();
+        NativeOAuthCodeStore store = new NativeOAuthCodeStore(codeStore, clock);
+        store.issue("access-1", "refresh-1", user, "challenge", "plain");
+        clock.advance(Duration.ofSeconds(100));
+        String fresh = store.issue("access-2", "refresh-2", user, "challenge", "plain");
+
+        clock.advance(Duration.ofSeconds(100));
+
+        assertThat(store.purgeExpired()).isEqualTo(1);
+        assertThat(codeStore.size()).isEqualTo(1);
+        assertThat(store.consume(fresh, "challenge")).isPresent();
+    }
+
+    @Test
+    void purgeSkipsCodesThatWereAlreadyExchanged() {
+        InMemoryCodeStore codeStore = new InMemoryCodeStore();
+        NativeOAuthCodeStore store = new NativeOAuthCodeStore(codeStore, clock);
+        String code = store.issue("access-token", "refresh-token", user, "challenge", "plain");
+        assertThat(store.consume(code, "challenge")).isPresent();
+
+        clock.advance(Duration.ofMinutes(5));
+
+        assertThat(store.purgeExpired()).isZero();
+    }
+
+    @Test
+    void expiredCodeIsNotExchangedEvenBeforePurge() {
+        NativeOAuthCodeStore store = new NativeOAuthCodeStore(new InMemoryCodeStore(), clock);
+        String code = store.issue("access-token", "refresh-token", user, "challenge", "plain");
+
+        clock.advance(Duration.ofMinutes(4));
+
+        assertThat(store.consume(code, "challenge")).isEmpty();
+    }
+
+    @Test
+    void databaseStoreKeepsOnlyTheCodeHash() {
+        NativeOAuthCodeStore store = new NativeOAuthCodeStore(new DatabaseCodeStore(repository), clock);
+
+        String code = store.issue("access-token", "refresh-token", user, "challenge", "plain");
+
+        ArgumentCaptor<NativeOAuthCode> saved = ArgumentCaptor.forClass(NativeOAuthCode.class);
+        verify(repository).save(saved.capture());
+        assertThat(saved.getValue().getCodeHash()).isNotEqualTo(code).hasSize(43);
+        assertThat(saved.getValue().getAccessToken()).startsWith("v1:").doesNotContain("access-token");
+        assertThat(saved.getValue().getRefreshToken()).startsWith("v1:").doesNotContain("refresh-token");
+        assertThat(saved.getValue().getExpiresAt()).isEqualTo(LocalDateTime.parse("2026-07-18T09:03:00"));
+    }
+
+    @Test
+    void databaseStoreHandsACodeOnlyToTheRequestThatDeletedIt() {
+        NativeOAuthCodeStore store = new NativeOAuthCodeStore(new DatabaseCodeStore(repository), clock);
+        String code = store.issue("access-token", "refresh-token", user, "challenge", "plain");
+        ArgumentCaptor<NativeOAuthCode> saved = ArgumentCaptor.forClass(NativeOAuthCode.class);
+        verify(repository).save(saved.capture());
+        String codeHash = saved.getValue().getCodeHash();
+        when(repository.findById(codeHash)).thenReturn(Optional.of(saved.getValue()));
+        when(repository.deleteByCodeHash(codeHash)).thenReturn(1, 0);
+
+        assertThat(store.consume(code, "challenge"))
+                .hasValueSatisfying(entry -> assertThat(entry.getAccessToken()).isEqualTo("access-token"));
+        assertThat(store.consume(code, "challenge")).isEmpty();
+    }
+
+    @Test
+    void storedTokensDecryptOnlyWithTheCodeTheyWereIssuedFor() {
+        String encrypted = NativeOAuthTokenCipher.encrypt("code-a", "access-token");
+
+        assertThat(NativeOAuthTokenCipher.decrypt("code-a", encrypted)).contains("access-token");
+        assertThat(NativeOAuthTokenCipher.decrypt("code-b", encrypted)).isEmpty();
+    }
+
+    @Test
+    void databasePurgeDeletesRowsExpiredAtTheCurrentUtcTime() {
+        NativeOAuthCodeStore store = new NativeOAuthCodeStore(new DatabaseCodeStore(repository), clock);
+        when(repository.deleteExpired(LocalDateTime.parse("2026-07-18T09:00:00"))).thenReturn(3);
+
+        assertThat(store.purgeExpired()).isEqualTo(3);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
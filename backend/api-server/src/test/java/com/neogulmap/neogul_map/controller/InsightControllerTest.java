@@ -3,21 +3,26 @@ package com.neogulmap.neogul_map.controller;
 import com.neogulmap.neogul_map.config.security.PublicInsightRateLimiter;
 import com.neogulmap.neogul_map.dto.EventInsightResponse;
 import com.neogulmap.neogul_map.dto.HotplaceResponse;
+import com.neogulmap.neogul_map.dto.HotplaceTrendResponse;
 import com.neogulmap.neogul_map.dto.InsightStatusResponse;
 import com.neogulmap.neogul_map.service.EventInsightService;
 import com.neogulmap.neogul_map.service.HotplaceService;
 import com.neogulmap.neogul_map.service.InsightStatusService;
+import com.neogulmap.neogul_map.service.MapInsightService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -32,7 +37,22 @@ class InsightControllerTest {
     private final InsightStatusService insightStatusService = mock(InsightStatusService.class);
     private final PublicInsightRateLimiter publicInsightRateLimiter = mock(PublicInsightRateLimiter.class);
     private final MockMvc mockMvc = MockMvcBuilders
-            .standaloneSetup(new InsightController(hotplaceService, eventInsightService, insightStatusService, publicInsightRateLimiter))
+            .standaloneSetup(new InsightController(
+                    new MapInsightService(
+                            hotplaceService,
+                            eventInsightService,
+                            insightStatusService,
+                            Jackson2ObjectMapperBuilder.json().build(),
+                            true,
+                            30,
+                            512,
+                            100,
+                            40
+                    ),
+                    insightStatusService,
+                    hotplaceService,
+                    publicInsightRateLimiter
+            ))
             .build();
 
     @BeforeEach
@@ -43,7 +63,7 @@ class InsightControllerTest {
 
     @Test
     void getMapInsightsCombinesHotplacesEventsAndStatusForViewport() throws Exception {
-        when(hotplaceService.getHotplaces(eq("요즘 핫한 팝업 행사"), eq(6), any(), any(), any(), any()))
+        when(hotplaceService.getHotplaces(eq("요즘 핫한 팝업 행사"), eq(20), any(), any(), any(), any()))
                 .thenReturn(new HotplaceResponse(
                         List.of(new HotplaceResponse.HotplaceItem(
                                 "seongsu-cafe-street",
@@ -64,7 +84,7 @@ class InsightControllerTest {
                         Instant.parse("2026-06-18T12:00:00Z"),
                         List.of("통신사 장소 혼잡도")
                 ));
-        when(eventInsightService.getEvents(eq("요즘 핫한 팝업 행사"), eq(7), any(), any(), any(), any()))
+        when(eventInsightService.getEvents(eq("요즘 핫한 팝업 행사"), eq(20), any(), any(), any(), any()))
                 .thenReturn(new EventInsightResponse(
                         List.of(new EventInsightResponse.EventInsightItem(
                                 "seoul-culture-popup",
@@ -140,11 +160,67 @@ class InsightControllerTest {
                 .andExpect(jsonPath("$.data.status.seoulCultureApi.qualityStatus").value("OK"))
                 .andExpect(jsonPath("$.data.status.popupTrends.recordCount").value(8));
 
-        verify(hotplaceService).getHotplaces(eq("요즘 핫한 팝업 행사"), eq(6), eq(37.48), eq(37.60), eq(126.88), eq(127.12));
-        verify(eventInsightService).getEvents(eq("요즘 핫한 팝업 행사"), eq(7), eq(37.48), eq(37.60), eq(126.88), eq(127.12));
+        verify(hotplaceService).getHotplaces(eq("요즘 핫한 팝업 행사"), eq(20), eq(37.48), eq(37.60), eq(126.88), eq(127.12));
+        verify(eventInsightService).getEvents(eq("요즘 핫한 팝업 행사"), eq(20), eq(37.48), eq(37.60), eq(126.88), eq(127.12));
         verify(insightStatusService).getStatus();
     }
 
+    @Test
+    void getMapInsightsServesNearbyViewportsFromTheCachedTileUntilProviderDataChanges() throws Exception {
+        when(hotplaceService.getHotplaces(any(), eq(20), any(), any(), any(), any()))
+                .thenReturn(new HotplaceResponse(List.of(), "NO_VERIFIED_DATA", Instant.parse("2026-07-10T00:00:00Z"), List.of()));
+        when(eventInsightService.getEvents(any(), eq(20), any(), any(), any(), any()))
+                .thenReturn(new EventInsightResponse(List.of(), "NO_VERIFIED_DATA", Instant.parse("2026-07-10T00:00:00Z"), List.of()));
+        when(insightStatusService.getStatus()).thenReturn(new InsightStatusResponse(
+                false,
+                false,
+                false,
+                false,
+                false,
+                "NO_VERIFIED_DATA",
+                "NO_VERIFIED_DATA",
+                InsightStatusResponse.ProviderStatus.notConfigured("not configured"),
+                InsightStatusResponse.ProviderStatus.notConfigured("not configured"),
+                InsightStatusResponse.ProviderStatus.notConfigured("not configured"),
+                InsightStatusResponse.ProviderStatus.notConfigured("not configured"),
+                new InsightStatusResponse.PopupTrendStatus(
+                        false, false, 0, null, "NOT_CONFIGURED", "not configured"
+                ),
+                Instant.parse("2026-07-10T00:00:00Z")
+        ));
+
+        mockMvc.perform(get("/insights/map")
+                        .param("keyword", "  성수   팝업 ")
+                        .param("minLat", "37.541")
+                        .param("maxLat", "37.552")
+                        .param("minLng", "127.051")
+                        .param("maxLng", "127.062"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.hotplaces.dataFreshness").value("NO_VERIFIED_DATA"));
+        mockMvc.perform(get("/insights/map")
+                        .param("keyword", "성수 팝업")
+                        .param("minLat", "37.5412")
+                        .param("maxLat", "37.5518")
+                        .param("minLng", "127.0513")
+                        .param("maxLng", "127.0601"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+
+        verify(hotplaceService, times(1)).getHotplaces(eq("성수 팝업"), eq(20), eq(37.54), eq(37.56), eq(127.05), eq(127.07));
+
+        when(eventInsightService.snapshotVersion()).thenReturn(1L);
+        mockMvc.perform(get("/insights/map")
+                        .param("keyword", "성수 팝업")
+                        .param("minLat", "37.541")
+                        .param("maxLat", "37.552")
+                        .param("minLng", "127.051")
+                        .param("maxLng", "127.062"))
+                .andExpect(status().isOk());
+
+        verify(hotplaceService, times(2)).getHotplaces(eq("성수 팝업"), eq(20), eq(37.54), eq(37.56), eq(127.05), eq(127.07));
+    }
+
     @Test
     void getStatusExposesProviderReadinessWithoutMapPayload() throws Exception {
         when(insightStatusService.getStatus()).thenReturn(new InsightStatusResponse(
@@ -171,6 +247,38 @@ class InsightControllerTest {
                 .andExpect(jsonPath("$.data.hotplaceMode").value("NO_VERIFIED_DATA"));
     }
 
+    @Test
+    void getHotplaceTrendReturnsAggregatesForKnownSeedAndNotFoundOtherwise() throws Exception {
+        when(hotplaceService.getHotplaceTrend("seongsu")).thenReturn(Optional.of(new HotplaceTrendResponse(
+                "seongsu",
+                "성수동 카페거리",
+                "Asia/Seoul",
+                2,
+                Instant.parse("2026-06-18T10:00:00Z"),
+                Instant.parse("2026-06-19T10:00:00Z"),
+                19,
+                List.of(new HotplaceTrendResponse.HourlyTrend(19, 2, 3.5, "붐빔", 34000, 1.0)),
+                List.of(new HotplaceTrendResponse.WeekdayTrend("THURSDAY", 1, 3.0, "약간 붐빔", 32000, 1.0)),
+                List.of(new HotplaceTrendResponse.Observation(
+                        Instant.parse("2026-06-19T10:00:00Z"),
+                        "붐빔",
+                        33000,
+                        36000
+                ))
+        )));
+        when(hotplaceService.getHotplaceTrend("unknown")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/insights/hotplaces/seongsu/trend"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.busiestHour").value(19))
+                .andExpect(jsonPath("$.data.hourly[0].typicalCrowdLevel").value("붐빔"))
+                .andExpect(jsonPath("$.data.recent[0].estimatedMaxPeople").value(36000));
+        mockMvc.perform(get("/insights/hotplaces/unknown/trend"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
     @Test
     void getMapInsightsReturnsRetryAfterWithoutCallingProvidersWhenRateLimited() throws Exception {
         when(publicInsightRateLimiter.tryAcquire(any()))
@@ -0,0 +1,53 @@
+package com.neogulmap.neogul_map.repository;
+
+import com.neogulmap.neogul_map.domain.ImageDeletionTask;
+import com.neogulmap.neogul_map.domain.enums.ImageType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never"
+})
+class ImageDeletionTaskRepositoryClaimTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.parse("2026-07-13T09:00:00");
+    private static final int MAX_ATTEMPTS = 8;
+
+    @Autowired private ImageDeletionTaskRepository repository;
+
+    @Test
+    void onlyOneWorkerClaimsADueTaskUntilTheClaimExpires() {
+        ImageDeletionTask due = save("zone-a.jpg", 0, NOW);
+        ImageDeletionTask parked = save("zone-b.jpg", MAX_ATTEMPTS, NOW);
+        ImageDeletionTask waiting = save("zone-c.jpg", 1, NOW.plusMinutes(1));
+        List<Long> ids = List.of(due.getId(), parked.getId(), waiting.getId());
+        repository.flush();
+
+        assertThat(repository.claim(ids, "worker-a", NOW.plusMinutes(5), MAX_ATTEMPTS, NOW)).isEqualTo(1);
+        assertThat(repository.claim(ids, "worker-b", NOW.plusMinutes(5), MAX_ATTEMPTS, NOW)).isZero();
+
+        assertThat(repository.findByClaimedByOrderByIdAsc("worker-a"))
+                .extracting(ImageDeletionTask::getImageName)
+                .containsExactly("zone-a.jpg");
+        assertThat(repository.findByClaimedByOrderByIdAsc("worker-b")).isEmpty();
+        assertThat(repository.claim(ids, "worker-b", NOW.plusMinutes(10), MAX_ATTEMPTS, NOW.plusMinutes(5)))
+                .isEqualTo(2);
+    }
+
+    private ImageDeletionTask save(String imageName, int attempts, LocalDateTime nextAttemptAt) {
+        return repository.save(ImageDeletionTask.builder()
+                .imageName(imageName)
+                .imageType(ImageType.ZONE)
+                .attempts(attempts)
+                .nextAttemptAt(nextAttemptAt)
+                .createdAt(NOW)
+                .build());
+    }
+}
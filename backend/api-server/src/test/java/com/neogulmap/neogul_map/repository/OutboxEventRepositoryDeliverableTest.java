@@ -0,0 +1,84 @@
+package com.neogulmap.neogul_map.repository;
+
+import com.neogulmap.neogul_map.domain.OutboxEvent;
+import com.neogulmap.neogul_map.domain.enums.OutboxEventType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never"
+})
+class OutboxEventRepositoryDeliverableTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.parse("2026-07-16T09:00:00");
+    private static final int MAX_ATTEMPTS = 10;
+
+    @Autowired private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    void eventsBehindAWaitingOrParkedEventOfTheSameAggregateAreHeldBack() {
+        save("1", 2, NOW.plusMinutes(5));
+        OutboxEvent behindWaiting = save("1", 0, NOW);
+        save("2", MAX_ATTEMPTS, NOW.minusHours(1));
+        OutboxEvent behindParked = save("2", 0, NOW);
+        OutboxEvent first = save("3", 0, NOW);
+        OutboxEvent second = save("3", 1, NOW.minusSeconds(10));
+        outboxEventRepository.flush();
+
+        assertThat(outboxEventRepository.findDeliverable(MAX_ATTEMPTS, NOW, PageRequest.of(0, 10)))
+                .extracting(OutboxEvent::getId)
+                .containsExactly(first.getId(), second.getId())
+                .doesNotContain(behindWaiting.getId(), behindParked.getId());
+    }
+
+    @Test
+    void claimedEventHoldsBackItsAggregateAndOutOfOrderClaimsAreDetected() {
+        OutboxEvent first = save("1", 0, NOW);
+        OutboxEvent second = save("1", 0, NOW);
+        outboxEventRepository.flush();
+
+        assertThat(outboxEventRepository.claim(List.of(first.getId()), "worker-a", NOW.plusMinutes(5), MAX_ATTEMPTS, NOW))
+                .isEqualTo(1);
+        assertThat(outboxEventRepository.findDeliverable(MAX_ATTEMPTS, NOW, PageRequest.of(0, 10))).isEmpty();
+        assertThat(outboxEventRepository.claim(
+                List.of(first.getId(), second.getId()), "worker-b", NOW.plusMinutes(5), MAX_ATTEMPTS, NOW
+        )).isEqualTo(1);
+
+        assertThat(outboxEventRepository.findClaimedBehindOthers("worker-a")).isEmpty();
+        assertThat(outboxEventRepository.findClaimedBehindOthers("worker-b")).containsExactly(second.getId());
+        assertThat(outboxEventRepository.release(List.of(second.getId()), "worker-b", NOW)).isEqualTo(1);
+        assertThat(outboxEventRepository.findByClaimedByOrderByIdAsc("worker-b")).isEmpty();
+    }
+
+    @Test
+    void latestIdsReturnTheNewestRemainingEventOfEachAggregate() {
+        save("1", 0, NOW);
+        OutboxEvent newestOfFirst = save("1", 0, NOW);
+        OutboxEvent onlyOfSecond = save("2", 3, NOW.plusMinutes(1));
+        save("3", 0, NOW);
+        outboxEventRepository.flush();
+
+        assertThat(outboxEventRepository.findLatestIds(OutboxEventType.ZONE_IMAGE_COMMIT, "zone", List.of("1", "2")))
+                .containsExactlyInAnyOrder(newestOfFirst.getId(), onlyOfSecond.getId());
+    }
+
+    private OutboxEvent save(String zoneId, int attempts, LocalDateTime nextAttemptAt) {
+        return outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType("zone")
+                .aggregateId(zoneId)
+                .eventType(OutboxEventType.ZONE_IMAGE_COMMIT)
+                .payload("{}")
+                .attempts(attempts)
+                .nextAttemptAt(nextAttemptAt)
+                .createdAt(NOW)
+                .build());
+    }
+}
@@ -0,0 +1,115 @@
+package com.neogulmap.neogul_map.repository;
+
+import com.neogulmap.neogul_map.config.security.jwt.TokenProvider;
+import com.neogulmap.neogul_map.config.security.oauth.OAuth2UserCustomService;
+import com.neogulmap.neogul_map.domain.User;
+import com.neogulmap.neogul_map.service.AccountDeletionJobService;
+import com.neogulmap.neogul_map.service.AppleRefreshTokenCipher;
+import com.neogulmap.neogul_map.service.AuthenticatedUserCache;
+import com.neogulmap.neogul_map.service.LinkedAccountRevocationService;
+import com.neogulmap.neogul_map.service.ReviewContentPolicy;
+import com.neogulmap.neogul_map.service.TokenVersionRegistry;
+import com.neogulmap.neogul_map.service.UserService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class UserRepositoryLoginCandidatesTest {
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManager entityManager;
+
+    @Test
+    void loginCandidatesReturnProviderAndEmailMatchesInOneQuery() {
+        User emailUser = save("shared@nugul.com", "google", "google-1");
+        User appleUser = save("relay@privaterelay.appleid.com", "apple", "apple-1");
+        save("other@nugul.com", "kakao", "kakao-1");
+        userRepository.flush();
+
+        assertThat(userRepository.findLoginCandidates("apple", "apple-1", "shared@nugul.com"))
+                .extracting(User::getId)
+                .containsExactlyInAnyOrder(emailUser.getId(), appleUser.getId());
+        assertThat(userRepository.findLoginCandidates("naver", "naver-1", "shared@nugul.com"))
+                .extracting(User::getId)
+                .containsExactly(emailUser.getId());
+        // 다른 provider의 같은 oauth_id는 provider 계정으로 보지 않습니다.
+        assertThat(userRepository.findLoginCandidates("naver", "apple-1", "new@nugul.com")).isEmpty();
+    }
+
+    @Test
+    void returningLoginRunsOneSelectAndFirstLoginAddsOneInsert() {
+        UserService userService = userService();
+        User existing = save("returning@nugul.com", "google", "google-1");
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = statistics();
+
+        statistics.clear();
+        User returning = userService.processOAuth2User(oauthUser("google", "google-1", "returning@nugul.com"));
+        entityManager.flush();
+
+        assertThat(returning.getId()).isEqualTo(existing.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isZero();
+
+        statistics.clear();
+        User created = userService.processOAuth2User(oauthUser("kakao", "kakao-1", "first@nugul.com"));
+        entityManager.flush();
+
+        assertThat(created.getId()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+    }
+
+    private UserService userService() {
+        return new UserService(
+                userRepository,
+                mock(AccountDeletionJobService.class),
+                mock(TokenProvider.class),
+                mock(LinkedAccountRevocationService.class),
+                mock(AppleRefreshTokenCipher.class),
+                mock(ReviewContentPolicy.class),
+                mock(AuthenticatedUserCache.class),
+                mock(TokenVersionRegistry.class)
+        );
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static OAuth2UserCustomService.CustomOAuth2User oauthUser(String provider, String oauthId, String email) {
+        OAuth2UserCustomService.CustomOAuth2User oauthUser = mock(OAuth2UserCustomService.CustomOAuth2User.class);
+        when(oauthUser.getRegistrationId()).thenReturn(provider);
+        when(oauthUser.getName()).thenReturn(oauthId);
+        when(oauthUser.getEmail()).thenReturn(email);
+        return oauthUser;
+    }
+
+    private User save(String email, String provider, String oauthId) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .oauthProvider(provider)
+                .oauthId(oauthId)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
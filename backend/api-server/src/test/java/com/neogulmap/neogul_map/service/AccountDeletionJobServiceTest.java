@@ -0,0 +1,236 @@
+package com.neogulmap.neogul_map.service;
+
+import com.neogulmap.neogul_map.domain.AccountDeletionJob;
+import com.neogulmap.neogul_map.domain.User;
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.domain.enums.AccountDeletionStage;
+import com.neogulmap.neogul_map.domain.enums.ImageType;
+import com.neogulmap.neogul_map.repository.AccountDeletionJobRepository;
+import com.neogulmap.neogul_map.repository.UserRepository;
+import com.neogulmap.neogul_map.repository.ZoneReportRepository;
+import com.neogulmap.neogul_map.repository.ZoneRepository;
+import com.neogulmap.neogul_map.repository.ZoneReviewReportRepository;
+import com.neogulmap.neogul_map.repository.ZoneReviewRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountDeletionJobServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 7, 14, 9, 0);
+
+    @Mock private AccountDeletionJobRepository jobRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private ZoneRepository zoneRepository;
+    @Mock private ZoneReviewRepository zoneReviewRepository;
+    @Mock private ZoneReportRepository zoneReportRepository;
+    @Mock private ZoneReviewReportRepository zoneReviewReportRepository;
+    @Mock private ImageDeletionQueue imageDeletionQueue;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccountDeletionJobService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new AccountDeletionJobService(
+                jobRepository,
+                userRepository,
+                zoneRepository,
+                zoneReviewRepository,
+                zoneReportRepository,
+                zoneReviewReportRepository,
+                imageDeletionQueue,
+                meterRegistry,
+                Clock.fixed(Instant.parse("2026-07-14T09:00:00Z"), ZoneOffset.UTC)
+        );
+    }
+
+    @Test
+    void scheduleRetiresIdentityImmediatelyAndRecordsJob() {
+        User user = User.builder()
+                .id(2L)
+                .email("owner@example.com")
+                .oauthId("kakao-id")
+                .oauthProvider("kakao")
+                .nickname("너굴")
+                .profileImage("profile.jpg")
+                .appleRefreshTokenCiphertext("encrypted")
+                .build();
+        when(jobRepository.save(any(AccountDeletionJob.class))).thenAnswer(invocation -> {
+            AccountDeletionJob job = invocation.getArgument(0);
+            job.setId(50L);
+            return job;
+        });
+
+        AccountDeletionJob job = service.schedule(user);
+
+        assertThat(user.getDeletedAt()).isEqualTo(NOW);
+        assertThat(user.isEnabled()).isFalse();
+        assertThat(user.getEmail()).isEqualTo("deleted+2@deleted.nugulmap.invalid");
+        assertThat(user.getOauthId()).isEqualTo("deleted:2");
+        assertThat(user.getNickname()).isNull();
+        assertThat(user.getProfileImage()).isNull();
+        assertThat(user.getAppleRefreshTokenCiphertext()).isNull();
+        assertThat(job.getId()).isEqualTo(50L);
+        assertThat(job.getUserId()).isEqualTo(2L);
+        assertThat(job.getStage()).isEqualTo(AccountDeletionStage.REVIEWS);
+        assertThat(job.getImagesQueued()).isEqualTo(1);
+        assertThat(job.getNextAttemptAt()).isEqualTo(NOW);
+        verify(imageDeletionQueue).enqueue("profile.jpg", ImageType.PROFILE);
+        verify(userRepository).save(user);
+        verify(zoneRepository, never()).findByCreatorId(2L);
+    }
+
+    @Test
+    void reviewBatchRemovesReportsOnThoseReviewsAndKeepsStageUntilDrained() {
+        AccountDeletionJob job = job(AccountDeletionStage.REVIEWS);
+        when(jobRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(job));
+        when(zoneReviewRepository.findIdsByAuthorId(eq(2L), any(Pageable.class))).thenReturn(List.of(31L, 32L));
+
+        boolean hasMore = service.runNextBatch(1L);
+
+        InOrder order = inOrder(zoneReviewReportRepository, zoneReviewRepository);
+        order.verify(zoneReviewReportRepository).deleteByReviewIdIn(List.of(31L, 32L));
+        order.verify(zoneReviewRepository).deleteAllByIdInBatch(List.of(31L, 32L));
+        assertThat(hasMore).isTrue();
+        assertThat(job.getStage()).isEqualTo(AccountDeletionStage.REVIEWS);
+        assertThat(job.getReviewsDeleted()).isEqualTo(2);
+        verify(jobRepository).save(job);
+    }
+
+    @Test
+    void drainedStagesAdvanceToTheNextStage() {
+        AccountDeletionJob job = job(AccountDeletionStage.REPORTS);
+        when(jobRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(job));
+        when(zoneReviewReportRepository.findIdsByReporterId(eq(2L), any(Pageable.class))).thenReturn(List.of());
+        when(zoneReportRepository.findIdsByReporterId(eq(2L), any(Pageable.class))).thenReturn(List.of());
+
+        assertThat(service.runNextBatch(1L)).isTrue();
+
+        assertThat(job.getStage()).isEqualTo(AccountDeletionStage.ZONES);
+        verify(zoneReportRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void zoneBatchQueuesImagesAndDeletesRowsInBulk() {
+        AccountDeletionJob job = job(AccountDeletionStage.ZONES);
+        Zone withImage = Zone.builder().id(10).image("zone-10.jpg").build();
+        Zone withoutImage = Zone.builder().id(11).build();
+        when(jobRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(job));
+        when(zoneRepository.findByCreatorIdOrderByIdAsc(eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(withImage, withoutImage));
+
+        service.runNextBatch(1L);
+
+        verify(imageDeletionQueue).enqueue("zone-10.jpg", ImageType.ZONE);
+        verify(zoneReportRepository).deleteByZoneIdIn(List.of(10, 11));
+        verify(zoneRepository).deleteAllByIdInBatch(List.of(10, 11));
+        verify(zoneRepository, never()).deleteAll(any());
+        assertThat(job.getZonesDeleted()).isEqualTo(2);
+        assertThat(job.getImagesQueued()).isEqualTo(1);
+    }
+
+    @Test
+    void finalStageDeletesUserAndCompletesJob() {
+        AccountDeletionJob job = job(AccountDeletionStage.USER);
+        when(jobRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(job));
+        when(userRepository.existsById(2L)).thenReturn(true);
+
+        boolean hasMore = service.runNextBatch(1L);
+
+        verify(userRepository).deleteById(2L);
+        assertThat(hasMore).isFalse();
+        assertThat(job.getStage()).isEqualTo(AccountDeletionStage.COMPLETED);
+        assertThat(job.getCompletedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    void failureIsRecordedWithoutLosingProgress() {
+        AccountDeletionJob job = job(AccountDeletionStage.ZONES);
+        job.setZonesDeleted(400);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        service.recordFailure(1L, "lock wait timeout");
+
+        assertThat(job.getAttempts()).isEqualTo(1);
+        assertThat(job.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(30));
+        assertThat(job.getLastError()).isEqualTo("lock wait timeout");
+        assertThat(job.getZonesDeleted()).isEqualTo(400);
+        assertThat(job.getStage()).isEqualTo(AccountDeletionStage.ZONES);
+        verify(imageDeletionQueue, never()).enqueue(anyString(), any());
+    }
+
+    @Test
+    void repeatedFailuresBackOffExponentiallyUpToTheCeiling() {
+        AccountDeletionJob job = job(AccountDeletionStage.REVIEWS);
+        job.setAttempts(3);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        service.recordFailure(1L, "deadlock");
+        assertThat(job.getAttempts()).isEqualTo(4);
+        assertThat(job.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(240));
+
+        job.setAttempts(10);
+        service.recordFailure(1L, "deadlock");
+        assertThat(job.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(3600));
+    }
+
+    @Test
+    void onlyDueJobsBelowTheAttemptLimitAreSelectedAndParkedJobsAreReported() {
+        AccountDeletionJob due = job(AccountDeletionStage.REVIEWS);
+        when(jobRepository.findByCompletedAtIsNullAndAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAscIdAsc(
+                eq(8), eq(NOW), any(Pageable.class)
+        )).thenReturn(List.of(due));
+        when(jobRepository.countByCompletedAtIsNullAndAttemptsGreaterThanEqual(8)).thenReturn(3L);
+
+        assertThat(service.findPendingJobIds()).containsExactly(1L);
+
+        assertThat(service.getParkedJobCount()).isEqualTo(3);
+        assertThat(meterRegistry.get("account.deletion.jobs.parked").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    void successfulBatchResetsConsecutiveFailures() {
+        AccountDeletionJob job = job(AccountDeletionStage.REVIEWS);
+        job.setAttempts(5);
+        job.setLastError("deadlock");
+        when(jobRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(job));
+        when(zoneReviewRepository.findIdsByAuthorId(eq(2L), any(Pageable.class))).thenReturn(List.of(31L));
+
+        service.runNextBatch(1L);
+
+        assertThat(job.getAttempts()).isZero();
+        assertThat(job.getLastError()).isNull();
+    }
+
+    private AccountDeletionJob job(AccountDeletionStage stage) {
+        return AccountDeletionJob.builder()
+                .id(1L)
+                .userId(2L)
+                .stage(stage)
+                .build();
+    }
+}
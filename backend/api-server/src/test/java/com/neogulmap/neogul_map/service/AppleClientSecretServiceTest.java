@@ -2,38 +2,55 @@ package com.neogulmap.neogul_map.service;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.spec.ECGenParameterSpec;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.Base64;
+import java.util.Date;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class AppleClientSecretServiceTest {
 
-    @Test
-    void createsShortLivedEs256ClientSecretWithAppleClaims() throws Exception {
+    private KeyPair keyPair;
+    private Instant now;
+    private MutableClock clock;
+    private AppleClientSecretService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
         KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
         generator.initialize(new ECGenParameterSpec("secp256r1"));
-        KeyPair keyPair = generator.generateKeyPair();
-        Instant now = Instant.now().truncatedTo(java.time.temporal.ChronoUnit.SECONDS);
-        AppleClientSecretService service = new AppleClientSecretService(
+        keyPair = generator.generateKeyPair();
+        now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        clock = new MutableClock(now);
+        service = new AppleClientSecretService(
                 true,
                 "com.nugulmap.native",
                 "TEAM123",
                 "KEY123",
                 "",
                 Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()),
-                Clock.fixed(now, java.time.ZoneOffset.UTC)
+                Duration.ofMinutes(5),
+                clock
         );
+    }
 
-        String clientSecret = service.createClientSecret();
+    @Test
+    void createsShortLivedEs256ClientSecretWithAppleClaims() {
+        String clientSecret = service.getClientSecret();
         var parsed = Jwts.parser()
                 .verifyWith(keyPair.getPublic())
+                .clock(() -> Date.from(clock.instant()))
                 .build()
                 .parseSignedClaims(clientSecret);
         Claims claims = parsed.getPayload();
@@ -42,7 +59,71 @@ class AppleClientSecretServiceTest {
         assertThat(claims.getIssuer()).isEqualTo("TEAM123");
         assertThat(claims.getSubject()).isEqualTo("com.nugulmap.native");
         assertThat(claims.getAudience()).contains("https://appleid.apple.com");
-        assertThat(claims.getIssuedAt()).isEqualTo(java.util.Date.from(now));
-        assertThat(claims.getExpiration()).isEqualTo(java.util.Date.from(now.plusSeconds(300)));
+        assertThat(claims.getIssuedAt()).isEqualTo(Date.from(now));
+        assertThat(claims.getExpiration()).isEqualTo(Date.from(now.plusSeconds(300)));
+    }
+
+    @Test
+    void reusesSignedSecretUntilRefreshMargin() {
+        String first = service.getClientSecret();
+
+        clock.advance(Duration.ofMinutes(4));
+
+        assertThat(service.getClientSecret()).isSameAs(first);
+    }
+
+    @Test
+    void renewsSecretCloseToExpiry() {
+        String first = service.getClientSecret();
+
+        clock.advance(Duration.ofSeconds(280));
+        String renewed = service.getClientSecret();
+
+        assertThat(renewed).isNotEqualTo(first);
+        Claims claims = Jwts.parser()
+                .verifyWith(keyPair.getPublic())
+                .clock(() -> Date.from(clock.instant()))
+                .build()
+                .parseSignedClaims(renewed)
+                .getPayload();
+        assertThat(claims.getIssuedAt()).isEqualTo(Date.from(now.plusSeconds(280)));
+    }
+
+    @Test
+    void backgroundRefreshSignsAheadOfRequests() {
+        service.refreshIfStale();
+        String prepared = service.getClientSecret();
+
+        service.refreshIfStale();
+
+        assertThat(service.getClientSecret()).isSameAs(prepared);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
     }
 }
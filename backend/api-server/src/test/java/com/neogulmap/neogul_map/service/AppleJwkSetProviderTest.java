@@ -0,0 +1,135 @@
+package com.neogulmap.neogul_map.service;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AppleJwkSetProviderTest {
+
+    private final AtomicReference<String> body = new AtomicReference<>();
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicInteger requests = new AtomicInteger();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-07-20T09:00:00Z"));
+    private HttpServer server;
+    private AppleJwkSetProvider provider;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/auth/keys", exchange -> {
+            requests.incrementAndGet();
+            byte[] payload = body.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status.get(), payload.length);
+            exchange.getResponseBody().write(payload);
+            exchange.close();
+        });
+        server.start();
+        provider = new AppleJwkSetProvider(
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/auth/keys",
+                Duration.ofSeconds(60),
+                clock
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void backgroundRefreshServesKeysFromMemory() throws Exception {
+        RSAKey key = rsaKey("kid-1");
+        body.set(new JWKSet(key.toPublicJWK()).toString());
+
+        assertThat(provider.refresh()).isTrue();
+
+        assertThat(provider.get(selectorFor("kid-1"), null)).hasSize(1);
+        assertThat(provider.get(selectorFor("kid-1"), null)).hasSize(1);
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void unknownKidTriggersOneRefreshPerCooldown() throws Exception {
+        body.set(new JWKSet(rsaKey("kid-1").toPublicJWK()).toString());
+        provider.refresh();
+        clock.advance(Duration.ofSeconds(61));
+        body.set(new JWKSet(rsaKey("kid-2").toPublicJWK()).toString());
+
+        assertThat(provider.get(selectorFor("kid-2"), null)).hasSize(1);
+        assertThat(provider.get(selectorFor("kid-3"), null)).isEmpty();
+        assertThat(provider.get(selectorFor("kid-3"), null)).isEmpty();
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void failedRefreshKeepsPreviousKeys() throws Exception {
+        body.set(new JWKSet(rsaKey("kid-1").toPublicJWK()).toString());
+        provider.refresh();
+
+        status.set(500);
+        body.set("{}");
+        assertThat(provider.refresh()).isFalse();
+
+        status.set(200);
+        assertThat(provider.refresh()).isFalse();
+        assertThat(provider.keyCount()).isEqualTo(1);
+        assertThat(provider.get(selectorFor("kid-1"), null)).hasSize(1);
+    }
+
+    private static RSAKey rsaKey(String keyId) throws Exception {
+        return new RSAKeyGenerator(2048).keyID(keyId).algorithm(JWSAlgorithm.RS256).generate();
+    }
+
+    private static JWKSelector selectorFor(String keyId) {
+        return new JWKSelector(new JWKMatcher.Builder().keyID(keyId).build());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
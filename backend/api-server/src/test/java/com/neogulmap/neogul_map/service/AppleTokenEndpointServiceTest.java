@@ -75,7 +75,7 @@ class AppleTokenEndpointServiceTest {
         AppleClientSecretService clientSecretService = mock(AppleClientSecretService.class);
         when(clientSecretService.isEnabled()).thenReturn(true);
         when(clientSecretService.getClientId()).thenReturn("com.nugulmap.native");
-        when(clientSecretService.createClientSecret()).thenReturn("client-secret");
+        when(clientSecretService.getClientSecret()).thenReturn("client-secret");
         URI base = URI.create("http://127.0.0.1:" + server.getAddress().getPort());
         return new AppleTokenEndpointService(
                 HttpClient.newHttpClient(),
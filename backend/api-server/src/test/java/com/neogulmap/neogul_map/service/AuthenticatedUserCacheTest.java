@@ -0,0 +1,140 @@
+package com.neogulmap.neogul_map.service;
+
+import com.neogulmap.neogul_map.domain.User;
+import com.neogulmap.neogul_map.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticatedUserCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-07-17T09:00:00Z");
+
+    @Mock private UserRepository userRepository;
+
+    private final MutableClock clock = new MutableClock(NOW);
+
+    @Test
+    void repeatedLookupsWithinTtlReuseTheFirstQuery() {
+        AuthenticatedUserCache cache = cache(10);
+        when(userRepository.findByEmail("owner@example.com")).thenReturn(Optional.of(user(1L, "너굴")));
+
+        cache.findByEmail("owner@example.com");
+        User cached = cache.findByEmail("owner@example.com").orElseThrow();
+
+        verify(userRepository, times(1)).findByEmail("owner@example.com");
+        assertThat(cached.getNickname()).isEqualTo("너굴");
+    }
+
+    @Test
+    void cachedUserIsACopySoCallerChangesDoNotLeak() {
+        AuthenticatedUserCache cache = cache(10);
+        when(userRepository.findByEmail("owner@example.com")).thenReturn(Optional.of(user(1L, "너굴")));
+        cache.findByEmail("owner@example.com");
+
+        cache.findByEmail("owner@example.com").orElseThrow().setNickname("바뀐닉네임");
+
+        assertThat(cache.findByEmail("owner@example.com").orElseThrow().getNickname()).isEqualTo("너굴");
+    }
+
+    @Test
+    void expiredEntryIsReloaded() {
+        AuthenticatedUserCache cache = cache(10);
+        when(userRepository.findByEmail("owner@example.com")).thenReturn(Optional.of(user(1L, "너굴")));
+        cache.findByEmail("owner@example.com");
+
+        clock.advance(Duration.ofSeconds(31));
+        cache.findByEmail("owner@example.com");
+
+        verify(userRepository, times(2)).findByEmail("owner@example.com");
+    }
+
+    @Test
+    void invalidationByIdForcesAFreshLookup() {
+        AuthenticatedUserCache cache = cache(10);
+        when(userRepository.findByEmail("owner@example.com"))
+                .thenReturn(Optional.of(user(1L, "너굴")))
+                .thenReturn(Optional.of(user(1L, "새닉네임")));
+        cache.findByEmail("owner@example.com");
+
+        cache.invalidate(1L);
+
+        assertThat(cache.findByEmail("owner@example.com").orElseThrow().getNickname()).isEqualTo("새닉네임");
+    }
+
+    @Test
+    void cacheStopsGrowingAtMaxEntries() {
+        AuthenticatedUserCache cache = cache(1);
+        when(userRepository.findByEmail("a@example.com")).thenReturn(Optional.of(user(1L, "first", "a@example.com")));
+        when(userRepository.findByEmail("b@example.com")).thenReturn(Optional.of(user(2L, "second", "b@example.com")));
+
+        cache.findByEmail("a@example.com");
+        cache.findByEmail("b@example.com");
+        cache.findByEmail("b@example.com");
+
+        assertThat(cache.size()).isEqualTo(1);
+        verify(userRepository, times(2)).findByEmail("b@example.com");
+    }
+
+    private AuthenticatedUserCache cache(int maxEntries) {
+        return new AuthenticatedUserCache(userRepository, true, 30, maxEntries, clock);
+    }
+
+    private User user(Long id, String nickname) {
+        return user(id, nickname, "owner@example.com");
+    }
+
+    private User user(Long id, String nickname, String email) {
+        return User.builder()
+                .id(id)
+                .email(email)
+                .nickname(nickname)
+                .oauthId("kakao-" + id)
+                .oauthProvider("kakao")
+                .createdAt(LocalDateTime.of(2026, 7, 1, 0, 0))
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
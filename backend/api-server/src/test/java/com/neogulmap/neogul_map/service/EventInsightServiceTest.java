@@ -5,6 +5,7 @@ import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.neogulmap.neogul_map.dto.EventInsightResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.slf4j.LoggerFactory;
@@ -23,6 +24,7 @@ import java.time.LocalDate;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
@@ -34,7 +36,7 @@ class EventInsightServiceTest {
 
     @Test
     void getEventsDoesNotInventPopupFallbackWithoutExternalKey() {
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "popupTrendsFile", "");
 
@@ -46,7 +48,7 @@ class EventInsightServiceTest {
 
     @Test
     void getEventsNeverCallsExternalProvidersOnTheRequestPath() {
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "configured-tour-key");
         ReflectionTestUtils.setField(service, "seoulCultureApiKey", "configured-culture-key");
         ReflectionTestUtils.setField(service, "seoulCultureApiBaseUrl", "http://culture.example.test/base");
@@ -63,7 +65,7 @@ class EventInsightServiceTest {
 
     @Test
     void getEventsCapsFallbackResults() {
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "popupTrendsFile", "");
 
@@ -76,7 +78,7 @@ class EventInsightServiceTest {
 
     @Test
     void getEventsFiltersFallbackByViewportBounds() {
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "popupTrendsFile", "");
 
@@ -118,7 +120,7 @@ class EventInsightServiceTest {
                   }
                 ]
                 """.formatted(startDate, endDate, collectedAt));
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "popupTrendsFile", trendFile.toString());
 
@@ -150,7 +152,7 @@ class EventInsightServiceTest {
                 approvedSeoulPopupRecord("bracket-ipv6", "http://[::1]/private", eventDate, collectedAt),
                 approvedSeoulPopupRecord("mapped-ipv6", "http://[::ffff:127.0.0.1]/private", eventDate, collectedAt)
         ));
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), objectMapper);
+        EventInsightService service = newService(objectMapper);
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCultureApiKey", "");
         ReflectionTestUtils.setField(service, "popupTrendsFile", trendFile.toString());
@@ -161,6 +163,34 @@ class EventInsightServiceTest {
         assertThat(response.dataFreshness()).isEqualTo("NO_VERIFIED_DATA");
     }
 
+    @Test
+    void getEventsKeepsTheHighestPriorityEventsWhenMoreMatchThanTheLimit(@TempDir Path tempDir) throws Exception {
+        LocalDate today = LocalDate.now(java.time.ZoneId.of("Asia/Seoul"));
+        String collectedAt = Instant.now().toString();
+        Path trendFile = tempDir.resolve("popup-trends-top-k.json");
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.writeValue(trendFile.toFile(), List.of(
+                approvedSeoulPopupRecord("later", "https://example.com/popups/later", today.plusDays(9).toString(), collectedAt),
+                approvedSeoulPopupRecord("soon", "https://example.com/popups/soon", today.plusDays(3).toString(), collectedAt),
+                approvedSeoulPopupRecord("middle", "https://example.com/popups/middle", today.plusDays(6).toString(), collectedAt),
+                approvedSeoulPopupRecord("today", "https://example.com/popups/today", today.toString(), collectedAt)
+        ));
+        EventInsightService service = newService(objectMapper);
+        ReflectionTestUtils.setField(service, "tourApiKey", "");
+        ReflectionTestUtils.setField(service, "seoulCultureApiKey", "");
+        ReflectionTestUtils.setField(service, "popupTrendsFile", trendFile.toString());
+
+        EventInsightResponse first = service.getEvents("성수 팝업", 2);
+        EventInsightResponse second = service.getEvents("성수 팝업", 3);
+
+        assertThat(first.events())
+                .extracting(EventInsightResponse.EventInsightItem::id)
+                .containsExactly("today", "soon");
+        assertThat(second.events())
+                .extracting(EventInsightResponse.EventInsightItem::id)
+                .containsExactly("today", "soon", "middle");
+    }
+
     private Map<String, Object> approvedSeoulPopupRecord(
             String id,
             String detailUrl,
@@ -241,7 +271,7 @@ class EventInsightServiceTest {
                 eventDate, eventDate, collectedAt,
                 eventDate, eventDate, collectedAt
         ));
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCultureApiKey", "");
         ReflectionTestUtils.setField(service, "popupTrendsFile", trendFile.toString());
@@ -392,7 +422,7 @@ class EventInsightServiceTest {
                 eventDate, eventDate, collectedAt,
                 eventDate, eventDate, collectedAt
         ));
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCultureApiKey", "");
         ReflectionTestUtils.setField(service, "popupTrendsFile", trendFile.toString());
@@ -416,7 +446,7 @@ class EventInsightServiceTest {
                 popupPolicyRecord("juul-topic", "topic", "JUUL product showcase", eventDate, collectedAt),
                 popupPolicyRecord("vaporizer-url", "detailUrl", "https://example.com/vaporizer/launch", eventDate, collectedAt)
         ));
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), objectMapper);
+        EventInsightService service = newService(objectMapper);
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCultureApiKey", "");
         ReflectionTestUtils.setField(service, "popupTrendsFile", trendFile.toString());
@@ -484,7 +514,7 @@ class EventInsightServiceTest {
                   ]
                 }
                 """.formatted(startDate, endDate, collectedAt));
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "popupTrendsFile", trendFile.toString());
 
@@ -519,7 +549,7 @@ class EventInsightServiceTest {
                   }
                 ]
                 """.formatted(startDate, endDate, collectedAt));
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCultureApiKey", "");
         ReflectionTestUtils.setField(service, "popupTrendsFile", trendFile.toString());
@@ -598,7 +628,7 @@ class EventInsightServiceTest {
                 startDate, earlierEndDate, collectedAt,
                 startDate, startDate, collectedAt
         ));
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCultureApiKey", "");
         ReflectionTestUtils.setField(service, "popupTrendsFile", trendFile.toString());
@@ -639,7 +669,7 @@ class EventInsightServiceTest {
                   }
                 ]
                 """.formatted(eventDate, eventDate, eventDate, eventDate, collectedAt));
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "popupTrendsFile", trendFile.toString());
 
@@ -654,7 +684,7 @@ class EventInsightServiceTest {
 
     @Test
     void getEventsFetchesSeoulCultureApiAtRuntime() {
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCultureApiKey", "culture-key");
         ReflectionTestUtils.setField(service, "seoulCultureApiBaseUrl", "http://culture.example.test/base");
@@ -713,7 +743,7 @@ class EventInsightServiceTest {
     void getEventsPublishesOnlyQualifiedSeongsuPopupRowsFromRuntimeSeoulCultureApi() {
         String startDate = LocalDate.now(java.time.ZoneId.of("Asia/Seoul")).plusDays(2).toString();
         String endDate = LocalDate.now(java.time.ZoneId.of("Asia/Seoul")).plusDays(9).toString();
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCultureApiKey", "culture-key");
         ReflectionTestUtils.setField(service, "seoulCultureApiBaseUrl", "http://culture.example.test/base");
@@ -816,7 +846,7 @@ class EventInsightServiceTest {
     @Test
     void seoulCultureApiFetchesEveryPageFromListTotalCountBeforePublishing() {
         String eventDate = LocalDate.now(java.time.ZoneId.of("Asia/Seoul")).plusDays(7).toString();
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCultureApiKey", "culture-key");
         ReflectionTestUtils.setField(service, "seoulCultureApiBaseUrl", "http://culture.example.test/base");
@@ -847,10 +877,53 @@ class EventInsightServiceTest {
         assertThat(service.getSeoulCultureApiProviderStatus().qualityStatus()).isEqualTo("OK");
     }
 
+    @Test
+    void seoulCultureApiFetchesRemainingPagesConcurrentlyWithinTheFanOutLimit() {
+        String eventDate = LocalDate.now(java.time.ZoneId.of("Asia/Seoul")).plusDays(7).toString();
+        EventInsightService service = newService(new ObjectMapper());
+        ReflectionTestUtils.setField(service, "tourApiKey", "");
+        ReflectionTestUtils.setField(service, "seoulCultureApiKey", "culture-key");
+        ReflectionTestUtils.setField(service, "seoulCultureApiBaseUrl", "http://culture.example.test/base");
+        ReflectionTestUtils.setField(service, "seoulCultureApiPageSize", 1);
+        ReflectionTestUtils.setField(service, "seoulCultureApiMaxPages", 25);
+        ReflectionTestUtils.setField(service, "seoulCultureApiMaxConcurrency", 2);
+        ReflectionTestUtils.setField(service, "popupTrendsFile", "");
+        RestTemplate restTemplate = (RestTemplate) ReflectionTestUtils.getField(service, "restTemplate");
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+        AtomicInteger activePages = new AtomicInteger();
+        AtomicInteger maxActivePages = new AtomicInteger();
+        for (int page = 1; page <= 5; page++) {
+            String body = seoulCultureResponse(5, seoulCultureRow("page-" + page, "성수 페이지 " + page + " 팝업", eventDate));
+            server.expect(requestTo(containsString("/culture-key/json/culturalEventInfo/" + page + "/" + page)))
+                    .andRespond(request -> {
+                        maxActivePages.accumulateAndGet(activePages.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(20);
+                        } catch (InterruptedException error) {
+                            Thread.currentThread().interrupt();
+                        } finally {
+                            activePages.decrementAndGet();
+                        }
+                        return withSuccess(body, new MediaType("application", "json", StandardCharsets.UTF_8))
+                                .createResponse(request);
+                    });
+        }
+
+        service.warmEventCache();
+        EventInsightResponse response = service.getEvents("페이지", 10);
+
+        server.verify();
+        assertThat(maxActivePages.get()).isLessThanOrEqualTo(2);
+        assertThat(response.events())
+                .extracting(EventInsightResponse.EventInsightItem::sourceContentId)
+                .containsExactlyInAnyOrder("page-1", "page-2", "page-3", "page-4", "page-5");
+        assertThat(service.getSeoulCultureApiProviderStatus().detail()).contains("5페이지");
+    }
+
     @Test
     void seoulCultureApiBlocksTobaccoMetadataBeforeCaching() {
         String eventDate = LocalDate.now(java.time.ZoneId.of("Asia/Seoul")).plusDays(7).toString();
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCultureApiKey", "culture-key");
         ReflectionTestUtils.setField(service, "seoulCultureApiBaseUrl", "http://culture.example.test/base");
@@ -877,7 +950,7 @@ class EventInsightServiceTest {
     @Test
     void seoulCultureApiKeepsLastGoodCacheWhenALaterPageFails() {
         String eventDate = LocalDate.now(java.time.ZoneId.of("Asia/Seoul")).plusDays(7).toString();
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCultureApiKey", "culture-key");
         ReflectionTestUtils.setField(service, "seoulCultureApiBaseUrl", "http://culture.example.test/base");
@@ -912,9 +985,50 @@ class EventInsightServiceTest {
         assertThat(service.getSeoulCultureApiProviderStatus().qualityStatus()).isEqualTo("ERROR");
     }
 
+    @Test
+    void seoulCultureRefreshReusesUnchangedRowsAndSummarizesChanges() {
+        String eventDate = LocalDate.now(java.time.ZoneId.of("Asia/Seoul")).plusDays(7).toString();
+        EventInsightService service = newService(new ObjectMapper());
+        ReflectionTestUtils.setField(service, "tourApiKey", "");
+        ReflectionTestUtils.setField(service, "seoulCultureApiKey", "culture-key");
+        ReflectionTestUtils.setField(service, "seoulCultureApiBaseUrl", "http://culture.example.test/base");
+        ReflectionTestUtils.setField(service, "seoulCultureApiPageSize", 10);
+        ReflectionTestUtils.setField(service, "popupTrendsFile", "");
+        RestTemplate restTemplate = (RestTemplate) ReflectionTestUtils.getField(service, "restTemplate");
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        MediaType json = new MediaType("application", "json", StandardCharsets.UTF_8);
+        server.expect(requestTo(containsString("/culture-key/json/culturalEventInfo/1/10")))
+                .andRespond(withSuccess(seoulCultureResponse(
+                        3,
+                        seoulCultureRow("kept", "성수 그대로 팝업", eventDate),
+                        seoulCultureRow("edited", "성수 수정 팝업", eventDate),
+                        seoulCultureRow("ended", "성수 종료 팝업", eventDate)
+                ), json));
+        server.expect(requestTo(containsString("/culture-key/json/culturalEventInfo/1/10")))
+                .andRespond(withSuccess(seoulCultureResponse(
+                        3,
+                        seoulCultureRow("kept", "성수 그대로 팝업", eventDate),
+                        seoulCultureRow("edited-v2", "성수 수정 팝업", eventDate),
+                        seoulCultureRow("opened", "성수 신규 팝업", eventDate)
+                ), json));
+
+        service.warmEventCache();
+        EventInsightResponse.EventInsightItem keptBefore = service.getEvents("그대로", 10).events().get(0);
+        ((Map<?, ?>) ReflectionTestUtils.getField(service, "seoulCultureEventsCache")).clear();
+        service.warmEventCache();
+        EventInsightResponse response = service.getEvents(null, 10);
+
+        server.verify();
+        assertThat(response.events())
+                .extracting(EventInsightResponse.EventInsightItem::sourceContentId)
+                .containsExactlyInAnyOrder("kept", "edited-v2", "opened");
+        assertThat(service.getEvents("그대로", 10).events().get(0)).isSameAs(keptBefore);
+        assertThat(service.getSeoulCultureApiProviderStatus().detail()).contains("추가 1, 삭제 1, 변경 1");
+    }
+
     @Test
     void seoulCulturePaginationUsesSafeDefaultsAndHardBounds() {
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
 
         assertThat((Integer) ReflectionTestUtils.invokeMethod(service, "normalizedSeoulCulturePageSize"))
                 .isEqualTo(1000);
@@ -938,7 +1052,7 @@ class EventInsightServiceTest {
     void providerFailuresDoNotExposeApiKeysInLogsOrStatusDetails() {
         String tourSecret = "tour-test-secret-key";
         String seoulSecret = "seoul-test-secret-key";
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", tourSecret);
         ReflectionTestUtils.setField(service, "seoulCultureApiKey", seoulSecret);
         ReflectionTestUtils.setField(service, "seoulCultureApiBaseUrl", "http://culture.example.test/base");
@@ -1007,7 +1121,7 @@ class EventInsightServiceTest {
                 ]
                 """.formatted(startDate, endDate, Instant.now()));
 
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCultureApiKey", "culture-key");
         ReflectionTestUtils.setField(service, "seoulCultureApiBaseUrl", "http://culture.example.test/base");
@@ -1057,7 +1171,7 @@ class EventInsightServiceTest {
         String tourStartDate = start.format(java.time.format.DateTimeFormatter.BASIC_ISO_DATE);
         String tourEndDate = end.format(java.time.format.DateTimeFormatter.BASIC_ISO_DATE);
 
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "tour-key");
         ReflectionTestUtils.setField(service, "seoulCultureApiKey", "culture-key");
         ReflectionTestUtils.setField(service, "seoulCultureApiBaseUrl", "http://culture.example.test/base");
@@ -1174,7 +1288,7 @@ class EventInsightServiceTest {
                   }
                 ]
                 """.formatted(upcomingDate, upcomingDate, collectedAt, upcomingDate, upcomingDate, collectedAt));
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCultureApiKey", "");
         ReflectionTestUtils.setField(service, "popupTrendsFile", trendFile.toString());
@@ -1215,7 +1329,7 @@ class EventInsightServiceTest {
                   }
                 ]
                 """.formatted(eventDate, eventDate, collectedAt));
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCultureApiKey", "");
         ReflectionTestUtils.setField(service, "popupTrendsFile", trendFile.toString());
@@ -1383,7 +1497,7 @@ class EventInsightServiceTest {
                 startDate, endDate,
                 startDate, endDate
         ));
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCultureApiKey", "");
         ReflectionTestUtils.setField(service, "popupTrendsFile", trendFile.toString());
@@ -1423,7 +1537,7 @@ class EventInsightServiceTest {
                   }
                 ]
                 """.formatted(upcomingDate, upcomingDate, staleCollectedAt));
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCultureApiKey", "");
         ReflectionTestUtils.setField(service, "popupTrendsFile", trendFile.toString());
@@ -1462,7 +1576,7 @@ class EventInsightServiceTest {
                   }
                 ]
                 """.formatted(Instant.now(), Instant.now()));
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCultureApiKey", "");
         ReflectionTestUtils.setField(service, "popupTrendsFile", trendFile.toString());
@@ -1528,7 +1642,7 @@ class EventInsightServiceTest {
                 startDate, endDate, startDate, endDate, collectedAt,
                 startDate, endDate, collectedAt
         ));
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "popupTrendsFile", trendFile.toString());
 
@@ -1574,7 +1688,7 @@ class EventInsightServiceTest {
                   }
                 ]
                 """.formatted(eventDate, eventDate, collectedAt));
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "popupTrendsFile", trendFile.toString());
 
@@ -1668,7 +1782,7 @@ class EventInsightServiceTest {
                 today.plusDays(1),
                 collectedAt
         ));
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "");
         ReflectionTestUtils.setField(service, "popupTrendsFile", trendFile.toString());
 
@@ -1685,7 +1799,7 @@ class EventInsightServiceTest {
                 .format(java.time.format.DateTimeFormatter.BASIC_ISO_DATE);
         String endDate = LocalDate.now(java.time.ZoneId.of("Asia/Seoul")).plusDays(7)
                 .format(java.time.format.DateTimeFormatter.BASIC_ISO_DATE);
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "test-key");
         ReflectionTestUtils.setField(service, "popupTrendsFile", "");
         ReflectionTestUtils.setField(service, "cacheTtlSeconds", 180L);
@@ -1728,13 +1842,77 @@ class EventInsightServiceTest {
         assertThat(second.events().getFirst().source()).isEqualTo("KTO_TOUR_API");
     }
 
+    @Test
+    void restartedServiceServesPersistedTourEventsWithoutCallingProvider(@TempDir Path tempDir) {
+        String startDate = LocalDate.now(java.time.ZoneId.of("Asia/Seoul")).plusDays(1)
+                .format(java.time.format.DateTimeFormatter.BASIC_ISO_DATE);
+        String endDate = LocalDate.now(java.time.ZoneId.of("Asia/Seoul")).plusDays(7)
+                .format(java.time.format.DateTimeFormatter.BASIC_ISO_DATE);
+        ObjectMapper objectMapper = new ObjectMapper();
+        InsightSnapshotStore snapshotStore = new InsightSnapshotStore(objectMapper, tempDir.toString());
+        EventInsightService service = new EventInsightService(
+                providerHttpClient(),
+                new PopupTrendFileCache(objectMapper, 0L),
+                snapshotStore
+        );
+        ReflectionTestUtils.setField(service, "tourApiKey", "test-key");
+        ReflectionTestUtils.setField(service, "popupTrendsFile", "");
+        RestTemplate restTemplate = (RestTemplate) ReflectionTestUtils.getField(service, "restTemplate");
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(requestTo(containsString("/B551011/KorService2/searchFestival2")))
+                .andRespond(withSuccess("""
+                        {
+                          "response": {
+                            "body": {
+                              "items": {
+                                "item": [
+                                  {
+                                    "contentid": "tour-1",
+                                    "title": "잠실 테스트 축제",
+                                    "eventstartdate": "%s",
+                                    "eventenddate": "%s",
+                                    "mapy": "37.5125",
+                                    "mapx": "127.1028",
+                                    "addr1": "서울 송파구",
+                                    "firstimage": "https://example.com/a.jpg",
+                                    "homepage": "https://example.com/events/tour-1"
+                                  }
+                                ]
+                              }
+                            }
+                          }
+                        }
+                        """.formatted(startDate, endDate), new MediaType("application", "json", StandardCharsets.UTF_8)));
+        service.warmEventCache();
+        server.verify();
+
+        EventInsightService restarted = new EventInsightService(
+                providerHttpClient(),
+                new PopupTrendFileCache(objectMapper, 0L),
+                snapshotStore
+        );
+        ReflectionTestUtils.setField(restarted, "tourApiKey", "test-key");
+        ReflectionTestUtils.setField(restarted, "popupTrendsFile", "");
+        RestTemplate restartedTemplate = (RestTemplate) ReflectionTestUtils.getField(restarted, "restTemplate");
+        MockRestServiceServer restartedServer = MockRestServiceServer.bindTo(restartedTemplate).build();
+        restarted.restoreSnapshot();
+        restarted.warmEventCache();
+        EventInsightResponse response = restarted.getEvents("잠실", 5);
+
+        restartedServer.verify();
+        assertThat(response.dataFreshness()).isEqualTo("LIVE_OR_PARTIAL");
+        assertThat(response.events()).extracting(EventInsightResponse.EventInsightItem::title)
+                .containsExactly("잠실 테스트 축제");
+        assertThat(response.events().getFirst().source()).isEqualTo("KTO_TOUR_API");
+    }
+
     @Test
     void getEventsReadsTourApiItemsWhenItemsIsList() {
         String startDate = LocalDate.now(java.time.ZoneId.of("Asia/Seoul")).plusDays(1)
                 .format(java.time.format.DateTimeFormatter.BASIC_ISO_DATE);
         String endDate = LocalDate.now(java.time.ZoneId.of("Asia/Seoul")).plusDays(3)
                 .format(java.time.format.DateTimeFormatter.BASIC_ISO_DATE);
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "test-key");
         ReflectionTestUtils.setField(service, "popupTrendsFile", "");
         RestTemplate restTemplate = (RestTemplate) ReflectionTestUtils.getField(service, "restTemplate");
@@ -1772,7 +1950,7 @@ class EventInsightServiceTest {
 
     @Test
     void getEventsReadsTourApiBodyItemAndAlternativeFields() {
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "test-key");
         ReflectionTestUtils.setField(service, "popupTrendsFile", "");
         RestTemplate restTemplate = (RestTemplate) ReflectionTestUtils.getField(service, "restTemplate");
@@ -1814,7 +1992,7 @@ class EventInsightServiceTest {
 
     @Test
     void getEventsFallsBackWhenTourApiReturnsEmptyItemsString() {
-        EventInsightService service = new EventInsightService(new RestTemplateBuilder(), new ObjectMapper());
+        EventInsightService service = newService(new ObjectMapper());
         ReflectionTestUtils.setField(service, "tourApiKey", "test-key");
         ReflectionTestUtils.setField(service, "popupTrendsFile", "");
         RestTemplate restTemplate = (RestTemplate) ReflectionTestUtils.getField(service, "restTemplate");
@@ -1838,4 +2016,16 @@ class EventInsightServiceTest {
         assertThat(response.events()).isEmpty();
         assertThat(response.sources()).isEmpty();
     }
+
+    private static EventInsightService newService(ObjectMapper objectMapper) {
+        return new EventInsightService(
+                providerHttpClient(),
+                new PopupTrendFileCache(objectMapper, 0L),
+                new InsightSnapshotStore(objectMapper, "")
+        );
+    }
+
+    private static ProviderHttpClient providerHttpClient() {
+        return new ProviderHttpClient(new RestTemplateBuilder(), new SimpleMeterRegistry(), 3_000, 5_000, 4);
+    }
 }
@@ -0,0 +1,49 @@
+package com.neogulmap.neogul_map.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotplaceQueryMatcherTest {
+
+    private final HotplaceQueryMatcher matcher = new HotplaceQueryMatcher(
+            List.of(
+                    List.of("lotte-world", "롯데월드", "잠실"),
+                    List.of("songridan", "송리단길", "호수단길"),
+                    List.of("seongsu", "성수동 카페거리", "성수")
+            ),
+            List.of("hot-now", "핫플"),
+            List.of("지금핫", "핫플"),
+            List.of("혼잡", "붐빔")
+    );
+
+    @Test
+    void placeTermsInsideTheQuerySelectOnlyThoseSeeds() {
+        HotplaceQueryMatcher.Match match = matcher.classify("롯데월드 지금 혼잡해?");
+
+        assertThat(match.all()).isFalse();
+        assertThat(match.includes(0)).isTrue();
+        assertThat(match.includes(1)).isFalse();
+        assertThat(match.includes(2)).isFalse();
+    }
+
+    @Test
+    void partialQueriesMatchSeedsWhoseTermContainsThem() {
+        HotplaceQueryMatcher.Match match = matcher.classify("송리단");
+
+        assertThat(match.includes(1)).isTrue();
+        assertThat(match.includes(0)).isFalse();
+    }
+
+    @Test
+    void citywideQueriesWithoutAPlaceSelectEverySeed() {
+        assertThat(matcher.classify(" ").all()).isTrue();
+        assertThat(matcher.classify("HOT-NOW").all()).isTrue();
+        assertThat(matcher.classify("서울 핫플 어디야").all()).isTrue();
+        assertThat(matcher.classify("사람 붐빔").all()).isTrue();
+        assertThat(matcher.classify("성수 핫플").all()).isFalse();
+        assertThat(matcher.classify("부산 맛집").seeds()).isEmpty();
+    }
+}
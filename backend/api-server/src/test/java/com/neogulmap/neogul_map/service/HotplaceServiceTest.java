@@ -1,8 +1,12 @@
 package com.neogulmap.neogul_map.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.neogulmap.neogul_map.dto.HotplaceResponse;
+import com.neogulmap.neogul_map.dto.HotplaceTrendResponse;
 import com.neogulmap.neogul_map.dto.InsightStatusResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -13,6 +17,7 @@ import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestTemplate;
 
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
@@ -39,7 +44,7 @@ class HotplaceServiceTest {
 
     @Test
     void getHotplacesReturnsNoVerifiedDataWithoutExternalKey() {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "");
 
@@ -124,7 +129,7 @@ class HotplaceServiceTest {
 
     @Test
     void season3HotplacesUseCurrentOfficialSeoulPlaceCodes() {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         setNow(service, "2026-06-18T13:05:00Z");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "test-key");
@@ -192,7 +197,7 @@ class HotplaceServiceTest {
 
     @Test
     void getHotplacesDoesNotCallProviderWhenCacheIsColdAndReturnsNoVerifiedData() {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "telecom-key");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "https://telecom.example/crowd?place={placeId}");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKeyHeader", "appKey");
@@ -209,7 +214,7 @@ class HotplaceServiceTest {
 
     @Test
     void getHotplacesParsesSeoulCityDataCrowdEstimateForLotteWorld() {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         setNow(service, "2026-06-18T11:05:00Z");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "test-key");
@@ -252,7 +257,7 @@ class HotplaceServiceTest {
 
     @Test
     void getHotplacesRejectsSeoulCityDataOlderThanThirtyMinutes() {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         setNow(service, "2026-06-18T11:00:00Z");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "test-key");
@@ -285,7 +290,7 @@ class HotplaceServiceTest {
 
     @Test
     void getHotplacesFallsBackWhenSeoulCityDataHasNoCrowdSignal() {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "test-key");
         RestTemplate restTemplate = (RestTemplate) ReflectionTestUtils.getField(service, "restTemplate");
@@ -309,7 +314,7 @@ class HotplaceServiceTest {
 
     @Test
     void getHotplacesTriesCurrentJamsilStationAliasWhenTourismAreaIsUnavailable() {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         setNow(service, "2026-06-18T13:05:00Z");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "test-key");
@@ -365,7 +370,7 @@ class HotplaceServiceTest {
 
     @Test
     void getHotplacesCachesSeoulCityDataWithinTtl() {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         setNow(service, "2026-06-18T12:05:00Z");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "test-key");
@@ -403,7 +408,7 @@ class HotplaceServiceTest {
 
     @Test
     void getHotplacesFallsBackToSeoulAreaNameWhenCityDataCodeIsMissing() {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "test-key");
         RestTemplate restTemplate = (RestTemplate) ReflectionTestUtils.getField(service, "restTemplate");
@@ -427,7 +432,7 @@ class HotplaceServiceTest {
 
     @Test
     void getHotplacesUsesConfiguredTelecomCrowdAdapterBeforeSeoulCityData() {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         setNow(service, "2026-06-18T12:05:00Z");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "telecom-key");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "https://telecom.example/crowd?place={placeId}");
@@ -468,7 +473,7 @@ class HotplaceServiceTest {
 
     @Test
     void getHotplacesSkipsStaleTelecomSignalAndUsesFreshSeoulCityData() {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         setNow(service, "2026-06-18T12:00:00Z");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "telecom-key");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "https://telecom.example/crowd?place={placeId}");
@@ -516,7 +521,7 @@ class HotplaceServiceTest {
 
     @Test
     void getHotplacesRejectsTimestampLessProviderByDefault() {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "telecom-key");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "https://telecom.example/crowd?place={placeId}");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKeyHeader", "appKey");
@@ -544,7 +549,7 @@ class HotplaceServiceTest {
 
     @Test
     void getHotplacesDoesNotPublishTimestampLessProviderEvenWhenLegacyCachingIsEnabled() {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         ReflectionTestUtils.setField(service, "allowMissingObservationTime", true);
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "telecom-key");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "https://telecom.example/crowd?place={placeId}");
@@ -573,7 +578,7 @@ class HotplaceServiceTest {
 
     @Test
     void getHotplacesSupportsTelecomApiKeyInUrlTemplateWithoutHeader() {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         setNow(service, "2026-06-18T15:05:00Z");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "telecom key");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "https://telecom.example/crowd?key={apiKey}&area={seoulAreaCode}");
@@ -608,7 +613,7 @@ class HotplaceServiceTest {
 
     @Test
     void getHotplacesParsesNestedTelecomCrowdItemResponse() {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         setNow(service, "2026-06-18T13:15:00Z");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "telecom-key");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "https://telecom.example/crowd?place={placeId}");
@@ -653,7 +658,7 @@ class HotplaceServiceTest {
 
     @Test
     void getHotplacesParsesGeoJsonTelecomCrowdProperties() {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         setNow(service, "2026-06-18T14:05:00Z");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "telecom-key");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "https://telecom.example/crowd?name={placeName}");
@@ -694,7 +699,7 @@ class HotplaceServiceTest {
 
     @Test
     void getHotplacesNormalizesTelecomCrowdCodesAndPopulationRanges() {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         setNow(service, "2026-06-18T16:05:00Z");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "telecom-key");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "https://telecom.example/crowd?place={placeId}");
@@ -727,7 +732,7 @@ class HotplaceServiceTest {
 
     @Test
     void getHotplacesRanksSameCrowdLevelByEstimatedPeopleBeforeStaticHotRank() {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         setNow(service, "2026-06-18T17:05:00Z");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "telecom-key");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "https://telecom.example/crowd?place={placeId}");
@@ -770,7 +775,7 @@ class HotplaceServiceTest {
 
     @Test
     void concurrentWarmupsShareOneSeoulCityDataCall() throws Exception {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         setNow(service, "2026-06-18T12:05:00Z");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "test-key");
@@ -830,7 +835,7 @@ class HotplaceServiceTest {
 
     @Test
     void failedPlaceLookupIsNegativeCachedDuringCooldown() {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "");
         ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "test-key");
         ReflectionTestUtils.setField(service, "providerFailureCooldownSeconds", 60L);
@@ -859,7 +864,7 @@ class HotplaceServiceTest {
 
     @Test
     void repeatedTransportFailuresOpenProviderCircuitForRemainingSeeds() {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "telecom-key");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "https://telecom.example/crowd?place={placeId}");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKeyHeader", "appKey");
@@ -918,7 +923,7 @@ class HotplaceServiceTest {
             response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
             return response;
         });
-        HotplaceService service = new HotplaceService(builder);
+        HotplaceService service = newService(builder);
         setNow(service, "2026-06-18T17:05:00Z");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "telecom-key");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "https://telecom.example/crowd?place={placeId}");
@@ -946,9 +951,122 @@ class HotplaceServiceTest {
                 .hasSize(20);
     }
 
+    @Test
+    void refreshAheadWaitsForObservationToAgeAndBacksOffWhenProviderDoesNotUpdate() {
+        HotplaceService service = newRefreshAheadCityDataService();
+        RestTemplate restTemplate = (RestTemplate) ReflectionTestUtils.getField(service, "restTemplate");
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(ExpectedCount.times(3), requestTo(JAMSIL_TOURISM_CITYDATA_URL))
+                .andRespond(withSuccess(lotteWorldCityDataXml("2026-06-18 21:00", 22000),
+                        new org.springframework.http.MediaType("application", "xml", StandardCharsets.UTF_8)));
+
+        service.warmHotplaceCache();
+        setNow(service, "2026-06-18T12:09:59Z");
+        service.refreshDueHotplaceCacheEntries();
+        service.warmHotplaceCache();
+
+        setNow(service, "2026-06-18T12:10:00Z");
+        service.refreshDueHotplaceCacheEntries();
+        setNow(service, "2026-06-18T12:10:59Z");
+        service.refreshDueHotplaceCacheEntries();
+
+        setNow(service, "2026-06-18T12:11:00Z");
+        service.refreshDueHotplaceCacheEntries();
+        setNow(service, "2026-06-18T12:12:59Z");
+        service.refreshDueHotplaceCacheEntries();
+
+        server.verify();
+    }
+
+    @Test
+    void getHotplacesServesDueEntryUntilRefreshAheadTickRevalidatesIt() {
+        HotplaceService service = newRefreshAheadCityDataService();
+        RestTemplate restTemplate = (RestTemplate) ReflectionTestUtils.getField(service, "restTemplate");
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        MediaType xml = new MediaType("application", "xml", StandardCharsets.UTF_8);
+        server.expect(ExpectedCount.once(), requestTo(JAMSIL_TOURISM_CITYDATA_URL))
+                .andRespond(withSuccess(lotteWorldCityDataXml("2026-06-18 21:00", 22000), xml));
+        server.expect(ExpectedCount.once(), requestTo(JAMSIL_TOURISM_CITYDATA_URL))
+                .andRespond(withSuccess(lotteWorldCityDataXml("2026-06-18 21:10", 26000), xml));
+
+        service.refreshHotplaceCacheEntry("lotte-world");
+        setNow(service, "2026-06-18T12:10:00Z");
+        HotplaceResponse served = service.getHotplaces("롯데월드", 1);
+        HotplaceResponse servedAgain = service.getHotplaces("롯데월드", 1);
+
+        assertThat(served.places().getFirst().estimatedMaxPeople()).isEqualTo(22000);
+        assertThat(servedAgain.places().getFirst().estimatedMaxPeople()).isEqualTo(22000);
+        service.refreshDueHotplaceCacheEntries();
+        assertThat(service.getHotplaces("롯데월드", 1).places().getFirst().estimatedMaxPeople()).isEqualTo(26000);
+        server.verify();
+    }
+
+    @Test
+    void restartedServiceRestoresOnlyFreshPersistedHotplaces(@TempDir Path tempDir) {
+        InsightSnapshotStore snapshotStore = new InsightSnapshotStore(new ObjectMapper(), tempDir.toString());
+        HotplaceService service = new HotplaceService(providerHttpClient(new RestTemplateBuilder()), snapshotStore, newTrendStore());
+        setNow(service, "2026-06-18T12:05:00Z");
+        ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "");
+        ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "test-key");
+        RestTemplate restTemplate = (RestTemplate) ReflectionTestUtils.getField(service, "restTemplate");
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(ExpectedCount.once(), requestTo(JAMSIL_TOURISM_CITYDATA_URL))
+                .andRespond(withSuccess(lotteWorldCityDataXml("2026-06-18 21:00", 22000),
+                        new MediaType("application", "xml", StandardCharsets.UTF_8)));
+        service.refreshHotplaceCacheEntry("lotte-world");
+        service.refreshDueHotplaceCacheEntries();
+        server.verify();
+
+        HotplaceService restarted = new HotplaceService(providerHttpClient(new RestTemplateBuilder()), snapshotStore, newTrendStore());
+        setNow(restarted, "2026-06-18T12:20:00Z");
+        ReflectionTestUtils.setField(restarted, "telecomCrowdApiKey", "");
+        ReflectionTestUtils.setField(restarted, "seoulCityDataApiKey", "");
+        restarted.restoreSnapshot();
+        HotplaceResponse response = restarted.getHotplaces("롯데월드", 1);
+
+        assertThat(response.dataFreshness()).isEqualTo("LIVE_OR_PARTIAL");
+        assertThat(response.places().getFirst().estimatedMaxPeople()).isEqualTo(22000);
+        assertThat(response.places().getFirst().freshnessStatus()).isEqualTo("DELAYED");
+
+        HotplaceService restartedLate = new HotplaceService(providerHttpClient(new RestTemplateBuilder()), snapshotStore, newTrendStore());
+        setNow(restartedLate, "2026-06-18T12:31:00Z");
+        ReflectionTestUtils.setField(restartedLate, "seoulCityDataApiKey", "");
+        restartedLate.restoreSnapshot();
+
+        assertThat(restartedLate.getHotplaces("롯데월드", 1).places()).isEmpty();
+    }
+
+    @Test
+    void providerRefreshesRecordEachNewObservationInTheHotplaceTrend() {
+        HotplaceService service = newRefreshAheadCityDataService();
+        RestTemplate restTemplate = (RestTemplate) ReflectionTestUtils.getField(service, "restTemplate");
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        MediaType xml = new MediaType("application", "xml", StandardCharsets.UTF_8);
+        server.expect(ExpectedCount.once(), requestTo(JAMSIL_TOURISM_CITYDATA_URL))
+                .andRespond(withSuccess(lotteWorldCityDataXml("2026-06-18 21:00", 22000), xml));
+        server.expect(ExpectedCount.once(), requestTo(JAMSIL_TOURISM_CITYDATA_URL))
+                .andRespond(withSuccess(lotteWorldCityDataXml("2026-06-18 21:00", 22000), xml));
+        server.expect(ExpectedCount.once(), requestTo(JAMSIL_TOURISM_CITYDATA_URL))
+                .andRespond(withSuccess(lotteWorldCityDataXml("2026-06-18 21:10", 26000), xml));
+
+        service.refreshHotplaceCacheEntry("lotte-world");
+        setNow(service, "2026-06-18T12:10:00Z");
+        service.refreshDueHotplaceCacheEntries();
+        setNow(service, "2026-06-18T12:11:00Z");
+        service.refreshDueHotplaceCacheEntries();
+
+        server.verify();
+        HotplaceTrendResponse trend = service.getHotplaceTrend("lotte-world").orElseThrow();
+        assertThat(trend.name()).isEqualTo("롯데월드·잠실");
+        assertThat(trend.observationCount()).isEqualTo(2);
+        assertThat(trend.hourly().get(21).averageMaxPeople()).isEqualTo(24000);
+        assertThat(trend.hourly().get(21).typicalCrowdLevel()).isEqualTo("붐빔");
+        assertThat(service.getHotplaceTrend("unknown")).isEmpty();
+    }
+
     @Test
     void telecomCrowdStatusRequiresBothKeyAndUrlTemplate() {
-        HotplaceService service = new HotplaceService(new RestTemplateBuilder());
+        HotplaceService service = newService(new RestTemplateBuilder());
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "telecom-key");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "");
 
@@ -972,7 +1090,7 @@ class HotplaceServiceTest {
             response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
             return response;
         });
-        HotplaceService service = new HotplaceService(builder);
+        HotplaceService service = newService(builder);
         setNow(service, "2026-06-18T17:05:00Z");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "telecom-key");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "https://telecom.example/crowd?place={placeId}");
@@ -982,6 +1100,45 @@ class HotplaceServiceTest {
         return service;
     }
 
+    private static HotplaceService newService(RestTemplateBuilder builder) {
+        return new HotplaceService(
+                providerHttpClient(builder),
+                new InsightSnapshotStore(new ObjectMapper(), ""),
+                newTrendStore()
+        );
+    }
+
+    private static ProviderHttpClient providerHttpClient(RestTemplateBuilder builder) {
+        return new ProviderHttpClient(builder, new SimpleMeterRegistry(), 3_000, 5_000, 4);
+    }
+
+    private static HotplaceTrendStore newTrendStore() {
+        return new HotplaceTrendStore("", 288, 56, Clock.systemUTC());
+    }
+
+    private static HotplaceService newRefreshAheadCityDataService() {
+        HotplaceService service = newService(new RestTemplateBuilder());
+        setNow(service, "2026-06-18T12:05:00Z");
+        ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "");
+        ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "test-key");
+        ReflectionTestUtils.setField(service, "cacheTtlSeconds", 300L);
+        ReflectionTestUtils.setField(service, "refreshAheadMinIntervalSeconds", 60L);
+        ReflectionTestUtils.setField(service, "refreshAheadJitterSeconds", 0L);
+        return service;
+    }
+
+    private static String lotteWorldCityDataXml(String populationTime, int maxPeople) {
+        return """
+                <SeoulRtd.citydata_ppltn>
+                  <AREA_NM>잠실 관광특구</AREA_NM>
+                  <AREA_CONGEST_LVL>붐빔</AREA_CONGEST_LVL>
+                  <AREA_PPLTN_MIN>18000</AREA_PPLTN_MIN>
+                  <AREA_PPLTN_MAX>%d</AREA_PPLTN_MAX>
+                  <PPLTN_TIME>%s</PPLTN_TIME>
+                </SeoulRtd.citydata_ppltn>
+                """.formatted(maxPeople, populationTime);
+    }
+
     private static String cityPopulationXml(String areaName) {
         return """
                 <SeoulRtd.citydata_ppltn>
@@ -0,0 +1,162 @@
+package com.neogulmap.neogul_map.service;
+
+import com.neogulmap.neogul_map.dto.HotplaceTrendResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotplaceTrendStoreTest {
+
+    private static final Clock NOW = Clock.fixed(Instant.parse("2026-06-20T00:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    void aggregatesObservationsBySeoulHourAndWeekdayAndIgnoresRepeatedObservations() {
+        HotplaceTrendStore store = new HotplaceTrendStore("", 4, 56, NOW);
+
+        // 2026-06-18(목) 19:00, 19:30 KST와 2026-06-19(금) 19:00 KST
+        assertThat(store.record("seongsu", Instant.parse("2026-06-18T10:00:00Z"), 4, 30000, 34000)).isTrue();
+        assertThat(store.record("seongsu", Instant.parse("2026-06-18T10:30:00Z"), 3, 26000, 30000)).isTrue();
+        assertThat(store.record("seongsu", Instant.parse("2026-06-18T10:30:00Z"), 3, 26000, 30000)).isFalse();
+        assertThat(store.record("seongsu", Instant.parse("2026-06-19T10:00:00Z"), 2, null, null)).isTrue();
+        assertThat(store.record("seongsu", Instant.parse("2026-06-19T03:00:00Z"), 1, 1000, 2000)).isFalse();
+
+        HotplaceTrendResponse trend = store.trend("seongsu", "성수동 카페거리");
+
+        assertThat(trend.observationCount()).isEqualTo(3);
+        assertThat(trend.busiestHour()).isEqualTo(19);
+        HotplaceTrendResponse.HourlyTrend evening = trend.hourly().get(19);
+        assertThat(evening.observations()).isEqualTo(3);
+        assertThat(evening.averageCrowdScore()).isEqualTo(3.0);
+        assertThat(evening.typicalCrowdLevel()).isEqualTo("약간 붐빔");
+        assertThat(evening.averageMaxPeople()).isEqualTo(32000);
+        assertThat(evening.busyRatio()).isEqualTo(2.0 / 3);
+        assertThat(trend.hourly().get(12).observations()).isZero();
+        assertThat(trend.hourly().get(12).averageCrowdScore()).isNull();
+        assertThat(trend.weekdays().get(3).dayOfWeek()).isEqualTo("THURSDAY");
+        assertThat(trend.weekdays().get(3).observations()).isEqualTo(2);
+        assertThat(trend.weekdays().get(4).typicalCrowdLevel()).isEqualTo("보통");
+        assertThat(trend.recent()).extracting(HotplaceTrendResponse.Observation::observedAt).containsExactly(
+                Instant.parse("2026-06-19T10:00:00Z"),
+                Instant.parse("2026-06-18T10:30:00Z"),
+                Instant.parse("2026-06-18T10:00:00Z")
+        );
+        assertThat(store.trend("unknown", null).observationCount()).isZero();
+    }
+
+    @Test
+    void compactionAppendsOnlyNewObservationsAndRestartRestoresAggregates(@TempDir Path tempDir) throws Exception {
+        HotplaceTrendStore store = new HotplaceTrendStore(tempDir.toString(), 2, 56, NOW);
+        store.record("hongdae", Instant.parse("2026-06-18T10:00:00Z"), 3, 10000, 12000);
+        store.record("hongdae", Instant.parse("2026-06-18T10:05:00Z"), 4, 12000, 14000);
+        store.compact();
+        store.record("hongdae", Instant.parse("2026-06-18T10:10:00Z"), 4, null, 15000);
+        store.compact();
+        store.compact();
+
+        Path file = tempDir.resolve(HotplaceTrendStore.FILE_NAME);
+        assertThat(Files.readAllLines(file)).containsExactly(
+                "hongdae,1781776800000,3,10000,12000",
+                "hongdae,1781777100000,4,12000,14000",
+                "hongdae,1781777400000,4,,15000"
+        );
+
+        HotplaceTrendStore restarted = new HotplaceTrendStore(tempDir.toString(), 2, 56, NOW);
+        restarted.load();
+        restarted.compact();
+        HotplaceTrendResponse trend = restarted.trend("hongdae", "홍대");
+
+        assertThat(Files.readAllLines(file)).hasSize(3);
+        assertThat(trend.observationCount()).isEqualTo(3);
+        assertThat(trend.hourly().get(19).averageMaxPeople()).isEqualTo(13667);
+        assertThat(trend.recent()).hasSize(2);
+        assertThat(trend.recent().getFirst().estimatedMinPeople()).isNull();
+        assertThat(restarted.record("hongdae", Instant.parse("2026-06-18T10:10:00Z"), 4, null, 15000)).isFalse();
+    }
+
+    @Test
+    void expiredDaysLeaveTheAggregatesAndCompactionTrimsThemFromTheFile(@TempDir Path tempDir) throws Exception {
+        MutableClock clock = new MutableClock(Instant.parse("2026-06-19T00:00:00Z"));
+        HotplaceTrendStore store = new HotplaceTrendStore(tempDir.toString(), 8, 2, clock);
+        // 2026-06-17(수) 19:00 KST와 2026-06-18(목) 19:00 KST
+        store.record("hongdae", Instant.parse("2026-06-17T10:00:00Z"), 4, 18000, 20000);
+        store.record("hongdae", Instant.parse("2026-06-18T10:00:00Z"), 2, null, 10000);
+        store.compact();
+
+        assertThat(store.trend("hongdae", "홍대").observationCount()).isEqualTo(2);
+        assertThat(store.trend("hongdae", "홍대").hourly().get(19).averageCrowdScore()).isEqualTo(3.0);
+
+        clock.advance(Duration.ofDays(1));
+        HotplaceTrendResponse trend = store.trend("hongdae", "홍대");
+
+        assertThat(trend.observationCount()).isEqualTo(1);
+        assertThat(trend.firstObservedAt()).isEqualTo(Instant.parse("2026-06-18T10:00:00Z"));
+        assertThat(trend.hourly().get(19).averageCrowdScore()).isEqualTo(2.0);
+        assertThat(trend.hourly().get(19).averageMaxPeople()).isEqualTo(10000);
+        assertThat(trend.hourly().get(19).busyRatio()).isZero();
+        assertThat(trend.weekdays().get(2).observations()).isZero();
+        assertThat(trend.weekdays().get(2).averageCrowdScore()).isNull();
+        assertThat(trend.weekdays().get(3).observations()).isEqualTo(1);
+        assertThat(trend.recent()).extracting(HotplaceTrendResponse.Observation::observedAt)
+                .containsExactly(Instant.parse("2026-06-18T10:00:00Z"));
+
+        store.compact();
+
+        assertThat(Files.readAllLines(tempDir.resolve(HotplaceTrendStore.FILE_NAME)))
+                .containsExactly("hongdae,1781776800000,2,,10000");
+    }
+
+    @Test
+    void restartDropsExpiredAndUnreadableLinesFromTheFile(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve(HotplaceTrendStore.FILE_NAME);
+        Files.write(file, List.of(
+                "hongdae,1777000000000,3,10000,12000",
+                "not-a-row",
+                "hongdae,1781776800000,2,,"
+        ));
+
+        HotplaceTrendStore store = new HotplaceTrendStore(tempDir.toString(), 8, 28, NOW);
+        store.load();
+
+        assertThat(Files.readAllLines(file)).containsExactly("hongdae,1781776800000,2,,");
+        assertThat(store.trend("hongdae", "홍대").observationCount()).isEqualTo(1);
+        assertThat(store.trend("hongdae", "홍대").recent().getFirst().crowdLevel()).isEqualTo("보통");
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
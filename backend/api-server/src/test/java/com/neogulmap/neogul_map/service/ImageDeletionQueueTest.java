@@ -0,0 +1,190 @@
+package com.neogulmap.neogul_map.service;
+
+import com.neogulmap.neogul_map.domain.ImageDeletionTask;
+import com.neogulmap.neogul_map.domain.enums.ImageType;
+import com.neogulmap.neogul_map.repository.ImageDeletionTaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDeletionQueueTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.parse("2026-07-13T09:00:00");
+
+    @Mock private ImageDeletionTaskRepository repository;
+    @Mock private ImageService imageService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ImageDeletionQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queue = new ImageDeletionQueue(
+                repository,
+                imageService,
+                meterRegistry,
+                Clock.fixed(Instant.parse("2026-07-13T09:00:00Z"), ZoneOffset.UTC)
+        );
+    }
+
+    @Test
+    void enqueueRecordsTaskWithoutTouchingStorage() {
+        queue.enqueue("zone-10.jpg", ImageType.ZONE);
+
+        ArgumentCaptor<ImageDeletionTask> saved = ArgumentCaptor.forClass(ImageDeletionTask.class);
+        verify(repository).save(saved.capture());
+        assertThat(saved.getValue().getImageName()).isEqualTo("zone-10.jpg");
+        assertThat(saved.getValue().getImageType()).isEqualTo(ImageType.ZONE);
+        assertThat(saved.getValue().getNextAttemptAt()).isEqualTo(NOW);
+        verifyNoInteractions(imageService);
+        assertThat(meterRegistry.get("image.deletion.queue.depth").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void queueDepthIsCountedOnlyAfterTheCallerCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            queue.enqueue("zone-10.jpg", ImageType.ZONE);
+            queue.enqueue("zone-11.jpg", ImageType.ZONE);
+
+            assertThat(queue.getQueueDepth()).isZero();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.getFirst().afterCommit();
+            synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(queue.getQueueDepth()).isEqualTo(1);
+    }
+
+    @Test
+    void blankImageNameIsIgnored() {
+        queue.enqueue(" ", ImageType.PROFILE);
+
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void drainBatchesDeletesPerImageTypeAndRemovesCompletedTasks() {
+        ImageDeletionTask zoneA = task(1L, "zone-a.jpg", ImageType.ZONE, 0);
+        ImageDeletionTask zoneB = task(2L, "zone-b.jpg", ImageType.ZONE, 0);
+        ImageDeletionTask profile = task(3L, "profile.jpg", ImageType.PROFILE, 0);
+        when(repository.findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAscIdAsc(
+                eq(8), eq(NOW), any()
+        )).thenReturn(List.of(zoneA, zoneB, profile));
+        claimed(zoneA, zoneB, profile);
+        when(imageService.deleteImages(List.of("zone-a.jpg", "zone-b.jpg"), ImageType.ZONE)).thenReturn(List.of());
+        when(imageService.deleteImages(List.of("profile.jpg"), ImageType.PROFILE)).thenReturn(List.of());
+        when(repository.countByAttemptsLessThan(8)).thenReturn(0L);
+
+        int attempted = queue.drainDueTasks();
+
+        assertThat(attempted).isEqualTo(3);
+        ArgumentCaptor<List<Long>> deletedIds = ArgumentCaptor.forClass(List.class);
+        verify(repository).deleteAllByIdInBatch(deletedIds.capture());
+        assertThat(deletedIds.getValue()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        verify(repository, never()).saveAll(any());
+        assertThat(queue.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void failedDeletesAreRescheduledWithExponentialBackoff() {
+        ImageDeletionTask ok = task(1L, "zone-a.jpg", ImageType.ZONE, 0);
+        ImageDeletionTask failing = task(2L, "zone-b.jpg", ImageType.ZONE, 2);
+        when(repository.findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAscIdAsc(
+                anyInt(), any(), any()
+        )).thenReturn(List.of(ok, failing));
+        claimed(ok, failing);
+        when(imageService.deleteImages(List.of("zone-a.jpg", "zone-b.jpg"), ImageType.ZONE))
+                .thenReturn(List.of("zone-b.jpg"));
+        when(repository.countByAttemptsLessThan(8)).thenReturn(1L);
+
+        queue.drainDueTasks();
+
+        verify(repository).deleteAllByIdInBatch(List.of(1L));
+        verify(repository).saveAll(List.of(failing));
+        assertThat(failing.getAttempts()).isEqualTo(3);
+        assertThat(failing.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(120));
+        assertThat(failing.getLastError()).isNotBlank();
+        assertThat(queue.getQueueDepth()).isEqualTo(1);
+        assertThat(meterRegistry.get("image.deletion.failed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void storageExceptionKeepsWholeBatchForRetry() {
+        ImageDeletionTask first = task(1L, "zone-a.jpg", ImageType.ZONE, 0);
+        when(repository.findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAscIdAsc(
+                anyInt(), any(), any()
+        )).thenReturn(List.of(first));
+        claimed(first);
+        when(imageService.deleteImages(List.of("zone-a.jpg"), ImageType.ZONE))
+                .thenThrow(new IllegalStateException("storage unavailable"));
+
+        queue.drainDueTasks();
+
+        verify(repository, never()).deleteAllByIdInBatch(any());
+        verify(repository).saveAll(List.of(first));
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(30));
+        assertThat(first.getLastError()).contains("storage unavailable");
+        assertThat(first.getClaimedBy()).isNull();
+    }
+
+    @Test
+    void tasksClaimedByAnotherInstanceAreNotDeletedAgain() {
+        ImageDeletionTask task = task(1L, "zone-a.jpg", ImageType.ZONE, 0);
+        when(repository.findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAscIdAsc(
+                anyInt(), any(), any()
+        )).thenReturn(List.of(task));
+        when(repository.claim(eq(List.of(1L)), any(), eq(NOW.plusSeconds(300)), eq(8), eq(NOW))).thenReturn(0);
+        when(repository.countByAttemptsLessThan(8)).thenReturn(1L);
+
+        assertThat(queue.drainDueTasks()).isZero();
+
+        verifyNoInteractions(imageService);
+        verify(repository, never()).findByClaimedByOrderByIdAsc(any());
+        verify(repository, never()).saveAll(any());
+    }
+
+    private void claimed(ImageDeletionTask... tasks) {
+        List<Long> ids = Stream.of(tasks).map(ImageDeletionTask::getId).toList();
+        when(repository.claim(eq(ids), any(), eq(NOW.plusSeconds(300)), eq(8), eq(NOW))).thenReturn(tasks.length);
+        when(repository.findByClaimedByOrderByIdAsc(any())).thenReturn(List.of(tasks));
+    }
+
+    private ImageDeletionTask task(Long id, String imageName, ImageType type, int attempts) {
+        return ImageDeletionTask.builder()
+                .id(id)
+                .imageName(imageName)
+                .imageType(type)
+                .attempts(attempts)
+                .nextAttemptAt(NOW)
+                .createdAt(NOW)
+                .build();
+    }
+}
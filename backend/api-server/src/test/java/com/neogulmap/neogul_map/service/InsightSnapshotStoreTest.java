@@ -0,0 +1,51 @@
+package com.neogulmap.neogul_map.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InsightSnapshotStoreTest {
+
+    @Test
+    void writtenSnapshotIsReadBackAndReplacesThePreviousFile(@TempDir Path tempDir) throws Exception {
+        Path directory = tempDir.resolve("snapshots");
+        InsightSnapshotStore store = new InsightSnapshotStore(new ObjectMapper(), directory.toString());
+
+        store.write("hotplaces", new Sample("first", 1L, List.of("a")));
+        store.write("hotplaces", new Sample("second", 2L, List.of("a", "b")));
+
+        assertThat(store.read("hotplaces", Sample.class)).contains(new Sample("second", 2L, List.of("a", "b")));
+        try (var files = Files.list(directory)) {
+            assertThat(files.map(file -> file.getFileName().toString())).containsExactly("hotplaces.json");
+        }
+    }
+
+    @Test
+    void missingOrUnreadableSnapshotsAreEmpty(@TempDir Path tempDir) throws Exception {
+        InsightSnapshotStore store = new InsightSnapshotStore(new ObjectMapper(), tempDir.toString());
+        Files.writeString(tempDir.resolve("events.json"), "{\"name\":");
+
+        assertThat(store.read("hotplaces", Sample.class)).isEmpty();
+        assertThat(store.read("events", Sample.class)).isEmpty();
+    }
+
+    @Test
+    void blankDirectoryDisablesTheStore(@TempDir Path tempDir) {
+        InsightSnapshotStore store = new InsightSnapshotStore(new ObjectMapper(), " ");
+
+        store.write("hotplaces", new Sample("ignored", 1L, List.of()));
+
+        assertThat(store.isEnabled()).isFalse();
+        assertThat(store.read("hotplaces", Sample.class)).isEmpty();
+        assertThat(tempDir).isEmptyDirectory();
+    }
+
+    record Sample(String name, long savedAtMillis, List<String> items) {
+    }
+}
@@ -20,6 +20,7 @@ class InsightStatusServiceTest {
 
     private final HotplaceService hotplaceService = mock(HotplaceService.class);
     private final EventInsightService eventInsightService = mock(EventInsightService.class);
+    private final PopupTrendFileCache popupTrendFileCache = new PopupTrendFileCache(new ObjectMapper(), 0L);
 
     @BeforeEach
     void setUpProviderDefaults() {
@@ -59,7 +60,7 @@ class InsightStatusServiceTest {
                         Instant.parse("2026-06-18T00:10:00Z"),
                         "한국관광공사 행사정보 조회 성공"
                 ));
-        InsightStatusService service = new InsightStatusService(new ObjectMapper(), hotplaceService, eventInsightService);
+        InsightStatusService service = new InsightStatusService(hotplaceService, eventInsightService, popupTrendFileCache);
         ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "seoul-key");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "");
@@ -94,7 +95,7 @@ class InsightStatusServiceTest {
                 .thenReturn(InsightStatusResponse.ProviderStatus.notConfigured("TELECOM_CROWD_API_KEY is not configured"));
         when(eventInsightService.getTourApiProviderStatus())
                 .thenReturn(InsightStatusResponse.ProviderStatus.notConfigured("KTO_TOUR_API_KEY is not configured"));
-        InsightStatusService service = new InsightStatusService(new ObjectMapper(), hotplaceService, eventInsightService);
+        InsightStatusService service = new InsightStatusService(hotplaceService, eventInsightService, popupTrendFileCache);
         ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "");
@@ -135,7 +136,7 @@ class InsightStatusServiceTest {
                 .thenReturn(InsightStatusResponse.ProviderStatus.notConfigured("TELECOM_CROWD_API_KEY is not configured"));
         when(eventInsightService.getTourApiProviderStatus())
                 .thenReturn(InsightStatusResponse.ProviderStatus.notConfigured("KTO_TOUR_API_KEY is not configured"));
-        InsightStatusService service = new InsightStatusService(new ObjectMapper(), hotplaceService, eventInsightService);
+        InsightStatusService service = new InsightStatusService(hotplaceService, eventInsightService, popupTrendFileCache);
         ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "");
@@ -173,7 +174,7 @@ class InsightStatusServiceTest {
                 .thenReturn(InsightStatusResponse.ProviderStatus.notConfigured("TELECOM_CROWD_API_KEY is not configured"));
         when(eventInsightService.getTourApiProviderStatus())
                 .thenReturn(InsightStatusResponse.ProviderStatus.notConfigured("KTO_TOUR_API_KEY is not configured"));
-        InsightStatusService service = new InsightStatusService(new ObjectMapper(), hotplaceService, eventInsightService);
+        InsightStatusService service = new InsightStatusService(hotplaceService, eventInsightService, popupTrendFileCache);
         ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "");
@@ -213,7 +214,7 @@ class InsightStatusServiceTest {
                 .thenReturn(InsightStatusResponse.ProviderStatus.notConfigured("TELECOM_CROWD_API_KEY is not configured"));
         when(eventInsightService.getTourApiProviderStatus())
                 .thenReturn(InsightStatusResponse.ProviderStatus.notConfigured("KTO_TOUR_API_KEY is not configured"));
-        InsightStatusService service = new InsightStatusService(new ObjectMapper(), hotplaceService, eventInsightService);
+        InsightStatusService service = new InsightStatusService(hotplaceService, eventInsightService, popupTrendFileCache);
         ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "");
@@ -250,7 +251,7 @@ class InsightStatusServiceTest {
                 .thenReturn(InsightStatusResponse.ProviderStatus.notConfigured("TELECOM_CROWD_API_KEY is not configured"));
         when(eventInsightService.getTourApiProviderStatus())
                 .thenReturn(InsightStatusResponse.ProviderStatus.notConfigured("KTO_TOUR_API_KEY is not configured"));
-        InsightStatusService service = new InsightStatusService(new ObjectMapper(), hotplaceService, eventInsightService);
+        InsightStatusService service = new InsightStatusService(hotplaceService, eventInsightService, popupTrendFileCache);
         ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "");
@@ -272,7 +273,7 @@ class InsightStatusServiceTest {
                 .thenReturn(InsightStatusResponse.ProviderStatus.notConfigured("TELECOM_CROWD_API_KEY is not configured"));
         when(eventInsightService.getTourApiProviderStatus())
                 .thenReturn(InsightStatusResponse.ProviderStatus.error(null, Instant.parse("2026-06-18T00:00:00Z"), "provider failed"));
-        InsightStatusService service = new InsightStatusService(new ObjectMapper(), hotplaceService, eventInsightService);
+        InsightStatusService service = new InsightStatusService(hotplaceService, eventInsightService, popupTrendFileCache);
         ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "seoul-key");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "");
@@ -300,7 +301,7 @@ class InsightStatusServiceTest {
                         Instant.parse("2026-06-18T00:20:00Z"),
                         "서울 문화행사 API 조회 성공"
                 ));
-        InsightStatusService service = new InsightStatusService(new ObjectMapper(), hotplaceService, eventInsightService);
+        InsightStatusService service = new InsightStatusService(hotplaceService, eventInsightService, popupTrendFileCache);
         ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "");
@@ -329,7 +330,7 @@ class InsightStatusServiceTest {
                 ));
         when(eventInsightService.getTourApiProviderStatus())
                 .thenReturn(InsightStatusResponse.ProviderStatus.notConfigured("KTO_TOUR_API_KEY is not configured"));
-        InsightStatusService service = new InsightStatusService(new ObjectMapper(), hotplaceService, eventInsightService);
+        InsightStatusService service = new InsightStatusService(hotplaceService, eventInsightService, popupTrendFileCache);
         ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "telecom-key");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "https://telecom.example/crowd?place={placeId}");
@@ -352,7 +353,7 @@ class InsightStatusServiceTest {
                 .thenReturn(InsightStatusResponse.ProviderStatus.configuredUnverified("TELECOM_CROWD_URL_TEMPLATE is missing"));
         when(eventInsightService.getTourApiProviderStatus())
                 .thenReturn(InsightStatusResponse.ProviderStatus.notConfigured("KTO_TOUR_API_KEY is not configured"));
-        InsightStatusService service = new InsightStatusService(new ObjectMapper(), hotplaceService, eventInsightService);
+        InsightStatusService service = new InsightStatusService(hotplaceService, eventInsightService, popupTrendFileCache);
         ReflectionTestUtils.setField(service, "seoulCityDataApiKey", "");
         ReflectionTestUtils.setField(service, "telecomCrowdApiKey", "telecom-key");
         ReflectionTestUtils.setField(service, "telecomCrowdUrlTemplate", "");
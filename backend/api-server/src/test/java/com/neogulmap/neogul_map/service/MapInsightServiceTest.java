@@ -0,0 +1,188 @@
+package com.neogulmap.neogul_map.service;
+
+import com.neogulmap.neogul_map.dto.EventInsightResponse;
+import com.neogulmap.neogul_map.dto.HotplaceResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MapInsightServiceTest {
+
+    private final HotplaceService hotplaceService = mock(HotplaceService.class);
+    private final EventInsightService eventInsightService = mock(EventInsightService.class);
+    private final InsightStatusService insightStatusService = mock(InsightStatusService.class);
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-07-10T00:00:00Z"));
+
+    @BeforeEach
+    void setUpProviders() {
+        when(hotplaceService.getHotplaces(any(), anyInt(), any(), any(), any(), any()))
+                .thenReturn(new HotplaceResponse(List.of(), "NO_VERIFIED_DATA", clock.instant(), List.of()));
+        when(eventInsightService.getEvents(any(), anyInt(), any(), any(), any(), any()))
+                .thenReturn(new EventInsightResponse(List.of(), "NO_VERIFIED_DATA", clock.instant(), List.of()));
+    }
+
+    @Test
+    void cachedResponseIsReusedUntilTheTtlPasses() {
+        MapInsightService service = service(40);
+
+        byte[] first = service.getMapInsightJson("성수", 30, 8, null, null, null, null);
+        clock.advance(Duration.ofSeconds(29));
+        byte[] second = service.getMapInsightJson(" 성수 ", 20, 8, null, null, null, null);
+        clock.advance(Duration.ofSeconds(1));
+        service.getMapInsightJson("성수", 20, 8, null, null, null, null);
+
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first, StandardCharsets.UTF_8))
+                .startsWith("{\"success\":true,\"message\":\"" + MapInsightService.SUCCESS_MESSAGE + "\"");
+        verify(hotplaceService, times(2)).getHotplaces("성수", 20, null, null, null, null);
+    }
+
+    @Test
+    void longKeywordsAreServedWithoutTakingCacheSlots() {
+        MapInsightService service = service(4);
+
+        service.getMapInsightJson("성수동 카페거리", 8, 8, null, null, null, null);
+        service.getMapInsightJson("성수동 카페거리", 8, 8, null, null, null, null);
+
+        assertThat(service.size()).isZero();
+        verify(hotplaceService, times(2)).getHotplaces("성수동 카페거리", 8, null, null, null, null);
+    }
+
+    @Test
+    void viewportsInTheSameTileShareOneComputationButOnlySeeTheirOwnPlaces() {
+        when(hotplaceService.getHotplaces(any(), eq(20), eq(37.54), eq(37.55), eq(127.05), eq(127.06)))
+                .thenReturn(places(place("hp-inside-both", 37.545, 127.055), place("hp-edge", 37.5415, 127.0515)));
+        MapInsightService service = service(40);
+
+        String wide = new String(service.getMapInsightJson(null, 8, 8, 37.541, 37.549, 127.051, 127.059), StandardCharsets.UTF_8);
+        String narrow = new String(service.getMapInsightJson(null, 8, 8, 37.542, 37.548, 127.052, 127.058), StandardCharsets.UTF_8);
+        String single = new String(service.getMapInsightJson(null, 1, 8, 37.541, 37.549, 127.051, 127.059), StandardCharsets.UTF_8);
+
+        assertThat(wide).contains("\"id\":\"hp-inside-both\"", "\"id\":\"hp-edge\"");
+        assertThat(narrow).contains("\"id\":\"hp-inside-both\"").doesNotContain("hp-edge");
+        assertThat(single).contains("\"id\":\"hp-inside-both\"").doesNotContain("hp-edge");
+        verify(hotplaceService, times(1)).getHotplaces(any(), anyInt(), any(), any(), any(), any());
+    }
+
+    @Test
+    void pannedViewportsThatSelectTheSamePlacesShareTheSerializedResponse() {
+        when(hotplaceService.getHotplaces(any(), eq(20), eq(37.54), eq(37.55), eq(127.05), eq(127.06)))
+                .thenReturn(places(place("hp-center", 37.545, 127.055), place("hp-edge", 37.5415, 127.0515)));
+        MapInsightService service = service(40);
+
+        byte[] first = service.getMapInsightJson(null, 8, 8, 37.542, 37.548, 127.052, 127.058);
+        byte[] panned = service.getMapInsightJson(null, 8, 8, 37.543, 37.549, 127.053, 127.059);
+        byte[] widened = service.getMapInsightJson(null, 8, 8, 37.541, 37.549, 127.051, 127.059);
+
+        assertThat(panned).isSameAs(first);
+        assertThat(widened).isNotSameAs(first);
+        assertThat(new String(widened, StandardCharsets.UTF_8)).contains("\"id\":\"hp-edge\"");
+    }
+
+    @Test
+    void viewportIsRecomputedWhenTheTileResultWasCutOffByTheLimit() {
+        HotplaceResponse.HotplaceItem[] outsideViewport = IntStream.range(0, 20)
+                .mapToObj(index -> place("hp-" + index, 37.548, 127.058))
+                .toArray(HotplaceResponse.HotplaceItem[]::new);
+        when(hotplaceService.getHotplaces(any(), eq(20), eq(37.54), eq(37.55), eq(127.05), eq(127.06)))
+                .thenReturn(places(outsideViewport));
+        when(hotplaceService.getHotplaces(any(), eq(8), eq(37.541), eq(37.545), eq(127.051), eq(127.055)))
+                .thenReturn(places(place("hp-ranked-lower", 37.543, 127.053)));
+        MapInsightService service = service(40);
+
+        String json = new String(service.getMapInsightJson(null, 8, 8, 37.541, 37.545, 127.051, 127.055), StandardCharsets.UTF_8);
+
+        assertThat(json).contains("\"id\":\"hp-ranked-lower\"").doesNotContain("\"id\":\"hp-0\"");
+    }
+
+    @Test
+    void tileWidensBoundsOutwardToTheGrid() {
+        MapInsightService.Tile tile = MapInsightService.Tile.of(37.552, 37.541, 127.0601, 127.0513, 100);
+
+        assertThat(tile).isEqualTo(new MapInsightService.Tile(37.54, 37.56, 127.05, 127.07));
+        assertThat(MapInsightService.Tile.of(37.5, null, 127.0, 127.1, 100)).isEqualTo(MapInsightService.Tile.ALL);
+    }
+
+    private HotplaceResponse places(HotplaceResponse.HotplaceItem... places) {
+        return new HotplaceResponse(List.of(places), "LIVE_OR_PARTIAL", clock.instant(), List.of());
+    }
+
+    private static HotplaceResponse.HotplaceItem place(String id, double latitude, double longitude) {
+        return new HotplaceResponse.HotplaceItem(
+                id,
+                id,
+                "CAFE",
+                "보통",
+                null,
+                null,
+                null,
+                latitude,
+                longitude,
+                null,
+                "SEOUL_CITYDATA",
+                null,
+                null
+        );
+    }
+
+    private MapInsightService service(int maxKeywordLength) {
+        return new MapInsightService(
+                hotplaceService,
+                eventInsightService,
+                insightStatusService,
+                Jackson2ObjectMapperBuilder.json().build(),
+                true,
+                30,
+                16,
+                100,
+                maxKeywordLength,
+                clock
+        );
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.neogulmap.neogul_map.service;
+
+import com.neogulmap.neogul_map.domain.enums.ModerationStatus;
+import com.neogulmap.neogul_map.domain.enums.ZonePublicationStatus;
+import com.neogulmap.neogul_map.repository.SupportRequestRepository;
+import com.neogulmap.neogul_map.repository.ZoneReportRepository;
+import com.neogulmap.neogul_map.repository.ZoneRepository;
+import com.neogulmap.neogul_map.repository.ZoneReviewReportRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ModerationWorkloadMetricsTest {
+
+    @Mock private ZoneReportRepository zoneReportRepository;
+    @Mock private ZoneReviewReportRepository reviewReportRepository;
+    @Mock private ZoneRepository zoneRepository;
+    @Mock private SupportRequestRepository supportRequestRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ModerationWorkloadMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new ModerationWorkloadMetrics(
+                zoneReportRepository,
+                reviewReportRepository,
+                zoneRepository,
+                supportRequestRepository,
+                meterRegistry
+        );
+    }
+
+    @Test
+    void reconcileSeedsPendingGaugesFromTheDatabase() {
+        when(zoneReportRepository.countByStatus(ModerationStatus.PENDING)).thenReturn(4L);
+        when(reviewReportRepository.countByStatus(ModerationStatus.PENDING)).thenReturn(7L);
+        when(zoneRepository.countByPublicationStatus(ZonePublicationStatus.PENDING)).thenReturn(2L);
+        when(supportRequestRepository.countByStatusIn(anyList())).thenReturn(5L);
+
+        metrics.reconcile();
+
+        assertThat(gauge("zone_report")).isEqualTo(4.0);
+        assertThat(gauge("review_report")).isEqualTo(7.0);
+        assertThat(gauge("zone_submission")).isEqualTo(2.0);
+        assertThat(gauge("support_request")).isEqualTo(5.0);
+    }
+
+    @Test
+    void submissionsAndDecisionsUpdateGaugesWithoutQueryingTheDatabase() {
+        metrics.submitted(ModerationWorkloadMetrics.Queue.ZONE_REPORT);
+        metrics.submitted(ModerationWorkloadMetrics.Queue.ZONE_REPORT);
+        metrics.decided(
+                ModerationWorkloadMetrics.Queue.ZONE_REPORT,
+                "DISMISS",
+                LocalDateTime.parse("2026-07-12T08:00:00"),
+                LocalDateTime.parse("2026-07-12T10:30:00")
+        );
+
+        assertThat(gauge("zone_report")).isEqualTo(1.0);
+        Timer timer = meterRegistry.find(ModerationWorkloadMetrics.DECISION_TIMER)
+                .tags("queue", "zone_report", "outcome", "dismiss")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MINUTES)).isEqualTo(150.0);
+    }
+
+    @Test
+    void cascadedRemovalsNeverDrivePendingCountBelowZero() {
+        metrics.submitted(ModerationWorkloadMetrics.Queue.REVIEW_REPORT);
+
+        metrics.discarded(ModerationWorkloadMetrics.Queue.REVIEW_REPORT, 3);
+
+        assertThat(gauge("review_report")).isZero();
+    }
+
+    @Test
+    void decisionWithoutSubmissionTimeOnlyDecrementsPendingCount() {
+        metrics.submitted(ModerationWorkloadMetrics.Queue.ZONE_SUBMISSION);
+
+        metrics.decided(ModerationWorkloadMetrics.Queue.ZONE_SUBMISSION, "PUBLISH", null, LocalDateTime.now());
+
+        assertThat(gauge("zone_submission")).isZero();
+        assertThat(meterRegistry.find(ModerationWorkloadMetrics.DECISION_TIMER).timer()).isNull();
+    }
+
+    @Test
+    void reconcileFailureKeepsLastKnownValues() {
+        metrics.submitted(ModerationWorkloadMetrics.Queue.SUPPORT_REQUEST);
+        when(zoneReportRepository.countByStatus(ModerationStatus.PENDING))
+                .thenThrow(new IllegalStateException("table missing"));
+
+        metrics.reconcile();
+
+        assertThat(gauge("support_request")).isEqualTo(1.0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void snapshotSummarizesPendingCountsAndDecisionLatency() {
+        metrics.submitted(ModerationWorkloadMetrics.Queue.SUPPORT_REQUEST);
+        metrics.decided(
+                ModerationWorkloadMetrics.Queue.SUPPORT_REQUEST,
+                "RESOLVED",
+                LocalDateTime.parse("2026-07-10T10:00:00"),
+                LocalDateTime.parse("2026-07-10T11:00:00")
+        );
+
+        Map<String, Object> snapshot = metrics.snapshot();
+
+        Map<String, Object> support = (Map<String, Object>) snapshot.get("support_request");
+        assertThat(support).containsEntry("pending", 0L);
+        Map<String, Object> latency = (Map<String, Object>) support.get("decisionLatency");
+        Map<String, Object> resolved = (Map<String, Object>) latency.get("resolved");
+        assertThat(resolved).containsEntry("count", 1L).containsEntry("maxSeconds", 3600.0);
+    }
+
+    private double gauge(String queue) {
+        return meterRegistry.get(ModerationWorkloadMetrics.PENDING_GAUGE).tag("queue", queue).gauge().value();
+    }
+}
@@ -3,6 +3,7 @@ package com.neogulmap.neogul_map.service;
 import com.neogulmap.neogul_map.config.exceptionHandling.exception.BusinessBaseException;
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -25,4 +26,15 @@ class OperatorAccessGuardTest {
         assertThatCode(() -> guard.requireAccess("long-random-operator-key"))
                 .doesNotThrowAnyException();
     }
+
+    @Test
+    void hasAccessNeverGrantsWhenKeyIsMissingOrWrong() {
+        assertThat(new OperatorAccessGuard("").hasAccess("")).isFalse();
+        assertThat(new OperatorAccessGuard("").hasAccess(null)).isFalse();
+
+        OperatorAccessGuard guard = new OperatorAccessGuard("long-random-operator-key");
+        assertThat(guard.hasAccess(null)).isFalse();
+        assertThat(guard.hasAccess("wrong")).isFalse();
+        assertThat(guard.hasAccess("long-random-operator-key")).isTrue();
+    }
 }
@@ -0,0 +1,210 @@
+package com.neogulmap.neogul_map.service;
+
+import com.neogulmap.neogul_map.domain.OutboxEvent;
+import com.neogulmap.neogul_map.domain.enums.OutboxEventType;
+import com.neogulmap.neogul_map.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.parse("2026-07-16T09:00:00");
+
+    @Mock private OutboxEventRepository repository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RecordingHandler handler;
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        handler = new RecordingHandler();
+        dispatcher = new OutboxDispatcher(
+                repository,
+                List.of(handler),
+                meterRegistry,
+                Clock.fixed(Instant.parse("2026-07-16T09:00:00Z"), ZoneOffset.UTC)
+        );
+    }
+
+    @Test
+    void eventsOfDifferentAggregatesAreDeliveredInOneBatch() {
+        due(event(1L, "1", 0), event(2L, "2", 0));
+
+        int fetched = dispatcher.dispatchDueEvents();
+
+        assertThat(fetched).isEqualTo(2);
+        assertThat(handler.batches).containsExactly(List.of(1L, 2L));
+        verify(repository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(repository, never()).saveAll(any());
+        assertThat(meterRegistry.get("outbox.events.delivered").tag("type", "zone_image_commit").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    void laterEventOfTheSameAggregateIsDeliveredAfterTheEarlierOne() {
+        due(event(1L, "1", 0), event(2L, "1", 0), event(3L, "2", 0));
+
+        dispatcher.dispatchDueEvents();
+
+        assertThat(handler.batches).containsExactly(List.of(1L, 3L), List.of(2L));
+        verify(repository).deleteAllByIdInBatch(List.of(1L, 3L, 2L));
+    }
+
+    @Test
+    void failedEventHoldsBackTheRestOfItsAggregate() {
+        handler.failingIds = Set.of(1L);
+        due(event(1L, "1", 0), event(2L, "1", 0), event(3L, "2", 0));
+
+        dispatcher.dispatchDueEvents();
+
+        assertThat(handler.batches).containsExactly(List.of(1L, 3L));
+        verify(repository).deleteAllByIdInBatch(List.of(3L));
+        verify(repository).release(eq(List.of(2L)), any(), eq(NOW));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxEvent>> retries = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(retries.capture());
+        assertThat(retries.getValue()).singleElement().satisfies(retry -> {
+            assertThat(retry.getId()).isEqualTo(1L);
+            assertThat(retry.getAttempts()).isEqualTo(1);
+            assertThat(retry.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(10));
+            assertThat(retry.getLastError()).contains("ZONE_IMAGE_COMMIT");
+        });
+        assertThat(meterRegistry.get("outbox.events.failed").tag("type", "zone_image_commit").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void retryBackoffGrowsExponentially() {
+        handler.failingIds = Set.of(1L);
+        due(event(1L, "1", 3));
+
+        dispatcher.dispatchDueEvents();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxEvent>> retries = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(retries.capture());
+        assertThat(retries.getValue().get(0).getAttempts()).isEqualTo(4);
+        assertThat(retries.getValue().get(0).getNextAttemptAt()).isEqualTo(NOW.plusSeconds(80));
+    }
+
+    @Test
+    void handlerIsToldAboutEventsThatReachTheAttemptLimit() {
+        handler.failingIds = Set.of(1L, 2L);
+        due(event(1L, "1", 9), event(2L, "2", 3));
+
+        dispatcher.dispatchDueEvents();
+
+        assertThat(handler.parked).containsExactly(List.of(1L));
+    }
+
+    @Test
+    void eventWithoutHandlerIsRetriedInsteadOfDropped() {
+        OutboxDispatcher withoutHandlers = new OutboxDispatcher(
+                repository,
+                List.of(),
+                meterRegistry,
+                Clock.fixed(Instant.parse("2026-07-16T09:00:00Z"), ZoneOffset.UTC)
+        );
+        due(event(1L, "1", 0));
+
+        withoutHandlers.dispatchDueEvents();
+
+        verify(repository, never()).deleteAllByIdInBatch(any());
+        verify(repository).saveAll(any());
+    }
+
+    @Test
+    void eventsClaimedByAnotherInstanceAreNotDelivered() {
+        when(repository.findDeliverable(eq(10), eq(NOW), any())).thenReturn(List.of(event(1L, "1", 0)));
+        when(repository.claim(eq(List.of(1L)), any(), eq(NOW.plusSeconds(300)), eq(10), eq(NOW))).thenReturn(0);
+
+        int fetched = dispatcher.dispatchDueEvents();
+
+        assertThat(fetched).isZero();
+        assertThat(handler.batches).isEmpty();
+        verify(repository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void claimedEventBehindAnEarlierEventHeldByAnotherInstanceIsReleased() {
+        OutboxEvent first = event(1L, "1", 0);
+        OutboxEvent second = event(2L, "1", 0);
+        when(repository.findDeliverable(eq(10), eq(NOW), any())).thenReturn(List.of(first, second));
+        when(repository.claim(eq(List.of(1L, 2L)), any(), eq(NOW.plusSeconds(300)), eq(10), eq(NOW))).thenReturn(1);
+        when(repository.findClaimedBehindOthers(any())).thenReturn(List.of(2L));
+        when(repository.findByClaimedByOrderByIdAsc(any())).thenReturn(List.of());
+
+        int fetched = dispatcher.dispatchDueEvents();
+
+        assertThat(fetched).isZero();
+        assertThat(handler.batches).isEmpty();
+        verify(repository).release(eq(List.of(2L)), any(), eq(NOW));
+    }
+
+    private void due(OutboxEvent... events) {
+        List<OutboxEvent> due = List.of(events);
+        List<Long> ids = due.stream().map(OutboxEvent::getId).toList();
+        when(repository.findDeliverable(eq(10), eq(NOW), any())).thenReturn(due);
+        when(repository.claim(eq(ids), any(), eq(NOW.plusSeconds(300)), eq(10), eq(NOW))).thenReturn(due.size());
+        when(repository.findByClaimedByOrderByIdAsc(any())).thenReturn(due);
+    }
+
+    private OutboxEvent event(Long id, String zoneId, int attempts) {
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateType("zone")
+                .aggregateId(zoneId)
+                .eventType(OutboxEventType.ZONE_IMAGE_COMMIT)
+                .payload("{}")
+                .attempts(attempts)
+                .nextAttemptAt(NOW)
+                .createdAt(NOW)
+                .build();
+    }
+
+    private static class RecordingHandler implements OutboxEventHandler {
+
+        private final List<List<Long>> batches = new CopyOnWriteArrayList<>();
+        private final List<List<Long>> parked = new CopyOnWriteArrayList<>();
+        private Set<Long> failingIds = Set.of();
+
+        @Override
+        public OutboxEventType eventType() {
+            return OutboxEventType.ZONE_IMAGE_COMMIT;
+        }
+
+        @Override
+        public Set<Long> handle(List<OutboxEvent> events) {
+            batches.add(events.stream().map(OutboxEvent::getId).toList());
+            return failingIds;
+        }
+
+        @Override
+        public void parked(List<OutboxEvent> events) {
+            parked.add(events.stream().map(OutboxEvent::getId).toList());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.neogulmap.neogul_map.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PopupTrendFileCacheTest {
+
+    @Test
+    void unchangedFileReturnsTheSameParsedSnapshot(@TempDir Path tempDir) throws Exception {
+        Path trendFile = tempDir.resolve("popup-trends.json");
+        Files.writeString(trendFile, "[{\"id\":\"a\"},{\"id\":\"b\"}]");
+        MutableClock clock = new MutableClock(Instant.parse("2026-07-01T00:00:00Z"));
+        PopupTrendFileCache cache = new PopupTrendFileCache(new ObjectMapper(), 5_000, clock);
+
+        PopupTrendFileCache.Snapshot first = cache.read(trendFile.toString());
+        clock.advance(Duration.ofSeconds(10));
+        PopupTrendFileCache.Snapshot second = cache.read(" " + trendFile + " ");
+
+        assertThat(first.parsed()).isTrue();
+        assertThat(first.records()).hasSize(2);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void changedFileIsReloadedAfterTheCheckInterval(@TempDir Path tempDir) throws Exception {
+        Path trendFile = tempDir.resolve("popup-trends.json");
+        Files.writeString(trendFile, "{\"items\":[{\"id\":\"a\"}]}");
+        MutableClock clock = new MutableClock(Instant.parse("2026-07-01T00:00:00Z"));
+        PopupTrendFileCache cache = new PopupTrendFileCache(new ObjectMapper(), 5_000, clock);
+        PopupTrendFileCache.Snapshot first = cache.read(trendFile.toString());
+
+        Files.writeString(trendFile, "{\"items\":[{\"id\":\"a\"},{\"id\":\"b\"},\"not-an-object\"]}");
+        Files.setLastModifiedTime(trendFile, FileTime.from(Instant.parse("2026-07-01T00:00:30Z")));
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(cache.read(trendFile.toString())).isSameAs(first);
+
+        clock.advance(Duration.ofSeconds(5));
+        PopupTrendFileCache.Snapshot reloaded = cache.read(trendFile.toString());
+
+        assertThat(reloaded).isNotSameAs(first);
+        assertThat(reloaded.items()).hasSize(3);
+        assertThat(reloaded.records()).hasSize(2);
+    }
+
+    @Test
+    void missingAndInvalidFilesAreReportedWithoutRecords(@TempDir Path tempDir) throws Exception {
+        PopupTrendFileCache cache = new PopupTrendFileCache(new ObjectMapper(), 0, Clock.systemUTC());
+        Path trendFile = tempDir.resolve("popup-trends.json");
+
+        assertThat(cache.read(" ")).isSameAs(PopupTrendFileCache.Snapshot.NOT_CONFIGURED);
+        PopupTrendFileCache.Snapshot missing = cache.read(trendFile.toString());
+        assertThat(missing.configured()).isTrue();
+        assertThat(missing.exists()).isFalse();
+
+        Files.writeString(trendFile, "{not json");
+        PopupTrendFileCache.Snapshot invalid = cache.read(trendFile.toString());
+        assertThat(invalid.exists()).isTrue();
+        assertThat(invalid.parsed()).isFalse();
+        assertThat(invalid.records()).isEmpty();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.neogulmap.neogul_map.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.ExpectedCount.manyTimes;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class ProviderHttpClientTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ProviderHttpClient client;
+
+    @AfterEach
+    void closeClient() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Test
+    void recordsLatencyPerProviderAndOutcome() {
+        client = new ProviderHttpClient(new RestTemplateBuilder(), meterRegistry, 1_000, 1_000, 2);
+        RestTemplate restTemplate = client.restTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(requestTo("https://openapi.example/ok"))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo("https://openapi.example/fail"))
+                .andRespond(withServerError());
+
+        restTemplate.getForObject("https://openapi.example/ok", String.class);
+        assertThatThrownBy(() -> restTemplate.getForObject("https://openapi.example/fail", String.class))
+                .isInstanceOf(HttpServerErrorException.class);
+
+        server.verify();
+        assertThat(meterRegistry.get(ProviderHttpClient.METRIC_NAME)
+                .tags("provider", "openapi.example", "outcome", "SUCCESS")
+                .timer()
+                .count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ProviderHttpClient.METRIC_NAME)
+                .tags("provider", "openapi.example", "outcome", "HTTP_ERROR")
+                .timer()
+                .count()).isEqualTo(1);
+        assertThat(client.availableSlots("openapi.example")).isEqualTo(2);
+    }
+
+    @Test
+    void busyProviderDoesNotBlockOtherProviders() throws Exception {
+        client = new ProviderHttpClient(new RestTemplateBuilder(), meterRegistry, 1_000, 100, 1);
+        RestTemplate restTemplate = client.restTemplate();
+        CountDownLatch slowCallStarted = new CountDownLatch(1);
+        CountDownLatch releaseSlowCall = new CountDownLatch(1);
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+        server.expect(manyTimes(), requestTo("https://slow.example/crowd")).andRespond(request -> {
+            slowCallStarted.countDown();
+            try {
+                releaseSlowCall.await(2, TimeUnit.SECONDS);
+            } catch (InterruptedException error) {
+                Thread.currentThread().interrupt();
+            }
+            return withSuccess("{}", MediaType.APPLICATION_JSON).createResponse(request);
+        });
+        server.expect(manyTimes(), requestTo("https://fast.example/events"))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        try {
+            CompletableFuture<String> slow = client.supplyAsync(
+                    () -> restTemplate.getForObject("https://slow.example/crowd", String.class));
+            assertThat(slowCallStarted.await(2, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> restTemplate.getForObject("https://slow.example/crowd", String.class))
+                    .isInstanceOf(ResourceAccessException.class);
+            assertThat(restTemplate.getForObject("https://fast.example/events", String.class)).isEqualTo("{}");
+
+            releaseSlowCall.countDown();
+            assertThat(slow.get(2, TimeUnit.SECONDS)).isEqualTo("{}");
+        } finally {
+            releaseSlowCall.countDown();
+        }
+
+        assertThat(meterRegistry.get(ProviderHttpClient.METRIC_NAME)
+                .tags("provider", "slow.example", "outcome", "REJECTED")
+                .timer()
+                .count()).isEqualTo(1);
+        assertThat(client.availableSlots("slow.example")).isEqualTo(1);
+    }
+}
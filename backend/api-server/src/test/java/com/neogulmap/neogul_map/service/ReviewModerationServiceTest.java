@@ -42,6 +42,7 @@ class ReviewModerationServiceTest {
     @Mock private ZoneReviewReportRepository reportRepository;
     @Mock private UserRepository userRepository;
     @Mock private UserBlockRepository userBlockRepository;
+    @Mock private ModerationWorkloadMetrics workloadMetrics;
 
     private ReviewModerationService service;
 
@@ -52,6 +53,7 @@ class ReviewModerationServiceTest {
                 reportRepository,
                 userRepository,
                 userBlockRepository,
+                workloadMetrics,
                 Clock.fixed(Instant.parse("2026-07-12T08:15:00Z"), ZoneOffset.UTC)
         );
     }
@@ -67,6 +69,7 @@ class ReviewModerationServiceTest {
                 .build();
         when(zoneReviewRepository.findByIdWithAuthorAndZone(9L)).thenReturn(Optional.of(review));
         when(reportRepository.existsByReviewIdAndReporterId(9L, 1L)).thenReturn(false);
+        when(userRepository.getReferenceById(1L)).thenReturn(reporter);
         when(reportRepository.save(any(ZoneReviewReport.class))).thenAnswer(invocation -> {
             ZoneReviewReport report = invocation.getArgument(0);
             report.setId(15L);
@@ -78,12 +81,13 @@ class ReviewModerationServiceTest {
                 10,
                 9L,
                 new ReviewReportRequest("HARASSMENT", "반복적인 모욕"),
-                reporter
+                reporter.getId()
         );
 
         assertThat(response.id()).isEqualTo(15L);
         assertThat(response.status()).isEqualTo("PENDING");
         assertThat(response.reason()).isEqualTo("HARASSMENT");
+        verify(userRepository, never()).findById(any());
     }
 
     @Test
@@ -97,6 +101,7 @@ class ReviewModerationServiceTest {
                 .build();
         when(zoneReviewRepository.findByIdWithAuthorAndZone(10L)).thenReturn(Optional.of(legacyReview));
         when(reportRepository.existsByReviewIdAndReporterId(10L, 1L)).thenReturn(false);
+        when(userRepository.getReferenceById(1L)).thenReturn(reporter);
         when(reportRepository.save(any(ZoneReviewReport.class))).thenAnswer(invocation -> {
             ZoneReviewReport report = invocation.getArgument(0);
             report.setId(16L);
@@ -108,7 +113,7 @@ class ReviewModerationServiceTest {
                 20,
                 10L,
                 new ReviewReportRequest("SPAM", null),
-                reporter
+                reporter.getId()
         );
 
         assertThat(response.id()).isEqualTo(16L);
@@ -127,7 +132,7 @@ class ReviewModerationServiceTest {
         when(reportRepository.existsByReviewIdAndReporterId(9L, 1L)).thenReturn(true);
 
         assertThatThrownBy(() -> service.reportReview(
-                10, 9L, new ReviewReportRequest("SPAM", null), reporter
+                10, 9L, new ReviewReportRequest("SPAM", null), reporter.getId()
         )).isInstanceOf(BusinessBaseException.class);
 
         verify(reportRepository, never()).save(any());
@@ -139,17 +144,19 @@ class ReviewModerationServiceTest {
         User blocked = User.builder().id(2L).build();
         when(userRepository.findById(2L)).thenReturn(Optional.of(blocked));
         when(userBlockRepository.existsByBlockerIdAndBlockedId(1L, 2L)).thenReturn(false);
+        when(userRepository.getReferenceById(1L)).thenReturn(blocker);
 
-        service.blockUser(2L, blocker);
+        service.blockUser(2L, blocker.getId());
 
         verify(userBlockRepository).save(any(UserBlock.class));
+        verify(userRepository, never()).findById(1L);
     }
 
     @Test
     void userCannotBlockSelf() {
         User user = User.builder().id(1L).build();
 
-        assertThatThrownBy(() -> service.blockUser(1L, user))
+        assertThatThrownBy(() -> service.blockUser(1L, user.getId()))
                 .isInstanceOf(BusinessBaseException.class);
 
         verify(userBlockRepository, never()).save(any());
@@ -159,7 +166,7 @@ class ReviewModerationServiceTest {
     void legacyReviewWithoutAuthorCannotTriggerUserBlock() {
         User blocker = User.builder().id(1L).build();
 
-        assertThatThrownBy(() -> service.blockUser(null, blocker))
+        assertThatThrownBy(() -> service.blockUser(null, blocker.getId()))
                 .isInstanceOf(BusinessBaseException.class);
 
         verify(userRepository, never()).findById(any());
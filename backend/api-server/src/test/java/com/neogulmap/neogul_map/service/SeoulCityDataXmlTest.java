@@ -0,0 +1,57 @@
+package com.neogulmap.neogul_map.service;
+
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLStreamException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeoulCityDataXmlTest {
+
+    @Test
+    void readsTheFirstPopulationTagsAndStopsBeforeTheRestOfTheDocument() throws Exception {
+        SeoulCityDataXml.Fields fields = SeoulCityDataXml.parse("""
+                <SeoulRtd.citydata_ppltn>
+                  <AREA_NM>성수카페거리</AREA_NM>
+                  <LIVE_PPLTN_STTS>
+                    <AREA_CONGEST_LVL>붐빔</AREA_CONGEST_LVL>
+                    <AREA_CONGEST_MSG><![CDATA[사람이 몰려 있을 가능성이 큽니다.]]></AREA_CONGEST_MSG>
+                    <AREA_PPLTN_MIN>32000</AREA_PPLTN_MIN>
+                    <AREA_PPLTN_MAX>34000</AREA_PPLTN_MAX>
+                    <PPLTN_TIME>2026-06-18 22:00</PPLTN_TIME>
+                  </LIVE_PPLTN_STTS>
+                  <FCST_PPLTN><AREA_CONGEST_LVL>여유</AREA_CONGEST_LVL></FCST_PPLTN>
+                  <WEATHER_STTS><broken
+                """);
+
+        assertThat(fields).isEqualTo(new SeoulCityDataXml.Fields(
+                "성수카페거리",
+                "붐빔",
+                "사람이 몰려 있을 가능성이 큽니다.",
+                "32000",
+                "34000",
+                "2026-06-18 22:00"
+        ));
+    }
+
+    @Test
+    void missingTagsAreReturnedAsNull() throws Exception {
+        SeoulCityDataXml.Fields fields = SeoulCityDataXml.parse("""
+                <RESULT><CODE>INFO-200</CODE><MESSAGE>해당하는 데이터가 없습니다.</MESSAGE></RESULT>
+                """);
+
+        assertThat(fields.areaName()).isNull();
+        assertThat(fields.congestionLevel()).isNull();
+        assertThat(fields.populationTime()).isNull();
+    }
+
+    @Test
+    void externalEntitiesAreNotResolved() {
+        assertThatThrownBy(() -> SeoulCityDataXml.parse("""
+                <?xml version="1.0"?>
+                <!DOCTYPE root [<!ENTITY secret SYSTEM "file:///etc/passwd">]>
+                <root><AREA_CONGEST_LVL>&secret;</AREA_CONGEST_LVL></root>
+                """)).isInstanceOf(XMLStreamException.class);
+    }
+}
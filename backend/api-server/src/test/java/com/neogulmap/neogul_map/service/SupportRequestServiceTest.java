@@ -34,12 +34,14 @@ import static org.mockito.Mockito.when;
 class SupportRequestServiceTest {
 
     @Mock private SupportRequestRepository repository;
+    @Mock private ModerationWorkloadMetrics workloadMetrics;
     private SupportRequestService service;
 
     @BeforeEach
     void setUp() {
         service = new SupportRequestService(
                 repository,
+                workloadMetrics,
                 Clock.fixed(Instant.parse("2026-07-10T10:00:00Z"), ZoneOffset.UTC)
         );
     }
@@ -65,6 +67,7 @@ class SupportRequestServiceTest {
         assertThat(response.id()).isEqualTo(21L);
         assertThat(response.category()).isEqualTo("ACCOUNT_DELETION");
         assertThat(response.status()).isEqualTo("PENDING");
+        verify(workloadMetrics).submitted(ModerationWorkloadMetrics.Queue.SUPPORT_REQUEST);
     }
 
     @Test
@@ -104,6 +107,12 @@ class SupportRequestServiceTest {
         assertThat(response.status()).isEqualTo("RESOLVED");
         assertThat(response.resolvedAt()).isEqualTo(LocalDateTime.parse("2026-07-10T10:00:00"));
         verify(repository).save(request);
+        verify(workloadMetrics).decided(
+                ModerationWorkloadMetrics.Queue.SUPPORT_REQUEST,
+                "RESOLVED",
+                request.getCreatedAt(),
+                LocalDateTime.parse("2026-07-10T10:00:00")
+        );
     }
 
     @Test
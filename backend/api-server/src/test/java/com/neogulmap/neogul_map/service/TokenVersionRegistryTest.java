@@ -0,0 +1,131 @@
+package com.neogulmap.neogul_map.service;
+
+import com.neogulmap.neogul_map.domain.User;
+import com.neogulmap.neogul_map.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenVersionRegistryTest {
+
+    private static final Instant NOW = Instant.parse("2026-07-17T09:00:00Z");
+
+    @Mock private UserRepository userRepository;
+
+    private final MutableClock clock = new MutableClock(NOW);
+
+    @Test
+    void versionChecksWithinTtlDoNotQueryTheDatabaseAgain() {
+        TokenVersionRegistry registry = registry(10);
+        when(userRepository.findActiveTokenVersionById(1L)).thenReturn(Optional.of(3));
+
+        assertThat(registry.isCurrent(1L, 3)).isTrue();
+        assertThat(registry.isCurrent(1L, 3)).isTrue();
+        assertThat(registry.isCurrent(1L, 2)).isFalse();
+
+        verify(userRepository, times(1)).findActiveTokenVersionById(1L);
+    }
+
+    @Test
+    void revokeRejectsTokensIssuedBeforeWithoutReloading() {
+        TokenVersionRegistry registry = registry(10);
+        when(userRepository.findActiveTokenVersionById(1L)).thenReturn(Optional.of(0));
+        registry.isCurrent(1L, 0);
+        User user = User.builder().id(1L).email("owner@example.com").tokenVersion(0).build();
+
+        registry.revoke(user);
+
+        assertThat(user.getTokenVersion()).isEqualTo(1);
+        assertThat(registry.isCurrent(1L, 0)).isFalse();
+        assertThat(registry.isCurrent(1L, 1)).isTrue();
+        verify(userRepository, times(1)).findActiveTokenVersionById(1L);
+    }
+
+    @Test
+    void versionRevokedOnAnotherInstanceIsPickedUpAfterTtl() {
+        TokenVersionRegistry registry = registry(10);
+        when(userRepository.findActiveTokenVersionById(1L)).thenReturn(Optional.of(0), Optional.of(1));
+        assertThat(registry.isCurrent(1L, 0)).isTrue();
+
+        clock.advance(Duration.ofSeconds(61));
+
+        assertThat(registry.isCurrent(1L, 0)).isFalse();
+    }
+
+    @Test
+    void deletedOrMissingUserMatchesNoToken() {
+        TokenVersionRegistry registry = registry(10);
+        when(userRepository.findActiveTokenVersionById(9L)).thenReturn(Optional.empty());
+
+        assertThat(registry.isCurrent(9L, 0)).isFalse();
+        assertThat(registry.isCurrent(9L, -1)).isFalse();
+    }
+
+    @Test
+    void registryStopsGrowingAtMaxEntries() {
+        TokenVersionRegistry registry = registry(1);
+        when(userRepository.findActiveTokenVersionById(1L)).thenReturn(Optional.of(0));
+        when(userRepository.findActiveTokenVersionById(2L)).thenReturn(Optional.of(0));
+
+        assertThat(registry.isCurrent(1L, 0)).isTrue();
+        assertThat(registry.isCurrent(2L, 0)).isTrue();
+
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    void tokenWithoutUserIdIsRejectedWithoutLookup() {
+        TokenVersionRegistry registry = registry(10);
+
+        assertThat(registry.isCurrent(null, 0)).isFalse();
+
+        verifyNoInteractions(userRepository);
+    }
+
+    private TokenVersionRegistry registry(int maxEntries) {
+        return new TokenVersionRegistry(userRepository, 60, maxEntries, clock);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
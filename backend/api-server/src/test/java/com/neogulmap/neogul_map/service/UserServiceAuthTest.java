@@ -13,6 +13,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -21,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,6 +38,9 @@ class UserServiceAuthTest {
     @Mock
     private AppleRefreshTokenCipher appleRefreshTokenCipher;
 
+    @Mock
+    private AuthenticatedUserCache authenticatedUserCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -45,7 +50,7 @@ class UserServiceAuthTest {
     }
 
     @Test
-    @DisplayName("신규 OAuth 사용자를 생성하고 저장 후 재조회한다")
+    @DisplayName("신규 OAuth 사용자는 후보 조회 한 번 뒤 한 번만 저장한다")
     void processOAuth2User_NewUser() {
         // Given
         String email = "new@nugul.com";
@@ -57,15 +62,12 @@ class UserServiceAuthTest {
         when(mockOAuth2User.getName()).thenReturn(providerId);
         when(mockOAuth2User.getRegistrationId()).thenReturn(provider);
 
-        User[] savedUser = new User[1];
-        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
+        when(userRepository.findLoginCandidates(provider, providerId, email)).thenReturn(List.of());
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
             User user = invocation.getArgument(0);
             user.setId(1L);
-            savedUser[0] = user;
             return user;
         });
-        when(userRepository.findById(1L)).thenAnswer(invocation -> Optional.of(savedUser[0]));
 
         // When
         User result = userService.processOAuth2User(mockOAuth2User);
@@ -77,10 +79,11 @@ class UserServiceAuthTest {
         assertEquals(provider, result.getOauthProvider());
         assertNotNull(result.getCreatedAt());
         verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, never()).findById(any());
     }
 
     @Test
-    @DisplayName("기존 OAuth 사용자는 OAuth 정보를 갱신하고 저장 후 재조회한다")
+    @DisplayName("같은 이메일의 다른 provider 사용자는 변경 감지로 OAuth 정보만 갱신한다")
     void processOAuth2User_ExistingUserUpdatesOAuthFields() {
         // Given
         String email = "existing@nugul.com";
@@ -99,9 +102,7 @@ class UserServiceAuthTest {
         when(mockOAuth2User.getName()).thenReturn(providerId);
         when(mockOAuth2User.getRegistrationId()).thenReturn(provider);
 
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(existingUser));
-        when(userRepository.save(existingUser)).thenReturn(existingUser);
-        when(userRepository.findById(1L)).thenReturn(Optional.of(existingUser));
+        when(userRepository.findLoginCandidates(provider, providerId, email)).thenReturn(List.of(existingUser));
 
         // When
         User result = userService.processOAuth2User(mockOAuth2User);
@@ -111,7 +112,60 @@ class UserServiceAuthTest {
         assertEquals(email, result.getEmail());
         assertEquals(providerId, result.getOauthId());
         assertEquals(provider, result.getOauthProvider());
-        verify(userRepository, times(1)).save(existingUser);
+        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).findById(any());
+        verify(authenticatedUserCache).invalidate(1L);
+    }
+
+    @Test
+    @DisplayName("재로그인한 OAuth 사용자는 조회만 하고 저장이나 캐시 무효화를 하지 않는다")
+    void processOAuth2User_ReturningUserIsReadOnly() {
+        User existingUser = User.builder()
+                .id(1L)
+                .email("returning@nugul.com")
+                .oauthId("kakao789")
+                .oauthProvider("kakao")
+                .build();
+        OAuth2UserCustomService.CustomOAuth2User mockOAuth2User = mock(OAuth2UserCustomService.CustomOAuth2User.class);
+        when(mockOAuth2User.getEmail()).thenReturn("returning@nugul.com");
+        when(mockOAuth2User.getName()).thenReturn("kakao789");
+        when(mockOAuth2User.getRegistrationId()).thenReturn("kakao");
+        when(userRepository.findLoginCandidates("kakao", "kakao789", "returning@nugul.com"))
+                .thenReturn(List.of(existingUser));
+
+        User result = userService.processOAuth2User(mockOAuth2User);
+
+        assertEquals(existingUser, result);
+        verify(userRepository, never()).save(any(User.class));
+        verify(authenticatedUserCache, never()).invalidate(any());
+    }
+
+    @Test
+    @DisplayName("provider 계정과 이메일 계정이 모두 있으면 provider 계정으로 로그인한다")
+    void processAppleUserPrefersProviderMatchOverEmailMatch() {
+        User emailUser = User.builder()
+                .id(1L)
+                .email("apple@example.com")
+                .oauthId("google123")
+                .oauthProvider("google")
+                .build();
+        User appleUser = User.builder()
+                .id(2L)
+                .email("relay@privaterelay.appleid.com")
+                .oauthId("apple-subject")
+                .oauthProvider("apple")
+                .build();
+        when(appleRefreshTokenCipher.encrypt("refresh-token")).thenReturn("encrypted-token");
+        when(userRepository.findLoginCandidates("apple", "apple-subject", "apple@example.com"))
+                .thenReturn(List.of(emailUser, appleUser));
+
+        User result = userService.processAppleUser("apple-subject", "apple@example.com", null, "refresh-token");
+
+        assertEquals(appleUser, result);
+        assertEquals("encrypted-token", appleUser.getAppleRefreshTokenCiphertext());
+        assertEquals("google", emailUser.getOauthProvider());
+        verify(userRepository, never()).save(any(User.class));
+        verify(authenticatedUserCache).invalidate(2L);
     }
 
     @Test
@@ -141,9 +195,8 @@ class UserServiceAuthTest {
     @DisplayName("Apple 이름이 콘텐츠 정책에 맞지 않으면 로그인은 유지하고 프로필 설정을 요구한다")
     void processAppleUserDropsObjectionableProviderNickname() {
         when(appleRefreshTokenCipher.encrypt("refresh-token")).thenReturn("encrypted-token");
-        when(userRepository.findByOauthProviderAndOauthId("apple", "apple-subject"))
-                .thenReturn(Optional.empty());
-        when(userRepository.findByEmail("apple@example.com")).thenReturn(Optional.empty());
+        when(userRepository.findLoginCandidates("apple", "apple-subject", "apple@example.com"))
+                .thenReturn(List.of());
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
         org.mockito.Mockito.doThrow(new ValidationException(ErrorCode.REVIEW_CONTENT_REJECTED))
                 .when(contentPolicy)
@@ -1,12 +1,10 @@
 package com.neogulmap.neogul_map.service;
 
 import com.neogulmap.neogul_map.config.exceptionHandling.exception.BusinessBaseException;
+import com.neogulmap.neogul_map.config.exceptionHandling.exception.NotFoundException;
+import com.neogulmap.neogul_map.domain.AccountDeletionJob;
 import com.neogulmap.neogul_map.domain.User;
-import com.neogulmap.neogul_map.domain.Zone;
-import com.neogulmap.neogul_map.domain.enums.ImageType;
 import com.neogulmap.neogul_map.repository.UserRepository;
-import com.neogulmap.neogul_map.repository.ZoneRepository;
-import com.neogulmap.neogul_map.repository.ZoneReviewRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -14,11 +12,12 @@ import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
@@ -29,11 +28,11 @@ import static org.mockito.Mockito.when;
 class UserServiceDeletionTest {
 
     @Mock private UserRepository userRepository;
-    @Mock private ZoneRepository zoneRepository;
-    @Mock private ZoneReviewRepository zoneReviewRepository;
-    @Mock private ImageService imageService;
+    @Mock private AccountDeletionJobService accountDeletionJobService;
     @Mock private LinkedAccountRevocationService linkedAccountRevocationService;
     @Mock private AppleRefreshTokenCipher appleRefreshTokenCipher;
+    @Mock private AuthenticatedUserCache authenticatedUserCache;
+    @Mock private TokenVersionRegistry tokenVersionRegistry;
     @InjectMocks private UserService userService;
 
     @Test
@@ -45,7 +44,8 @@ class UserServiceDeletionTest {
                 .appleRefreshTokenCiphertext("encrypted-token")
                 .build();
         when(userRepository.findById(1L)).thenReturn(Optional.of(appleUser));
-        when(zoneRepository.findByCreatorId(1L)).thenReturn(List.of());
+        when(accountDeletionJobService.schedule(appleUser))
+                .thenReturn(AccountDeletionJob.builder().id(100L).userId(1L).build());
         org.mockito.Mockito.doThrow(new BusinessBaseException(
                         com.neogulmap.neogul_map.config.exceptionHandling.ErrorCode.ACCOUNT_REVOCATION_REQUIRED,
                         "Apple 연결 해제를 완료할 수 없습니다."
@@ -57,18 +57,14 @@ class UserServiceDeletionTest {
                 .isInstanceOf(BusinessBaseException.class)
                 .hasMessageContaining("Apple 연결 해제를 완료할 수 없습니다.");
 
-        verify(userRepository, never()).deleteById(1L);
-        verify(zoneReviewRepository, never()).deleteByAuthorId(1L);
-        verify(zoneRepository, never()).findByCreatorId(1L);
+        verify(accountDeletionJobService, never()).schedule(any());
 
         UserService.AccountDeletionResult result = userService.deleteUser(1L);
 
         assertThat(result.manualAppleRevocationRequired()).isFalse();
+        assertThat(result.deletionJobId()).isEqualTo(100L);
         verify(linkedAccountRevocationService, times(2)).revokeBeforeDeletion(appleUser);
-        verify(userRepository).deleteById(1L);
-        verify(zoneReviewRepository).deleteByAuthorId(1L);
-        verify(zoneRepository).findByCreatorId(1L);
-        verify(imageService, never()).deleteImage(org.mockito.ArgumentMatchers.anyString(), org.mockito.ArgumentMatchers.any());
+        verify(accountDeletionJobService).schedule(appleUser);
     }
 
     @Test
@@ -89,39 +85,30 @@ class UserServiceDeletionTest {
                 .isInstanceOf(BusinessBaseException.class)
                 .hasMessageContaining("unexpected local failure");
 
-        verify(userRepository, never()).deleteById(4L);
-        verify(zoneRepository, never()).findByCreatorId(4L);
+        verify(accountDeletionJobService, never()).schedule(any());
     }
 
     @Test
-    void accountDeletionRemovesOwnedZonesAndImagesBeforeDeletingTheUser() {
+    void accountDeletionRevokesLinkedAccountBeforeSchedulingBackgroundPurge() {
         User kakaoUser = User.builder()
                 .id(2L)
                 .oauthProvider("kakao")
                 .oauthId("kakao-id")
                 .profileImage("profile.jpg")
                 .build();
-        Zone firstZone = Zone.builder().id(10).creator(kakaoUser).image("zone-10.jpg").build();
-        Zone secondZone = Zone.builder().id(11).creator(kakaoUser).build();
         when(userRepository.findById(2L)).thenReturn(Optional.of(kakaoUser));
-        when(zoneRepository.findByCreatorId(2L)).thenReturn(List.of(firstZone, secondZone));
+        when(accountDeletionJobService.schedule(kakaoUser))
+                .thenReturn(AccountDeletionJob.builder().id(7L).userId(2L).build());
 
-        userService.deleteUser(2L);
+        UserService.AccountDeletionResult result = userService.deleteUser(2L);
 
-        InOrder deletionOrder = inOrder(
-                linkedAccountRevocationService,
-                zoneReviewRepository,
-                zoneRepository,
-                imageService,
-                userRepository
-        );
+        InOrder deletionOrder = inOrder(linkedAccountRevocationService, accountDeletionJobService);
         deletionOrder.verify(linkedAccountRevocationService).revokeBeforeDeletion(kakaoUser);
-        deletionOrder.verify(zoneReviewRepository).deleteByAuthorId(2L);
-        deletionOrder.verify(zoneRepository).findByCreatorId(2L);
-        deletionOrder.verify(imageService).deleteImage("zone-10.jpg", ImageType.ZONE);
-        deletionOrder.verify(zoneRepository).deleteAll(List.of(firstZone, secondZone));
-        deletionOrder.verify(imageService).deleteImage("profile.jpg", ImageType.PROFILE);
-        deletionOrder.verify(userRepository).deleteById(2L);
+        deletionOrder.verify(accountDeletionJobService).schedule(kakaoUser);
+        assertThat(result.deletionJobId()).isEqualTo(7L);
+        verify(userRepository, never()).deleteById(2L);
+        verify(authenticatedUserCache).invalidate(2L);
+        verify(tokenVersionRegistry).revoke(kakaoUser);
     }
 
     @Test
@@ -132,12 +119,29 @@ class UserServiceDeletionTest {
                 .oauthId("legacy-apple-id")
                 .build();
         when(userRepository.findById(3L)).thenReturn(Optional.of(legacyAppleUser));
-        when(zoneRepository.findByCreatorId(3L)).thenReturn(List.of());
+        when(accountDeletionJobService.schedule(legacyAppleUser))
+                .thenReturn(AccountDeletionJob.builder().id(8L).userId(3L).build());
 
         UserService.AccountDeletionResult result = userService.deleteUser(3L);
 
         assertThat(result.manualAppleRevocationRequired()).isTrue();
-        verify(userRepository).deleteById(3L);
-        verify(zoneReviewRepository).deleteByAuthorId(3L);
+        verify(accountDeletionJobService).schedule(legacyAppleUser);
+    }
+
+    @Test
+    void alreadyDeletedAccountCannotBeDeletedAgain() {
+        User deletedUser = User.builder()
+                .id(5L)
+                .oauthProvider("kakao")
+                .oauthId("deleted:5")
+                .deletedAt(LocalDateTime.of(2026, 7, 14, 9, 0))
+                .build();
+        when(userRepository.findById(5L)).thenReturn(Optional.of(deletedUser));
+
+        assertThatThrownBy(() -> userService.deleteUser(5L))
+                .isInstanceOf(NotFoundException.class);
+
+        verify(linkedAccountRevocationService, never()).revokeBeforeDeletion(any());
+        verify(accountDeletionJobService, never()).schedule(any());
     }
 }
@@ -0,0 +1,192 @@
+package com.neogulmap.neogul_map.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neogulmap.neogul_map.domain.OutboxEvent;
+import com.neogulmap.neogul_map.domain.Zone;
+import com.neogulmap.neogul_map.domain.enums.ImageType;
+import com.neogulmap.neogul_map.domain.enums.OutboxEventType;
+import com.neogulmap.neogul_map.repository.OutboxEventRepository;
+import com.neogulmap.neogul_map.repository.ZoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ZoneImageCommitHandlerTest {
+
+    @Mock private StorageService storageService;
+    @Mock private ZoneRepository zoneRepository;
+    @Mock private OutboxEventRepository outboxEventRepository;
+    @Mock private ImageDeletionQueue imageDeletionQueue;
+
+    private ZoneImageCommitHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new ZoneImageCommitHandler(
+                storageService,
+                zoneRepository,
+                outboxEventRepository,
+                imageDeletionQueue,
+                new ObjectMapper()
+        );
+    }
+
+    @Test
+    void confirmedImagesArePublishedAndReplacedImagesQueuedForDeletion() {
+        when(zoneRepository.findAllById(any())).thenReturn(List.of(zone(10, null), zone(11, "zone_old_b.jpg")));
+        when(outboxEventRepository.findLatestIds(any(), any(), any())).thenReturn(List.of(1L, 2L));
+        when(zoneRepository.publishImage(10, null, "zone_a.jpg")).thenReturn(1);
+        when(zoneRepository.publishImage(11, "zone_old_b.jpg", "zone_b.jpg")).thenReturn(1);
+
+        Set<Long> failed = handler.handle(List.of(
+                event(1L, "temp_a.jpg", "zone_a.jpg", 10),
+                event(2L, "temp_b.jpg", "zone_b.jpg", 11, "zone_old_b.jpg")
+        ));
+
+        assertThat(failed).isEmpty();
+        verify(storageService).confirm("temp_a.jpg", "zone_a.jpg");
+        verify(storageService).confirm("temp_b.jpg", "zone_b.jpg");
+        verify(storageService, never()).deleteQuietly(any());
+        verify(imageDeletionQueue).enqueue("zone_old_b.jpg", ImageType.ZONE);
+    }
+
+    @Test
+    void discardsUploadWhenZoneWasDeletedOrImageChangedBeforeDelivery() {
+        when(zoneRepository.findAllById(any())).thenReturn(List.of(zone(11, "zone_newer.jpg")));
+        when(outboxEventRepository.findLatestIds(any(), any(), any())).thenReturn(List.of(1L, 2L));
+
+        Set<Long> failed = handler.handle(List.of(
+                event(1L, "temp_a.jpg", "zone_a.jpg", 10),
+                event(2L, "temp_b.jpg", "zone_b.jpg", 11, "zone_old_b.jpg")
+        ));
+
+        assertThat(failed).isEmpty();
+        verify(storageService, never()).confirm(any(), any());
+        verify(storageService).deleteQuietly("temp_a.jpg");
+        verify(storageService).deleteQuietly("temp_b.jpg");
+        verify(zoneRepository, never()).publishImage(any(), any(), any());
+        verify(imageDeletionQueue).enqueue("zone_old_b.jpg", ImageType.ZONE);
+    }
+
+    @Test
+    void uploadSupersededByANewerUploadOfTheSameZoneIsDiscardedAndKeepsThePreviousImage() {
+        when(zoneRepository.findAllById(any())).thenReturn(List.of(zone(10, "zone_old_a.jpg")));
+        when(outboxEventRepository.findLatestIds(any(), any(), any())).thenReturn(List.of(5L));
+
+        Set<Long> failed = handler.handle(List.of(event(1L, "temp_a.jpg", "zone_a.jpg", 10, "zone_old_a.jpg")));
+
+        assertThat(failed).isEmpty();
+        verify(storageService, never()).confirm(any(), any());
+        verify(storageService).deleteQuietly("temp_a.jpg");
+        verify(zoneRepository, never()).publishImage(any(), any(), any());
+        verify(imageDeletionQueue, never()).enqueue(any(), any());
+    }
+
+    @Test
+    void storageFailureIsReportedUnlessThePreviousAttemptAlreadyCommitted() {
+        when(zoneRepository.findAllById(any())).thenReturn(List.of(zone(10, null), zone(11, null)));
+        when(outboxEventRepository.findLatestIds(any(), any(), any())).thenReturn(List.of(1L, 2L));
+        doThrow(new IllegalStateException("copy failed")).when(storageService).confirm("temp_a.jpg", "zone_a.jpg");
+        doThrow(new IllegalStateException("no such key")).when(storageService).confirm("temp_b.jpg", "zone_b.jpg");
+        when(storageService.exists("zone_a.jpg")).thenReturn(false);
+        when(storageService.exists("zone_b.jpg")).thenReturn(true);
+        when(zoneRepository.publishImage(11, null, "zone_b.jpg")).thenReturn(1);
+
+        Set<Long> failed = handler.handle(List.of(
+                event(1L, "temp_a.jpg", "zone_a.jpg", 10),
+                event(2L, "temp_b.jpg", "zone_b.jpg", 11)
+        ));
+
+        assertThat(failed).containsExactly(1L);
+        verify(zoneRepository, never()).publishImage(10, null, "zone_a.jpg");
+    }
+
+    @Test
+    void zoneKeepsThePreviousImageUntilTheNewImageIsConfirmed() {
+        when(zoneRepository.findAllById(any()))
+                .thenReturn(List.of(zone(10, "zone_old_a.jpg"), zone(11, "zone_old_b.jpg")));
+        when(outboxEventRepository.findLatestIds(any(), any(), any())).thenReturn(List.of(1L, 2L));
+        doThrow(new IllegalStateException("copy failed")).when(storageService).confirm("temp_b.jpg", "zone_b.jpg");
+        when(storageService.exists("zone_b.jpg")).thenReturn(false);
+        when(zoneRepository.publishImage(10, "zone_old_a.jpg", "zone_a.jpg")).thenReturn(1);
+
+        Set<Long> failed = handler.handle(List.of(
+                event(1L, "temp_a.jpg", "zone_a.jpg", 10, "zone_old_a.jpg"),
+                event(2L, "temp_b.jpg", "zone_b.jpg", 11, "zone_old_b.jpg")
+        ));
+
+        assertThat(failed).containsExactly(2L);
+        verify(zoneRepository, never()).publishImage(11, "zone_old_b.jpg", "zone_b.jpg");
+        verify(imageDeletionQueue).enqueue("zone_old_a.jpg", ImageType.ZONE);
+        verify(imageDeletionQueue, never()).enqueue("zone_old_b.jpg", ImageType.ZONE);
+    }
+
+    @Test
+    void imageConfirmedAfterTheZoneWasDeletedIsRemovedAgain() {
+        when(zoneRepository.findAllById(any()))
+                .thenReturn(List.of(zone(10, "zone_old_a.jpg")))
+                .thenReturn(List.of());
+        when(outboxEventRepository.findLatestIds(any(), any(), any())).thenReturn(List.of(1L));
+        when(zoneRepository.publishImage(10, "zone_old_a.jpg", "zone_a.jpg")).thenReturn(0);
+
+        Set<Long> failed = handler.handle(List.of(event(1L, "temp_a.jpg", "zone_a.jpg", 10, "zone_old_a.jpg")));
+
+        assertThat(failed).isEmpty();
+        verify(storageService).deleteQuietly("zone_a.jpg");
+        verify(imageDeletionQueue).enqueue("zone_old_a.jpg", ImageType.ZONE);
+    }
+
+    @Test
+    void parkedCommitKeepsThePreviousImageAndDeletesTheUpload() {
+        when(zoneRepository.findAllById(any())).thenReturn(List.of(zone(10, "zone_old_a.jpg")));
+
+        handler.parked(List.of(event(1L, "temp_a.jpg", "zone_a.jpg", 10, "zone_old_a.jpg")));
+
+        verify(storageService).deleteQuietly("temp_a.jpg");
+        verify(zoneRepository, never()).publishImage(any(), any(), any());
+        verify(imageDeletionQueue, never()).enqueue(any(), any());
+    }
+
+    @Test
+    void parkedCommitForAZoneThatMovedOnDiscardsTheUnreferencedPreviousImage() {
+        when(zoneRepository.findAllById(any())).thenReturn(List.of(zone(10, "zone_newer.jpg")));
+
+        handler.parked(List.of(event(1L, "temp_a.jpg", "zone_a.jpg", 10, "zone_old_a.jpg")));
+
+        verify(storageService).deleteQuietly("temp_a.jpg");
+        verify(imageDeletionQueue).enqueue("zone_old_a.jpg", ImageType.ZONE);
+    }
+
+    private OutboxEvent event(Long id, String tempFileName, String finalFileName, Integer zoneId) {
+        return event(id, tempFileName, finalFileName, zoneId, null);
+    }
+
+    private OutboxEvent event(Long id, String tempFileName, String finalFileName, Integer zoneId, String previous) {
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateType("zone")
+                .aggregateId(String.valueOf(zoneId))
+                .eventType(OutboxEventType.ZONE_IMAGE_COMMIT)
+                .payload("{\"tempFileName\":\"" + tempFileName + "\",\"finalFileName\":\"" + finalFileName
+                        + "\",\"zoneId\":" + zoneId
+                        + (previous == null ? "" : ",\"previousFileName\":\"" + previous + "\"") + "}")
+                .build();
+    }
+
+    private Zone zone(Integer id, String image) {
+        return Zone.builder().id(id).image(image).build();
+    }
+}
@@ -15,13 +15,13 @@ import com.neogulmap.neogul_map.dto.ZoneReportRequest;
 import com.neogulmap.neogul_map.dto.ZoneReportResponse;
 import com.neogulmap.neogul_map.dto.ZoneSubmissionOperatorResponse;
 import com.neogulmap.neogul_map.dto.ZonePublicationDecisionResponse;
+import com.neogulmap.neogul_map.repository.UserRepository;
 import com.neogulmap.neogul_map.repository.ZoneReportRepository;
 import com.neogulmap.neogul_map.repository.ZoneRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -36,6 +36,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -45,7 +47,9 @@ class ZoneModerationServiceTest {
 
     @Mock private ZoneRepository zoneRepository;
     @Mock private ZoneReportRepository reportRepository;
-    @Mock private ImageService imageService;
+    @Mock private UserRepository userRepository;
+    @Mock private ImageDeletionQueue imageDeletionQueue;
+    @Mock private ModerationWorkloadMetrics workloadMetrics;
 
     private ZoneModerationService service;
 
@@ -54,7 +58,9 @@ class ZoneModerationServiceTest {
         service = new ZoneModerationService(
                 zoneRepository,
                 reportRepository,
-                imageService,
+                userRepository,
+                imageDeletionQueue,
+                workloadMetrics,
                 Clock.fixed(Instant.parse("2026-07-12T08:15:00Z"), ZoneOffset.UTC)
         );
     }
@@ -66,6 +72,7 @@ class ZoneModerationServiceTest {
         when(zoneRepository.findByIdAndPublicationStatus(10, ZonePublicationStatus.PUBLISHED))
                 .thenReturn(Optional.of(zone));
         when(reportRepository.existsByZoneIdAndReporterId(10, 1L)).thenReturn(false);
+        when(userRepository.getReferenceById(1L)).thenReturn(reporter);
         when(reportRepository.save(any(ZoneReport.class))).thenAnswer(invocation -> {
             ZoneReport report = invocation.getArgument(0);
             report.setId(15L);
@@ -76,13 +83,14 @@ class ZoneModerationServiceTest {
         ZoneReportResponse response = service.reportZone(
                 10,
                 new ZoneReportRequest("INACCURATE", "주소가 다른 장소입니다."),
-                reporter
+                reporter.getId()
         );
 
         assertThat(response.id()).isEqualTo(15L);
         assertThat(response.zoneId()).isEqualTo(10);
         assertThat(response.reason()).isEqualTo("INACCURATE");
         assertThat(response.status()).isEqualTo("PENDING");
+        verify(userRepository, never()).findById(any());
     }
 
     @Test
@@ -95,7 +103,7 @@ class ZoneModerationServiceTest {
         assertThatThrownBy(() -> service.reportZone(
                 10,
                 new ZoneReportRequest("DUPLICATE", null),
-                reporter
+                reporter.getId()
         )).isInstanceOf(BusinessBaseException.class);
 
         verify(reportRepository, never()).save(any());
@@ -111,7 +119,7 @@ class ZoneModerationServiceTest {
         assertThatThrownBy(() -> service.reportZone(
                 10,
                 new ZoneReportRequest("OTHER", "  "),
-                reporter
+                reporter.getId()
         )).isInstanceOf(BusinessBaseException.class);
 
         verify(reportRepository, never()).save(any());
@@ -160,35 +168,34 @@ class ZoneModerationServiceTest {
         assertThat(report.getResolvedAt()).isEqualTo(LocalDateTime.parse("2026-07-12T08:15:00"));
         verify(reportRepository).save(report);
         verify(zoneRepository, never()).delete(any(Zone.class));
+        verify(workloadMetrics).decided(
+                eq(ModerationWorkloadMetrics.Queue.ZONE_REPORT),
+                eq("DISMISS"),
+                eq(report.getCreatedAt()),
+                any(LocalDateTime.class)
+        );
     }
 
     @Test
-    void operatorCanRemoveReportedZoneAndItsImage() {
+    void operatorCanRemoveReportedZoneAndQueueItsImageForDeletion() {
         Zone zone = zone(10);
         zone.setImage("reported-zone.jpg");
         ZoneReport report = pendingReport(zone);
         when(reportRepository.findById(15L)).thenReturn(Optional.of(report));
+        when(reportRepository.countByZoneIdAndStatus(10, ModerationStatus.PENDING)).thenReturn(3L);
+
+        ModerationDecisionResponse response = service.decideReport(
+                15L,
+                new ModerationDecisionRequest("REMOVE_CONTENT")
+        );
 
-        TransactionSynchronizationManager.initSynchronization();
-        try {
-            ModerationDecisionResponse response = service.decideReport(
-                    15L,
-                    new ModerationDecisionRequest("REMOVE_CONTENT")
-            );
-
-            assertThat(response.status()).isEqualTo("RESOLVED");
-            assertThat(response.contentRemoved()).isTrue();
-            verify(reportRepository).deleteByZoneId(10);
-            verify(zoneRepository).delete(zone);
-            verify(imageService, never()).deleteImage("reported-zone.jpg", ImageType.ZONE);
-
-            assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
-            TransactionSynchronizationManager.getSynchronizations()
-                    .forEach(TransactionSynchronization::afterCommit);
-            verify(imageService).deleteImage("reported-zone.jpg", ImageType.ZONE);
-        } finally {
-            TransactionSynchronizationManager.clearSynchronization();
-        }
+        assertThat(response.status()).isEqualTo("RESOLVED");
+        assertThat(response.contentRemoved()).isTrue();
+        InOrder decisionOrder = inOrder(reportRepository, zoneRepository, imageDeletionQueue);
+        decisionOrder.verify(reportRepository).deleteByZoneId(10);
+        decisionOrder.verify(zoneRepository).delete(zone);
+        decisionOrder.verify(imageDeletionQueue).enqueue("reported-zone.jpg", ImageType.ZONE);
+        verify(workloadMetrics).discarded(ModerationWorkloadMetrics.Queue.ZONE_REPORT, 2L);
     }
 
     @Test
@@ -228,30 +235,21 @@ class ZoneModerationServiceTest {
     }
 
     @Test
-    void operatorCanRejectPendingZoneAndDeleteItsImageAfterCommit() {
+    void operatorCanRejectPendingZoneAndQueueItsImageForDeletion() {
         Zone pending = zone(20);
         pending.setImage("pending-zone.jpg");
         pending.setPublicationStatus(ZonePublicationStatus.PENDING);
         when(zoneRepository.findById(20)).thenReturn(Optional.of(pending));
 
-        TransactionSynchronizationManager.initSynchronization();
-        try {
-            ZonePublicationDecisionResponse response = service.decideSubmission(
-                    20,
-                    new ModerationDecisionRequest("REJECT")
-            );
-
-            assertThat(response.status()).isEqualTo("REJECTED");
-            assertThat(response.contentRemoved()).isTrue();
-            verify(zoneRepository).delete(pending);
-            verify(imageService, never()).deleteImage("pending-zone.jpg", ImageType.ZONE);
-
-            TransactionSynchronizationManager.getSynchronizations()
-                    .forEach(TransactionSynchronization::afterCommit);
-            verify(imageService).deleteImage("pending-zone.jpg", ImageType.ZONE);
-        } finally {
-            TransactionSynchronizationManager.clearSynchronization();
-        }
+        ZonePublicationDecisionResponse response = service.decideSubmission(
+                20,
+                new ModerationDecisionRequest("REJECT")
+        );
+
+        assertThat(response.status()).isEqualTo("REJECTED");
+        assertThat(response.contentRemoved()).isTrue();
+        verify(zoneRepository).delete(pending);
+        verify(imageDeletionQueue).enqueue("pending-zone.jpg", ImageType.ZONE);
     }
 
     private ZoneReport pendingReport(Zone zone) {
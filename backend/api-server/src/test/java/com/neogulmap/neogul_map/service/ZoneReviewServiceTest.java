@@ -135,7 +135,7 @@ class ZoneReviewServiceTest {
         ));
         when(userBlockRepository.findBlockedUserIdsByBlockerId(1L)).thenReturn(Set.of(3L));
 
-        List<ZoneReviewResponse> reviews = zoneReviewService.getReviews(10, viewer);
+        List<ZoneReviewResponse> reviews = zoneReviewService.getReviews(10, viewer.getId());
 
         assertThat(reviews).extracting(ZoneReviewResponse::getAuthorId).containsExactly(2L);
     }
@@ -1,12 +1,15 @@
 package com.neogulmap.neogul_map.service;
 
 import com.neogulmap.neogul_map.config.exceptionHandling.exception.BusinessBaseException;
+import com.neogulmap.neogul_map.config.security.AuthenticatedPrincipal;
 import com.neogulmap.neogul_map.domain.User;
 import com.neogulmap.neogul_map.domain.Zone;
 import com.neogulmap.neogul_map.domain.enums.ImageType;
+import com.neogulmap.neogul_map.domain.enums.OutboxEventType;
 import com.neogulmap.neogul_map.domain.enums.ZonePublicationStatus;
 import com.neogulmap.neogul_map.dto.ZoneRequest;
 import com.neogulmap.neogul_map.dto.ZoneResponse;
+import com.neogulmap.neogul_map.event.ZoneImageCommitEvent;
 import com.neogulmap.neogul_map.repository.ZoneRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,9 +46,18 @@ class ZoneServiceTest {
     @Mock
     private ImageService imageService;
 
+    @Mock
+    private ImageDeletionQueue imageDeletionQueue;
+
     @Mock
     private ReviewContentPolicy contentPolicy;
 
+    @Mock
+    private ModerationWorkloadMetrics workloadMetrics;
+
+    @Mock
+    private OutboxPublisher outboxPublisher;
+
     @InjectMocks
     private ZoneService zoneService;
 
@@ -59,7 +71,8 @@ class ZoneServiceTest {
                 .build();
         MultipartFile image = mock(MultipartFile.class);
         when(image.isEmpty()).thenReturn(false);
-        when(imageService.processImage(image, ImageType.ZONE)).thenReturn("zones/created.jpg");
+        when(imageService.stageZoneImage(image))
+                .thenReturn(new ImageService.StagedImage("temp_created.jpg", "zones/created.jpg"));
         when(zoneRepository.save(any(Zone.class))).thenAnswer(invocation -> {
             Zone zone = invocation.getArgument(0);
             zone.setId(10);
@@ -71,11 +84,19 @@ class ZoneServiceTest {
         assertThat(response.getId()).isEqualTo(10);
         assertThat(response.getUser()).isEqualTo("작성자");
         assertThat(response.getUser()).doesNotContain("@");
-        assertThat(response.getImage()).isEqualTo("zones/created.jpg");
-        assertThat(response.getImageUrl()).isEqualTo("/images/created.jpg");
+        // 업로드한 이미지는 커밋 이후 확정되어야 노출됩니다.
+        assertThat(response.getImage()).isNull();
+        assertThat(response.getImageUrl()).isNull();
         assertThat(response.getPublicationStatus()).isEqualTo(ZonePublicationStatus.PENDING);
         verify(contentPolicy).ensureAllowed("테스트");
         verify(contentPolicy).ensureAllowed("서울특별시 중구 세종대로");
+        verify(imageService, never()).processImage(any(), any());
+        verify(outboxPublisher).publish(
+                OutboxEventType.ZONE_IMAGE_COMMIT,
+                "zone",
+                10,
+                ZoneImageCommitEvent.create("temp_created.jpg", "zones/created.jpg", 10)
+        );
     }
 
     @Test
@@ -342,11 +363,12 @@ class ZoneServiceTest {
 
         User attacker = User.builder().id(2L).email("attacker@nugulmap.com").build();
 
-        assertThatThrownBy(() -> zoneService.updateZone(10, validZoneRequest(), null, attacker))
+        assertThatThrownBy(() -> zoneService.updateZone(10, validZoneRequest(), null, AuthenticatedPrincipal.from(attacker)))
                 .isInstanceOf(BusinessBaseException.class)
                 .hasMessageContaining("본인이 등록한 장소");
 
-        verify(imageService, never()).processImage(any(), any());
+        verify(imageService, never()).stageZoneImage(any());
+        verifyNoInteractions(outboxPublisher);
     }
 
     @Test
@@ -357,12 +379,40 @@ class ZoneServiceTest {
         zone.setCreator(owner);
         when(zoneRepository.findById(10)).thenReturn(Optional.of(zone));
 
-        ZoneResponse response = zoneService.updateZone(10, validZoneRequest(), null, owner);
+        ZoneResponse response = zoneService.updateZone(10, validZoneRequest(), null, AuthenticatedPrincipal.from(owner));
 
         assertThat(response.getPublicationStatus()).isEqualTo(ZonePublicationStatus.PENDING);
         assertThat(zone.getPublicationStatus()).isEqualTo(ZonePublicationStatus.PENDING);
     }
 
+    @Test
+    @DisplayName("장소 이미지를 교체하면 확정 전까지 이전 이미지를 유지하고 교체와 삭제를 커밋 이후 outbox 처리기로 미룬다")
+    void updateZoneImageDefersStorageWorkUntilCommit() {
+        User owner = User.builder().id(1L).email("owner@nugulmap.com").build();
+        Zone zone = validZone();
+        zone.setImage("zones/old.jpg");
+        zone.setCreator(owner);
+        MultipartFile image = mock(MultipartFile.class);
+        when(image.isEmpty()).thenReturn(false);
+        when(zoneRepository.findById(10)).thenReturn(Optional.of(zone));
+        when(imageService.stageZoneImage(image))
+                .thenReturn(new ImageService.StagedImage("temp_new.jpg", "zones/new.jpg"));
+
+        ZoneResponse response = zoneService.updateZone(10, validZoneRequest(), image, AuthenticatedPrincipal.from(owner));
+
+        assertThat(response.getImage()).isEqualTo("zones/old.jpg");
+        assertThat(zone.getImage()).isEqualTo("zones/old.jpg");
+        verify(outboxPublisher).publish(
+                OutboxEventType.ZONE_IMAGE_COMMIT,
+                "zone",
+                10,
+                ZoneImageCommitEvent.replacing("temp_new.jpg", "zones/new.jpg", 10, "zones/old.jpg")
+        );
+        // 이전 이미지는 새 이미지가 확정된 뒤 ZoneImageCommitHandler가 삭제 대기열에 넣습니다.
+        verify(imageDeletionQueue, never()).enqueue(any(), any());
+        verify(imageService, never()).processImage(any(), any());
+    }
+
     @Test
     @DisplayName("본인이 등록한 Zone은 삭제할 수 있다")
     void deleteZoneAllowsOwner() {
@@ -371,9 +421,10 @@ class ZoneServiceTest {
         zone.setCreator(User.builder().id(1L).email("owner@nugulmap.com").build());
         when(zoneRepository.findById(10)).thenReturn(Optional.of(zone));
 
-        zoneService.deleteZone(10, User.builder().id(1L).email("owner@nugulmap.com").build());
+        zoneService.deleteZone(10, new AuthenticatedPrincipal(1L, "owner@nugulmap.com", 0));
 
-        verify(imageService).deleteImage("zones/delete.jpg", ImageType.ZONE);
+        verify(imageDeletionQueue).enqueue("zones/delete.jpg", ImageType.ZONE);
+        verify(imageService, never()).deleteImage(any(), any());
         verify(zoneRepository).deleteById(10);
     }
 